@@ -9,6 +9,7 @@ import com.early_express.order_service.domain.order.domain.repository.OrderRepos
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -26,6 +27,7 @@ public class OrderCommandService {
     private final OrderRepository orderRepository;
     private final OrderSagaOrchestratorService sagaOrchestratorService;
     private final OrderNumberGeneratorService orderNumberGeneratorService;
+    private final OrderSagaDispatcher orderSagaDispatcher;
 
     /**
      * 주문 생성
@@ -35,61 +37,18 @@ public class OrderCommandService {
      *
      * 주의: Saga 실패 시에도 Order는 반환됨 (상태: FAILED 또는 COMPENSATED)
      *
+     * Saga의 원격 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 열지 않음 (SUPPORTS)
+     * - 주문 저장 / Step 상태 전이는 각각 짧은 트랜잭션으로 커밋
+     *
      * @return 생성된 주문 (성공 또는 실패)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Order createOrder(OrderCreateCommand command) {
         log.info("주문 생성 시작 - companyId: {}, productId: {}",
                 command.getSupplierCompanyId(), command.getProductId());
 
-        // 1. 주문 번호 생성 (OrderNumberGeneratorService 사용)
-        OrderNumber orderNumber = orderNumberGeneratorService.generateOrderNumber();
-
-        // 2. Value Objects 생성
-        CompanyInfo companyInfo = CompanyInfo.of(
-                command.getSupplierCompanyId(),
-                command.getSupplierHubId(),
-                command.getReceiverCompanyId(),
-                command.getReceiverHubId()
-        );
-
-        ProductInfo productInfo = ProductInfo.of(
-                command.getProductId(),
-                command.getQuantity()
-        );
-
-        ReceiverInfo receiverInfo = ReceiverInfo.of(
-                command.getReceiverName(),
-                command.getReceiverPhone(),
-                command.getReceiverEmail(),
-                command.getDeliveryAddress(),
-                command.getDeliveryAddressDetail(),
-                command.getDeliveryPostalCode(),
-                command.getDeliveryNote()
-        );
-
-        RequestInfo requestInfo = RequestInfo.of(
-                command.getRequestedDeliveryDate(),
-                command.getRequestedDeliveryTime(),
-                command.getSpecialInstructions()
-        );
-
-        PgPaymentInfo pgPaymentInfo = PgPaymentInfo.of(
-                command.getPgProvider(),
-                command.getPgPaymentId(),
-                command.getPgPaymentKey()
-        );
-
-        // 3. Order Aggregate 생성
-        Order order = Order.create(
-                orderNumber,
-                companyInfo,
-                productInfo,
-                receiverInfo,
-                requestInfo,
-                command.getUnitPrice(),
-                pgPaymentInfo,
-                command.getCreatedBy()
-        );
+        // 1~3. 주문 번호 생성 및 Order Aggregate 생성
+        Order order = buildOrder(command);
 
         // 4. 주문 저장 (PENDING 상태)
         Order savedOrder = orderRepository.save(order);
@@ -124,6 +83,32 @@ public class OrderCommandService {
         }
     }
 
+    /**
+     * 주문 비동기 접수
+     * - Order 도메인 생성 및 PENDING 상태로 저장
+     * - 커밋 후 Saga를 Worker Pool에서 실행 (HTTP 스레드는 즉시 반환)
+     * - 결과는 상태 조회 API로 확인 (폴링 / Long-Polling)
+     *
+     * @return 접수된 주문 (PENDING)
+     */
+    public Order acceptOrder(OrderCreateCommand command) {
+        log.info("주문 비동기 접수 시작 - companyId: {}, productId: {}",
+                command.getSupplierCompanyId(), command.getProductId());
+
+        // Worker Pool 포화 시 저장 전에 거절
+        orderSagaDispatcher.validateCapacity();
+
+        Order savedOrder = orderRepository.save(buildOrder(command));
+
+        // 트랜잭션 커밋 후 Saga 실행 위임
+        orderSagaDispatcher.dispatch(savedOrder);
+
+        log.info("주문 비동기 접수 완료 - orderId: {}, orderNumber: {}",
+                savedOrder.getIdValue(), savedOrder.getOrderNumberValue());
+
+        return savedOrder;
+    }
+
     /**
      * 주문 취소
      * - 취소 가능 상태 검증 (도메인)
@@ -265,4 +250,59 @@ public class OrderCommandService {
                         "주문을 찾을 수 없습니다: " + orderId
                 ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 번호 생성 및 Order Aggregate 생성 (내부용)
+     */
+    private Order buildOrder(OrderCreateCommand command) {
+        // 1. 주문 번호 생성 (OrderNumberGeneratorService 사용)
+        OrderNumber orderNumber = orderNumberGeneratorService.generateOrderNumber();
+
+        // 2. Value Objects 생성
+        CompanyInfo companyInfo = CompanyInfo.of(
+                command.getSupplierCompanyId(),
+                command.getSupplierHubId(),
+                command.getReceiverCompanyId(),
+                command.getReceiverHubId()
+        );
+
+        ProductInfo productInfo = ProductInfo.of(
+                command.getProductId(),
+                command.getQuantity()
+        );
+
+        ReceiverInfo receiverInfo = ReceiverInfo.of(
+                command.getReceiverName(),
+                command.getReceiverPhone(),
+                command.getReceiverEmail(),
+                command.getDeliveryAddress(),
+                command.getDeliveryAddressDetail(),
+                command.getDeliveryPostalCode(),
+                command.getDeliveryNote()
+        );
+
+        RequestInfo requestInfo = RequestInfo.of(
+                command.getRequestedDeliveryDate(),
+                command.getRequestedDeliveryTime(),
+                command.getSpecialInstructions()
+        );
+
+        PgPaymentInfo pgPaymentInfo = PgPaymentInfo.of(
+                command.getPgProvider(),
+                command.getPgPaymentId(),
+                command.getPgPaymentKey()
+        );
+
+        // 3. Order Aggregate 생성
+        return Order.create(
+                orderNumber,
+                companyInfo,
+                productInfo,
+                receiverInfo,
+                requestInfo,
+                command.getUnitPrice(),
+                pgPaymentInfo,
+                command.getCreatedBy()
+        );
+    }
+}
@@ -14,23 +14,29 @@ import com.early_express.order_service.domain.order.domain.repository.OrderRepos
 import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
 import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.HubDeliveryClient;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.InventoryClient;
-import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.LastMileClient;
-import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
 import com.early_express.order_service.domain.order.infrastructure.messaging.payment.event.PaymentRefundFailedEvent;
 import com.early_express.order_service.domain.order.infrastructure.messaging.payment.event.PaymentRefundedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.PaymentVerificationPayload;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.StockReservationPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_BEGIN;
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_COMPLETE;
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_FAIL;
+
 /**
  * Order Compensation Service
  * 보상 트랜잭션 및 이벤트 기반 보상 처리
+ *
+ * 원격 보상 호출(재고 복원 / 배송 취소)은 트랜잭션 밖에서 실행하고,
+ * 보상 상태 기록만 SagaStepTransactionExecutor의 짧은 트랜잭션으로 커밋합니다 (원격 호출 동안 DB 커넥션 미점유).
  */
 @Slf4j
 @Service
@@ -43,7 +49,7 @@ public class OrderCompensationService {
     private final HubDeliveryClient hubDeliveryClient;
     private final LastMileClient lastMileClient;
     private final PaymentEventPublisher paymentEventPublisher;
-    private final ObjectMapper objectMapper;
+    private final SagaStepTransactionExecutor stepTransactionExecutor;
 
     /**
      * 재고 부족으로 인한 보상 시작
@@ -64,10 +70,18 @@ public class OrderCompensationService {
 
         // 2. Saga 보상 시작
         saga.startCompensation(failureReason);
-        sagaRepository.save(saga);
 
         // 3. 결제 환불 이벤트 발행 (Payment Service가 환불 처리)
-        if (order.getAmountInfo().hasPaymentId()) {
+        // - 병렬 실행에서 결제 검증만 성공한 경우, PAYMENT_CANCEL 히스토리를 남겨 다른 보상 경로가 중복 환불하지 않도록 함
+        //   (환불 완료는 handlePaymentRefunded에서 처리)
+        boolean refundRequired = order.getAmountInfo().hasPaymentId()
+                && !saga.isCompensationRecorded(SagaStep.PAYMENT_VERIFY);
+        if (refundRequired) {
+            saga.executeCompensation(SagaStep.PAYMENT_VERIFY, SagaStep.PAYMENT_CANCEL);
+        }
+        sagaRepository.save(saga);
+
+        if (refundRequired) {
             publishRefundRequestedEvent(order, failureReason);
         }
 
@@ -82,11 +96,11 @@ public class OrderCompensationService {
      * 결제 검증 실패로 인한 보상 시작
      * - Step 2 실패 시 호출
      * - 재고만 복원 (결제는 이미 실패)
+     * - 재고 복원 호출은 트랜잭션 밖에서 실행하고, 상태 기록만 짧은 트랜잭션으로 커밋
      *
      * @param orderId 주문 ID
      * @param failureReason 실패 사유
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void startCompensationForPaymentFailure(String orderId, String failureReason) {
         log.warn("!!! 결제 검증 실패로 보상 시작 - orderId: {}, reason: {}",
                 orderId, failureReason);
@@ -95,50 +109,45 @@ public class OrderCompensationService {
         Order order = findOrderById(orderId);
         OrderSaga saga = findSagaByOrderId(orderId);
 
-        // 2. Saga 보상 시작
-        saga.startCompensation(failureReason);
-        sagaRepository.save(saga);
+        // 이미 재고 복원을 실행한 Saga는 다시 복원하지 않음
+        boolean alreadyRestored = saga.isCompensationRecorded(SagaStep.STOCK_RESERVE);
 
-        // 3. STOCK_RESTORE 히스토리 생성 (중요!)
-        saga.executeCompensation(SagaStep.STOCK_RESERVE, SagaStep.STOCK_RESTORE);
-        saga = sagaRepository.save(saga);
+        // 2. Saga 보상 시작 + STOCK_RESTORE 히스토리 생성 (중요!)
+        OrderSaga started = stepTransactionExecutor.execute(SagaStep.STOCK_RESTORE, PHASE_BEGIN, unitOfWork -> {
+            saga.startCompensation(failureReason);
+            if (!alreadyRestored) {
+                saga.executeCompensation(SagaStep.STOCK_RESERVE, SagaStep.STOCK_RESTORE);
+            }
+            unitOfWork.register(saga);
+        }).saga();
 
-        try {
-            // 4. 재고 복원 (동기)
-            compensateStock(order, saga);
+        if (alreadyRestored) {
+            log.warn("재고 복원 이력이 이미 있어 건너뜀 - orderId: {}", orderId);
+            return;
+        }
 
-            // 5. 보상 완료
-            saga.completeCompensation(SagaStep.STOCK_RESTORE);
-            saga.completeAllCompensations();
-            saga = sagaRepository.save(saga);
+        // 3. 재고 복원 (동기, 트랜잭션 밖)
+        runCompensationCall(order, started, SagaStep.STOCK_RESTORE, () -> restoreStock(order, started));
 
+        // 4. 보상 완료
+        stepTransactionExecutor.execute(SagaStep.STOCK_RESTORE, PHASE_COMPLETE, unitOfWork -> {
+            started.completeCompensation(SagaStep.STOCK_RESTORE);
+            started.completeAllCompensations();
             order.compensate();
-            orderRepository.save(order);
-
-            log.warn("!!! 결제 검증 실패 보상 완료 - orderId: {}", orderId);
-
-        } catch (Exception e) {
-            log.error("재고 복원 실패 - orderId: {}", orderId, e);
-
-            saga.failCompensation(SagaStep.STOCK_RESTORE, e.getMessage());
-            sagaRepository.save(saga);
-
-            order.fail();
-            orderRepository.save(order);
+            unitOfWork.register(order).register(started);
+        });
 
-            throw e;
-        }
+        log.warn("!!! 결제 검증 실패 보상 완료 - orderId: {}", orderId);
     }
 
     /**
      * 환불 완료 이벤트 처리 (Payment Service → Order Service)
      * - PAYMENT_CANCEL Step 완료 처리
-     * - 재고 복원 실행
+     * - 재고 복원 실행 (예약된 재고가 있고 아직 복원하지 않은 경우, 트랜잭션 밖)
      * - 보상 완료 처리
      *
      * @param event 환불 완료 이벤트
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handlePaymentRefunded(PaymentRefundedEvent event) {
         log.info(">>> 환불 완료 이벤트 처리 시작 - orderId: {}, paymentId: {}",
                 event.getOrderId(), event.getPaymentId());
@@ -148,23 +157,36 @@ public class OrderCompensationService {
             Order order = findOrderById(event.getOrderId());
             OrderSaga saga = findSagaByOrderId(event.getOrderId());
 
-            // 2. PAYMENT_CANCEL Step 완료 처리
-            saga.completeCompensation(SagaStep.PAYMENT_CANCEL);
-            sagaRepository.save(saga);
+            boolean restoreRequired = !saga.isCompensationRecorded(SagaStep.STOCK_RESERVE)
+                    && saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE, StockReservationPayload.class) != null;
+
+            // 2. PAYMENT_CANCEL Step 완료 처리 (+ STOCK_RESTORE 히스토리 생성)
+            OrderSaga cancelled = stepTransactionExecutor.execute(SagaStep.PAYMENT_CANCEL, PHASE_COMPLETE, unitOfWork -> {
+                saga.completeCompensation(SagaStep.PAYMENT_CANCEL);
+                if (restoreRequired) {
+                    saga.executeCompensation(SagaStep.STOCK_RESERVE, SagaStep.STOCK_RESTORE);
+                }
+                unitOfWork.register(saga);
+            }).saga();
 
             log.info(">>> PAYMENT_CANCEL Step 완료 처리됨 - orderId: {}", event.getOrderId());
 
-            // 3. 재고 복원
-            compensateStock(order, saga);
+            // 3. 재고 복원 (동기, 트랜잭션 밖)
+            if (restoreRequired) {
+                runCompensationCall(order, cancelled, SagaStep.STOCK_RESTORE, () -> restoreStock(order, cancelled));
+            }
 
             // 4. 모든 보상 완료
-            saga.completeAllCompensations();
-            sagaRepository.save(saga);
-
-            order.compensate();
-            orderRepository.save(order);
+            stepTransactionExecutor.execute(SagaStep.PAYMENT_CANCEL, PHASE_COMPLETE, unitOfWork -> {
+                if (restoreRequired) {
+                    cancelled.completeCompensation(SagaStep.STOCK_RESTORE);
+                }
+                cancelled.completeAllCompensations();
+                order.compensate();
+                unitOfWork.register(order).register(cancelled);
+            });
 
-            log.info(">>> 환불 완료 처리 완료 - orderId: {}, 재고 복원됨", event.getOrderId());
+            log.info(">>> 환불 완료 처리 완료 - orderId: {}, 재고 복원 여부: {}", event.getOrderId(), restoreRequired);
 
         } catch (Exception e) {
             log.error("환불 완료 처리 실패 - orderId: {}, error: {}",
@@ -211,81 +233,20 @@ public class OrderCompensationService {
 //        }
     }
 
-    /**
-     * 재고 복원 (Compensation)
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void compensateStock(Order order, OrderSaga saga) {
-        log.info(">>> 재고 복원 시작 - orderId: {}", order.getIdValue());
-
-        try {
-            // 1. 보상 데이터 조회
-            Object stepData = saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE);
-
-            if (stepData == null) {
-                log.warn("재고 예약 데이터가 없음 - orderId: {}, 재고 복원 건너뜀", order.getIdValue());
-                return;
-            }
-
-//            InventoryReservationResponse reserveResponse = (InventoryReservationResponse) stepData;
-            // LinkedHashMap을 InventoryReservationResponse로 변환
-            InventoryReservationResponse reserveResponse;
-            if (stepData instanceof InventoryReservationResponse) {
-                reserveResponse = (InventoryReservationResponse) stepData;
-            } else {
-                // LinkedHashMap → InventoryReservationResponse 변환
-                reserveResponse = objectMapper.convertValue(stepData, InventoryReservationResponse.class);
-            }
-
-            // 2. 재고 복원 요청
-            InventoryRestoreRequest request = InventoryRestoreRequest.from(
-                    reserveResponse.getReservationId(),
-                    order.getIdValue(),
-                    reserveResponse.getReservedItems(),
-                    "주문 생성 실패로 인한 재고 복원"
-            );
-
-            // 3. Inventory Service 호출 (동기)
-            InventoryRestoreResponse response = inventoryClient.restoreStock(request);
-
-            if (!Boolean.TRUE.equals(response.getSuccess())) {
-                throw new SagaException(
-                        OrderErrorCode.SAGA_COMPENSATION_FAILED,
-                        "재고 복원에 실패했습니다: " + response.getMessage()
-                );
-            }
-
-            // 4. Saga Step 완료
-//            saga.completeCompensation(SagaStep.STOCK_RESTORE);
-//            sagaRepository.save(saga);
-
-            log.info(">>> 재고 복원 완료 - orderId: {}, restoredQuantity: {}",
-                    order.getIdValue(), response.getTotalRestoredQuantity());
-
-        } catch (Exception e) {
-            log.error("재고 복원 실패 - orderId: {}, error: {}",
-                    order.getIdValue(), e.getMessage(), e);
-
-            // 보상 실패 기록
-            saga.failCompensation(SagaStep.STOCK_RESTORE, e.getMessage());
-            sagaRepository.save(saga);
-
-            throw e;
-        }
-    }
-
     /**
      * 경로 계산 실패 시 보상 트랜잭션
+     * 보상 Step마다 "시작 기록 → 원격 취소 호출 → 결과 기록" 순서로 진행 (원격 호출은 트랜잭션 밖)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void startCompensationForRouteFailure(String orderId, String failureReason) {
         log.info("경로 계산 실패 보상 시작 - orderId: {}", orderId);
 
         Order order = findOrderById(orderId);
-        OrderSaga saga = findSagaByOrderId(orderId);
+        OrderSaga found = findSagaByOrderId(orderId);
 
-        saga.startCompensation(failureReason);
-        saga = sagaRepository.save(saga);
+        OrderSaga saga = stepTransactionExecutor.execute(SagaStep.ROUTE_CALCULATE, PHASE_FAIL, unitOfWork -> {
+            found.startCompensation(failureReason);
+            unitOfWork.register(found);
+        }).saga();
 
         var completedSteps = saga.getCompletedStepsNeedingCompensation();
         log.info("보상 대상 Step 목록: {}", completedSteps);
@@ -294,17 +255,19 @@ public class OrderCompensationService {
             saga = executeCompensationStepInternal(order, saga, step);
         }
 
-        saga.completeAllCompensations();
-        sagaRepository.save(saga);
-
-        order.compensate();
-        orderRepository.save(order);
+        OrderSaga compensated = saga;
+        stepTransactionExecutor.execute(SagaStep.ROUTE_CALCULATE, PHASE_COMPLETE, unitOfWork -> {
+            compensated.completeAllCompensations();
+            order.compensate();
+            unitOfWork.register(order).register(compensated);
+        });
 
         log.info("보상 트랜잭션 완료 - orderId: {}", orderId);
     }
 
     /**
      * 개별 보상 Step 실행 (내부용)
+     * 시작 기록 트랜잭션 커밋 후 원격 취소를 호출하고, 결과를 다시 짧은 트랜잭션으로 기록
      */
     private OrderSaga executeCompensationStepInternal(Order order, OrderSaga saga, SagaStep originalStep) {
         SagaStep compensationStep = originalStep.getCompensationStep();
@@ -312,55 +275,61 @@ public class OrderCompensationService {
         log.info(">>> 보상 Step 실행 - originalStep: {}, compensationStep: {}",
                 originalStep.getDescription(), compensationStep.getDescription());
 
-        saga.executeCompensation(originalStep, compensationStep);
-        saga = sagaRepository.save(saga);
+        // 1. 보상 시작 기록 (결제 취소는 환불 요청 이벤트도 같은 트랜잭션에서 Outbox에 기록)
+        OrderSaga started = stepTransactionExecutor.execute(compensationStep, PHASE_BEGIN, unitOfWork -> {
+            saga.executeCompensation(originalStep, compensationStep);
+            unitOfWork.register(saga);
 
-        try {
-            switch (compensationStep) {
-                case PAYMENT_CANCEL -> {
-                    // 결제 취소 이벤트 발행
-                    compensatePayment(order, saga);
-                    log.info(">>> 결제 취소 이벤트 발행 완료, PaymentRefundedEvent 대기 중");
-                    // 이벤트 기반이므로 완료 처리는 Consumer에서
-                    return saga;
-                }
-                case STOCK_RESTORE -> {
-                    // 재고 복원 (동기)
-                    compensateStockInternal(order, saga);
-                }
-                case HUB_DELIVERY_CANCEL -> {
-                    // 허브 배송 취소 (동기)
-                    compensateHubDelivery(order);
-                }
-                case LAST_MILE_DELIVERY_CANCEL -> {
-                    // 업체 배송 취소 (동기)
-                    compensateLastMileDelivery(order);
-                }
-                default -> throw new IllegalStateException(
-                        "지원하지 않는 보상 Step: " + compensationStep
-                );
+            if (compensationStep == SagaStep.PAYMENT_CANCEL) {
+                compensatePayment(order, saga);
             }
+        }).saga();
+
+        // 2. 원격 취소 호출 (동기, 트랜잭션 밖)
+        switch (compensationStep) {
+            case PAYMENT_CANCEL -> {
+                log.info(">>> 결제 취소 이벤트 발행 완료, PaymentRefundedEvent 대기 중");
+                // 이벤트 기반이므로 완료 처리는 Consumer에서
+                return started;
+            }
+            case STOCK_RESTORE -> runCompensationCall(order, started, compensationStep, () -> restoreStock(order, started));
+            case HUB_DELIVERY_CANCEL -> runCompensationCall(order, started, compensationStep, () -> compensateHubDelivery(order));
+            case LAST_MILE_DELIVERY_CANCEL -> runCompensationCall(order, started, compensationStep, () -> compensateLastMileDelivery(order));
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 보상 Step: " + compensationStep
+            );
+        }
 
-            // 완료 처리
-            saga.completeCompensation(compensationStep);
-            saga = sagaRepository.save(saga);
+        // 3. 완료 처리
+        OrderSaga completed = stepTransactionExecutor.execute(compensationStep, PHASE_COMPLETE, unitOfWork -> {
+            started.completeCompensation(compensationStep);
+            unitOfWork.register(started);
+        }).saga();
 
-            log.info(">>> 보상 Step 완료 - compensationStep: {}", compensationStep.getDescription());
+        log.info(">>> 보상 Step 완료 - compensationStep: {}", compensationStep.getDescription());
 
-        } catch (Exception e) {
-            log.error("보상 Step 실패 - step: {}, error: {}",
-                    compensationStep.getDescription(), e.getMessage(), e);
+        return completed;
+    }
 
-            saga.failCompensation(compensationStep, e.getMessage());
-            saga = sagaRepository.save(saga);
+    /**
+     * 보상 원격 호출 실행 (트랜잭션 밖)
+     * 실패하면 보상 실패와 주문 실패를 한 트랜잭션으로 기록하고 예외를 다시 던짐
+     */
+    private void runCompensationCall(Order order, OrderSaga saga, SagaStep compensationStep, Runnable remoteCall) {
+        try {
+            remoteCall.run();
+        } catch (Exception e) {
+            log.error("보상 Step 실패 - step: {}, orderId: {}, error: {}",
+                    compensationStep.getDescription(), order.getIdValue(), e.getMessage(), e);
 
-            order.fail();
-            orderRepository.save(order);
+            stepTransactionExecutor.execute(compensationStep, PHASE_FAIL, unitOfWork -> {
+                saga.failCompensation(compensationStep, e.getMessage());
+                order.fail();
+                unitOfWork.register(order).register(saga);
+            });
 
             throw e;
         }
-
-        return saga;
     }
 
     /**
@@ -369,17 +338,11 @@ public class OrderCompensationService {
     private void compensatePayment(Order order, OrderSaga saga) {
         log.info(">>> 결제 취소 이벤트 발행 시작 - orderId: {}", order.getIdValue());
 
-        Object stepData = saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY);
-
-        PaymentVerificationResponse verifyResponse;
-        if (stepData instanceof PaymentVerificationResponse) {
-            verifyResponse = (PaymentVerificationResponse) stepData;
-        } else {
-            verifyResponse = objectMapper.convertValue(stepData, PaymentVerificationResponse.class);
-        }
+        PaymentVerificationPayload payment =
+                saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY, PaymentVerificationPayload.class);
 
         RefundRequestedEventData eventData = RefundRequestedEventData.of(
-                verifyResponse.getPaymentId(),
+                payment.paymentId(),
                 order.getIdValue(),
                 "주문 생성 실패로 인한 자동 취소"
         );
@@ -387,33 +350,25 @@ public class OrderCompensationService {
         paymentEventPublisher.publishRefundRequested(eventData);
 
         log.info(">>> 결제 취소 이벤트 발행 완료 - orderId: {}, paymentId: {}",
-                order.getIdValue(), verifyResponse.getPaymentId());
+                order.getIdValue(), payment.paymentId());
     }
 
     /**
-     * 재고 복원 (내부용 - saga 저장 없음)
+     * 재고 복원 (saga 저장 없음 - 보상 Step 상태 기록은 호출 측에서 수행)
      */
-    private void compensateStockInternal(Order order, OrderSaga saga) {
+    void restoreStock(Order order, OrderSaga saga) {
         log.info(">>> 재고 복원 시작 - orderId: {}", order.getIdValue());
 
-        Object stepData = saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE);
+        StockReservationPayload reservation =
+                saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE, StockReservationPayload.class);
 
-        if (stepData == null) {
+        if (reservation == null) {
             log.warn("재고 예약 데이터가 없음 - orderId: {}, 재고 복원 건너뜀", order.getIdValue());
             return;
         }
 
-        InventoryReservationResponse reserveResponse;
-        if (stepData instanceof InventoryReservationResponse) {
-            reserveResponse = (InventoryReservationResponse) stepData;
-        } else {
-            reserveResponse = objectMapper.convertValue(stepData, InventoryReservationResponse.class);
-        }
-
-        InventoryRestoreRequest request = InventoryRestoreRequest.from(
-                reserveResponse.getReservationId(),
+        InventoryRestoreRequest request = reservation.toRestoreRequest(
                 order.getIdValue(),
-                reserveResponse.getReservedItems(),
                 "주문 생성 실패로 인한 재고 복원"
         );
 
@@ -1,43 +1,60 @@
 package com.early_express.order_service.domain.order.application.service;
 
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderNumber;
-import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import com.early_express.order_service.domain.order.domain.repository.OrderNumberSequenceRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 주문 번호 생성 서비스
  *
- * 형식: ORD-YYYYMMDD-XXX (예: ORD-20250121-001)
+ * 형식: ORD-YYYYMMDD-XXX (예: ORD-20250121-001, 한도가 크면 ORD-20250121-00001)
  *
- * 단일 서버 환경을 가정하여 ConcurrentHashMap으로 중복 방지
- * - Key: 날짜 (YYYYMMDD)
- * - Value: AtomicInteger (일련번호 카운터)
+ * 구간 임대(Segment Leasing) 방식
+ * - 날짜별 DB 카운터에서 block-size 만큼의 일련번호 구간을 임대
+ * - 구간 안의 번호는 메모리에서 CAS로 발급 (DB 조회/중복 확인 없음)
+ * - 구간이 소진된 경우에만 다시 임대 (block-size 건당 DB 1회)
+ * - 인스턴스마다 서로 다른 구간을 받으므로 다중 인스턴스에서도 중복 없음
  *
- * 참고: 분산 환경에서는 Redis INCR 또는 DB Sequence 사용 필요
+ * 참고: 재시작 등으로 사용하지 못한 구간 번호는 건너뛰므로 일련번호에 공백이 생길 수 있음
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrderNumberGeneratorService {
 
-    private final OrderRepository orderRepository;
+    private static final int MIN_SEQUENCE_DIGITS = 3;
+
+    private final OrderNumberSequenceRepository sequenceRepository;
+    private final int blockSize;
+    private final int dailyCapacity;
+    private final int sequenceDigits;
 
     /**
-     * 날짜별 주문번호 카운터
-     * Key: YYYYMMDD (예: "20250121")
-     * Value: AtomicInteger (일련번호)
+     * 현재 발급 중인 구간 (오늘 날짜)
      */
-    private final ConcurrentHashMap<String, AtomicInteger> dailyCounters = new ConcurrentHashMap<>();
+    private final AtomicReference<SequenceSegment> currentSegment = new AtomicReference<>();
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final String PREFIX = "ORD-";
+    /**
+     * 일일 한도를 모두 소진한 날짜 (같은 날짜에는 더 이상 구간을 임대하지 않음)
+     */
+    private volatile LocalDate exhaustedDate;
+
+    public OrderNumberGeneratorService(
+            OrderNumberSequenceRepository sequenceRepository,
+            @Value("${order.number.block-size:100}") int blockSize,
+            @Value("${order.number.daily-capacity:99999}") int dailyCapacity) {
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+        this.dailyCapacity = dailyCapacity;
+        this.sequenceDigits = Math.max(MIN_SEQUENCE_DIGITS, String.valueOf(dailyCapacity).length());
+    }
 
     /**
      * 새로운 주문 번호 생성
@@ -45,92 +62,148 @@ public class OrderNumberGeneratorService {
      * @return 생성된 주문 번호
      */
     public OrderNumber generateOrderNumber() {
-        String today = LocalDate.now().format(DATE_FORMATTER);
-
-        // 오늘 날짜의 카운터 가져오기 (없으면 새로 생성)
-        AtomicInteger counter = dailyCounters.computeIfAbsent(today, key -> {
-            log.info("새로운 날짜의 주문번호 카운터 초기화 - date: {}", key);
-            return new AtomicInteger(0);
-        });
+        LocalDate today = LocalDate.now();
 
-        // 일련번호 증가 및 주문번호 생성
-        int sequenceNumber;
-        OrderNumber orderNumber;
+        while (true) {
+            SequenceSegment segment = currentSegment.get();
 
-        do {
-            // 카운터 증가 (1부터 시작)
-            sequenceNumber = counter.incrementAndGet();
+            if (segment != null && segment.date().equals(today)) {
+                long sequenceNumber = segment.next();
+                if (sequenceNumber > 0) {
+                    return OrderNumber.generate(today, sequenceNumber, sequenceDigits);
+                }
+            }
 
-            // 주문번호 생성
-            orderNumber = OrderNumber.generate(sequenceNumber);
+            // 구간 없음 / 소진 / 날짜 변경 → 새 구간 임대 후 재시도
+            leaseSegment(today, segment);
+        }
+    }
 
-            // DB에 중복 체크 (안전장치)
-            if (!orderRepository.existsByOrderNumber(orderNumber)) {
-                break;
-            }
+    /**
+     * 새 구간 임대
+     * 한 스레드만 임대하고, 대기하던 스레드는 이미 교체된 구간을 사용
+     */
+    private synchronized void leaseSegment(LocalDate date, SequenceSegment exhausted) {
+        if (currentSegment.get() != exhausted) {
+            return;
+        }
 
-            // 중복이면 다시 시도
-            log.warn("주문번호 중복 발견, 재시도 - orderNumber: {}", orderNumber.getValue());
+        // 한도 끝까지 발급한 날짜는 DB 카운터를 더 올리지 않고 바로 실패
+        if (date.equals(exhaustedDate)
+                || (exhausted != null && exhausted.date().equals(date) && exhausted.last() >= dailyCapacity)) {
+            exhaustedDate = date;
+            throw capacityExceeded();
+        }
 
-        } while (sequenceNumber < 999); // 최대 999개까지
+        long last = sequenceRepository.allocateBlock(date, blockSize);
+        long first = last - blockSize + 1;
 
-        if (sequenceNumber >= 999) {
-            log.error("일일 주문번호 한도 초과 - date: {}, count: {}", today, sequenceNumber);
-            throw new IllegalStateException("일일 주문번호 생성 한도를 초과했습니다.");
+        if (first > dailyCapacity) {
+            exhaustedDate = date;
+            log.error("일일 주문번호 한도 초과 - date: {}, capacity: {}, leased: {}", date, dailyCapacity, last);
+            throw capacityExceeded();
         }
 
-        log.info("주문번호 생성 완료 - orderNumber: {}, sequence: {}",
-                orderNumber.getValue(), sequenceNumber);
+        currentSegment.set(new SequenceSegment(date, first, Math.min(last, dailyCapacity)));
 
-        return orderNumber;
+        log.info("주문번호 구간 임대 - date: {}, range: {} ~ {}", date, first, Math.min(last, dailyCapacity));
+    }
+
+    private OrderException capacityExceeded() {
+        return new OrderException(
+                OrderErrorCode.ORDER_NUMBER_EXHAUSTED,
+                "일일 주문번호 생성 한도를 초과했습니다. (한도: " + dailyCapacity + ")"
+        );
     }
 
     /**
      * 특정 날짜의 카운터 초기화
-     * (일일 배치 작업 등에서 사용)
+     * - 메모리의 임대 구간만 폐기 (DB 카운터는 다른 인스턴스와 공유하므로 유지)
      *
      * @param date 초기화할 날짜
      */
     public void resetDailyCounter(LocalDate date) {
-        String dateKey = date.format(DATE_FORMATTER);
-        dailyCounters.remove(dateKey);
-        log.info("주문번호 카운터 초기화 - date: {}", dateKey);
+        SequenceSegment segment = currentSegment.get();
+        if (segment != null && segment.date().equals(date)) {
+            currentSegment.compareAndSet(segment, null);
+            log.info("주문번호 임대 구간 폐기 - date: {}", date);
+        }
     }
 
     /**
-     * 이전 날짜의 카운터 정리
+     * 이전 날짜의 임대 구간 정리
      * (메모리 관리를 위해 주기적으로 호출)
      */
     public void cleanupOldCounters() {
-        String today = LocalDate.now().format(DATE_FORMATTER);
-
-        dailyCounters.keySet().removeIf(dateKey -> {
-            if (!dateKey.equals(today)) {
-                log.info("이전 날짜 카운터 삭제 - date: {}", dateKey);
-                return true;
-            }
-            return false;
-        });
+        SequenceSegment segment = currentSegment.get();
+        if (segment != null && !segment.date().equals(LocalDate.now())) {
+            currentSegment.compareAndSet(segment, null);
+            log.info("이전 날짜 임대 구간 삭제 - date: {}", segment.date());
+        }
     }
 
     /**
-     * 현재 일련번호 조회 (디버깅/모니터링용)
+     * 현재 인스턴스가 마지막으로 발급한 일련번호 (디버깅/모니터링용)
      *
-     * @return 오늘의 현재 일련번호
+     * @return 오늘의 현재 일련번호 (발급 이력이 없으면 0)
      */
     public int getCurrentSequence() {
-        String today = LocalDate.now().format(DATE_FORMATTER);
-        AtomicInteger counter = dailyCounters.get(today);
-        return counter != null ? counter.get() : 0;
+        SequenceSegment segment = currentSegment.get();
+        if (segment == null || !segment.date().equals(LocalDate.now())) {
+            return 0;
+        }
+        return (int) segment.lastIssued();
     }
 
     /**
-     * 특정 날짜의 생성 가능한 주문 수 확인
+     * 오늘 남은 주문 생성 가능 수 (전체 인스턴스 기준)
+     * - DB 카운터를 조회하므로 모니터링 용도로만 사용
      *
      * @return 남은 주문 생성 가능 수
      */
     public int getRemainingCapacity() {
-        int currentSequence = getCurrentSequence();
-        return Math.max(0, 999 - currentSequence);
+        long lastSequence = sequenceRepository.findLastSequence(LocalDate.now());
+        return (int) Math.max(0, dailyCapacity - lastSequence);
+    }
+
+    /**
+     * 임대한 일련번호 구간 [first, last]
+     */
+    private static final class SequenceSegment {
+
+        private final LocalDate date;
+        private final long first;
+        private final long last;
+        private final AtomicLong next;
+
+        private SequenceSegment(LocalDate date, long first, long last) {
+            this.date = date;
+            this.first = first;
+            this.last = last;
+            this.next = new AtomicLong(first);
+        }
+
+        private LocalDate date() {
+            return date;
+        }
+
+        private long last() {
+            return last;
+        }
+
+        /**
+         * 다음 일련번호 발급
+         *
+         * @return 일련번호 (구간 소진 시 -1)
+         */
+        private long next() {
+            long sequenceNumber = next.getAndIncrement();
+            return sequenceNumber <= last ? sequenceNumber : -1;
+        }
+
+        private long lastIssued() {
+            long issued = Math.min(next.get() - 1, last);
+            return issued >= first ? issued : 0;
+        }
     }
 }
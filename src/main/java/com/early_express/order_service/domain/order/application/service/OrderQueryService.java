@@ -4,13 +4,17 @@ import com.early_express.order_service.domain.order.domain.exception.OrderErrorC
 import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.Order;
 import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderNumber;
 import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSearchCondition;
+import com.early_express.order_service.global.common.dto.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -61,6 +65,23 @@ public class OrderQueryService {
                 ));
     }
 
+    /**
+     * 주문 상태 조회
+     * 비동기 접수 상태 Polling 용도로 상태 컬럼만 조회
+     *
+     * @param orderId 주문 ID
+     * @return 주문 상태
+     */
+    public OrderStatus getOrderStatus(String orderId) {
+        log.debug("주문 상태 조회 - orderId: {}", orderId);
+
+        return orderRepository.findStatusById(OrderId.from(orderId))
+                .orElseThrow(() -> new OrderException(
+                        OrderErrorCode.ORDER_NOT_FOUND,
+                        "주문을 찾을 수 없습니다: " + orderId
+                ));
+    }
+
     /**
      * 업체별 주문 목록 조회
      *
@@ -257,6 +278,61 @@ public class OrderQueryService {
         );
     }
 
+    // ===== 목록 조회용 Read Model =====
+    // 요약 컬럼만 Projection으로 조회 - 목록 API 전용
+
+    /**
+     * 업체별 주문 요약 목록 조회
+     *
+     * @param companyId 업체 ID
+     * @return 주문 요약 목록
+     */
+    public List<OrderSummary> getOrderSummariesByCompanyId(String companyId) {
+        log.debug("업체별 주문 요약 조회 - companyId: {}", companyId);
+
+        return orderRepository.findSummariesByCompanyId(companyId);
+    }
+
+    /**
+     * 주문 요약 검색 (OFFSET 페이징)
+     *
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @param includeTotal false면 count 쿼리 없이 다음 페이지 존재 여부만 반환
+     * @return includeTotal이면 Page, 아니면 Slice
+     */
+    public Slice<OrderSummary> searchOrderSummaries(
+            OrderSearchCondition condition,
+            Pageable pageable,
+            boolean includeTotal) {
+
+        log.debug("주문 요약 검색 - condition: {}, includeTotal: {}", condition, includeTotal);
+
+        if (includeTotal) {
+            return orderRepository.searchSummaries(condition, pageable);
+        }
+        return orderRepository.searchSummariesWithoutCount(condition, pageable);
+    }
+
+    /**
+     * 주문 요약 검색 (커서 페이징)
+     * - 대량 결과 / 깊은 페이지 조회용, 전체 건수 조회 없음
+     *
+     * @param condition 검색 조건
+     * @param cursor 이전 페이지 마지막 위치 (첫 페이지면 null)
+     * @param size 조회 크기
+     * @return 주문 요약 목록 (Slice)
+     */
+    public Slice<OrderSummary> searchOrderSummariesByCursor(
+            OrderSearchCondition condition,
+            Cursor cursor,
+            int size) {
+
+        log.debug("주문 요약 커서 검색 - condition: {}, size: {}", condition, size);
+
+        return orderRepository.searchSummariesByCursor(condition, cursor, Cursor.normalizeSize(size));
+    }
+
     /**
      * 주문 검색 Query DTO
      */
@@ -266,6 +342,9 @@ public class OrderQueryService {
             LocalDateTime startDate,
             LocalDateTime endDate
     ) {
+        public OrderSearchCondition toCondition() {
+            return OrderSearchCondition.ofCompany(companyId, status, startDate, endDate);
+        }
     }
 
     /**
@@ -277,6 +356,9 @@ public class OrderQueryService {
             LocalDateTime startDate,
             LocalDateTime endDate
     ) {
+        public OrderSearchCondition toCondition() {
+            return OrderSearchCondition.ofHub(hubId, status, startDate, endDate);
+        }
     }
 
     /**
@@ -289,5 +371,8 @@ public class OrderQueryService {
             LocalDateTime startDate,
             LocalDateTime endDate
     ) {
+        public OrderSearchCondition toCondition() {
+            return OrderSearchCondition.includingDeleted(companyId, status, isDeleted, startDate, endDate);
+        }
     }
 }
\ No newline at end of file
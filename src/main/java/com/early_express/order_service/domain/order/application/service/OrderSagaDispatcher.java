@@ -0,0 +1,123 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.OrderException;
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Order Saga Dispatcher
+ *
+ * 비동기 접수 모드에서 PENDING 주문의 Saga를 Worker Pool에 위임합니다.
+ * - 주문 저장 트랜잭션이 커밋된 뒤에 제출 (Worker가 커밋 전 주문을 읽지 않도록)
+ * - 처리 완료 시 상태 조회 대기자에게 알림 (Step별 알림은 SagaStepTransactionExecutor가 커밋마다 발행, 여기서는 보상 경로까지 끝난 최종 상태 알림)
+ * - 제출 대기 큐는 메모리에만 있으므로, 재시작 등으로 유실된 주문은 OrderSagaRecoveryScheduler가 redispatch로 다시 위임
+ */
+@Slf4j
+@Component
+public class OrderSagaDispatcher {
+
+    private final OrderSagaOrchestratorService sagaOrchestratorService;
+    private final OrderRepository orderRepository;
+    private final OrderStatusChangeNotifier statusChangeNotifier;
+    private final ThreadPoolTaskExecutor orderSagaExecutor;
+
+    public OrderSagaDispatcher(
+            OrderSagaOrchestratorService sagaOrchestratorService,
+            OrderRepository orderRepository,
+            OrderStatusChangeNotifier statusChangeNotifier,
+            @Qualifier("orderSagaExecutor") ThreadPoolTaskExecutor orderSagaExecutor) {
+
+        this.sagaOrchestratorService = sagaOrchestratorService;
+        this.orderRepository = orderRepository;
+        this.statusChangeNotifier = statusChangeNotifier;
+        this.orderSagaExecutor = orderSagaExecutor;
+    }
+
+    /**
+     * 접수 가능 여부 검증
+     * Worker와 큐가 모두 가득 차 있으면 주문을 저장하기 전에 거절
+     */
+    public void validateCapacity() {
+        int queueRemaining = orderSagaExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        boolean workersBusy = orderSagaExecutor.getActiveCount() >= orderSagaExecutor.getMaxPoolSize();
+
+        if (workersBusy && queueRemaining == 0) {
+            throw new OrderException(OrderErrorCode.ORDER_INTAKE_BUSY);
+        }
+    }
+
+    /**
+     * Saga 실행 위임
+     * 진행 중인 트랜잭션이 있으면 커밋 후 제출
+     */
+    public void dispatch(Order order) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(order);
+                }
+            });
+        } else {
+            submit(order);
+        }
+    }
+
+    /**
+     * 유실된 접수 주문 재위임 (Saga가 시작되지 않은 PENDING 주문)
+     * Worker가 가득 차 거절되면 주문을 그대로 두고 다음 점검에서 다시 시도
+     * 원래 Worker와 겹쳐도 Saga 시작 기록은 한 번만 커밋됨 (OrderSagaOrchestratorService.beginSaga)
+     *
+     * @return 위임 여부
+     */
+    public boolean redispatch(Order order) {
+        try {
+            orderSagaExecutor.execute(() -> runSaga(order));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("Saga Worker 거절, 다음 점검에서 재위임 - orderId: {}", order.getIdValue());
+            return false;
+        }
+    }
+
+    private void submit(Order order) {
+        try {
+            orderSagaExecutor.execute(() -> runSaga(order));
+        } catch (TaskRejectedException e) {
+            // validateCapacity 이후 경합으로 거절된 경우 - 주문을 실패 처리하여 PENDING으로 남지 않게 함
+            log.error("Saga Worker 거절 - orderId: {}", order.getIdValue(), e);
+            markFailed(order);
+        }
+    }
+
+    private void runSaga(Order order) {
+        try {
+            sagaOrchestratorService.startOrderSaga(order);
+            log.info("비동기 Saga 동기 단계 완료 - orderId: {}", order.getIdValue());
+        } catch (Exception e) {
+            // 보상은 startOrderSaga 내부에서 처리됨
+            log.warn("비동기 Saga 실패 - orderId: {}, error: {}", order.getIdValue(), e.getMessage());
+        } finally {
+            statusChangeNotifier.notifyChanged(order.getIdValue());
+        }
+    }
+
+    private void markFailed(Order order) {
+        try {
+            orderRepository.findById(order.getId()).ifPresent(latest -> {
+                latest.fail();
+                orderRepository.save(latest);
+            });
+        } finally {
+            statusChangeNotifier.notifyChanged(order.getIdValue());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.early_express.order_service.domain.order.application.service;
 
 import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.exception.SagaException;
 import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationEventPublisher;
 import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationRequestedEventData;
@@ -19,10 +20,10 @@ import com.early_express.order_service.domain.order.domain.model.vo.DeliveryInfo
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
 import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
-import com.early_express.order_service.domain.order.infrastructure.client.ai.AiClient;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.AiDeliveryTimeResolver;
 import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
-import com.early_express.order_service.domain.order.infrastructure.client.hub.HubClient;
+import com.early_express.order_service.domain.order.infrastructure.client.hub.HubRouteCache;
 import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.HubDeliveryClient;
@@ -31,20 +32,33 @@ import com.early_express.order_service.domain.order.infrastructure.client.hubdel
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.InventoryClient;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
-import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreRequest;
-import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.LastMileClient;
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.payment.PaymentClient;
 import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.PaymentVerificationPayload;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.SagaStepPayloadExtractor;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_BEGIN;
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_COMPLETE;
+import static com.early_express.order_service.domain.order.application.service.SagaStepTransactionExecutor.PHASE_FAIL;
 
 /**
  * Order Saga Orchestrator Service
@@ -55,6 +69,9 @@ import org.springframework.transaction.annotation.Transactional;
  * [비동기 처리] Step 3~7: 경로 계산 → 배송 생성 → 알림 → 추적
  *
  * 실패 시 보상 트랜잭션 실행 (역순)
+ *
+ * 원격 호출(Feign)은 트랜잭션 없이 실행하고, Step 상태 전이만 짧은 트랜잭션으로 커밋합니다.
+ * 호출이 지연되어도 DB 커넥션을 점유하지 않으며, Step 사이의 Saga 상태는 항상 DB에 남습니다.
  */
 @Slf4j
 @Service
@@ -70,11 +87,23 @@ public class OrderSagaOrchestratorService {
     private final TrackingEventPublisher trackingEventPublisher;
     private final PaymentClient paymentClient;
     private final InventoryClient inventoryClient;
-    private final HubClient hubClient;
-    private final AiClient aiClient;
+    private final HubRouteCache hubRouteCache;
+    private final AiDeliveryTimeResolver aiDeliveryTimeResolver;
     private final HubDeliveryClient hubDeliveryClient;
     private final LastMileClient lastMileClient;
-    private final ObjectMapper objectMapper;
+    private final SagaStepTransactionExecutor stepTransactionExecutor;
+    private final SagaStepPayloadExtractor stepPayloadExtractor;
+
+    /**
+     * 동기 단계(Step 1, 2) 원격 호출 병렬 실행용 가상 스레드 Executor
+     */
+    private final ExecutorService syncStepExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Step 1(재고 예약), Step 2(결제 검증) 병렬 실행 여부 (기본: 순차 실행)
+     */
+    @Value("${saga.sync-steps.parallel-enabled:false}")
+    private boolean parallelSyncStepsEnabled;
 
     /**
      * Order Saga 시작
@@ -149,50 +178,64 @@ public class OrderSagaOrchestratorService {
 //    }
     /**
      * 진입점 - 트랜잭션 없음
+     *
+     * 원격 호출(재고 예약, 결제 검증)은 트랜잭션 없이 실행하고,
+     * Step 시작/결과 기록만 짧은 트랜잭션으로 커밋합니다. (SagaStepTransactionExecutor)
      */
     public void startOrderSaga(Order order) {
         log.info("=== Order Saga 시작 - orderId: {} ===", order.getIdValue());
 
         try {
-            // 그냥 호출! (외부에서 호출되므로 프록시 통과)
-            executeOrderSagaWithTransaction(order);
-
-        } catch (Exception e) {
-            log.error("Saga 실행 중 오류 발생 - orderId: {}, error: {}",
-                    order.getIdValue(), e.getMessage(), e);
+            executeSyncSteps(order);
 
-            // 트랜잭션 밖에서 보상 처리
-            handleSagaFailure(order, e);
+        } catch (SagaException e) {
+            if (e.getErrorCode() == OrderErrorCode.SAGA_ALREADY_STARTED) {
+                // 다른 Worker가 먼저 시작한 Saga - 이 실행이 만든 상태가 없으므로 보상하지 않음
+                log.warn("이미 시작된 Saga, 실행 생략 - orderId: {}", order.getIdValue());
+                throw e;
+            }
+            failSaga(order, e);
 
-            throw new SagaException(
-                    OrderErrorCode.SAGA_EXECUTION_FAILED,
-                    "주문 생성 중 오류가 발생했습니다.",
-                    e
-            );
+        } catch (Exception e) {
+            failSaga(order, e);
         }
     }
 
     /**
-     * Saga 실행 - 트랜잭션 관리
+     * Saga 실패 처리 - 보상 후 SAGA_EXECUTION_FAILED로 변환
      */
-    @Transactional
-    public void executeOrderSagaWithTransaction(Order order) {
-        // Saga 생성 및 Step 실행
-        OrderSaga save_saga = OrderSaga.create(order.getId());
-        save_saga.start();
-        OrderSaga saga = sagaRepository.save(save_saga);
+    private void failSaga(Order order, Exception e) {
+        log.error("Saga 실행 중 오류 발생 - orderId: {}, error: {}",
+                order.getIdValue(), e.getMessage(), e);
+
+        // 트랜잭션 밖에서 보상 처리
+        handleSagaFailure(order, e);
 
-        // ========== [동기 처리] Step 1: 재고 예약 ==========
-        saga = executeStockReservation(order, saga);
+        throw new SagaException(
+                OrderErrorCode.SAGA_EXECUTION_FAILED,
+                "주문 생성 중 오류가 발생했습니다.",
+                e
+        );
+    }
 
-        // ========== [동기 처리] Step 2: 결제 검증 ==========
-        saga = executePaymentVerification(order, saga);
+    /**
+     * 동기 Step 실행 (Step 1, 2)
+     * 결제 검증 완료 이벤트는 Step 2 결과 기록 트랜잭션에서 함께 Outbox에 기록됨
+     */
+    private void executeSyncSteps(Order order) {
+        if (parallelSyncStepsEnabled) {
+            // ========== [동기 처리] Step 1, 2: 재고 예약 + 결제 검증 (병렬) ==========
+            executeStockAndPaymentInParallel(order);
+        } else {
+            // ========== [동기 처리] Step 1: 재고 예약 ==========
+            OrderSaga saga = executeStockReservation(order);
 
-        // ========== 이벤트 발행: 비동기 Step 3~7 트리거 ==========
-        publishOrderPaymentVerifiedEvent(order, saga);
+            // ========== [동기 처리] Step 2: 결제 검증 ==========
+            executePaymentVerification(order, saga);
+        }
 
         // ========== [비동기 처리] Step 3~7: 이벤트 발행 ==========
-        // - RouteCalculationRequestedEvent 발행
+        // - OrderPaymentVerifiedEvent 수신 후 executeRouteCalculation
         // - Step 3: 경로 계산 (Hub Service + AI Service)
         // - Step 4: 허브 배송 생성 (조건부)
         // - Step 5: 업체 배송 생성
@@ -214,7 +257,8 @@ public class OrderSagaOrchestratorService {
                 return;
             }
 
-            if (saga.getCurrentStep() == SagaStep.STOCK_RESERVE) {
+            // 재고 예약 성공 여부로 구분 (병렬 실행 시 currentStep만으로는 판단 불가)
+            if (!saga.hasSucceededStep(SagaStep.STOCK_RESERVE)) {
                 compensationService.startCompensationForStockFailure(
                         order.getIdValue(), e.getMessage());
             } else {
@@ -227,24 +271,60 @@ public class OrderSagaOrchestratorService {
         }
     }
 
+    /**
+     * Saga 생성 + 첫 Step 시작 기록
+     * 같은 주문을 다른 Worker가 먼저 시작했으면(주문 버전 충돌 / 상태 변경 / Saga 중복) SAGA_ALREADY_STARTED로 구분
+     * (유실 주문 재위임과 원래 Worker가 겹친 경우 다른 실행의 Saga를 보상하지 않도록)
+     */
+    private OrderSaga beginSaga(Consumer<SagaUnitOfWork> work) {
+        try {
+            return stepTransactionExecutor.execute(SagaStep.STOCK_RESERVE, PHASE_BEGIN, work).saga();
+        } catch (OrderException e) {
+            if (e.getErrorCode() == OrderErrorCode.ORDER_CONCURRENT_MODIFICATION
+                    || e.getErrorCode() == OrderErrorCode.INVALID_ORDER_STATUS) {
+                throw sagaAlreadyStarted(e);
+            }
+            throw e;
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            throw sagaAlreadyStarted(e);
+        }
+    }
+
+    private SagaException sagaAlreadyStarted(RuntimeException cause) {
+        return new SagaException(
+                OrderErrorCode.SAGA_ALREADY_STARTED,
+                "이미 다른 요청에 의해 Saga가 시작된 주문입니다.",
+                cause
+        );
+    }
+
+    /**
+     * Saga 생성 및 시작 (Step 시작 기록 트랜잭션 안에서 호출)
+     */
+    private OrderSaga createAndStartSaga(Order order, SagaUnitOfWork unitOfWork) {
+        OrderSaga newSaga = OrderSaga.create(order.getId());
+        newSaga.start();
+        return unitOfWork.insert(newSaga);
+    }
+
     /**
      * Step 1: 재고 예약
      */
-    private OrderSaga executeStockReservation(Order order, OrderSaga saga) {
+    private OrderSaga executeStockReservation(Order order) {
         log.info(">>> Step 1: 재고 예약 시작 - orderId: {}", order.getIdValue());
 
-        order.startStockChecking();
-        orderRepository.save(order);
+        // 1. Saga 생성 + Step 시작 기록
+        OrderSaga started = beginSaga(unitOfWork -> {
+            OrderSaga saga = createAndStartSaga(order, unitOfWork);
+            saga.startStep(SagaStep.STOCK_RESERVE);
 
-        saga.startStep(SagaStep.STOCK_RESERVE);
-        sagaRepository.save(saga);
+            order.startStockChecking();
+            unitOfWork.register(order).register(saga);
+        });
 
         try {
-            InventoryReservationRequest request = InventoryReservationRequest.of(
-                    order.getIdValue(),
-                    order.getProductInfo().getProductId(),
-                    order.getProductInfo().getQuantity()
-            );
+            // 2. 원격 호출 (트랜잭션 없음)
+            InventoryReservationRequest request = buildInventoryReservationRequest(order);
 
             InventoryReservationResponse response = inventoryClient.reserveStock(request);
 
@@ -255,19 +335,21 @@ public class OrderSagaOrchestratorService {
                 );
             }
 
+            // 3. 결과 기록
             String productHubId = response.getReservedItems().get(0).getHubId();
-            order.completeStockReservation(productHubId);
-            orderRepository.save(order);
 
-            saga.completeStep(SagaStep.STOCK_RESERVE, response);
-            saga =sagaRepository.save(saga);
+            OrderSaga completed = stepTransactionExecutor.execute(SagaStep.STOCK_RESERVE, PHASE_COMPLETE, unitOfWork -> {
+                order.completeStockReservation(productHubId);
+                stepPayloadExtractor.completeStep(started, SagaStep.STOCK_RESERVE, response);
+
+                unitOfWork.register(order).register(started);
+            }).saga();
 
             log.info(">>> Step 1: 재고 예약 완료 - orderId: {}", order.getIdValue());
 
-            return saga;
+            return completed;
         } catch (Exception e) {
-            saga.failStep(SagaStep.STOCK_RESERVE, e.getMessage());
-            sagaRepository.save(saga);
+            recordStepFailure(started, SagaStep.STOCK_RESERVE, e);
             throw e;
         }
     }
@@ -278,26 +360,17 @@ public class OrderSagaOrchestratorService {
     private OrderSaga executePaymentVerification(Order order, OrderSaga saga) {
         log.info(">>> Step 2: 결제 검증 시작 - orderId: {}", order.getIdValue());
 
-        order.startPaymentVerification();
-        orderRepository.save(order);
+        // 1. Step 시작 기록
+        OrderSaga started = stepTransactionExecutor.execute(SagaStep.PAYMENT_VERIFY, PHASE_BEGIN, unitOfWork -> {
+            order.startPaymentVerification();
+            saga.startStep(SagaStep.PAYMENT_VERIFY);
 
-        saga.startStep(SagaStep.PAYMENT_VERIFY);
-        sagaRepository.save(saga);
+            unitOfWork.register(order).register(saga);
+        }).saga();
 
         try {
-            PaymentVerificationRequest request = PaymentVerificationRequest.of(
-                    order.getIdValue(),
-                    order.getPgPaymentInfo().getPgProvider(),
-                    order.getPgPaymentInfo().getPgPaymentId(),
-                    order.getPgPaymentInfo().getPgPaymentKey(),
-                    order.getAmountInfo().getTotalAmount(),
-                    order.getCompanyInfo().getReceiverCompanyId(),
-                    order.getReceiverInfo().getReceiverName(),
-                    order.getReceiverInfo().getReceiverEmail(),
-                    order.getReceiverInfo().getReceiverPhone(),
-                    order.getCompanyInfo().getSupplierCompanyId(),
-                    order.getCompanyInfo().getSupplierCompanyId()
-            );
+            // 2. 원격 호출 (트랜잭션 없음)
+            PaymentVerificationRequest request = buildPaymentVerificationRequest(order);
 
             PaymentVerificationResponse response = paymentClient.verifyAndRegisterPayment(request);
 
@@ -309,21 +382,215 @@ public class OrderSagaOrchestratorService {
             }
 
             order.validatePaymentAmount(response.getVerifiedAmount());
-            order.completePaymentVerification(response.getPaymentId());
-            orderRepository.save(order);
 
-            saga.completeStep(SagaStep.PAYMENT_VERIFY, response);
-            saga = sagaRepository.save(saga);
+            // 3. 결과 기록 + 비동기 Step 3~7 트리거 이벤트 (같은 트랜잭션의 Outbox)
+            OrderSaga completed = stepTransactionExecutor.execute(SagaStep.PAYMENT_VERIFY, PHASE_COMPLETE, unitOfWork -> {
+                order.completePaymentVerification(response.getPaymentId());
+                stepPayloadExtractor.completeStep(started, SagaStep.PAYMENT_VERIFY, response);
+
+                unitOfWork.register(order).register(started);
+                publishOrderPaymentVerifiedEvent(order, started);
+            }).saga();
 
             log.info(">>> Step 2: 결제 검증 완료 - orderId: {}", order.getIdValue());
-            return saga;
+            return completed;
         } catch (Exception e) {
-            saga.failStep(SagaStep.PAYMENT_VERIFY, e.getMessage());
-            sagaRepository.save(saga);
+            recordStepFailure(started, SagaStep.PAYMENT_VERIFY, e);
             throw e;
         }
     }
 
+    /**
+     * Step 실패 기록 (짧은 트랜잭션)
+     */
+    private void recordStepFailure(OrderSaga saga, SagaStep step, Exception e) {
+        stepTransactionExecutor.execute(step, PHASE_FAIL, unitOfWork -> {
+            saga.failStep(step, e.getMessage());
+            unitOfWork.register(saga);
+        });
+    }
+
+    /**
+     * Step 1, 2: 재고 예약 + 결제 검증 병렬 실행
+     *
+     * 원격 호출만 가상 스레드에서 동시에 수행하고,
+     * Order 상태 전이는 호출 스레드에서 기존 순서(재고 → 결제)대로 한 트랜잭션으로 기록합니다.
+     * 한쪽만 성공한 경우 Saga를 저장한 뒤 예외를 던져
+     * handleSagaFailure → OrderCompensationService 경로로 성공한 쪽을 보상합니다.
+     */
+    private OrderSaga executeStockAndPaymentInParallel(Order order) {
+        log.info(">>> Step 1, 2: 재고 예약 + 결제 검증 병렬 시작 - orderId: {}", order.getIdValue());
+
+        // 1. Saga 생성 + 두 Step 시작 기록
+        OrderSaga saga = beginSaga(unitOfWork -> {
+            OrderSaga started = createAndStartSaga(order, unitOfWork);
+            started.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+            order.startStockChecking();
+            unitOfWork.register(order).register(started);
+        });
+
+        // 2. 원격 호출 (트랜잭션 없음)
+        InventoryReservationRequest stockRequest = buildInventoryReservationRequest(order);
+        PaymentVerificationRequest paymentRequest = buildPaymentVerificationRequest(order);
+
+        CompletableFuture<InventoryReservationResponse> stockFuture = CompletableFuture.supplyAsync(
+                () -> inventoryClient.reserveStock(stockRequest), syncStepExecutor);
+        CompletableFuture<PaymentVerificationResponse> paymentFuture = CompletableFuture.supplyAsync(
+                () -> paymentClient.verifyAndRegisterPayment(paymentRequest), syncStepExecutor);
+
+        ParallelStepResult<InventoryReservationResponse> stock = awaitParallelStep(
+                stockFuture,
+                InventoryReservationResponse::isAllReserved,
+                response -> "재고 예약에 실패했습니다."
+        );
+        ParallelStepResult<PaymentVerificationResponse> payment = validatePaymentAmount(order, awaitParallelStep(
+                paymentFuture,
+                response -> "VERIFIED".equals(response.getStatus()),
+                response -> "결제 검증에 실패했습니다: " + response.getMessage()
+        ));
+
+        // 3. 결과 기록 (성공 결과 먼저 기록하여 보상 데이터 확보)
+        OrderSaga recorded = stepTransactionExecutor.execute(SagaStep.PAYMENT_VERIFY, PHASE_COMPLETE, unitOfWork -> {
+            if (stock.succeeded()) {
+                order.completeStockReservation(stock.response().getReservedItems().get(0).getHubId());
+                stepPayloadExtractor.completeParallelStep(saga, SagaStep.STOCK_RESERVE, stock.response());
+            }
+
+            if (payment.succeeded()) {
+                String paymentId = payment.response().getPaymentId();
+                stepPayloadExtractor.completeParallelStep(saga, SagaStep.PAYMENT_VERIFY, payment.response());
+
+                if (stock.succeeded()) {
+                    order.startPaymentVerification();
+                    order.completePaymentVerification(paymentId);
+                } else {
+                    // 재고 실패 보상 시 환불 대상이 되도록 결제 ID만 기록
+                    order.registerPaymentId(paymentId);
+                }
+            }
+
+            // 실패 결과 기록
+            if (!stock.succeeded()) {
+                saga.failParallelStep(SagaStep.STOCK_RESERVE, stock.error().getMessage());
+            }
+            if (!payment.succeeded()) {
+                saga.failParallelStep(SagaStep.PAYMENT_VERIFY, payment.error().getMessage());
+            }
+
+            unitOfWork.register(order).register(saga);
+
+            // 둘 다 성공한 경우에만 비동기 Step 3~7 트리거
+            if (stock.succeeded() && payment.succeeded()) {
+                publishOrderPaymentVerifiedEvent(order, saga);
+            }
+        }).saga();
+
+        if (!stock.succeeded()) {
+            throw stock.error();
+        }
+        if (!payment.succeeded()) {
+            throw payment.error();
+        }
+
+        log.info(">>> Step 1, 2: 재고 예약 + 결제 검증 병렬 완료 - orderId: {}", order.getIdValue());
+        return recorded;
+    }
+
+    /**
+     * 결제 금액 검증 (순차 실행과 동일하게 Step 2 실패로 처리)
+     */
+    private ParallelStepResult<PaymentVerificationResponse> validatePaymentAmount(
+            Order order,
+            ParallelStepResult<PaymentVerificationResponse> payment) {
+
+        if (!payment.succeeded()) {
+            return payment;
+        }
+
+        try {
+            order.validatePaymentAmount(payment.response().getVerifiedAmount());
+            return payment;
+        } catch (RuntimeException e) {
+            return ParallelStepResult.failure(e);
+        }
+    }
+
+    /**
+     * 병렬 Step 결과 대기 및 성공 여부 판정
+     */
+    private <T> ParallelStepResult<T> awaitParallelStep(
+            CompletableFuture<T> future,
+            Predicate<T> successCondition,
+            Function<T, String> failureMessage) {
+
+        try {
+            T response = future.join();
+
+            if (!successCondition.test(response)) {
+                return ParallelStepResult.failure(new SagaException(
+                        OrderErrorCode.SAGA_STEP_FAILED,
+                        failureMessage.apply(response)
+                ));
+            }
+
+            return ParallelStepResult.success(response);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return ParallelStepResult.failure(cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new SagaException(OrderErrorCode.SAGA_STEP_FAILED, cause.getMessage(), cause));
+        }
+    }
+
+    /**
+     * 병렬 Step 실행 결과
+     */
+    private record ParallelStepResult<T>(T response, RuntimeException error) {
+
+        static <T> ParallelStepResult<T> success(T response) {
+            return new ParallelStepResult<>(response, null);
+        }
+
+        static <T> ParallelStepResult<T> failure(RuntimeException error) {
+            return new ParallelStepResult<>(null, error);
+        }
+
+        boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    /**
+     * 재고 예약 요청 생성
+     */
+    private InventoryReservationRequest buildInventoryReservationRequest(Order order) {
+        return InventoryReservationRequest.of(
+                order.getIdValue(),
+                order.getProductInfo().getProductId(),
+                order.getProductInfo().getQuantity()
+        );
+    }
+
+    /**
+     * 결제 검증 요청 생성
+     */
+    private PaymentVerificationRequest buildPaymentVerificationRequest(Order order) {
+        return PaymentVerificationRequest.of(
+                order.getIdValue(),
+                order.getPgPaymentInfo().getPgProvider(),
+                order.getPgPaymentInfo().getPgPaymentId(),
+                order.getPgPaymentInfo().getPgPaymentKey(),
+                order.getAmountInfo().getTotalAmount(),
+                order.getCompanyInfo().getReceiverCompanyId(),
+                order.getReceiverInfo().getReceiverName(),
+                order.getReceiverInfo().getReceiverEmail(),
+                order.getReceiverInfo().getReceiverPhone(),
+                order.getCompanyInfo().getSupplierCompanyId(),
+                order.getCompanyInfo().getSupplierCompanyId()
+        );
+    }
+
     /**
      * 결제 검증 완료 이벤트 발행
      */
@@ -433,7 +700,7 @@ public class OrderSagaOrchestratorService {
         log.info(">>> Step 3: 경로 계산 시작 - orderId: {}", event.getOrderId());
 
         try {
-            executeRouteCalculationWithTransaction(event);
+            executeRouteCalculationSteps(event);
 
         } catch (Exception e) {
             log.error("Step 3: 경로 계산 실패 - orderId: {}, error: {}",
@@ -447,33 +714,38 @@ public class OrderSagaOrchestratorService {
     }
 
     /**
-     * Step 3: 경로 계산 - 트랜잭션 관리
+     * Step 3: 경로 계산
+     * Hub / AI 호출은 트랜잭션 없이 실행하고 각 결과를 짧은 트랜잭션으로 기록
      */
-    @Transactional
-    public void executeRouteCalculationWithTransaction(OrderPaymentVerifiedEvent event) {
-        // 1. Order 및 Saga 조회
-        Order order = orderRepository.findById(OrderId.from(event.getOrderId()))
-                .orElseThrow(() -> new SagaException(
-                        OrderErrorCode.ORDER_NOT_FOUND,
-                        "주문을 찾을 수 없습니다: " + event.getOrderId()
-                ));
-
-        OrderSaga saga = sagaRepository.findByOrderId(order.getId())
-                .orElseThrow(() -> new SagaException(
-                        OrderErrorCode.SAGA_NOT_FOUND,
-                        "Saga를 찾을 수 없습니다: " + event.getOrderId()
-                ));
-
-        log.info("=== Step 3 시작: 경로 및 시간 계산 - orderId: {}, sagaId: {} ===",
-                order.getIdValue(), saga.getSagaIdValue());
-
-        // 2. Saga Step 시작
-        saga.startStep(SagaStep.ROUTE_CALCULATE);
-        order.startRouteCalculation();
-        sagaRepository.save(saga);
-        orderRepository.save(order);
-
-        // 3. Hub Service 경로 계산
+    private void executeRouteCalculationSteps(OrderPaymentVerifiedEvent event) {
+        // 1. Order 및 Saga 조회 + Step 시작 기록
+        SagaUnitOfWork begin = stepTransactionExecutor.execute(
+                SagaStep.ROUTE_CALCULATE, PHASE_BEGIN, unitOfWork -> {
+                    Order order = orderRepository.findById(OrderId.from(event.getOrderId()))
+                            .orElseThrow(() -> new SagaException(
+                                    OrderErrorCode.ORDER_NOT_FOUND,
+                                    "주문을 찾을 수 없습니다: " + event.getOrderId()
+                            ));
+
+                    OrderSaga saga = sagaRepository.findByOrderId(order.getId())
+                            .orElseThrow(() -> new SagaException(
+                                    OrderErrorCode.SAGA_NOT_FOUND,
+                                    "Saga를 찾을 수 없습니다: " + event.getOrderId()
+                            ));
+
+                    log.info("=== Step 3 시작: 경로 및 시간 계산 - orderId: {}, sagaId: {} ===",
+                            order.getIdValue(), saga.getSagaIdValue());
+
+                    saga.startStep(SagaStep.ROUTE_CALCULATE);
+                    order.startRouteCalculation();
+
+                    unitOfWork.register(order).register(saga);
+                });
+
+        Order order = begin.order();
+        OrderSaga routed = begin.saga();
+
+        // 2. Hub Service 경로 계산 (트랜잭션 없음)
         HubRouteCalculationResponse hubResponse = callHubRouteCalculation(order);
         log.info("Hub 경로 계산 완료 - orderId: {}, originHub: {}, destinationHub: {}, hubs: {}",
                 order.getIdValue(),
@@ -481,36 +753,36 @@ public class OrderSagaOrchestratorService {
                 hubResponse.getDestinationHubId(),
                 hubResponse.getRouteHubs());
 
-        // 4. Order 도메인 - Hub 정보 업데이트
-        updateOrderWithHubResponse(order, hubResponse);
-        orderRepository.save(order);
+        // 3. Order 도메인 - Hub 정보 기록 (AI 실패 시에도 경로 결과 보존)
+        stepTransactionExecutor.execute(SagaStep.ROUTE_CALCULATE, PHASE_COMPLETE, unitOfWork -> {
+            updateOrderWithHubResponse(order, hubResponse);
+            unitOfWork.register(order);
+        });
 
-        // 5. AI Service 시간 계산
+        // 4. AI Service 시간 계산 (트랜잭션 없음)
         AiTimeCalculationResponse aiResponse = callAiTimeCalculation(order, hubResponse);
         log.info("AI 시간 계산 완료 - orderId: {}, departureDeadline: {}, estimatedDelivery: {}",
                 order.getIdValue(),
                 aiResponse.getCalculatedDepartureDeadline(),
                 aiResponse.getEstimatedDeliveryTime());
 
-        // 6. Order 도메인 - AI 계산 결과 업데이트
-        updateOrderWithAiResponse(order, aiResponse);
-        orderRepository.save(order);
-
-        // 7. Step 완료 처리
-        saga.completeStep(SagaStep.ROUTE_CALCULATE, hubResponse);
-        saga.addStepHistory(SagaStep.ROUTE_CALCULATE, aiResponse);
+        // 5. AI 계산 결과 + Step 완료 기록
+        OrderSaga saga = stepTransactionExecutor.execute(SagaStep.ROUTE_CALCULATE, PHASE_COMPLETE, unitOfWork -> {
+            updateOrderWithAiResponse(order, aiResponse);
 
-        order.startDeliveryCreation();
+            stepPayloadExtractor.completeStep(routed, SagaStep.ROUTE_CALCULATE, hubResponse);
+            routed.addStepHistory(SagaStep.ROUTE_CALCULATE, aiResponse);
 
-        sagaRepository.save(saga);
-        orderRepository.save(order);
+            order.startDeliveryCreation();
+            unitOfWork.register(order).register(routed);
+        }).saga();
 
         log.info("<<< Step 3: 경로 및 시간 계산 완료 - orderId: {}, requiresHubDelivery: {}, orderStatus: {}",
                 event.getOrderId(),
                 hubResponse.getRequiresHubDelivery(),
                 order.getStatus().getDescription());
 
-        // 8. 다음 Step 결정 및 트리거
+        // 6. 다음 Step 결정 및 트리거
         triggerNextStep(order, saga, hubResponse);
     }
 
@@ -519,8 +791,6 @@ public class OrderSagaOrchestratorService {
      */
     private void handleRouteCalculationFailure(String orderId, Exception e) {
         try {
-            Order order = orderRepository.findById(OrderId.from(orderId))
-                    .orElse(null);
             OrderSaga saga = sagaRepository.findByOrderId(OrderId.from(orderId))
                     .orElse(null);
 
@@ -543,16 +813,16 @@ public class OrderSagaOrchestratorService {
     /**
      * Step 실패 상태 업데이트 - 별도 트랜잭션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markStepAsFailed(String orderId, String errorMessage) {
-        Order order = orderRepository.findById(OrderId.from(orderId)).orElseThrow();
-        OrderSaga saga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+        stepTransactionExecutor.execute(SagaStep.ROUTE_CALCULATE, PHASE_FAIL, unitOfWork -> {
+            Order order = orderRepository.findById(OrderId.from(orderId)).orElseThrow();
+            OrderSaga saga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
 
-        saga.failStep(SagaStep.ROUTE_CALCULATE, errorMessage);
-        order.fail();
+            saga.failStep(SagaStep.ROUTE_CALCULATE, errorMessage);
+            order.fail();
 
-        sagaRepository.save(saga);
-        orderRepository.save(order);
+            unitOfWork.register(order).register(saga);
+        });
     }
 
     /**
@@ -566,7 +836,7 @@ public class OrderSagaOrchestratorService {
 
         HubRouteCalculationRequest request = buildHubRouteCalculationRequest(order);
 
-        return hubClient.calculateRoute(request);
+        return hubRouteCache.calculateRoute(request);
     }
 
     /**
@@ -584,7 +854,7 @@ public class OrderSagaOrchestratorService {
 
         AiTimeCalculationRequest request = buildAiTimeCalculationRequest(order, hubResponse);
 
-        AiTimeCalculationResponse response = aiClient.calculateDeliveryTime(request);
+        AiTimeCalculationResponse response = aiDeliveryTimeResolver.calculateDeliveryTime(request);
 
         // AI 계산 성공 여부 검증
         if (!response.isSuccessful()) {
@@ -635,15 +905,17 @@ public class OrderSagaOrchestratorService {
      * Step 4: 허브 배송 생성
      * 출발 허브 → 도착 허브 간 배송 생성
      */
-    @Transactional
-    public void executeHubDeliveryCreation(Order order, OrderSaga saga, HubRouteCalculationResponse hubResponse) {
+    private void executeHubDeliveryCreation(Order order, OrderSaga saga, HubRouteCalculationResponse hubResponse) {
         log.info(">>> Step 4: 허브 배송 생성 시작 - orderId: {}", order.getIdValue());
 
-        saga.startStep(SagaStep.HUB_DELIVERY_CREATE);
-        sagaRepository.save(saga);
+        OrderSaga started = stepTransactionExecutor.execute(SagaStep.HUB_DELIVERY_CREATE, PHASE_BEGIN, unitOfWork -> {
+            saga.startStep(SagaStep.HUB_DELIVERY_CREATE);
+            unitOfWork.register(saga);
+        }).saga();
 
+        OrderSaga completed;
         try {
-            // 1. 허브 배송 생성 요청
+            // 1. 허브 배송 생성 요청 (트랜잭션 없음)
             HubDeliveryCreateRequest request = buildHubDeliveryRequest(order, hubResponse);
             HubDeliveryCreateResponse response = hubDeliveryClient.createDelivery(request);
 
@@ -655,32 +927,31 @@ public class OrderSagaOrchestratorService {
                 );
             }
 
-            // 3. Order 도메인 업데이트 - 허브 배송 ID 저장
-            updateOrderWithHubDeliveryId(order, response.getHubDeliveryId());
-            orderRepository.save(order);
+            // 3. 허브 배송 ID 저장 + Saga Step 완료
+            completed = stepTransactionExecutor.execute(SagaStep.HUB_DELIVERY_CREATE, PHASE_COMPLETE, unitOfWork -> {
+                updateOrderWithHubDeliveryId(order, response.getHubDeliveryId());
+                stepPayloadExtractor.completeStep(started, SagaStep.HUB_DELIVERY_CREATE, response);
 
-            // 4. Saga Step 완료
-            saga.completeStep(SagaStep.HUB_DELIVERY_CREATE, response);
-            sagaRepository.save(saga);
+                unitOfWork.register(order).register(started);
+            }).saga();
 
             log.info(">>> Step 4: 허브 배송 생성 완료 - orderId: {}, hubDeliveryId: {}",
                     order.getIdValue(), response.getHubDeliveryId());
 
-            // 5. 다음 Step 실행: Step 5 (업체 배송 생성)
-            executeLastMileDeliveryCreation(order, saga);
-
         } catch (Exception e) {
             log.error("Step 4: 허브 배송 생성 실패 - orderId: {}, error: {}",
                     order.getIdValue(), e.getMessage(), e);
 
-            saga.failStep(SagaStep.HUB_DELIVERY_CREATE, e.getMessage());
-            sagaRepository.save(saga);
+            recordStepFailure(started, SagaStep.HUB_DELIVERY_CREATE, e);
 
             // 보상 트랜잭션 시작
-            startCompensation(order, saga, e.getMessage());
+            startCompensation(order, started, e.getMessage());
 
             throw e;
         }
+
+        // 4. 다음 Step 실행: Step 5 (업체 배송 생성) - 실패 기록/보상은 Step 5에서 처리
+        executeLastMileDeliveryCreation(order, completed);
     }
 
     // ==================== Step 5: 업체 배송 생성 ====================
@@ -689,15 +960,16 @@ public class OrderSagaOrchestratorService {
      * Step 5: 업체 배송 생성
      * 도착 허브 → 수령 업체 배송 생성
      */
-    @Transactional
-    public void executeLastMileDeliveryCreation(Order order, OrderSaga saga) {
+    private void executeLastMileDeliveryCreation(Order order, OrderSaga saga) {
         log.info(">>> Step 5: 업체 배송 생성 시작 - orderId: {}", order.getIdValue());
 
-        saga.startStep(SagaStep.LAST_MILE_DELIVERY_CREATE);
-        sagaRepository.save(saga);
+        OrderSaga started = stepTransactionExecutor.execute(SagaStep.LAST_MILE_DELIVERY_CREATE, PHASE_BEGIN, unitOfWork -> {
+            saga.startStep(SagaStep.LAST_MILE_DELIVERY_CREATE);
+            unitOfWork.register(saga);
+        }).saga();
 
         try {
-            // 1. 업체 배송 생성 요청
+            // 1. 업체 배송 생성 요청 (트랜잭션 없음)
             LastMileDeliveryCreateRequest request = buildLastMileDeliveryRequest(order);
             LastMileDeliveryCreateResponse response = lastMileClient.createDelivery(request);
 
@@ -709,29 +981,31 @@ public class OrderSagaOrchestratorService {
                 );
             }
 
-            // 3. Order 도메인 업데이트 - 업체 배송 ID 저장
-            updateOrderWithLastMileDeliveryId(order, response.getLastMileDeliveryId());
-            orderRepository.save(order);
+            // 3. 업체 배송 ID 저장 + Saga Step 완료 + 주문 확정
+            stepTransactionExecutor.execute(SagaStep.LAST_MILE_DELIVERY_CREATE, PHASE_COMPLETE, unitOfWork -> {
+                updateOrderWithLastMileDeliveryId(order, response.getLastMileDeliveryId());
 
-            // 4. Saga Step 완료
-            saga.completeStep(SagaStep.LAST_MILE_DELIVERY_CREATE, response);
-            sagaRepository.save(saga);
+                stepPayloadExtractor.completeStep(started, SagaStep.LAST_MILE_DELIVERY_CREATE, response);
 
-            log.info(">>> Step 5: 업체 배송 생성 완료 - orderId: {}, lastMileDeliveryId: {}",
-                    order.getIdValue(), response.getLastMileDeliveryId());
+                log.info(">>> Step 5: 업체 배송 생성 완료 - orderId: {}, lastMileDeliveryId: {}",
+                        order.getIdValue(), response.getLastMileDeliveryId());
 
-            // 5. 주문 확정 처리
-            completeOrderSaga(order, saga);
+                completeOrderSaga(order, started, unitOfWork);
+            });
+
+            // 4. Step 6 / 7 이벤트 발행 - Best Effort
+            // 주문 확정 커밋 후 이벤트마다 별도 트랜잭션으로 기록 (실패해도 확정 트랜잭션을 rollback-only로 만들지 않음)
+            publishNotificationEvent(order);
+            publishTrackingStartEvent(order);
 
         } catch (Exception e) {
             log.error("Step 5: 업체 배송 생성 실패 - orderId: {}, error: {}",
                     order.getIdValue(), e.getMessage(), e);
 
-            saga.failStep(SagaStep.LAST_MILE_DELIVERY_CREATE, e.getMessage());
-            sagaRepository.save(saga);
+            recordStepFailure(started, SagaStep.LAST_MILE_DELIVERY_CREATE, e);
 
             // 보상 트랜잭션 시작
-            startCompensation(order, saga, e.getMessage());
+            startCompensation(order, started, e.getMessage());
 
             throw e;
         }
@@ -739,27 +1013,21 @@ public class OrderSagaOrchestratorService {
 
     /**
      * Saga 완료 처리
-     * 모든 Step 성공 시 주문 확정
+     * 모든 Step 성공 시 주문 확정 (Step 5 결과 기록 트랜잭션 안에서 호출)
      */
-    private void completeOrderSaga(Order order, OrderSaga saga) {
+    private void completeOrderSaga(Order order, OrderSaga saga, SagaUnitOfWork unitOfWork) {
         log.info("=== Order Saga 완료 처리 - orderId: {} ===", order.getIdValue());
 
         // 1. 주문 확정
         order.confirm();
-        orderRepository.save(order);
 
         // 2. Saga 완료
         saga.complete();
-        sagaRepository.save(saga);
+
+        unitOfWork.register(order).register(saga);
 
         log.info("=== Order Saga 완료 - orderId: {}, orderStatus: {} ===",
                 order.getIdValue(), order.getStatus().getDescription());
-
-        // 3. Step 6 (알림) 이벤트 발행 - Best Effort
-        publishNotificationEvent(order);
-
-        // 4. Step 7 (추적 시작) 이벤트 발행 - Best Effort
-        publishTrackingStartEvent(order);
     }
 
     /**
@@ -942,13 +1210,16 @@ public class OrderSagaOrchestratorService {
      * AI 응답으로 Order 업데이트
      */
     private void updateOrderWithAiResponse(Order order, AiTimeCalculationResponse aiResponse) {
-        // 기존 AiCalculationResult에 AI 계산 결과 추가
-        AiCalculationResult updatedResult = order.getAiCalculationResult()
-                .withAiCalculation(
+        // 기존 AiCalculationResult에 AI 계산 결과 추가 (로컬 추정치는 provisional로 표시)
+        AiCalculationResult updatedResult = aiResponse.isProvisional()
+                ? order.getAiCalculationResult().withProvisionalCalculation(
                         aiResponse.getCalculatedDepartureDeadline(),
                         aiResponse.getEstimatedDeliveryTime(),
-                        aiResponse.getAiMessage()
-                );
+                        aiResponse.getAiMessage())
+                : order.getAiCalculationResult().withAiCalculation(
+                        aiResponse.getCalculatedDepartureDeadline(),
+                        aiResponse.getEstimatedDeliveryTime(),
+                        aiResponse.getAiMessage());
 
         // Order 도메인에 AI 계산 결과 반영
         order.updateAiCalculationResult(updatedResult);
@@ -989,22 +1260,21 @@ public class OrderSagaOrchestratorService {
 
     /**
      * 보상 트랜잭션 시작
-     * REQUIRES_NEW: 호출자 트랜잭션과 독립적으로 실행
+     * 원격 취소 호출을 포함하므로 트랜잭션 없이 실행 (상태 저장은 건별 커밋)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void startCompensation(Order order, OrderSaga saga, String failureReason) {
         log.warn("보상 트랜잭션 시작 - orderId: {}, reason: {}",
                 order.getIdValue(), failureReason);
 
         saga.startCompensation(failureReason);
-        sagaRepository.save(saga);
+        saga = sagaRepository.save(saga);
 
         var completedSteps = saga.getCompletedStepsNeedingCompensation();
         log.info("보상 대상 Step 목록: {}", completedSteps);
 
         for (SagaStep step : completedSteps.reversed()) {
             try {
-                executeCompensationStep(order, saga, step);
+                saga = executeCompensationStep(order, saga, step);
             } catch (Exception e) {
                 log.error("보상 Step 실패 - step: {}, error: {}",
                         step.getDescription(), e.getMessage(), e);
@@ -1030,6 +1300,8 @@ public class OrderSagaOrchestratorService {
 
     /**
      * 개별 보상 Step 실행
+     * 저장 시 버전이 갱신된 Saga를 반환하므로 호출 측은 반환값으로 다음 Step을 이어감
+     * 실패 기록(failCompensation)은 호출 측에서 한 번만 수행
      *
      * 주의: PAYMENT_CANCEL은 이벤트만 발행하고 완료 처리는 Consumer에서 수행
      */
@@ -1039,73 +1311,65 @@ public class OrderSagaOrchestratorService {
         log.info(">>> 보상 Step 실행 - originalStep: {}, compensationStep: {}",
                 originalStep.getDescription(), compensationStep.getDescription());
 
+        if (compensationStep == SagaStep.PAYMENT_CANCEL) {
+            // 보상 시작 기록과 환불 요청 이벤트(Outbox)를 한 트랜잭션으로 커밋, 완료 처리는 Consumer에서
+            OrderSaga compensating = saga;
+            OrderSaga recorded = stepTransactionExecutor.execute(compensationStep, PHASE_BEGIN, unitOfWork -> {
+                compensating.executeCompensation(originalStep, compensationStep);
+                unitOfWork.register(compensating);
+                compensatePayment(order, compensating);
+            }).saga();
+            log.info(">>> 결제 취소 이벤트 발행 완료, PaymentRefundedEvent 대기 중");
+            // 여기서 완료 처리하지 않음! Consumer가 처리함
+            return recorded;
+        }
+
         saga.executeCompensation(originalStep, compensationStep);
         saga = sagaRepository.save(saga);
-        try {
-            switch (compensationStep) {
-                case PAYMENT_CANCEL -> {
-                    // 이벤트만 발행, 완료 처리는 Consumer에서
-                    compensatePayment(order, saga);
-                    log.info(">>> 결제 취소 이벤트 발행 완료, PaymentRefundedEvent 대기 중");
-                    // 여기서 완료 처리하지 않음! Consumer가 처리함
-                    return saga;
-                }
-                case STOCK_RESTORE -> {
-                    // 동기 실행 후 즉시 완료 처리
-                    compensationService.compensateStock(order, saga);  // ← CompensationService 사용
-                }
-                case HUB_DELIVERY_CANCEL -> {
-                    // 동기 실행 후 즉시 완료 처리
-                    compensateHubDelivery(order, saga);
-                }
-                case LAST_MILE_DELIVERY_CANCEL -> {
-                    // 동기 실행 후 즉시 완료 처리
-                    compensateLastMileDelivery(order, saga);
-                }
-                default -> throw new IllegalStateException(
-                        "지원하지 않는 보상 Step: " + compensationStep
-                );
+
+        switch (compensationStep) {
+            case STOCK_RESTORE -> {
+                // 동기 실행 후 즉시 완료 처리
+                compensationService.restoreStock(order, saga);
+            }
+            case HUB_DELIVERY_CANCEL -> {
+                // 동기 실행 후 즉시 완료 처리
+                compensateHubDelivery(order, saga);
+            }
+            case LAST_MILE_DELIVERY_CANCEL -> {
+                // 동기 실행 후 즉시 완료 처리
+                compensateLastMileDelivery(order, saga);
             }
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 보상 Step: " + compensationStep
+            );
+        }
 
-            // PAYMENT_CANCEL 제외하고 여기서 완료 처리
-            saga = sagaRepository.findById(saga.getSagaId()).orElseThrow();
-            saga.completeCompensation(compensationStep);
-            saga = sagaRepository.save(saga);
+        // PAYMENT_CANCEL 제외하고 여기서 완료 처리
+        saga.completeCompensation(compensationStep);
+        saga = sagaRepository.save(saga);
 
-            log.info(">>> 보상 Step 완료 - compensationStep: {}",
-                    compensationStep.getDescription());
+        log.info(">>> 보상 Step 완료 - compensationStep: {}",
+                compensationStep.getDescription());
 
-        } catch (Exception e) {
-            saga = sagaRepository.findById(saga.getSagaId()).orElseThrow();
-            saga.failCompensation(compensationStep, e.getMessage());
-            saga = sagaRepository.save(saga);
-            throw e;
-        }
         return saga;
     }
 
     /**
      * 결제 취소 (Compensation)
-     * 이벤트 기반 처리: RefundRequestedEvent 발행
+     * 이벤트 기반 처리: RefundRequestedEvent 발행 (보상 시작 기록 트랜잭션 안에서 호출)
      */
     private void compensatePayment(Order order, OrderSaga saga) {
         log.info(">>> 결제 취소 시작 (이벤트 발행) - orderId: {}", order.getIdValue());
 
         try {
             // 1. 보상 데이터 조회
-            Object stepData = saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY);
-
-            // LinkedHashMap → PaymentVerificationResponse 변환
-            PaymentVerificationResponse verifyResponse;
-            if (stepData instanceof PaymentVerificationResponse) {
-                verifyResponse = (PaymentVerificationResponse) stepData;
-            } else {
-                verifyResponse = objectMapper.convertValue(stepData, PaymentVerificationResponse.class);
-            }
+            PaymentVerificationPayload payment =
+                    saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY, PaymentVerificationPayload.class);
 
             // 2. 환불 요청 이벤트 데이터 생성
             RefundRequestedEventData eventData = RefundRequestedEventData.of(
-                    verifyResponse.getPaymentId(),
+                    payment.paymentId(),
                     order.getIdValue(),
                     "주문 생성 실패로 인한 자동 취소"
             );
@@ -1114,7 +1378,7 @@ public class OrderSagaOrchestratorService {
             paymentEventPublisher.publishRefundRequested(eventData);
 
             log.info(">>> 결제 취소 이벤트 발행 완료 - orderId: {}, paymentId: {}",
-                    order.getIdValue(), verifyResponse.getPaymentId());
+                    order.getIdValue(), payment.paymentId());
 
             // 참고: 실제 환불 처리는 Payment Service에서 수행
             // PaymentRefundedEvent 또는 PaymentRefundFailedEvent를 수신하여 처리 완료
@@ -1126,42 +1390,6 @@ public class OrderSagaOrchestratorService {
         }
     }
 
-    /**
-     * 재고 복원 (Compensation)
-     */
-    private void compensateStock(Order order, OrderSaga saga) {
-        log.info(">>> 재고 복원 시작 - orderId: {}", order.getIdValue());
-
-        try {
-            Object stepData = saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE);
-            InventoryReservationResponse reserveResponse = (InventoryReservationResponse) stepData;
-
-            InventoryRestoreRequest request = InventoryRestoreRequest.from(
-                    reserveResponse.getReservationId(),
-                    order.getIdValue(),
-                    reserveResponse.getReservedItems(),
-                    "주문 생성 실패로 인한 재고 복원"
-            );
-
-            InventoryRestoreResponse response = inventoryClient.restoreStock(request);
-
-            if (!Boolean.TRUE.equals(response.getSuccess())) {
-                throw new SagaException(
-                        OrderErrorCode.SAGA_COMPENSATION_FAILED,
-                        "재고 복원에 실패했습니다: " + response.getMessage()
-                );
-            }
-
-            log.info(">>> 재고 복원 완료 - orderId: {}, restoredQuantity: {}",
-                    order.getIdValue(), response.getTotalRestoredQuantity());
-
-        } catch (Exception e) {
-            log.error("재고 복원 실패 - orderId: {}, error: {}",
-                    order.getIdValue(), e.getMessage(), e);
-            throw e;
-        }
-    }
-
     /**
      * 허브 배송 취소 (Compensation)
      */
@@ -1214,6 +1442,14 @@ public class OrderSagaOrchestratorService {
         }
     }
 
+    /**
+     * 병렬 동기 단계 Executor 종료 (진행 중인 원격 호출은 끝날 때까지 대기)
+     */
+    @PreDestroy
+    public void shutdown() {
+        syncStepExecutor.close();
+    }
+
     // ==================== TODO: Step 6 & 7 ====================
 
     /**
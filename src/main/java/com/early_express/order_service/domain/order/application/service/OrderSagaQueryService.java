@@ -4,13 +4,16 @@ import com.early_express.order_service.domain.order.domain.exception.OrderErrorC
 import com.early_express.order_service.domain.order.domain.exception.SagaException;
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSagaSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
 import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.global.common.dto.Cursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -104,6 +107,53 @@ public class OrderSagaQueryService {
         );
     }
 
+    /**
+     * Saga 요약 검색 (OFFSET 페이징)
+     * - 보상 데이터 / Step 이력 없이 요약 컬럼만 조회
+     *
+     * @param query 검색 조건
+     * @param pageable 페이징 정보
+     * @param includeTotal false면 count 쿼리 없이 다음 페이지 존재 여부만 반환
+     * @return includeTotal이면 Page, 아니면 Slice
+     */
+    public Slice<OrderSagaSummary> searchSagaSummaries(
+            SagaSearchQuery query,
+            Pageable pageable,
+            boolean includeTotal) {
+
+        log.debug("Saga 요약 검색 - status: {}, startDate: {}, endDate: {}, includeTotal: {}",
+                query.status(), query.startDate(), query.endDate(), includeTotal);
+
+        if (includeTotal) {
+            return sagaRepository.searchSagaSummaries(
+                    query.status(), query.startDate(), query.endDate(), pageable);
+        }
+        return sagaRepository.searchSagaSummariesWithoutCount(
+                query.status(), query.startDate(), query.endDate(), pageable);
+    }
+
+    /**
+     * Saga 요약 검색 (커서 페이징)
+     * - 전체 건수 조회 없이 다음 페이지 존재 여부만 판단
+     *
+     * @param query 검색 조건
+     * @param cursor 이전 페이지 마지막 위치 (첫 페이지면 null)
+     * @param size 조회 크기
+     * @return Saga 요약 목록 (Slice)
+     */
+    public Slice<OrderSagaSummary> searchSagaSummariesByCursor(SagaSearchQuery query, Cursor cursor, int size) {
+        log.debug("Saga 요약 커서 검색 - status: {}, startDate: {}, endDate: {}, size: {}",
+                query.status(), query.startDate(), query.endDate(), size);
+
+        return sagaRepository.searchSagaSummariesByCursor(
+                query.status(),
+                query.startDate(),
+                query.endDate(),
+                cursor,
+                Cursor.normalizeSize(size)
+        );
+    }
+
     /**
      * 장시간 진행 중인 Saga 조회 (타임아웃 의심)
      * - 모니터링용
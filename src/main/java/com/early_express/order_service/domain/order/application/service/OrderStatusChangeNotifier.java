@@ -0,0 +1,92 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 주문 상태 변경 알림
+ *
+ * 상태 조회 Long-Polling 요청이 스레드를 점유하지 않고 대기하도록
+ * 주문별 CompletableFuture를 보관하고, Saga Worker가 처리를 마치면 완료시킵니다.
+ * 인스턴스 로컬 알림이므로 다른 인스턴스에서 변경된 경우 대기 시간 만료 후 현재 상태로 응답합니다.
+ *
+ * Future는 전용 풀(orderStatusNotifyExecutor)에서 완료시키므로, 대기 요청의 응답 처리(현재 상태 조회)가
+ * 알림을 보낸 Saga Worker / 커밋 콜백 스레드에서 실행되지 않습니다.
+ */
+@Slf4j
+@Component
+public class OrderStatusChangeNotifier {
+
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+
+    private final Executor notifyExecutor;
+
+    public OrderStatusChangeNotifier(@Qualifier("orderStatusNotifyExecutor") Executor notifyExecutor) {
+        this.notifyExecutor = notifyExecutor;
+    }
+
+    /**
+     * 상태 변경 대기
+     * 같은 주문을 기다리는 요청들은 하나의 Future를 공유
+     */
+    public CompletableFuture<Void> awaitChange(String orderId) {
+        return waiters.compute(orderId, (id, waiter) ->
+                waiter == null ? new Waiter(new CompletableFuture<>(), 1) : waiter.join()
+        ).future();
+    }
+
+    /**
+     * 상태 변경 알림
+     * 풀이 가득 차 거절되면 대기 요청은 대기 시간 만료 후 현재 상태로 응답
+     */
+    public void notifyChanged(String orderId) {
+        Waiter waiter = waiters.remove(orderId);
+
+        if (waiter != null) {
+            log.debug("주문 상태 변경 알림 - orderId: {}", orderId);
+            try {
+                waiter.future().completeAsync(() -> null, notifyExecutor);
+            } catch (RejectedExecutionException e) {
+                log.warn("주문 상태 변경 알림 거절, 대기 시간 만료 후 응답 - orderId: {}", orderId);
+            }
+        }
+    }
+
+    /**
+     * 대기 요청 정리 (타임아웃 시)
+     * 마지막 대기 요청이 빠지면 주문별 Future를 제거
+     */
+    public void release(String orderId, CompletableFuture<Void> future) {
+        waiters.computeIfPresent(orderId, (id, waiter) -> {
+            if (waiter.future() != future) {
+                return waiter;
+            }
+            return waiter.count() <= 1 ? null : waiter.leave();
+        });
+    }
+
+    /**
+     * 대기 중인 주문 수 (모니터링용)
+     */
+    public int getWaitingOrderCount() {
+        return waiters.size();
+    }
+
+    private record Waiter(CompletableFuture<Void> future, int count) {
+
+        Waiter join() {
+            return new Waiter(future, count + 1);
+        }
+
+        Waiter leave() {
+            return new Waiter(future, count - 1);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * Saga Step 상태 전이 트랜잭션 실행기
+ *
+ * Saga의 각 Step은 "시작 기록 → 원격 호출 → 결과 기록" 순서로 진행되며,
+ * 상태 전이(시작/결과 기록)만 짧은 트랜잭션으로 실행하고 원격 호출은 트랜잭션 밖에서 수행합니다.
+ * 커밋된 상태 전이가 Step 사이의 Saga 상태를 보존합니다.
+ *
+ * 트랜잭션 안의 변경은 SagaUnitOfWork에 모았다가 커밋 직전에 Order / Saga 각 1회로 저장합니다.
+ * Order가 등록된 상태 전이는 커밋 직후 OrderStatusChangeNotifier로 알려 상태 조회 Long-Polling이 Step마다 응답합니다.
+ *
+ * 트랜잭션 구간(= DB 커넥션 점유 시간)은 Step/단계별로 측정됩니다.
+ * - order.saga.step.connection.hold (step, phase, outcome)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaStepTransactionExecutor {
+
+    static final String CONNECTION_HOLD_METRIC = "order.saga.step.connection.hold";
+
+    /**
+     * Step 시작 기록
+     */
+    public static final String PHASE_BEGIN = "begin";
+
+    /**
+     * 원격 호출 결과 기록
+     */
+    public static final String PHASE_COMPLETE = "complete";
+
+    /**
+     * Step 실패 기록
+     */
+    public static final String PHASE_FAIL = "fail";
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository sagaRepository;
+    private final OrderStatusChangeNotifier statusChangeNotifier;
+
+    /**
+     * 상태 전이를 트랜잭션 안에서 실행
+     * 호출자 트랜잭션이 있으면 참여 (REQUIRED)
+     *
+     * @param step Saga Step
+     * @param phase 단계 (begin / complete / fail)
+     * @param work 상태 전이 (원격 호출 금지) - 변경된 Order / Saga는 register로 등록
+     * @return 저장까지 끝난 Unit of Work (최신 Order / Saga 조회용)
+     */
+    public SagaUnitOfWork execute(SagaStep step, String phase, Consumer<SagaUnitOfWork> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            return transactionTemplate.execute(status -> {
+                SagaUnitOfWork unitOfWork = new SagaUnitOfWork(orderRepository, sagaRepository);
+                work.accept(unitOfWork);
+                unitOfWork.flush();
+                notifyAfterCommit(unitOfWork.order());
+                return unitOfWork;
+            });
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long nanos = sample.stop(Timer.builder(CONNECTION_HOLD_METRIC)
+                    .description("Saga Step 상태 전이 트랜잭션의 DB 커넥션 점유 시간")
+                    .tag("step", step.name())
+                    .tag("phase", phase)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+
+            log.debug("Saga Step 트랜잭션 종료 - step: {}, phase: {}, outcome: {}, holdMs: {}",
+                    step.name(), phase, outcome, nanos / 1_000_000);
+        }
+    }
+
+    /**
+     * 커밋 후 주문 상태 변경 알림 (호출자 트랜잭션에 참여한 경우 바깥 트랜잭션 커밋 시점)
+     */
+    private void notifyAfterCommit(Order order) {
+        if (order == null) {
+            return;
+        }
+
+        String orderId = order.getIdValue();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statusChangeNotifier.notifyChanged(orderId);
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Saga Step 단위 작업 (Unit of Work)
+ *
+ * Step 상태 전이 트랜잭션 안에서 변경된 Order / OrderSaga를 모아 두었다가
+ * 트랜잭션 종료 직전에 한 번씩만 저장합니다.
+ * 같은 트랜잭션에서 여러 번 변경해도 repository save는 1회로 합쳐지며,
+ * 신규 Saga는 첫 Step 히스토리와 함께 한 번에 INSERT됩니다.
+ *
+ * SagaStepTransactionExecutor가 트랜잭션마다 생성하며, 트랜잭션 밖으로 공유하지 않습니다.
+ */
+@Slf4j
+public class SagaUnitOfWork {
+
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository sagaRepository;
+
+    private Order order;
+    private OrderSaga saga;
+    private boolean orderDirty;
+    private boolean sagaDirty;
+    private int coalescedWrites;
+
+    SagaUnitOfWork(OrderRepository orderRepository, OrderSagaRepository sagaRepository) {
+        this.orderRepository = orderRepository;
+        this.sagaRepository = sagaRepository;
+    }
+
+    /**
+     * 변경된 Order 등록 (트랜잭션 종료 시 저장)
+     */
+    public SagaUnitOfWork register(Order order) {
+        if (orderDirty && this.order == order) {
+            coalescedWrites++;
+        }
+        this.order = order;
+        this.orderDirty = true;
+        return this;
+    }
+
+    /**
+     * 변경된 Saga 등록 (트랜잭션 종료 시 저장)
+     */
+    public SagaUnitOfWork register(OrderSaga saga) {
+        if (sagaDirty && this.saga == saga) {
+            coalescedWrites++;
+        }
+        this.saga = saga;
+        this.sagaDirty = true;
+        return this;
+    }
+
+    /**
+     * 조회한 Order / Saga를 변경 없이 추적 (flush 대상 아님)
+     */
+    public SagaUnitOfWork track(Order order, OrderSaga saga) {
+        this.order = order;
+        this.saga = saga;
+        return this;
+    }
+
+    /**
+     * 신규 Saga 등록 (트랜잭션 종료 시 저장)
+     * 같은 트랜잭션에서 시작한 Step 히스토리와 함께 한 번에 INSERT (INSERT 후 UPDATE 없음)
+     * Saga ID는 저장 시 발급되므로 flush 이후 saga()로 저장된 Saga를 조회
+     */
+    public OrderSaga insert(OrderSaga newSaga) {
+        this.saga = newSaga;
+        this.sagaDirty = true;
+        return newSaga;
+    }
+
+    /**
+     * 최신 Order (flush 이후에는 저장된 상태)
+     */
+    public Order order() {
+        return order;
+    }
+
+    /**
+     * 최신 Saga (flush 이후에는 저장된 상태)
+     */
+    public OrderSaga saga() {
+        return saga;
+    }
+
+    /**
+     * 등록된 변경 저장 - Order, Saga 각각 최대 1회
+     */
+    void flush() {
+        if (orderDirty) {
+            order = orderRepository.save(order);
+            orderDirty = false;
+        }
+
+        if (sagaDirty) {
+            saga = sagaRepository.save(saga);
+            sagaDirty = false;
+        }
+
+        if (coalescedWrites > 0) {
+            log.debug("Saga Step 저장 병합 - 생략된 save 호출: {}", coalescedWrites);
+        }
+    }
+}
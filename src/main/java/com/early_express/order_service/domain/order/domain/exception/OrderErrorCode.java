@@ -28,6 +28,9 @@ public enum OrderErrorCode implements ErrorCode {
     ORDER_ACCESS_DENIED("ORDER_006", "해당 주문에 대한 권한이 없습니다.", 403),
     ORDER_AMOUNT_MISMATCH("ORDER_007", "주문 금액이 일치하지 않습니다.", 400),
     DUPLICATE_ORDER_NUMBER("ORDER_008", "이미 존재하는 주문 번호입니다.", 409),
+    ORDER_INTAKE_BUSY("ORDER_009", "주문 접수량이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
+    ORDER_CONCURRENT_MODIFICATION("ORDER_010", "다른 요청에 의해 주문이 변경되었습니다. 다시 시도해주세요.", 409),
+    ORDER_NUMBER_EXHAUSTED("ORDER_011", "일일 주문번호 생성 한도를 초과했습니다.", 503),
 
     // ===== Saga 관련 에러 (SAGA_1xx) =====
     SAGA_NOT_FOUND("SAGA_101", "Saga를 찾을 수 없습니다.", 404),
@@ -38,6 +41,8 @@ public enum OrderErrorCode implements ErrorCode {
     SAGA_STATE_MISMATCH("SAGA_106", "Saga 상태가 일치하지 않습니다.", 409),
     SAGA_ALREADY_COMPLETED("SAGA_107", "이미 완료된 Saga입니다.", 409),
     SAGA_ALREADY_COMPENSATED("SAGA_108", "이미 보상 처리된 Saga입니다.", 409),
+    SAGA_CONCURRENT_MODIFICATION("SAGA_109", "다른 요청에 의해 Saga가 변경되었습니다.", 409),
+    SAGA_ALREADY_STARTED("SAGA_110", "이미 시작된 Saga입니다.", 409),
 
     // ===== 재고 관련 에러 (STOCK_2xx) =====
     INSUFFICIENT_STOCK("STOCK_201", "재고가 부족합니다.", 409),
@@ -66,6 +71,8 @@ public enum OrderErrorCode implements ErrorCode {
     NOTIFICATION_SERVICE_ERROR("EXTERNAL_407", "알림 서비스 연동 중 오류가 발생했습니다.", 502),
     TRACKING_SERVICE_ERROR("EXTERNAL_408", "추적 서비스 연동 중 오류가 발생했습니다.", 502),
     EXTERNAL_SERVICE_TIMEOUT("EXTERNAL_409", "외부 서비스 응답 시간이 초과되었습니다.", 504),
+    EXTERNAL_SERVICE_CIRCUIT_OPEN("EXTERNAL_410", "외부 서비스 장애로 호출이 차단되었습니다.", 503),
+    EXTERNAL_SERVICE_BULKHEAD_FULL("EXTERNAL_411", "외부 서비스 동시 호출 한도를 초과했습니다.", 503),
 
     // ===== AI 서비스 관련 에러 (AI_5xx) =====
     AI_CALCULATION_FAILED("AI_501", "AI 시간 계산에 실패했습니다.", 500),
@@ -3,12 +3,14 @@ package com.early_express.order_service.domain.order.domain.model;
 import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
 import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.vo.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Order Aggregate Root
@@ -67,6 +69,15 @@ public class Order {
     private String cancelReason;
     private LocalDateTime cancelledAt;
 
+    // 낙관적 락 버전 (신규 주문은 null)
+    private Long version;
+
+    // 마지막으로 저장된 상태 / 도착 허브 (허브 조회 테이블 갱신 여부 판단용)
+    @Getter(AccessLevel.NONE)
+    private OrderStatus persistedStatus;
+    @Getter(AccessLevel.NONE)
+    private String persistedDestinationHubId;
+
     @Builder
     private Order(
             OrderId id,
@@ -85,7 +96,8 @@ public class Order {
             String createdBy,
             LocalDateTime createdAt,
             String cancelReason,
-            LocalDateTime cancelledAt) {
+            LocalDateTime cancelledAt,
+            Long version) {
 
         this.id = id;
         this.orderNumber = orderNumber;
@@ -104,6 +116,9 @@ public class Order {
         this.createdAt = createdAt;
         this.cancelReason = cancelReason;
         this.cancelledAt = cancelledAt;
+        this.version = version;
+        this.persistedStatus = status;
+        this.persistedDestinationHubId = destinationHubId;
     }
 
     /**
@@ -168,6 +183,17 @@ public class Order {
         this.status = OrderStatus.PAYMENT_VERIFIED;
     }
 
+    /**
+     * 결제 ID 기록 (상태 전이 없음)
+     * Step 1, 2 병렬 실행 중 재고 예약만 실패한 경우,
+     * 이미 등록된 결제가 환불 보상 대상이 되도록 결제 ID만 남김
+     */
+    public void registerPaymentId(String paymentId) {
+        validateNotNull(paymentId, "결제 ID");
+
+        this.amountInfo = this.amountInfo.withPaymentId(paymentId);
+    }
+
     /**
      * Step 3: 경로 계산 완료 처리
      */
@@ -468,6 +494,37 @@ public class Order {
         return this.orderNumber.getValue();
     }
 
+    /**
+     * JPA용 버전 setter
+     * 저장 후 증가된 낙관적 락 버전 반영
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * 마지막 저장 이후 상태가 바뀌었는지 확인
+     */
+    public boolean isStatusChangedSincePersisted() {
+        return this.status != this.persistedStatus;
+    }
+
+    /**
+     * 마지막 저장 이후 도착 허브가 바뀌었는지 확인
+     */
+    public boolean isDestinationHubChangedSincePersisted() {
+        return !Objects.equals(this.destinationHubId, this.persistedDestinationHubId);
+    }
+
+    /**
+     * 저장 완료 표시
+     * 저장 후 호출 (이후 저장에서는 상태 / 도착 허브가 바뀌지 않으면 허브 조회 테이블을 갱신하지 않음)
+     */
+    public void markPersisted() {
+        this.persistedStatus = this.status;
+        this.persistedDestinationHubId = this.destinationHubId;
+    }
+
     /**
      * 거치는 허브정보
      * */
@@ -33,6 +33,9 @@ public class OrderSaga {
 
     private final List<SagaStepHistory> stepHistory;
 
+    // 낙관적 락 버전 (신규 Saga는 null)
+    private Long version;
+
     @Builder
     private OrderSaga(
             SagaId sagaId,
@@ -43,7 +46,8 @@ public class OrderSaga {
             LocalDateTime startedAt,
             LocalDateTime completedAt,
             String failureReason,
-            List<SagaStepHistory> stepHistory) {
+            List<SagaStepHistory> stepHistory,
+            Long version) {
 
         this.sagaId = sagaId;
         this.orderId = orderId;
@@ -54,6 +58,7 @@ public class OrderSaga {
         this.completedAt = completedAt;
         this.failureReason = failureReason;
         this.stepHistory = stepHistory != null ? new ArrayList<>(stepHistory) : new ArrayList<>();
+        this.version = version;
     }
 
     /**
@@ -94,21 +99,86 @@ public class OrderSaga {
         this.stepHistory.add(history);
     }
 
+    /**
+     * 병렬 Step 시작
+     * 동기 단계(Step 1, 2)를 동시에 실행할 때 각 Step 히스토리를 함께 생성
+     * 현재 Step은 첫 번째 Step으로 유지
+     */
+    public void startParallelSteps(SagaStep... steps) {
+        validateNotFinalState("병렬 Step 시작");
+
+        this.currentStep = steps[0];
+
+        for (SagaStep step : steps) {
+            this.stepHistory.add(SagaStepHistory.create(this.sagaId, step));
+        }
+    }
+
+    /**
+     * 병렬 Step 성공 처리
+     * 현재 Step 대신 해당 Step 히스토리가 진행 중인지 검증
+     */
+    public void completeParallelStep(SagaStep step, Object stepData) {
+        completeParallelStep(step, stepData, stepData);
+    }
+
+    /**
+     * 병렬 Step 성공 처리 (보상 데이터와 이력 응답을 따로 기록)
+     *
+     * @param compensationPayload 보상 데이터로 저장할 값 (보상이 필요한 Step만 저장)
+     * @param responseData Step History 응답으로 기록할 값
+     */
+    public void completeParallelStep(SagaStep step, Object compensationPayload, Object responseData) {
+        SagaStepHistory history = findRunningStepHistory(step, "병렬 Step 완료");
+        history.complete(responseData);
+
+        if (step.isNeedsCompensation()) {
+            this.compensationData = this.compensationData.addStepData(
+                    step.name(),
+                    compensationPayload
+            );
+        }
+    }
+
+    /**
+     * 병렬 Step 실패 처리
+     * 보상 상태로만 전환하고, 성공한 Step의 보상은 호출 측에서 모든 결과를 기록한 뒤 한 번만 진행
+     * 두 Step이 모두 실패하면 첫 번째 실패 사유를 유지
+     */
+    public void failParallelStep(SagaStep step, String errorMessage) {
+        SagaStepHistory history = findRunningStepHistory(step, "병렬 Step 실패");
+        history.fail(errorMessage);
+
+        if (!isCompensating()) {
+            this.startCompensation(errorMessage);
+        }
+    }
+
     /**
      * Step 성공 처리
      */
     public void completeStep(SagaStep step, Object stepData) {
+        completeStep(step, stepData, stepData);
+    }
+
+    /**
+     * Step 성공 처리 (보상 데이터와 이력 응답을 따로 기록)
+     *
+     * @param compensationPayload 보상 데이터로 저장할 값 (보상이 필요한 Step만 저장)
+     * @param responseData Step History 응답으로 기록할 값
+     */
+    public void completeStep(SagaStep step, Object compensationPayload, Object responseData) {
         validateCurrentStep(step, "Step 완료");
 
         // Step History 업데이트
         SagaStepHistory history = findStepHistory(step);
-        history.complete(stepData);
+        history.complete(responseData);
 
         // 보상 데이터 저장 (필요한 경우)
         if (step.isNeedsCompensation()) {
             this.compensationData = this.compensationData.addStepData(
                     step.name(),
-                    stepData
+                    compensationPayload
             );
         }
 
@@ -248,15 +318,38 @@ public class OrderSaga {
 
     /**
      * 완료된 Step 목록 조회 (보상이 필요한 것만)
+     * 이미 보상을 실행했거나 진행 중인 Step은 제외 (보상 경로가 여러 개여도 Step당 한 번만 보상)
      */
     public List<SagaStep> getCompletedStepsNeedingCompensation() {
         return this.stepHistory.stream()
                 .filter(history -> history.getStatus() == StepStatus.SUCCESS)
                 .map(SagaStepHistory::getStep)
                 .filter(SagaStep::isNeedsCompensation)
+                .filter(step -> !isCompensationRecorded(step))
                 .toList();
     }
 
+    /**
+     * 해당 Step의 보상 Step 히스토리가 있는지 확인 (실패한 보상 제외)
+     */
+    public boolean isCompensationRecorded(SagaStep step) {
+        SagaStep compensationStep = step.getCompensationStep();
+        return this.stepHistory.stream()
+                .anyMatch(history -> history.getStep() == compensationStep
+                        && history.getStatus() != StepStatus.FAILED);
+    }
+
+    /**
+     * 특정 Step이 성공했는지 확인 (가장 최근 히스토리 기준)
+     */
+    public boolean hasSucceededStep(SagaStep step) {
+        return this.stepHistory.stream()
+                .filter(history -> history.getStep() == step)
+                .reduce((first, second) -> second)
+                .map(history -> history.getStatus() == StepStatus.SUCCESS)
+                .orElse(false);
+    }
+
     /**
      * 특정 Step의 보상 데이터 조회
      */
@@ -264,6 +357,21 @@ public class OrderSaga {
         return this.compensationData.getStepData(step.name());
     }
 
+    /**
+     * 특정 Step의 보상 데이터를 타입 지정으로 조회
+     */
+    public <T> T getCompensationDataForStep(SagaStep step, Class<T> type) {
+        return this.compensationData.getStepData(step.name(), type);
+    }
+
+    /**
+     * 보상 데이터 변경 표시 초기화
+     * 저장 완료 후 호출 (이후 저장에서는 변경이 없으면 보상 데이터 컬럼을 갱신하지 않음)
+     */
+    public void clearCompensationDataModified() {
+        this.compensationData = this.compensationData.markPersisted();
+    }
+
     /**
      * Step History 조회
      */
@@ -277,6 +385,25 @@ public class OrderSaga {
                 ));
     }
 
+    /**
+     * 진행 중인 Step History 조회 (병렬 Step용)
+     */
+    private SagaStepHistory findRunningStepHistory(SagaStep step, String operation) {
+        SagaStepHistory history = findStepHistory(step);
+
+        if (history.getStatus() != StepStatus.PENDING && history.getStatus() != StepStatus.IN_PROGRESS) {
+            throw new SagaException(
+                    OrderErrorCode.SAGA_STEP_FAILED,
+                    String.format("%s는 진행 중인 Step에서만 가능합니다. 요청 Step: %s, 상태: %s",
+                            operation,
+                            step.getDescription(),
+                            history.getStatus())
+            );
+        }
+
+        return history;
+    }
+
     /**
      * Saga가 진행 중인지 확인
      */
@@ -358,6 +485,14 @@ public class OrderSaga {
         return this.orderId.getValue();
     }
 
+    /**
+     * JPA용 버전 setter
+     * 저장 후 증가된 낙관적 락 버전 반영
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     /**
      * Step History 복사본 반환 (불변성 보장)
      */
@@ -131,6 +131,17 @@ public enum OrderStatus {
                 || this == DELIVERY_CREATING;
     }
 
+    /**
+     * 주문 접수 처리 중(동기 Saga Step 1, 2 진행 중)인 상태인지 확인
+     * 비동기 접수 모드에서 상태 조회 클라이언트가 대기를 계속할지 판단할 때 사용
+     */
+    public boolean isAcceptanceInProgress() {
+        return this == PENDING
+                || this == STOCK_CHECKING
+                || this == STOCK_RESERVED
+                || this == PAYMENT_VERIFYING;
+    }
+
     /**
      * 배송 진행 중인 상태인지 확인
      */
@@ -28,6 +28,9 @@ public class SagaStepHistory {
     private LocalDateTime completedAt;
     private int retryCount;
 
+    // 저장 이후 변경 여부 (영속성 계층이 변경된 이력만 UPDATE)
+    private boolean modified;
+
     @Builder
     private SagaStepHistory(
             Long id,
@@ -72,6 +75,7 @@ public class SagaStepHistory {
     public void start(Object requestData) {
         this.status = StepStatus.IN_PROGRESS;
         this.request = toJson(requestData);
+        this.modified = true;
     }
 
     /**
@@ -81,6 +85,7 @@ public class SagaStepHistory {
         this.status = StepStatus.SUCCESS;
         this.response = toJson(responseData);
         this.completedAt = LocalDateTime.now();
+        this.modified = true;
     }
 
     /**
@@ -90,6 +95,7 @@ public class SagaStepHistory {
         this.status = StepStatus.FAILED;
         this.errorMessage = errorMessage;
         this.completedAt = LocalDateTime.now();
+        this.modified = true;
     }
 
     /**
@@ -97,6 +103,7 @@ public class SagaStepHistory {
      */
     public void compensated() {
         this.status = StepStatus.COMPENSATED;
+        this.modified = true;
     }
 
     /**
@@ -104,6 +111,7 @@ public class SagaStepHistory {
      */
     public void incrementRetryCount() {
         this.retryCount++;
+        this.modified = true;
     }
 
     /**
@@ -155,4 +163,12 @@ public class SagaStepHistory {
     public void setId(Long id) {
         this.id = id;
     }
+
+    /**
+     * JPA용 변경 여부 초기화
+     * 저장 완료 후 호출
+     */
+    public void clearModified() {
+        this.modified = false;
+    }
 }
@@ -0,0 +1,22 @@
+package com.early_express.order_service.domain.order.domain.model.readmodel;
+
+import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saga 목록 조회용 Read Model
+ * - 보상 데이터(compensation_data) / Step 이력 없이 요약 컬럼만 Projection으로 직접 조회
+ * - 상세 진행 상황은 Saga 단건 조회 사용
+ */
+public record OrderSagaSummary(
+        String sagaId,
+        String orderId,
+        SagaStatus status,
+        SagaStep currentStep,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        String failureReason
+) {
+}
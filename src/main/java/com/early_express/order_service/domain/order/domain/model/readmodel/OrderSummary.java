@@ -0,0 +1,30 @@
+package com.early_express.order_service.domain.order.domain.model.readmodel;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 주문 목록 조회용 Read Model
+ * - 목록 화면에 필요한 요약 컬럼만 Projection으로 직접 조회
+ * - TEXT 컬럼(route_info, delivery_note, special_instructions 등) 및 Order Aggregate 복원 없음
+ * - 조회 전용 (상태 변경은 Order Aggregate 사용)
+ */
+public record OrderSummary(
+        String orderId,
+        String orderNumber,
+        OrderStatus status,
+        String supplierCompanyId,
+        String receiverCompanyId,
+        String productId,
+        Integer quantity,
+        BigDecimal totalAmount,
+        String receiverName,
+        LocalDate requestedDeliveryDate,
+        LocalTime requestedDeliveryTime,
+        LocalDateTime createdAt
+) {
+}
@@ -22,18 +22,21 @@ public class AiCalculationResult {
     private final LocalDateTime calculatedDepartureDeadline; // AI가 계산한 발송 시한
     private final LocalDateTime estimatedDeliveryTime; // AI가 계산한 예상 도착 시간
     private final String aiMessage; // AI의 판단 근거 메시지
+    private final boolean provisional; // 로컬 추정치 여부 (AI 응답 지연 / 실패 시)
 
     @Builder
     private AiCalculationResult(
             String routeInfoJson,
             LocalDateTime calculatedDepartureDeadline,
             LocalDateTime estimatedDeliveryTime,
-            String aiMessage) {
+            String aiMessage,
+            boolean provisional) {
 
         this.routeInfoJson = routeInfoJson;
         this.calculatedDepartureDeadline = calculatedDepartureDeadline;
         this.estimatedDeliveryTime = estimatedDeliveryTime;
         this.aiMessage = aiMessage;
+        this.provisional = provisional;
     }
 
     /**
@@ -61,10 +64,24 @@ public class AiCalculationResult {
             LocalDateTime estimatedDeliveryTime,
             String routeInfoJson) {
 
+        return of(calculatedDepartureDeadline, estimatedDeliveryTime, routeInfoJson, false);
+    }
+
+    /**
+     * 완전한 AI 계산 결과 생성 (로컬 추정치 여부 포함)
+     * OrderEntity에서 도메인 모델로 변환 시 사용
+     */
+    public static AiCalculationResult of(
+            LocalDateTime calculatedDepartureDeadline,
+            LocalDateTime estimatedDeliveryTime,
+            String routeInfoJson,
+            boolean provisional) {
+
         return AiCalculationResult.builder()
                 .routeInfoJson(routeInfoJson)
                 .calculatedDepartureDeadline(calculatedDepartureDeadline)
                 .estimatedDeliveryTime(estimatedDeliveryTime)
+                .provisional(provisional)
                 .build();
     }
 
@@ -84,6 +101,24 @@ public class AiCalculationResult {
                 .build();
     }
 
+    /**
+     * 로컬 추정 결과 추가 (AI Service 응답 지연 / 실패 시)
+     * 조회 응답에서 AI 결과와 구분할 수 있도록 추정치로 표시
+     */
+    public AiCalculationResult withProvisionalCalculation(
+            LocalDateTime departureDeadline,
+            LocalDateTime estimatedDeliveryTime,
+            String message) {
+
+        return AiCalculationResult.builder()
+                .routeInfoJson(this.routeInfoJson)
+                .calculatedDepartureDeadline(departureDeadline)
+                .estimatedDeliveryTime(estimatedDeliveryTime)
+                .aiMessage(message)
+                .provisional(true)
+                .build();
+    }
+
     /**
      * 경로 정보에서 허브 배송 필요 여부 판단
      * JSON 파싱하여 거쳐야 할 허브가 2개 이상인지 확인
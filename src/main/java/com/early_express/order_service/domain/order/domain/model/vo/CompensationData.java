@@ -1,105 +1,221 @@
 package com.early_express.order_service.domain.order.domain.model.vo;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 보상 데이터 Value Object
  * Saga Step별 보상 트랜잭션에 필요한 데이터를 JSON 형태로 관리
+ *
+ * - 직렬화 결과를 캐시해 변경이 없으면 다시 인코딩하지 않음
+ * - 저장된 JSON(fromPersisted)은 첫 조회 시점에만 디코딩하며,
+ *   레지스트리에 등록된 Step은 Map 중간 단계 없이 바로 해당 타입으로 역직렬화
+ * - 저장 이후 변경 여부(modified)를 기록해 영속성 계층이 변경된 경우에만 컬럼을 갱신
  */
-@Getter
-@EqualsAndHashCode
 public class CompensationData {
 
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
-    private final Map<String, Object> data;
+    private static final String EMPTY_JSON = "{}";
 
-    private CompensationData(Map<String, Object> data) {
-        this.data = new HashMap<>(data);
+    private final CompensationPayloadRegistry registry;
+
+    // 디코딩된 Step 데이터 (저장된 JSON은 첫 조회 시 채움)
+    private volatile Map<String, Object> data;
+
+    // 직렬화 캐시 (변경된 데이터는 첫 toJson() 시 채움)
+    private volatile String json;
+
+    // 저장 이후 변경 여부
+    private final boolean modified;
+
+    private CompensationData(
+            Map<String, Object> data,
+            String json,
+            CompensationPayloadRegistry registry,
+            boolean modified) {
+        this.data = data != null ? Collections.unmodifiableMap(data) : null;
+        this.json = json;
+        this.registry = registry;
+        this.modified = modified;
     }
 
     /**
      * 빈 보상 데이터 생성
      */
     public static CompensationData empty() {
-        return new CompensationData(new HashMap<>());
+        return new CompensationData(new HashMap<>(), EMPTY_JSON, CompensationPayloadRegistry.empty(), false);
     }
 
     /**
      * 기존 데이터로부터 생성
      */
     public static CompensationData from(Map<String, Object> data) {
-        return new CompensationData(data);
+        return new CompensationData(new HashMap<>(data), null, CompensationPayloadRegistry.empty(), true);
     }
 
     /**
-     * JSON 문자열로부터 생성
+     * JSON 문자열로부터 생성 (즉시 파싱)
      */
     public static CompensationData fromJson(String json) {
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = objectMapper.readValue(json, Map.class);
-            return new CompensationData(data);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("보상 데이터 JSON 파싱 실패", e);
-        }
+        CompensationPayloadRegistry registry = CompensationPayloadRegistry.empty();
+        return new CompensationData(decode(json, registry), json, registry, false);
+    }
+
+    /**
+     * 저장된 JSON으로부터 생성
+     * 파싱은 Step 데이터를 처음 조회할 때 수행 (조회만 하고 보상하지 않는 Saga는 파싱 비용 없음)
+     *
+     * @param json 저장된 보상 데이터 JSON
+     * @param registry Step별 보상 데이터 타입
+     */
+    public static CompensationData fromPersisted(String json, CompensationPayloadRegistry registry) {
+        return new CompensationData(null, json != null ? json : EMPTY_JSON, registry, false);
     }
 
     /**
      * Step별 보상 데이터 추가
      */
     public CompensationData addStepData(String stepName, Object stepData) {
-        Map<String, Object> newData = new HashMap<>(this.data);
+        Map<String, Object> newData = new HashMap<>(decoded());
         newData.put(stepName, stepData);
-        return new CompensationData(newData);
+        return new CompensationData(newData, null, this.registry, true);
     }
 
     /**
      * Step별 보상 데이터 조회
      */
     public Object getStepData(String stepName) {
-        return this.data.get(stepName);
+        return decoded().get(stepName);
+    }
+
+    /**
+     * Step별 보상 데이터 타입 지정 조회
+     * 레지스트리로 이미 해당 타입으로 읽은 값은 그대로 반환하고,
+     * 미등록 Step(기본 타입으로 읽은 값)만 변환
+     */
+    public <T> T getStepData(String stepName, Class<T> type) {
+        Object stepData = getStepData(stepName);
+
+        if (stepData == null || type.isInstance(stepData)) {
+            return type.cast(stepData);
+        }
+        return objectMapper.convertValue(stepData, type);
     }
 
     /**
      * Step 데이터 존재 여부 확인
      */
     public boolean hasStepData(String stepName) {
-        return this.data.containsKey(stepName);
+        return decoded().containsKey(stepName);
     }
 
     /**
-     * JSON 문자열로 변환
+     * JSON 문자열로 변환 (변경이 없으면 캐시된 값 반환)
      */
     public String toJson() {
-        try {
-            return objectMapper.writeValueAsString(this.data);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("보상 데이터 JSON 변환 실패", e);
+        String cached = this.json;
+        if (cached == null) {
+            try {
+                cached = objectMapper.writeValueAsString(this.data);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("보상 데이터 JSON 변환 실패", e);
+            }
+            this.json = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 저장 이후 변경 여부
+     */
+    public boolean isModified() {
+        return this.modified;
+    }
+
+    /**
+     * 저장 완료 상태로 전환 (직렬화 결과 유지)
+     */
+    public CompensationData markPersisted() {
+        if (!this.modified) {
+            return this;
         }
+        return new CompensationData(decoded(), toJson(), this.registry, false);
     }
 
     /**
      * 데이터 복사본 반환 (불변성 보장)
      */
     public Map<String, Object> getData() {
-        return new HashMap<>(this.data);
+        return new HashMap<>(decoded());
     }
 
     /**
      * 비어있는지 확인
      */
     public boolean isEmpty() {
-        return this.data.isEmpty();
+        if (this.data == null && EMPTY_JSON.equals(this.json)) {
+            return true;
+        }
+        return decoded().isEmpty();
+    }
+
+    private Map<String, Object> decoded() {
+        Map<String, Object> current = this.data;
+        if (current == null) {
+            current = Collections.unmodifiableMap(decode(this.json, this.registry));
+            this.data = current;
+        }
+        return current;
+    }
+
+    /**
+     * 한 번의 스트리밍 파싱으로 Step별 데이터를 등록된 타입으로 역직렬화
+     */
+    private static Map<String, Object> decode(String json, CompensationPayloadRegistry registry) {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("보상 데이터 JSON 파싱 실패: 객체 형식이 아닙니다.");
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String stepName = parser.currentName();
+                parser.nextToken();
+                data.put(stepName, objectMapper.readValue(parser, registry.typeOf(stepName)));
+            }
+            return data;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("보상 데이터 JSON 파싱 실패", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompensationData that)) {
+            return false;
+        }
+        return decoded().equals(that.decoded());
+    }
+
+    @Override
+    public int hashCode() {
+        return decoded().hashCode();
     }
 }
@@ -0,0 +1,47 @@
+package com.early_express.order_service.domain.order.domain.model.vo;
+
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Step별 보상 데이터 타입 레지스트리
+ * 저장된 보상 데이터 JSON을 Map 중간 단계 없이 바로 등록된 타입으로 역직렬화할 때 사용
+ * 등록되지 않은 Step은 기본 타입(Map / 문자열 등)으로 읽음
+ *
+ * 불변 객체 - register()는 새 레지스트리를 반환
+ */
+public final class CompensationPayloadRegistry {
+
+    private static final CompensationPayloadRegistry EMPTY = new CompensationPayloadRegistry(Map.of());
+
+    private final Map<String, Class<?>> types;
+
+    private CompensationPayloadRegistry(Map<String, Class<?>> types) {
+        this.types = types;
+    }
+
+    /**
+     * 등록된 타입이 없는 레지스트리
+     */
+    public static CompensationPayloadRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Step 보상 데이터 타입 등록
+     */
+    public CompensationPayloadRegistry register(SagaStep step, Class<?> payloadType) {
+        Map<String, Class<?>> newTypes = new HashMap<>(this.types);
+        newTypes.put(step.name(), payloadType);
+        return new CompensationPayloadRegistry(Map.copyOf(newTypes));
+    }
+
+    /**
+     * Step 보상 데이터 타입 조회 (미등록 시 Object)
+     */
+    public Class<?> typeOf(String stepName) {
+        return this.types.getOrDefault(stepName, Object.class);
+    }
+}
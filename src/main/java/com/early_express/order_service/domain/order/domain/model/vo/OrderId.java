@@ -1,10 +1,9 @@
 package com.early_express.order_service.domain.order.domain.model.vo;
 
+import com.early_express.order_service.global.common.utils.UuidUtils;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.UUID;
-
 /**
  * 주문 ID Value Object
  * 불변 객체로 주문의 고유 식별자를 표현
@@ -21,10 +20,10 @@ public class OrderId {
     }
 
     /**
-     * 새로운 OrderId 생성
+     * 새로운 OrderId 생성 (시간 순 UUID)
      */
     public static OrderId create() {
-        return new OrderId(UUID.randomUUID().toString());
+        return new OrderId(UuidUtils.generateTimeOrdered());
     }
 
     /**
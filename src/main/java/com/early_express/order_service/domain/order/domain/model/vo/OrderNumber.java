@@ -3,12 +3,14 @@ package com.early_express.order_service.domain.order.domain.model.vo;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * 주문 번호 Value Object
  * 형식: ORD-YYYYMMDD-XXX (예: ORD-20250115-001)
+ * - 일련번호 자릿수는 최소 3자리, 일일 발급 한도에 따라 늘어남 (예: ORD-20250115-00001)
  */
 @Getter
 @EqualsAndHashCode
@@ -34,6 +36,18 @@ public class OrderNumber {
         return new OrderNumber(PREFIX + datePart + "-" + sequencePart);
     }
 
+    /**
+     * 특정 날짜의 일련번호로 주문 번호 생성
+     * @param date 주문 일자
+     * @param sequenceNumber 일련번호
+     * @param digits 일련번호 자릿수 (부족하면 0으로 채움)
+     */
+    public static OrderNumber generate(LocalDate date, long sequenceNumber, int digits) {
+        String datePart = date.format(DATE_FORMATTER);
+        String sequencePart = String.format("%0" + digits + "d", sequenceNumber);
+        return new OrderNumber(PREFIX + datePart + "-" + sequencePart);
+    }
+
     /**
      * 기존 주문 번호로부터 생성
      */
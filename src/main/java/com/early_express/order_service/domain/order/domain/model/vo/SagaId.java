@@ -22,10 +22,10 @@ public class SagaId {
     }
 
     /**
-     * 새로운 SagaId 생성
+     * 새로운 SagaId 생성 (시간 순 UUID)
      */
     public static SagaId create() {
-        return new SagaId(UuidUtils.generate().toString());
+        return new SagaId(UuidUtils.generateTimeOrdered());
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.early_express.order_service.domain.order.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 번호 일련번호 Domain Repository Interface
+ * - 날짜별 카운터에서 일련번호 구간(block)을 임대
+ * - 여러 인스턴스가 동시에 임대해도 구간이 겹치지 않아야 함
+ */
+public interface OrderNumberSequenceRepository {
+
+    /**
+     * 일련번호 구간 임대
+     * - 호출자 트랜잭션과 분리되어 즉시 확정됨 (주문 생성 롤백과 무관)
+     *
+     * @param date 주문 일자
+     * @param blockSize 임대할 일련번호 개수
+     * @return 임대한 구간의 마지막 일련번호 (구간: 반환값 - blockSize + 1 ~ 반환값)
+     */
+    long allocateBlock(LocalDate date, int blockSize);
+
+    /**
+     * 날짜별로 지금까지 임대된 마지막 일련번호 (모니터링용)
+     *
+     * @return 마지막 일련번호 (임대 이력이 없으면 0)
+     */
+    long findLastSequence(LocalDate date);
+}
@@ -2,10 +2,13 @@ package com.early_express.order_service.domain.order.domain.repository;
 
 import com.early_express.order_service.domain.order.domain.model.Order;
 import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderNumber;
+import com.early_express.order_service.global.common.dto.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +34,11 @@ public interface OrderRepository {
      */
     Optional<Order> findById(OrderId orderId);
 
+    /**
+     * 주문 상태만 조회 (상태 폴링용 경량 조회)
+     */
+    Optional<OrderStatus> findStatusById(OrderId orderId);
+
     /**
      * 주문 번호로 조회
      */
@@ -128,6 +136,16 @@ public interface OrderRepository {
      */
     List<Order> findOverdueOrders();
 
+    /**
+     * Saga가 시작되지 않은 채 남은 접수(PENDING) 주문 조회
+     * 비동기 접수 후 Worker 큐에서 유실된 주문 복구용
+     *
+     * @param createdBefore 이 시각 이전에 접수된 주문만
+     * @param limit 최대 건수
+     * @return 주문 목록 (접수 순)
+     */
+    List<Order> findStalePendingOrders(LocalDateTime createdBefore, int limit);
+
     /**
      * 관리자용: 삭제된 주문 포함 조회
      *
@@ -155,5 +173,37 @@ public interface OrderRepository {
             LocalDateTime endDate,
             Pageable pageable);
 
+    // ===== 목록 조회용 Read Model (Projection) =====
+    // 요약 컬럼만 조회 - Order Aggregate 복원 없음
+
+    /**
+     * 주문 요약 검색 (OFFSET 페이징 + 전체 건수)
+     *
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @return 주문 요약 목록 (페이징)
+     */
+    Page<OrderSummary> searchSummaries(OrderSearchCondition condition, Pageable pageable);
+
+    /**
+     * 주문 요약 검색 (OFFSET 페이징, 전체 건수 생략)
+     * - count 쿼리 없이 다음 페이지 존재 여부만 판단
+     */
+    Slice<OrderSummary> searchSummariesWithoutCount(OrderSearchCondition condition, Pageable pageable);
+
+    /**
+     * 주문 요약 검색 (커서 페이징)
+     * - (created_at, id) 내림차순 기준, 전체 건수(count) 조회 없음
+     *
+     * @param cursor 이전 페이지 마지막 위치 (첫 페이지면 null)
+     * @param size 조회 크기
+     */
+    Slice<OrderSummary> searchSummariesByCursor(OrderSearchCondition condition, Cursor cursor, int size);
+
+    /**
+     * 업체별 주문 요약 목록 조회
+     */
+    List<OrderSummary> findSummariesByCompanyId(String companyId);
+
     public void deleteAll();
 }
\ No newline at end of file
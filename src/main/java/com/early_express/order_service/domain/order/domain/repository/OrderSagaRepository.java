@@ -2,10 +2,13 @@ package com.early_express.order_service.domain.order.domain.repository;
 
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSagaSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
+import com.early_express.order_service.global.common.dto.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -71,6 +74,44 @@ public interface OrderSagaRepository {
             LocalDateTime endDate,
             Pageable pageable);
 
+    // ===== 목록 조회용 Read Model (Projection) =====
+    // 요약 컬럼만 조회 - 보상 데이터 / Step 이력 로딩 없음
+
+    /**
+     * Saga 요약 검색 (OFFSET 페이징 + 전체 건수)
+     *
+     * @see #searchSagas(SagaStatus, LocalDateTime, LocalDateTime, Pageable)
+     */
+    Page<OrderSagaSummary> searchSagaSummaries(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable);
+
+    /**
+     * Saga 요약 검색 (전체 건수 생략)
+     * - count 쿼리 없이 다음 페이지 존재 여부만 판단
+     */
+    Slice<OrderSagaSummary> searchSagaSummariesWithoutCount(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable);
+
+    /**
+     * Saga 요약 검색 (커서 페이징)
+     * - (started_at, saga_id) 내림차순 기준, 전체 건수(count) 조회 없음
+     *
+     * @param cursor 이전 페이지 마지막 위치 (첫 페이지면 null)
+     * @param size 조회 크기
+     */
+    Slice<OrderSagaSummary> searchSagaSummariesByCursor(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Cursor cursor,
+            int size);
+
     /**
      * 장시간 진행 중인 Saga 조회 (타임아웃 의심)
      *
@@ -0,0 +1,61 @@
+package com.early_express.order_service.domain.order.domain.repository;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 검색 조건 (Read Model 조회용)
+ *
+ * @param companyId 업체 ID (공급/수령 업체, nullable)
+ * @param hubId 허브 ID (공급/수령/도착 허브, nullable)
+ * @param status 주문 상태 (nullable)
+ * @param includeDeleted 삭제된 주문 포함 여부 (false면 삭제되지 않은 주문만)
+ * @param isDeleted 삭제 여부 필터 (includeDeleted일 때만 적용, nullable)
+ * @param startDate 시작일 (nullable)
+ * @param endDate 종료일 (nullable)
+ */
+public record OrderSearchCondition(
+        String companyId,
+        String hubId,
+        OrderStatus status,
+        boolean includeDeleted,
+        Boolean isDeleted,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+
+    /**
+     * 업체 기준 검색 (삭제된 주문 제외)
+     */
+    public static OrderSearchCondition ofCompany(
+            String companyId,
+            OrderStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+        return new OrderSearchCondition(companyId, null, status, false, null, startDate, endDate);
+    }
+
+    /**
+     * 허브 기준 검색 (삭제된 주문 제외)
+     */
+    public static OrderSearchCondition ofHub(
+            String hubId,
+            OrderStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+        return new OrderSearchCondition(null, hubId, status, false, null, startDate, endDate);
+    }
+
+    /**
+     * 관리자용: 삭제된 주문 포함 검색
+     */
+    public static OrderSearchCondition includingDeleted(
+            String companyId,
+            OrderStatus status,
+            Boolean isDeleted,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+        return new OrderSearchCondition(companyId, null, status, true, isDeleted, startDate, endDate);
+    }
+}
@@ -0,0 +1,269 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.HedgedCall;
+import com.early_express.order_service.domain.order.infrastructure.client.support.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AI 배송 시간 계산 결과 캐시 (AiClient.calculateDeliveryTime 앞단)
+ *
+ * - 같은 경로(출발/도착 허브, 경유 허브, 거리)와 같은 납품 희망 일자 / 시간대(bucket)의 주문은 결과를 재사용
+ * - 결과는 납품 희망 시각 기준 상대 시간(발송 시한까지 남은 시간, 예상 도착 오프셋)으로 저장하고,
+ *   적중 시 요청 주문의 납품 희망 시각에 다시 적용 (같은 시간대 안에서 시각이 달라도 일관된 결과)
+ * - 실패 / 발송 시한이나 예상 도착 시간이 없는 응답은 캐시하지 않음
+ * - 같은 키의 동시 요청은 한 번만 AI Service를 호출 (SingleFlight - 나머지는 최대 대기 시간까지 결과 대기).
+ *   캐시 비활성 시에는 시간대 대신 분 단위 납품 희망 시각을 키로 사용
+ * - AI Service 호출은 헤지 요청으로 실행 (느린 인스턴스 대비, HedgedCall)
+ * - 실제 AI Service 응답만 로컬 추정기(FallbackEtaEstimator) 학습에 사용 (캐시 적중 / 병합된 대기 요청은 제외)
+ * - 메트릭: cache.gets(result=hit/miss), cache.loads, cache.evictions, cache.size, cache.hit.ratio,
+ *   cache.hit.age(적중 항목의 저장 후 경과 시간 - staleness) (cache=ai-delivery-time)
+ * - enabled 가 false이면 캐시 없이 AI Service 호출
+ */
+@Slf4j
+@Component
+public class AiDeliveryTimeCache {
+
+    static final String CACHE_NAME = "ai-delivery-time";
+
+    private final AiClient aiClient;
+    private final HedgedCall aiTimeHedge;
+    private final FallbackEtaEstimator fallbackEtaEstimator;
+    private final boolean enabled;
+    private final long bucketMinutes;
+    private final Ticker ticker;
+    private final Cache<EstimateKey, CachedEstimate> cache;
+    private final Timer hitAge;
+    private final SingleFlight<EstimateKey, Lookup> estimateFlight;
+
+    @Autowired
+    public AiDeliveryTimeCache(
+            AiClient aiClient,
+            @Qualifier("aiTimeHedge") HedgedCall aiTimeHedge,
+            FallbackEtaEstimator fallbackEtaEstimator,
+            MeterRegistry meterRegistry,
+            @Value("${client.ai-service.result-cache.enabled:true}") boolean enabled,
+            @Value("${client.ai-service.result-cache.max-size:10000}") long maxSize,
+            @Value("${client.ai-service.result-cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${client.ai-service.result-cache.time-bucket-minutes:30}") long bucketMinutes,
+            @Value("${client.ai-service.single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${client.ai-service.single-flight.max-wait-ms:5000}") long singleFlightMaxWaitMs) {
+        this(aiClient, aiTimeHedge, fallbackEtaEstimator, meterRegistry, enabled, maxSize, Duration.ofMinutes(ttlMinutes), bucketMinutes,
+                Ticker.systemTicker(),
+                new SingleFlight<>(CACHE_NAME, singleFlightEnabled, Duration.ofMillis(singleFlightMaxWaitMs),
+                        meterRegistry));
+    }
+
+    AiDeliveryTimeCache(
+            AiClient aiClient,
+            HedgedCall aiTimeHedge,
+            FallbackEtaEstimator fallbackEtaEstimator,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            long maxSize,
+            Duration ttl,
+            long bucketMinutes,
+            Ticker ticker,
+            SingleFlight<EstimateKey, Lookup> estimateFlight) {
+        if (bucketMinutes <= 0 || bucketMinutes > Duration.ofDays(1).toMinutes()) {
+            throw new IllegalArgumentException("시간대 단위는 1분 이상 1일 이하여야 합니다: " + bucketMinutes);
+        }
+
+        this.aiClient = aiClient;
+        this.aiTimeHedge = aiTimeHedge;
+        this.fallbackEtaEstimator = fallbackEtaEstimator;
+        this.enabled = enabled;
+        this.bucketMinutes = bucketMinutes;
+        this.ticker = ticker;
+        this.estimateFlight = estimateFlight;
+
+        CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats(() -> statsCounter)
+                .build();
+
+        statsCounter.registerSizeMetric(this.cache);
+        Gauge.builder("cache.hit.ratio", this.cache, c -> c.stats().hitRate())
+                .description("AI 배송 시간 캐시 적중률")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        this.hitAge = Timer.builder("cache.hit.age")
+                .description("캐시 적중 항목의 저장 후 경과 시간")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배송 시간 계산 (캐시 우선)
+     * 캐시된 결과는 요청 주문 ID와 납품 희망 시각 기준으로 다시 계산해 반환
+     */
+    public AiTimeCalculationResponse calculateDeliveryTime(AiTimeCalculationRequest request) {
+        if (request.getRequestedDeliveryDate() == null || request.getRequestedDeliveryTime() == null) {
+            return callAi(request);
+        }
+
+        LocalDateTime requestedAt = requestedAt(request);
+        EstimateKey key = EstimateKey.of(request, enabled ? bucketMinutes : 1);
+
+        Lookup lookup = estimateFlight.execute(key, () -> enabled
+                ? lookupCache(key, request, requestedAt)
+                : Lookup.loaded(callAi(request), requestedAt, ticker.read()));
+
+        // 실패 응답은 그대로 반환 (호출 측에서 실패 처리)
+        if (lookup.estimate() == null) {
+            return lookup.uncacheable();
+        }
+
+        if (lookup.fromCache()) {
+            hitAge.record(Duration.ofNanos(ticker.read() - lookup.estimate().cachedAtNanos()));
+            log.debug("AI 시간 계산 캐시 적중 - orderId: {}, route: {} → {}, bucket: {}",
+                    request.getOrderId(), key.originHubId(), key.destinationHubId(), key.timeBucket());
+        }
+
+        return lookup.estimate().toResponse(request.getOrderId(), requestedAt);
+    }
+
+    /**
+     * AI Service 호출 (응답은 로컬 추정기 학습에 사용)
+     */
+    private AiTimeCalculationResponse callAi(AiTimeCalculationRequest request) {
+        AiTimeCalculationResponse response = aiTimeHedge.execute(() -> aiClient.calculateDeliveryTime(request));
+        fallbackEtaEstimator.observe(request, response);
+        return response;
+    }
+
+    /**
+     * 캐시 조회 (미적중 시 AI Service 호출, 실패 응답은 캐시하지 않음)
+     */
+    private Lookup lookupCache(EstimateKey key, AiTimeCalculationRequest request, LocalDateTime requestedAt) {
+        AtomicReference<Lookup> loaded = new AtomicReference<>();
+        CachedEstimate estimate = cache.get(key, k -> {
+            Lookup lookup = Lookup.loaded(callAi(request), requestedAt, ticker.read());
+            loaded.set(lookup);
+            return lookup.estimate();
+        });
+
+        if (loaded.get() != null) {
+            return loaded.get();
+        }
+        if (estimate == null) {
+            // 같은 키를 먼저 계산하던 요청이 실패한 경우 - 직접 호출
+            return Lookup.loaded(callAi(request), requestedAt, ticker.read());
+        }
+        return new Lookup(estimate, null, true);
+    }
+
+    /**
+     * 캐시 전체 무효화 (AI 모델 / 배송 정책 변경 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static LocalDateTime requestedAt(AiTimeCalculationRequest request) {
+        return LocalDateTime.of(request.getRequestedDeliveryDate(), request.getRequestedDeliveryTime());
+    }
+
+    /**
+     * 캐시 키 (경로 + 납품 희망 일자 + 시간대)
+     */
+    record EstimateKey(
+            String originHubId,
+            String destinationHubId,
+            List<String> routeHubs,
+            Boolean requiresHubDelivery,
+            Double estimatedDistance,
+            LocalDate requestedDeliveryDate,
+            int timeBucket) {
+
+        static EstimateKey of(AiTimeCalculationRequest request, long bucketMinutes) {
+            LocalTime time = request.getRequestedDeliveryTime();
+            int minuteOfDay = time.getHour() * 60 + time.getMinute();
+
+            return new EstimateKey(
+                    request.getOriginHubId(),
+                    request.getDestinationHubId(),
+                    request.getRouteHubs() != null ? List.copyOf(request.getRouteHubs()) : List.of(),
+                    request.getRequiresHubDelivery(),
+                    request.getEstimatedDistance(),
+                    request.getRequestedDeliveryDate(),
+                    (int) (minuteOfDay / bucketMinutes)
+            );
+        }
+    }
+
+    /**
+     * 조회 결과 (병합된 호출끼리 공유)
+     *
+     * @param estimate 상대 시간 추정치 (실패 시 null)
+     * @param uncacheable 캐시할 수 없는 응답 (실패 / 시간 누락)
+     * @param fromCache 캐시 적중 여부
+     */
+    record Lookup(CachedEstimate estimate, AiTimeCalculationResponse uncacheable, boolean fromCache) {
+
+        static Lookup loaded(AiTimeCalculationResponse response, LocalDateTime requestedAt, long loadedAtNanos) {
+            return CachedEstimate.cacheable(response)
+                    ? new Lookup(CachedEstimate.of(response, requestedAt, loadedAtNanos), null, false)
+                    : new Lookup(null, response, false);
+        }
+    }
+
+    /**
+     * 캐시 값 - 납품 희망 시각 기준 상대 시간으로 저장
+     */
+    record CachedEstimate(
+            Duration departureLeadTime,
+            Duration deliveryOffset,
+            AiTimeCalculationResponse source,
+            long cachedAtNanos) {
+
+        static boolean cacheable(AiTimeCalculationResponse response) {
+            return response != null && response.isSuccessful();
+        }
+
+        static CachedEstimate of(AiTimeCalculationResponse response, LocalDateTime requestedAt, long cachedAtNanos) {
+            return new CachedEstimate(
+                    Duration.between(response.getCalculatedDepartureDeadline(), requestedAt),
+                    Duration.between(requestedAt, response.getEstimatedDeliveryTime()),
+                    response,
+                    cachedAtNanos
+            );
+        }
+
+        AiTimeCalculationResponse toResponse(String orderId, LocalDateTime requestedAt) {
+            return AiTimeCalculationResponse.builder()
+                    .orderId(orderId)
+                    .calculatedDepartureDeadline(requestedAt.minus(departureLeadTime))
+                    .estimatedDeliveryTime(requestedAt.plus(deliveryOffset))
+                    .aiMessage(source.getAiMessage())
+                    .success(source.getSuccess())
+                    .errorMessage(source.getErrorMessage())
+                    .hubDeliveryDurationMinutes(source.getHubDeliveryDurationMinutes())
+                    .lastMileDeliveryDurationMinutes(source.getLastMileDeliveryDurationMinutes())
+                    .totalDeliveryDurationMinutes(source.getTotalDeliveryDurationMinutes())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 배송 시간 계산 (지연 예산 + 로컬 추정 대체)
+ *
+ * - AI 호출(캐시 포함)이 지연 예산 안에 끝나지 않거나 실패하면 FallbackEtaEstimator 추정치(provisional)로 진행
+ *   → AI 지연 / 장애로 Step 3 전체가 실패하고 보상되는 것을 방지
+ * - 예산을 넘긴 AI 호출은 취소하지 않음 (늦게 도착한 응답도 캐시와 추정기 학습에 반영)
+ * - 메트릭: client.ai-service.fallback (reason=timeout/error/unsuccessful)
+ * - fallback.enabled 가 false이면 AI 결과를 그대로 반환 (실패 시 예외)
+ */
+@Slf4j
+@Component
+public class AiDeliveryTimeResolver {
+
+    private final AiDeliveryTimeCache aiDeliveryTimeCache;
+    private final FallbackEtaEstimator fallbackEtaEstimator;
+    private final MeterRegistry meterRegistry;
+    private final boolean fallbackEnabled;
+    private final Duration latencyBudget;
+
+    /**
+     * AI 호출용 가상 스레드 Executor (지연 예산 대기용)
+     */
+    private final ExecutorService aiCallExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AiDeliveryTimeResolver(
+            AiDeliveryTimeCache aiDeliveryTimeCache,
+            FallbackEtaEstimator fallbackEtaEstimator,
+            MeterRegistry meterRegistry,
+            @Value("${client.ai-service.fallback.enabled:true}") boolean fallbackEnabled,
+            @Value("${client.ai-service.fallback.latency-budget-ms:3000}") long latencyBudgetMs) {
+        this.aiDeliveryTimeCache = aiDeliveryTimeCache;
+        this.fallbackEtaEstimator = fallbackEtaEstimator;
+        this.meterRegistry = meterRegistry;
+        this.fallbackEnabled = fallbackEnabled;
+        this.latencyBudget = Duration.ofMillis(latencyBudgetMs);
+    }
+
+    /**
+     * 배송 시간 계산
+     * 예산 안의 AI 성공 응답은 그대로, 그 외에는 로컬 추정치(provisional) 반환
+     */
+    public AiTimeCalculationResponse calculateDeliveryTime(AiTimeCalculationRequest request) {
+        if (!fallbackEnabled) {
+            return aiDeliveryTimeCache.calculateDeliveryTime(request);
+        }
+
+        CompletableFuture<AiTimeCalculationResponse> aiCall = CompletableFuture.supplyAsync(
+                () -> aiDeliveryTimeCache.calculateDeliveryTime(request), aiCallExecutor);
+
+        try {
+            AiTimeCalculationResponse response = aiCall.get(latencyBudget.toMillis(), TimeUnit.MILLISECONDS);
+            if (response != null && response.isSuccessful()) {
+                return response;
+            }
+            return fallback(request, "unsuccessful",
+                    "AI 계산 실패: " + (response != null ? response.getErrorMessage() : "응답 없음"));
+
+        } catch (TimeoutException e) {
+            return fallback(request, "timeout", "AI 응답 지연 " + latencyBudget.toMillis() + "ms 초과");
+        } catch (ExecutionException e) {
+            log.warn("AI 시간 계산 호출 실패 - orderId: {}, error: {}",
+                    request.getOrderId(), e.getCause().getMessage());
+            return fallback(request, "error", "AI 호출 오류");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(request, "timeout", "AI 응답 대기 중 인터럽트");
+        }
+    }
+
+    private AiTimeCalculationResponse fallback(AiTimeCalculationRequest request, String reason, String detail) {
+        Counter.builder("client.ai-service.fallback")
+                .description("AI 시간 계산 로컬 추정 대체 건수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        AiTimeCalculationResponse estimate = fallbackEtaEstimator.estimate(request, detail);
+        log.warn("AI 시간 계산 로컬 추정 대체 - orderId: {}, reason: {}, departureDeadline: {}, estimatedDelivery: {}",
+                request.getOrderId(), detail,
+                estimate.getCalculatedDepartureDeadline(), estimate.getEstimatedDeliveryTime());
+        return estimate;
+    }
+}
@@ -0,0 +1,198 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 배송 시간 추정기 (AI Service 응답 지연 / 실패 시 대체)
+ *
+ * - 이동 시간(발송 시한 → 예상 도착) = a + b × 거리(km) + c × 허브 수 (선형 모델)
+ * - 여유 시간(예상 도착 → 납품 희망 시각)은 평균값 사용
+ * - 계수는 과거 AI 응답으로 학습 (지수 감쇠 가중 최소제곱, 오래된 응답일수록 가중치 감소)
+ * - 학습 전 / 표본이 적을 때는 기본 계수 쪽으로 당겨서 추정 (사전값 가중 PRIOR_WEIGHT)
+ * - 추정 결과는 provisional 로 표시 (주문 조회 응답에서 추정치임을 구분)
+ */
+@Component
+public class FallbackEtaEstimator {
+
+    // 기본 계수: 기본 60분 + km당 1.5분 + 허브당 45분, 여유 30분
+    static final double[] DEFAULT_TRANSIT_COEFFICIENTS = {60.0, 1.5, 45.0};
+    static final double DEFAULT_SLACK_MINUTES = 30.0;
+
+    private static final int FEATURES = DEFAULT_TRANSIT_COEFFICIENTS.length;
+    private static final double PRIOR_WEIGHT = 1.0;
+
+    private final double decay;
+
+    // 가중 최소제곱 누적값 (XᵀX, Xᵀy)
+    private final double[][] xtx = new double[FEATURES][FEATURES];
+    private final double[] xty = new double[FEATURES];
+
+    // 여유 시간 가중 합계
+    private double slackSum;
+    private double weightSum;
+
+    private long samples;
+
+    public FallbackEtaEstimator(@Value("${client.ai-service.fallback.learning-decay:0.995}") double decay) {
+        if (decay <= 0 || decay > 1) {
+            throw new IllegalArgumentException("학습 감쇠율은 0 초과 1 이하여야 합니다: " + decay);
+        }
+        this.decay = decay;
+    }
+
+    /**
+     * AI 응답 학습
+     * 실패 / 로컬 추정 응답과 시간이 역전된 응답은 무시
+     */
+    public void observe(AiTimeCalculationRequest request, AiTimeCalculationResponse response) {
+        if (response == null || !response.isSuccessful() || response.isProvisional() || !hasRequestedTime(request)) {
+            return;
+        }
+
+        double transitMinutes = minutesBetween(
+                response.getCalculatedDepartureDeadline(), response.getEstimatedDeliveryTime());
+        if (transitMinutes < 0) {
+            return;
+        }
+        double slackMinutes = minutesBetween(response.getEstimatedDeliveryTime(), requestedAt(request));
+        double[] x = features(request);
+
+        synchronized (this) {
+            for (int i = 0; i < FEATURES; i++) {
+                for (int j = 0; j < FEATURES; j++) {
+                    xtx[i][j] = decay * xtx[i][j] + x[i] * x[j];
+                }
+                xty[i] = decay * xty[i] + x[i] * transitMinutes;
+            }
+            slackSum = decay * slackSum + slackMinutes;
+            weightSum = decay * weightSum + 1;
+            samples++;
+        }
+    }
+
+    /**
+     * 로컬 추정
+     *
+     * @param request AI 시간 계산 요청 (납품 희망 일자 / 시간 필수)
+     * @param reason 추정 사유 (응답 메시지에 기록)
+     */
+    public AiTimeCalculationResponse estimate(AiTimeCalculationRequest request, String reason) {
+        if (!hasRequestedTime(request)) {
+            throw new IllegalStateException("납품 희망 일시가 없어 배송 시간을 추정할 수 없습니다: " + request.getOrderId());
+        }
+
+        double[] coefficients;
+        double slackMinutes;
+        long learnedSamples;
+        synchronized (this) {
+            coefficients = transitCoefficients();
+            slackMinutes = (slackSum + PRIOR_WEIGHT * DEFAULT_SLACK_MINUTES) / (weightSum + PRIOR_WEIGHT);
+            learnedSamples = samples;
+        }
+
+        double[] x = features(request);
+        long transitMinutes = Math.max(0, Math.round(dot(coefficients, x)));
+
+        LocalDateTime estimatedDeliveryTime = requestedAt(request).minusMinutes(Math.round(slackMinutes));
+        LocalDateTime departureDeadline = estimatedDeliveryTime.minusMinutes(transitMinutes);
+
+        return AiTimeCalculationResponse.builder()
+                .orderId(request.getOrderId())
+                .calculatedDepartureDeadline(departureDeadline)
+                .estimatedDeliveryTime(estimatedDeliveryTime)
+                .aiMessage(String.format(
+                        "로컬 추정치 (%s) - 거리 %.1fkm, 허브 %d개, 이동 %d분, 학습 표본 %d건",
+                        reason, x[1], (int) x[2], transitMinutes, learnedSamples))
+                .success(true)
+                .totalDeliveryDurationMinutes((int) transitMinutes)
+                .provisional(true)
+                .build();
+    }
+
+    /**
+     * 학습 표본 수
+     */
+    public synchronized long getSamples() {
+        return samples;
+    }
+
+    /**
+     * (XᵀX + λI) β = Xᵀy + λβ₀ 풀이 (기본 계수 방향 정규화, 항상 해가 존재)
+     */
+    private double[] transitCoefficients() {
+        double[][] a = new double[FEATURES][FEATURES + 1];
+        for (int i = 0; i < FEATURES; i++) {
+            System.arraycopy(xtx[i], 0, a[i], 0, FEATURES);
+            a[i][i] += PRIOR_WEIGHT;
+            a[i][FEATURES] = xty[i] + PRIOR_WEIGHT * DEFAULT_TRANSIT_COEFFICIENTS[i];
+        }
+        return solve(a);
+    }
+
+    /**
+     * 가우스 소거 (부분 피벗)
+     */
+    private static double[] solve(double[][] a) {
+        int n = a.length;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            double[] swap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = swap;
+
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                for (int k = col; k <= n; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+            }
+        }
+
+        double[] solution = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = a[row][n];
+            for (int k = row + 1; k < n; k++) {
+                sum -= a[row][k] * solution[k];
+            }
+            solution[row] = sum / a[row][row];
+        }
+        return solution;
+    }
+
+    private static double[] features(AiTimeCalculationRequest request) {
+        double distance = request.getEstimatedDistance() != null ? request.getEstimatedDistance() : 0.0;
+        int hubCount = request.getRouteHubs() != null ? request.getRouteHubs().size() : 0;
+        return new double[]{1.0, distance, hubCount};
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static boolean hasRequestedTime(AiTimeCalculationRequest request) {
+        return request.getRequestedDeliveryDate() != null && request.getRequestedDeliveryTime() != null;
+    }
+
+    private static LocalDateTime requestedAt(AiTimeCalculationRequest request) {
+        return LocalDateTime.of(request.getRequestedDeliveryDate(), request.getRequestedDeliveryTime());
+    }
+
+    private static double minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toSeconds() / 60.0;
+    }
+}
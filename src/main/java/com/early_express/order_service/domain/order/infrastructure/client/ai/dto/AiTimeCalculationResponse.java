@@ -67,6 +67,12 @@ public class AiTimeCalculationResponse {
      */
     private Integer totalDeliveryDurationMinutes;
 
+    /**
+     * 로컬 추정치 여부 (AI Service 응답에는 없음)
+     * - AI 응답 지연 / 실패 시 FallbackEtaEstimator가 만든 결과이면 true
+     */
+    private Boolean provisional;
+
     /**
      * 계산 성공 확인
      */
@@ -76,6 +82,13 @@ public class AiTimeCalculationResponse {
                 && estimatedDeliveryTime != null;
     }
 
+    /**
+     * 로컬 추정치 여부 확인
+     */
+    public boolean isProvisional() {
+        return Boolean.TRUE.equals(provisional);
+    }
+
     /**
      * 발송 시한 초과 여부 확인
      */
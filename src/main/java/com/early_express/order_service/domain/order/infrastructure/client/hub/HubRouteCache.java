@@ -0,0 +1,170 @@
+package com.early_express.order_service.domain.order.infrastructure.client.hub;
+
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.HedgedCall;
+import com.early_express.order_service.domain.order.infrastructure.client.support.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 허브 경로 계산 결과 캐시 (HubClient.calculateRoute 앞단)
+ *
+ * - 경로는 출발 허브(상품 위치 허브)와 도착지 주소로만 결정되므로 (출발 허브, 정규화 주소)를 키로 재사용
+ * - 상세 주소(동/호수)는 도착 허브 결정에 영향이 없어 키에서 제외
+ * - 크기 제한 + TTL, 빈도 기반 입장/제거 정책(W-TinyLFU)으로 한 번만 나온 주소가 자주 쓰이는 경로를 밀어내지 않음
+ * - 같은 키의 동시 요청은 한 번만 Hub Service를 호출 (SingleFlight - 나머지는 최대 대기 시간까지 결과 대기,
+ *   캐시 비활성 시에도 적용)
+ * - Hub Service 호출은 헤지 요청으로 실행 (느린 인스턴스 대비, HedgedCall)
+ * - 실패(예외)는 캐시하지 않음
+ * - 메트릭: cache.gets(result=hit/miss), cache.loads(result=success/failure, 로딩 시간), cache.evictions,
+ *   cache.size, cache.hit.ratio (cache=hub-route)
+ * - enabled 가 false이면 캐시 없이 Hub Service 호출
+ */
+@Slf4j
+@Component
+public class HubRouteCache {
+
+    static final String CACHE_NAME = "hub-route";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IGNORED_PUNCTUATION = Pattern.compile("[,.·]");
+    private static final Pattern SPACED_HYPHEN = Pattern.compile("\\s*-\\s*");
+
+    private final HubClient hubClient;
+    private final HedgedCall hubRouteHedge;
+    private final boolean enabled;
+    private final Cache<RouteKey, HubRouteCalculationResponse> cache;
+    private final SingleFlight<RouteKey, HubRouteCalculationResponse> routeFlight;
+
+    @Autowired
+    public HubRouteCache(
+            HubClient hubClient,
+            @Qualifier("hubRouteHedge") HedgedCall hubRouteHedge,
+            MeterRegistry meterRegistry,
+            @Value("${client.hub-service.route-cache.enabled:true}") boolean enabled,
+            @Value("${client.hub-service.route-cache.max-size:10000}") long maxSize,
+            @Value("${client.hub-service.route-cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${client.hub-service.single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${client.hub-service.single-flight.max-wait-ms:3000}") long singleFlightMaxWaitMs) {
+        this(hubClient, hubRouteHedge, meterRegistry, enabled, maxSize, Duration.ofMinutes(ttlMinutes), Ticker.systemTicker(),
+                new SingleFlight<>(CACHE_NAME, singleFlightEnabled, Duration.ofMillis(singleFlightMaxWaitMs),
+                        meterRegistry));
+    }
+
+    HubRouteCache(
+            HubClient hubClient,
+            HedgedCall hubRouteHedge,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            long maxSize,
+            Duration ttl,
+            Ticker ticker,
+            SingleFlight<RouteKey, HubRouteCalculationResponse> routeFlight) {
+        this.hubClient = hubClient;
+        this.hubRouteHedge = hubRouteHedge;
+        this.enabled = enabled;
+        this.routeFlight = routeFlight;
+
+        CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats(() -> statsCounter)
+                .build();
+
+        statsCounter.registerSizeMetric(this.cache);
+        Gauge.builder("cache.hit.ratio", this.cache, c -> c.stats().hitRate())
+                .description("허브 경로 캐시 적중률")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경로 계산 (캐시 우선)
+     * 캐시된 결과는 요청한 주문 ID로 바꿔 반환
+     */
+    public HubRouteCalculationResponse calculateRoute(HubRouteCalculationRequest request) {
+        RouteKey key = RouteKey.of(request);
+
+        HubRouteCalculationResponse response = enabled
+                ? routeFlight.execute(key, () -> cache.get(key, k -> callHub(request)))
+                : routeFlight.execute(key, () -> callHub(request));
+        if (response == null) {
+            return null;
+        }
+
+        // 도착 허브가 결정되지 않은 응답은 재사용하지 않음
+        if (enabled && response.getDestinationHubId() == null) {
+            log.debug("경로 계산 결과 캐시 제외 - orderId: {}, originHub: {}",
+                    request.getOrderId(), request.getOriginHubId());
+            cache.invalidate(key);
+        }
+
+        return withOrderId(response, request.getOrderId());
+    }
+
+    private HubRouteCalculationResponse callHub(HubRouteCalculationRequest request) {
+        return hubRouteHedge.execute(() -> hubClient.calculateRoute(request));
+    }
+
+    /**
+     * 캐시 전체 무효화 (허브 구성 변경 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static HubRouteCalculationResponse withOrderId(HubRouteCalculationResponse response, String orderId) {
+        return HubRouteCalculationResponse.builder()
+                .orderId(orderId)
+                .originHubId(response.getOriginHubId())
+                .destinationHubId(response.getDestinationHubId())
+                .routeHubs(response.getRouteHubs())
+                .requiresHubDelivery(response.getRequiresHubDelivery())
+                .estimatedDistance(response.getEstimatedDistance())
+                .routeInfoJson(response.getRouteInfoJson())
+                .build();
+    }
+
+    /**
+     * 주소 정규화
+     * - 유니코드 호환 정규화(NFKC: 전각 숫자/기호 → 반각), 소문자
+     * - 쉼표/마침표 제거, 하이픈 앞뒤 공백 제거 (예: "123 - 45" → "123-45"), 연속 공백 1칸
+     */
+    static String normalizeAddress(String address) {
+        if (address == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = IGNORED_PUNCTUATION.matcher(normalized).replaceAll(" ");
+        normalized = SPACED_HYPHEN.matcher(normalized).replaceAll("-");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 캐시 키 (출발 허브, 정규화 주소)
+     */
+    record RouteKey(String originHubId, String normalizedAddress) {
+
+        static RouteKey of(HubRouteCalculationRequest request) {
+            return new RouteKey(request.getOriginHubId(), normalizeAddress(request.getDestinationAddress()));
+        }
+    }
+}
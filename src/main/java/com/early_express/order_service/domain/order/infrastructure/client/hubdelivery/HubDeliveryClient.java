@@ -2,6 +2,7 @@ package com.early_express.order_service.domain.order.infrastructure.client.hubde
 
 import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.dto.HubDeliveryCreateRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.dto.HubDeliveryCreateResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.CompensationCall;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -38,6 +39,7 @@ public interface HubDeliveryClient {
      * @param hubDeliveryId 취소할 허브 배송 ID
      * @return 취소 결과
      */
+    @CompensationCall
     @PostMapping("/v1/hub-delivery/internal/deliveries/{hubDeliveryId}/cancel")
     HubDeliveryCreateResponse cancelDelivery(
             @PathVariable("hubDeliveryId") String hubDeliveryId
@@ -4,6 +4,7 @@ import com.early_express.order_service.domain.order.infrastructure.client.invent
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.CompensationCall;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -41,6 +42,7 @@ public interface InventoryClient {
      * @param request 재고 복원 요청
      * @return 복원 결과
      */
+    @CompensationCall
     @DeleteMapping("/v1/inventory/internal/reservations/{orderId}")
     InventoryRestoreResponse restoreStock(
             @RequestBody InventoryRestoreRequest request
@@ -2,6 +2,7 @@ package com.early_express.order_service.domain.order.infrastructure.client.lastm
 
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateRequest;
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.CompensationCall;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -39,6 +40,7 @@ public interface LastMileClient {
      * @param lastMileDeliveryId 취소할 배송 ID
      * @return 취소 결과
      */
+    @CompensationCall
     @PostMapping("/v1/last-mile/internal/deliveries/{lastMileDeliveryId}/cancel")
     LastMileDeliveryCreateResponse cancelDelivery(
             @PathVariable("lastMileDeliveryId") String lastMileDeliveryId
@@ -0,0 +1,20 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Saga 보상 호출 표시 (Feign Client 메서드)
+ *
+ * 보상 호출은 정방향 호출과 회로 차단기 / Bulkhead를 공유하지 않음
+ * → 정방향 호출 실패로 회로가 열려도 재고 복원 / 배송 취소 같은 롤백은 차단되지 않음
+ * 네트워크 오류는 Feign Retryer로 재시도하고, 그래도 실패하면 COMPENSATION_FAILED로 기록되어 수동 개입 대상이 됨
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CompensationCall {
+}
@@ -0,0 +1,195 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 서비스별 회로 차단기 / 동시 호출 제한 (Bulkhead)
+ * Feign Client 이름(hub-service, payment-service 등) 단위로 분리해 한 서비스의 장애가 다른 호출로 번지지 않게 함
+ *
+ * - 회로 차단기: 최근 호출 중 실패(5xx / 네트워크 오류) 또는 느린 호출 비율이 임계치를 넘으면 열림
+ *   → 열린 동안은 원격 호출 없이 즉시 SagaException(EXTERNAL_SERVICE_CIRCUIT_OPEN)
+ * - Bulkhead: 서비스별 동시 호출 수 제한, 초과 시 대기 없이 SagaException(EXTERNAL_SERVICE_BULKHEAD_FULL)
+ *   → 느린 서비스 하나가 Saga 스레드를 모두 점유하지 않음
+ * - 4xx 응답은 업무 오류로 보고 실패로 세지 않음
+ * - 보상 호출(@CompensationCall)은 적용 대상이 아님 (ResilientFeignCapability에서 제외)
+ * - 설정: client.resilience.{Client 이름}.* (없으면 client.resilience.default.*)
+ * - 메트릭: resilience4j.circuitbreaker.* / resilience4j.bulkhead.* (name=Client 이름),
+ *   설정 임계치는 client.resilience.failure-rate-threshold / client.resilience.max-concurrent-calls
+ */
+@Slf4j
+@Component
+public class DownstreamResilience {
+
+    private static final String PREFIX = "client.resilience.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    public DownstreamResilience(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${client.resilience.enabled:true}") boolean enabled) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        // 레지스트리에 처음 추가될 때 한 번만 리스너 / 임계치 메트릭 등록 (동시 첫 호출에도 중복 없음)
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> onCircuitBreakerAdded(event.getAddedEntry()));
+        bulkheadRegistry.getEventPublisher().onEntryAdded(event -> onBulkheadAdded(event.getAddedEntry()));
+    }
+
+    /**
+     * 원격 호출 실행 (회로 차단기 + Bulkhead)
+     *
+     * @param client Feign Client 이름
+     * @param call 원격 호출
+     */
+    public Response execute(String client, RemoteCall call) throws IOException {
+        if (!enabled) {
+            return call.execute();
+        }
+        if (client == null) {
+            throw new IllegalArgumentException("Client 이름 없이 회로 차단기 / Bulkhead를 적용할 수 없습니다.");
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreaker(client);
+        Bulkhead bulkhead = bulkhead(client);
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new SagaException(
+                    OrderErrorCode.EXTERNAL_SERVICE_CIRCUIT_OPEN,
+                    client + " 호출 차단 중 (회로 차단기 " + circuitBreaker.getState() + ")"
+            );
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new SagaException(
+                    OrderErrorCode.EXTERNAL_SERVICE_BULKHEAD_FULL,
+                    client + " 동시 호출 한도 초과 (최대 "
+                            + bulkhead.getBulkheadConfig().getMaxConcurrentCalls() + "건)"
+            );
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Response response = call.execute();
+            long elapsed = System.nanoTime() - startedAt;
+
+            if (response.status() >= 500) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                        new IOException(client + " 서버 오류 - status: " + response.status()));
+            } else {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            }
+            return response;
+
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * Client별 회로 차단기 (첫 호출 시 생성, 레지스트리가 원자적으로 생성)
+     */
+    public CircuitBreaker circuitBreaker(String client) {
+        return circuitBreakerRegistry.circuitBreaker(client, () -> circuitBreakerConfig(client));
+    }
+
+    /**
+     * Client별 Bulkhead (첫 호출 시 생성, 레지스트리가 원자적으로 생성)
+     */
+    public Bulkhead bulkhead(String client) {
+        return bulkheadRegistry.bulkhead(client, () -> bulkheadConfig(client));
+    }
+
+    private void onCircuitBreakerAdded(CircuitBreaker circuitBreaker) {
+        String client = circuitBreaker.getName();
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("회로 차단기 상태 변경 - client: {}, {}", client, event.getStateTransition()));
+        Gauge.builder("client.resilience.failure-rate-threshold", circuitBreaker,
+                        cb -> cb.getCircuitBreakerConfig().getFailureRateThreshold())
+                .description("회로 차단기 실패율 임계치 (%)")
+                .tag("name", client)
+                .register(meterRegistry);
+    }
+
+    private void onBulkheadAdded(Bulkhead bulkhead) {
+        Gauge.builder("client.resilience.max-concurrent-calls", bulkhead,
+                        b -> b.getBulkheadConfig().getMaxConcurrentCalls())
+                .description("동시 호출 한도")
+                .tag("name", bulkhead.getName())
+                .register(meterRegistry);
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(String client) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(property(client, "sliding-window-size", Integer.class, 20))
+                .minimumNumberOfCalls(property(client, "minimum-number-of-calls", Integer.class, 10))
+                .failureRateThreshold(property(client, "failure-rate-threshold", Float.class, 50f))
+                .slowCallDurationThreshold(
+                        Duration.ofMillis(property(client, "slow-call-duration-threshold-ms", Long.class, 5000L)))
+                .slowCallRateThreshold(property(client, "slow-call-rate-threshold", Float.class, 80f))
+                .waitDurationInOpenState(
+                        Duration.ofMillis(property(client, "wait-duration-in-open-state-ms", Long.class, 10000L)))
+                .permittedNumberOfCallsInHalfOpenState(
+                        property(client, "permitted-calls-in-half-open-state", Integer.class, 3))
+                .build();
+    }
+
+    private BulkheadConfig bulkheadConfig(String client) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(property(client, "max-concurrent-calls", Integer.class, 20))
+                .maxWaitDuration(Duration.ofMillis(property(client, "max-wait-ms", Long.class, 0L)))
+                .build();
+    }
+
+    /**
+     * Client별 설정 → 기본 설정 → 코드 기본값 순으로 조회
+     */
+    private <T> T property(String client, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PREFIX + client + "." + key, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty(PREFIX + "default." + key, type, defaultValue);
+    }
+
+    /**
+     * 원격 호출 (Feign Client.execute)
+     */
+    @FunctionalInterface
+    public interface RemoteCall {
+        Response execute() throws IOException;
+    }
+}
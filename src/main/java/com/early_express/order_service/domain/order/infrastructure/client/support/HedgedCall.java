@@ -0,0 +1,312 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청 (Hedged request)
+ * 첫 요청이 최근 응답 시간의 지정 백분위(예: p95)를 넘기면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용
+ *
+ * - 읽기 전용(멱등) 호출에만 사용 (허브 경로 계산, AI 시간 계산)
+ *   재고 예약 / 결제 검증 등 상태를 바꾸는 호출은 절대 감싸지 않음
+ * - 두 번째 요청은 LoadBalancer(라운드 로빈)를 다시 거치므로 다른 인스턴스로 전달됨
+ * - 헤지 예산: 호출마다 budgetRatio 만큼 토큰을 적립하고 헤지 1건에 1개 사용 (전체 호출의 최대 budgetRatio 비율)
+ *   → 하위 서비스 전체가 느려졌을 때 요청이 두 배로 늘지 않음
+ * - 최근 성공 응답 시간은 고정 크기 버퍼에 보관, 표본이 적으면 initialDelay 사용
+ *   지연 기준은 표본 RECOMPUTE_INTERVAL 건마다 다시 계산 (호출마다 정렬하지 않음)
+ * - 먼저 성공한 쪽이 정해지면 나머지 요청은 취소 (가상 스레드 인터럽트 → 소켓 대기 해제)
+ * - 호출 스레드의 MDC / 트레이스 컨텍스트를 각 요청 스레드로 전달
+ * - 빈 종료 시 close()로 요청 Executor 종료
+ * - 메트릭: client.hedge.requests (client=이름, result=sent/won/skipped)
+ * - enabled 가 false이면 호출 스레드에서 그대로 호출
+ */
+@Slf4j
+public class HedgedCall implements AutoCloseable {
+
+    private static final int LATENCY_SAMPLES = 512;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 32;
+    private static final double MAX_TOKENS = 10.0;
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final String name;
+    private final boolean enabled;
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final double budgetRatio;
+
+    /**
+     * 요청 / 헤지 요청 실행용 가상 스레드 Executor
+     */
+    private final ExecutorService attemptExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 최근 성공 응답 시간 (ns, 순환 버퍼)
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int nextLatency;
+    private int samplesSinceRecompute;
+
+    // 마지막으로 계산한 지연 기준 (표본 부족 시 initialDelay)
+    private volatile Duration currentDelay;
+
+    // 헤지 예산 토큰
+    private double tokens;
+
+    private final Counter sentHedges;
+    private final Counter wonHedges;
+    private final Counter skippedHedges;
+
+    public HedgedCall(
+            String name,
+            boolean enabled,
+            double percentile,
+            Duration initialDelay,
+            Duration minDelay,
+            double budgetRatio,
+            MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("헤지 백분위는 0과 1 사이여야 합니다: " + percentile);
+        }
+        this.name = name;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.budgetRatio = budgetRatio;
+        this.currentDelay = initialDelay;
+        this.sentHedges = hedgeCounter(meterRegistry, name, "sent");
+        this.wonHedges = hedgeCounter(meterRegistry, name, "won");
+        this.skippedHedges = hedgeCounter(meterRegistry, name, "skipped");
+    }
+
+    /**
+     * 헤지 요청 실행
+     * 첫 요청이 지연 기준 안에 끝나면 그대로 반환, 아니면 (예산이 있을 때) 헤지 요청 후 먼저 성공한 응답 반환
+     */
+    public <V> V execute(Supplier<V> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        depositToken();
+        ContextSnapshot context = CONTEXT_SNAPSHOTS.captureAll();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Attempt<V> primary = attempt(call, context, mdc);
+
+        try {
+            return primary.result().get(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 지연 기준 초과 → 헤지 판단
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 대기 중 인터럽트 - client: " + name, e);
+        }
+
+        if (!tryAcquireToken()) {
+            skippedHedges.increment();
+            return await(primary.result(), primary);
+        }
+
+        sentHedges.increment();
+        log.debug("헤지 요청 전송 - client: {}", name);
+
+        Attempt<V> hedge = attempt(call, context, mdc);
+        Outcome<V> outcome = await(firstSuccess(primary, hedge), primary, hedge);
+        if (outcome.hedged()) {
+            wonHedges.increment();
+        }
+        return outcome.value();
+    }
+
+    /**
+     * 현재 헤지 지연 기준 (최근 성공 응답 시간의 백분위)
+     * 표본이 RECOMPUTE_INTERVAL 건 쌓일 때마다 recordLatency에서 갱신한 값을 반환
+     */
+    public Duration hedgeDelay() {
+        return currentDelay;
+    }
+
+    /**
+     * 진행 중인 요청을 기다린 뒤 Executor 종료 (시간 초과 시 인터럽트)
+     */
+    @Override
+    public void close() {
+        attemptExecutor.shutdown();
+        try {
+            if (!attemptExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                attemptExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            attemptExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 요청 1건 실행 (호출 스레드의 트레이스 컨텍스트 / MDC 복원 후 호출)
+     */
+    private <V> Attempt<V> attempt(Supplier<V> call, ContextSnapshot context, Map<String, String> mdc) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        Future<?> task = attemptExecutor.submit(() -> {
+            try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                long startedAt = System.nanoTime();
+                V value = call.get();
+                recordLatency(System.nanoTime() - startedAt);
+                result.complete(value);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                MDC.clear();
+            }
+        });
+        return new Attempt<>(result, task);
+    }
+
+    /**
+     * 먼저 성공한 응답으로 완료하고 나머지 요청은 취소 (둘 다 실패하면 마지막 실패)
+     */
+    private static <V> CompletableFuture<Outcome<V>> firstSuccess(Attempt<V> primary, Attempt<V> hedge) {
+        CompletableFuture<Outcome<V>> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        primary.result().whenComplete((result, error) -> complete(winner, failures, result, error, false, hedge));
+        hedge.result().whenComplete((result, error) -> complete(winner, failures, result, error, true, primary));
+        return winner;
+    }
+
+    private static <V> void complete(
+            CompletableFuture<Outcome<V>> winner,
+            AtomicInteger failures,
+            V result,
+            Throwable error,
+            boolean hedged,
+            Attempt<V> other) {
+        if (error == null) {
+            if (winner.complete(new Outcome<>(result, hedged))) {
+                other.cancel();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(unwrap(error));
+        }
+    }
+
+    private <V> V await(CompletableFuture<V> future, Attempt<?>... attempts) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            for (Attempt<?> attempt : attempts) {
+                attempt.cancel();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 대기 중 인터럽트 - client: " + name, e);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        long[] snapshot;
+        synchronized (this) {
+            latencies[nextLatency] = nanos;
+            nextLatency = (nextLatency + 1) % LATENCY_SAMPLES;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+            samplesSinceRecompute++;
+
+            // 표본이 처음 MIN_SAMPLES에 도달했을 때, 이후에는 RECOMPUTE_INTERVAL 건마다 계산
+            if (latencyCount < MIN_SAMPLES
+                    || (latencyCount > MIN_SAMPLES && samplesSinceRecompute < RECOMPUTE_INTERVAL)) {
+                return;
+            }
+            samplesSinceRecompute = 0;
+            snapshot = Arrays.copyOf(latencies, latencyCount);
+        }
+
+        // 정렬은 락 밖에서 수행
+        currentDelay = percentileDelay(snapshot);
+    }
+
+    private Duration percentileDelay(long[] samples) {
+        Arrays.sort(samples);
+        int index = Math.min(samples.length - 1, (int) Math.ceil(percentile * samples.length) - 1);
+        Duration delay = Duration.ofNanos(samples[Math.max(0, index)]);
+        return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+    }
+
+    private synchronized void depositToken() {
+        tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+    }
+
+    private synchronized boolean tryAcquireToken() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        Throwable unwrapped = unwrap(cause);
+        if (unwrapped instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (unwrapped instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("요청 실패", unwrapped);
+    }
+
+    /**
+     * 실행 중인 요청 (결과 / 취소용 작업 핸들)
+     */
+    private record Attempt<V>(CompletableFuture<V> result, Future<?> task) {
+
+        void cancel() {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * 먼저 성공한 응답과 헤지 요청 응답 여부
+     */
+    private record Outcome<V>(V value, boolean hedged) {
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("client.hedge.requests")
+                .description("헤지 요청 건수")
+                .tag("client", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import feign.Target;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * Feign Client에 회로 차단기 / Bulkhead 적용 (모든 Feign Client 공통)
+ * 요청의 대상 Client 이름(@FeignClient name)으로 DownstreamResilience 인스턴스를 구분
+ * - @CompensationCall 메서드(보상 호출)는 정방향 회로 차단기 / Bulkhead를 거치지 않음
+ * - Client 이름을 알 수 없으면 보호 없이 호출하지 않고 즉시 실패
+ */
+@RequiredArgsConstructor
+public class ResilientFeignCapability implements Capability {
+
+    private final DownstreamResilience downstreamResilience;
+
+    @Override
+    public Client enrich(Client client) {
+        return new ResilientClient(client, downstreamResilience);
+    }
+
+    @RequiredArgsConstructor
+    static class ResilientClient implements Client {
+
+        private final Client delegate;
+        private final DownstreamResilience downstreamResilience;
+
+        @Override
+        public Response execute(Request request, Request.Options options) throws IOException {
+            String client = clientName(request);
+
+            if (isCompensation(request)) {
+                return delegate.execute(request, options);
+            }
+            return downstreamResilience.execute(client, () -> delegate.execute(request, options));
+        }
+
+        private static String clientName(Request request) {
+            Target<?> target = request.requestTemplate() != null ? request.requestTemplate().feignTarget() : null;
+
+            if (target == null || target.name() == null) {
+                throw new IllegalStateException(
+                        "Feign Client 이름(@FeignClient name)을 확인할 수 없습니다: " + request.httpMethod() + " " + request.url());
+            }
+            return target.name();
+        }
+
+        private static boolean isCompensation(Request request) {
+            MethodMetadata metadata = request.requestTemplate().methodMetadata();
+            return metadata != null
+                    && metadata.method() != null
+                    && metadata.method().isAnnotationPresent(CompensationCall.class);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 병합 (Single-flight)
+ * 같은 키로 동시에 들어온 호출은 먼저 들어온 호출(leader) 하나만 원격 서비스를 호출하고,
+ * 나머지(follower)는 leader의 결과(성공 / 예외)를 그대로 공유
+ *
+ * - 호출이 끝나면 키를 제거하므로 결과를 보관하지 않음 (재사용은 캐시가 담당)
+ * - follower는 최대 maxWait 까지만 대기하고, 초과하면 직접 호출
+ * - 메트릭: client.single-flight.calls (client=이름, role=leader/follower/timeout)
+ * - enabled 가 false이면 항상 직접 호출
+ *
+ * @param <K> 정규화된 요청 키
+ * @param <V> 응답 타입
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCalls;
+    private final Counter followerCalls;
+    private final Counter timedOutCalls;
+
+    public SingleFlight(String name, boolean enabled, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        this.leaderCalls = callCounter(meterRegistry, name, "leader");
+        this.followerCalls = callCounter(meterRegistry, name, "follower");
+        this.timedOutCalls = callCounter(meterRegistry, name, "timeout");
+    }
+
+    /**
+     * 같은 키의 진행 중인 호출이 있으면 그 결과를 공유, 없으면 직접 호출
+     */
+    public V execute(K key, Supplier<V> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing == null) {
+            leaderCalls.increment();
+            return lead(key, flight, call);
+        }
+
+        followerCalls.increment();
+        return follow(key, existing, call);
+    }
+
+    /**
+     * 진행 중인 호출 수 (모니터링 / 테스트용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> call) {
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V follow(K key, CompletableFuture<V> existing, Supplier<V> call) {
+        try {
+            return existing.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOutCalls.increment();
+            log.warn("병합 대기 시간 초과, 직접 호출 - client: {}, key: {}, maxWait: {}ms",
+                    name, key, maxWait.toMillis());
+            return call.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병합 호출 대기 중 인터럽트 - client: " + name, e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("병합 호출 실패", cause);
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("client.single-flight.calls")
+                .description("동일 요청 병합 호출 수")
+                .tag("client", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
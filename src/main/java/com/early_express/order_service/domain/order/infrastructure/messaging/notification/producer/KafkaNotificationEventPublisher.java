@@ -3,21 +3,22 @@ package com.early_express.order_service.domain.order.infrastructure.messaging.no
 import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationEventPublisher;
 import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationRequestedEventData;
 import com.early_express.order_service.domain.order.domain.messaging.notification.event.NotificationRequestedEvent;
+import com.early_express.order_service.domain.order.infrastructure.messaging.outbox.OutboxEventAppender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Notification Event Kafka Publisher
+ * Outbox에 기록하고 OutboxRelay가 Kafka로 발행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaNotificationEventPublisher implements NotificationEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventAppender outboxEventAppender;
 
     @Value("${spring.kafka.topic.notification-requested-event}")
     private String notificationRequestedTopic;
@@ -29,16 +30,10 @@ public class KafkaNotificationEventPublisher implements NotificationEventPublish
         // EventData → Event 변환
         NotificationRequestedEvent event = NotificationRequestedEvent.from(eventData);
 
-        // Kafka 발행
-        kafkaTemplate.send(notificationRequestedTopic, eventData.getOrderId(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("NotificationRequested 이벤트 발행 실패 - orderId: {}, error: {}",
-                                eventData.getOrderId(), ex.getMessage(), ex);
-                    } else {
-                        log.info("NotificationRequested 이벤트 발행 성공 - orderId: {}, eventId: {}",
-                                eventData.getOrderId(), event.getEventId());
-                    }
-                });
+        // Outbox 기록 (트랜잭션 커밋 후 릴레이가 발행)
+        outboxEventAppender.append(notificationRequestedTopic, eventData.getOrderId(), event);
+
+        log.info("NotificationRequested 이벤트 Outbox 기록 완료 - orderId: {}, eventId: {}",
+                eventData.getOrderId(), event.getEventId());
     }
-}
\ No newline at end of file
+}
@@ -3,21 +3,22 @@ package com.early_express.order_service.domain.order.infrastructure.messaging.or
 import com.early_express.order_service.domain.order.domain.messaging.order.OrderEventPublisher;
 import com.early_express.order_service.domain.order.domain.messaging.order.OrderPaymentVerifiedEventData;
 import com.early_express.order_service.domain.order.domain.messaging.order.event.OrderPaymentVerifiedEvent;
+import com.early_express.order_service.domain.order.infrastructure.messaging.outbox.OutboxEventAppender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Order Event Kafka Publisher
+ * Outbox에 기록하고 OutboxRelay가 Kafka로 발행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaOrderEventPublisher implements OrderEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventAppender outboxEventAppender;
 
     @Value("${spring.kafka.topic.order-payment-verified}")
     private String orderPaymentVerifiedTopic;
@@ -29,16 +30,10 @@ public class KafkaOrderEventPublisher implements OrderEventPublisher {
         // EventData → Event 변환
         OrderPaymentVerifiedEvent event = OrderPaymentVerifiedEvent.from(eventData);
 
-        // Kafka 발행
-        kafkaTemplate.send(orderPaymentVerifiedTopic, eventData.getOrderId(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("OrderPaymentVerified 이벤트 발행 실패 - orderId: {}, error: {}",
-                                eventData.getOrderId(), ex.getMessage(), ex);
-                    } else {
-                        log.info("OrderPaymentVerified 이벤트 발행 성공 - orderId: {}, eventId: {}",
-                                eventData.getOrderId(), event.getEventId());
-                    }
-                });
+        // Outbox 기록 (트랜잭션 커밋 후 릴레이가 발행)
+        outboxEventAppender.append(orderPaymentVerifiedTopic, eventData.getOrderId(), event);
+
+        log.info("OrderPaymentVerified 이벤트 Outbox 기록 완료 - orderId: {}, eventId: {}",
+                eventData.getOrderId(), event.getEventId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.early_express.order_service.domain.order.infrastructure.messaging.outbox;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxEventEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import com.early_express.order_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Outbox 이벤트 기록기
+ *
+ * Kafka로 직접 발행하지 않고 호출자의 트랜잭션에 참여하여 p_outbox_events에 기록합니다.
+ * 도메인 변경(Order/OrderSaga 저장)과 이벤트 기록이 함께 커밋되거나 함께 롤백되며,
+ * 실제 발행은 OutboxRelay가 배치로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 Outbox에 기록
+     * 진행 중인 트랜잭션이 있으면 참여하고, 없으면 단독 트랜잭션으로 기록
+     *
+     * @param topic 발행 대상 토픽
+     * @param key   메시지 키 (파티션 결정, 보통 orderId)
+     * @param event Kafka 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void append(String topic, String key, BaseEvent event) {
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+                .topic(topic)
+                .messageKey(key)
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .payloadType(event.getClass().getName())
+                .payload(toJson(event))
+                .build();
+
+        outboxEventJpaRepository.save(entity);
+
+        log.debug("Outbox 이벤트 기록 - topic: {}, key: {}, eventType: {}, eventId: {}",
+                topic, key, event.getEventType(), event.getEventId());
+    }
+
+    private String toJson(BaseEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Outbox 이벤트 직렬화 실패 - eventType: " + event.getEventType(), e);
+        }
+    }
+}
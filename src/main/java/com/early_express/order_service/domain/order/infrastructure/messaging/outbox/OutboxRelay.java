@@ -0,0 +1,301 @@
+package com.early_express.order_service.domain.order.infrastructure.messaging.outbox;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxEventEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxStatus;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox Relay
+ *
+ * p_outbox_events의 발행 대기 이벤트를 배치 단위로 Kafka에 발행합니다.
+ * - 짧은 트랜잭션에서 SKIP LOCKED로 배치를 조회해 점유(locked_until)만 기록하고 커밋
+ *   → Kafka 응답을 기다리는 동안 행 잠금 / 트랜잭션을 유지하지 않음
+ * - 배치에는 토픽 / 키마다 가장 오래된 발행 대기 이벤트만 포함 (인스턴스가 여러 개여도 같은 키는 한 번에 하나만 발행)
+ * - 토픽별로 메시지 키 해시 기준 레인(lane)을 나누어 병렬 발행
+ * - 레인 안에서는 키마다 앞 이벤트의 발행이 확인된 뒤 다음 이벤트를 보내고,
+ *   실패하면 그 키의 뒤 이벤트는 보내지 않음 (같은 키의 순서 보장)
+ * - 결과는 다시 짧은 트랜잭션에서 반영 (발행 완료는 한 번의 UPDATE, 미발행분은 점유 해제)
+ * - 실패한 이벤트는 재시도 횟수에 따라 지수 백오프 후 다시 발행 (한도를 넘기면 FAILED, requeueFailed로 재발행)
+ *
+ * 전달 보장은 at-least-once이며, 소비자는 eventId로 멱등 처리해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService laneExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.parallelism-per-topic:4}")
+    private int parallelismPerTopic;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${outbox.relay.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${outbox.relay.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    /**
+     * 한 배치 발행
+     *
+     * @return 발행 완료된 이벤트 수
+     */
+    public int relayBatch() {
+        List<OutboxEventEntity> events = transactionTemplate.execute(status -> claimBatch());
+
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        // 토픽 → 레인 분할 후 레인별 병렬 발행 (트랜잭션 밖)
+        List<CompletableFuture<LaneResult>> laneFutures = events.stream()
+                .collect(Collectors.groupingBy(OutboxEventEntity::getTopic, LinkedHashMap::new, Collectors.toList()))
+                .values().stream()
+                .flatMap(topicEvents -> splitIntoLanes(topicEvents).stream())
+                .map(lane -> CompletableFuture.supplyAsync(() -> sendLane(lane), laneExecutor))
+                .toList();
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<OutboxEventEntity, String> failures = new LinkedHashMap<>();
+        List<Long> unsentIds = new ArrayList<>();
+
+        for (CompletableFuture<LaneResult> laneFuture : laneFutures) {
+            LaneResult result = laneFuture.join();
+            sentIds.addAll(result.sentIds());
+            failures.putAll(result.failures());
+            unsentIds.addAll(result.unsentIds());
+        }
+
+        transactionTemplate.execute(status -> {
+            recordResults(sentIds, failures, unsentIds);
+            return null;
+        });
+
+        log.debug("Outbox 릴레이 배치 처리 - 조회: {}, 발행: {}, 실패: {}, 미발행: {}",
+                events.size(), sentIds.size(), failures.size(), unsentIds.size());
+
+        return sentIds.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    public int purgeSentEvents(LocalDateTime before) {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventJpaRepository.deleteSentBefore(OutboxStatus.SENT, before));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 발행 실패(FAILED) 이벤트 수 (알림용)
+     */
+    public long countFailedEvents() {
+        return outboxEventJpaRepository.countByStatus(OutboxStatus.FAILED);
+    }
+
+    /**
+     * 발행 실패(FAILED) 이벤트를 다시 발행 대기로 전환
+     * 원인(토픽 / 브로커 / 직렬화 문제)을 해결한 뒤 운영자가 호출
+     *
+     * @return 재발행 대기로 전환된 이벤트 수
+     */
+    public int requeueFailed(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Integer requeued = transactionTemplate.execute(status ->
+                outboxEventJpaRepository.requeueFailed(ids, OutboxStatus.FAILED, OutboxStatus.PENDING));
+        log.info("Outbox 실패 이벤트 재발행 대기 전환 - 요청: {}, 전환: {}", ids.size(), requeued);
+        return requeued != null ? requeued : 0;
+    }
+
+    /**
+     * 배치 점유 (행 잠금은 커밋과 함께 해제)
+     * 점유 시간은 발행 대기 시간(send-timeout-ms)보다 길어야 함
+     */
+    private List<OutboxEventEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> events = outboxEventJpaRepository.findBatchForRelay(
+                OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+        if (!events.isEmpty()) {
+            LocalDateTime lockedUntil = now.plus(Duration.ofMillis(Math.max(leaseMs, sendTimeoutMs)));
+            outboxEventJpaRepository.lease(events.stream().map(OutboxEventEntity::getId).toList(), lockedUntil);
+        }
+        return events;
+    }
+
+    /**
+     * 발행 결과 반영
+     * 실패 이벤트는 재시도 횟수를 늘리고 백오프 시각까지 점유를 유지, 보내지 않은 이벤트는 점유만 해제
+     */
+    private void recordResults(List<Long> sentIds, Map<OutboxEventEntity, String> failures, List<Long> unsentIds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!sentIds.isEmpty()) {
+            outboxEventJpaRepository.markSent(sentIds, OutboxStatus.SENT, now);
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach((event, error) -> {
+                event.markFailed(error, maxAttempts, now.plus(backoff(event.getAttempts() + 1)));
+                log.error("Outbox 이벤트 발행 실패 - id: {}, topic: {}, key: {}, attempts: {}, error: {}",
+                        event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts(), error);
+            });
+            outboxEventJpaRepository.saveAll(failures.keySet());
+        }
+
+        if (!unsentIds.isEmpty()) {
+            outboxEventJpaRepository.releaseLease(unsentIds);
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 (initial * 2^(attempts-1), 최대 backoff-max-ms)
+     */
+    private Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long delayMs = backoffInitialMs << shift;
+        if (delayMs <= 0 || delayMs > backoffMaxMs) {
+            delayMs = backoffMaxMs;
+        }
+        return Duration.ofMillis(delayMs);
+    }
+
+    /**
+     * 메시지 키 해시 기준으로 레인 분할
+     * 같은 키는 항상 같은 레인에서 순서대로 발행됨
+     */
+    private Collection<List<OutboxEventEntity>> splitIntoLanes(List<OutboxEventEntity> topicEvents) {
+        int lanes = Math.max(1, parallelismPerTopic);
+
+        if (lanes == 1) {
+            return List.of(topicEvents);
+        }
+
+        return topicEvents.stream()
+                .collect(Collectors.groupingBy(
+                        event -> Math.floorMod(Objects.hashCode(event.getMessageKey()), lanes),
+                        LinkedHashMap::new,
+                        Collectors.toList()))
+                .values();
+    }
+
+    /**
+     * 레인 발행
+     * 키마다 다음 이벤트 하나씩을 비동기로 모두 요청한 뒤 결과를 기다림 (키 간에는 Producer 배치 전송 활용)
+     * 어떤 키의 이벤트가 실패하면 그 키의 남은 이벤트는 보내지 않고 다음 배치로 넘김
+     */
+    private LaneResult sendLane(List<OutboxEventEntity> lane) {
+        Map<String, Deque<OutboxEventEntity>> pendingByKey = new LinkedHashMap<>();
+        for (OutboxEventEntity event : lane) {
+            pendingByKey.computeIfAbsent(event.getMessageKey(), key -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<OutboxEventEntity, String> failures = new LinkedHashMap<>();
+        List<Long> unsentIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        while (!pendingByKey.isEmpty() && System.nanoTime() < deadline) {
+            Map<OutboxEventEntity, CompletableFuture<SendResult<String, Object>>> futures = new LinkedHashMap<>();
+
+            for (Deque<OutboxEventEntity> keyEvents : pendingByKey.values()) {
+                OutboxEventEntity event = keyEvents.peekFirst();
+                try {
+                    Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+                    futures.put(event, kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload));
+                } catch (Exception e) {
+                    futures.put(event, CompletableFuture.failedFuture(e));
+                }
+            }
+
+            futures.forEach((event, future) -> {
+                Deque<OutboxEventEntity> keyEvents = pendingByKey.get(event.getMessageKey());
+                String error = awaitSend(future, deadline);
+
+                if (error == null) {
+                    sentIds.add(event.getId());
+                    keyEvents.removeFirst();
+                } else {
+                    failures.put(event, error);
+                    keyEvents.removeFirst();
+                    keyEvents.forEach(blocked -> unsentIds.add(blocked.getId()));
+                    keyEvents.clear();
+                }
+            });
+
+            pendingByKey.values().removeIf(Deque::isEmpty);
+        }
+
+        // 대기 시간 안에 보내지 못한 이벤트
+        pendingByKey.values().forEach(keyEvents -> keyEvents.forEach(event -> unsentIds.add(event.getId())));
+
+        return new LaneResult(sentIds, failures, unsentIds);
+    }
+
+    /**
+     * 발행 결과 대기
+     *
+     * @return 실패 사유 (성공 시 null)
+     */
+    private String awaitSend(CompletableFuture<SendResult<String, Object>> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            future.get(remaining, TimeUnit.NANOSECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (TimeoutException e) {
+            return "send timeout";
+        } catch (Exception e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        laneExecutor.shutdown();
+    }
+
+    private record LaneResult(List<Long> sentIds, Map<OutboxEventEntity, String> failures, List<Long> unsentIds) {
+    }
+}
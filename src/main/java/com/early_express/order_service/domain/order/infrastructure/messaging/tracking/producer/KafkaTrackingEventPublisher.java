@@ -3,21 +3,22 @@ package com.early_express.order_service.domain.order.infrastructure.messaging.tr
 import com.early_express.order_service.domain.order.domain.messaging.tracking.TrackingEventPublisher;
 import com.early_express.order_service.domain.order.domain.messaging.tracking.TrackingStartRequestedEventData;
 import com.early_express.order_service.domain.order.domain.messaging.tracking.event.TrackingStartRequestedEvent;
+import com.early_express.order_service.domain.order.infrastructure.messaging.outbox.OutboxEventAppender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Tracking Event Kafka Publisher
+ * Outbox에 기록하고 OutboxRelay가 Kafka로 발행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaTrackingEventPublisher implements TrackingEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventAppender outboxEventAppender;
 
     @Value("${spring.kafka.topic.tracking-start-requested}")
     private String trackingStartRequestedTopic;
@@ -29,16 +30,10 @@ public class KafkaTrackingEventPublisher implements TrackingEventPublisher {
         // EventData → Event 변환
         TrackingStartRequestedEvent event = TrackingStartRequestedEvent.from(eventData);
 
-        // Kafka 발행
-        kafkaTemplate.send(trackingStartRequestedTopic, eventData.getOrderId(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("TrackingStartRequested 이벤트 발행 실패 - orderId: {}, error: {}",
-                                eventData.getOrderId(), ex.getMessage(), ex);
-                    } else {
-                        log.info("TrackingStartRequested 이벤트 발행 성공 - orderId: {}, eventId: {}",
-                                eventData.getOrderId(), event.getEventId());
-                    }
-                });
+        // Outbox 기록 (트랜잭션 커밋 후 릴레이가 발행)
+        outboxEventAppender.append(trackingStartRequestedTopic, eventData.getOrderId(), event);
+
+        log.info("TrackingStartRequested 이벤트 Outbox 기록 완료 - orderId: {}, eventId: {}",
+                eventData.getOrderId(), event.getEventId());
     }
-}
\ No newline at end of file
+}
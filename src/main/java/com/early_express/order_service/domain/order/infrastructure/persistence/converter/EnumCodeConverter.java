@@ -0,0 +1,64 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enum ↔ smallint 코드 변환 공통 구현
+ * - 이름(varchar) 대신 2바이트 코드로 저장
+ * - ordinal()은 상수 순서가 바뀌면 값이 달라지므로 사용하지 않고, 하위 클래스가 코드를 명시적으로 고정
+ * - 코드가 빠진 상수가 있으면 기동 시점에 실패 (새 상수 추가 시 코드 누락 방지)
+ *
+ * 주의: 한 번 배포한 코드는 절대 변경/재사용하지 않음 (db/migration 스크립트와 값이 일치해야 함)
+ */
+public abstract class EnumCodeConverter<E extends Enum<E>> implements AttributeConverter<E, Short> {
+
+    private final Class<E> enumType;
+    private final Map<E, Short> codes;
+    private final Map<Short, E> constants;
+
+    protected EnumCodeConverter(Class<E> enumType, Map<E, Integer> codes) {
+        this.enumType = enumType;
+        this.codes = new EnumMap<>(enumType);
+        Map<Short, E> constants = new HashMap<>();
+
+        codes.forEach((constant, code) -> {
+            E duplicated = constants.put(code.shortValue(), constant);
+            if (duplicated != null) {
+                throw new IllegalStateException(
+                        enumType.getSimpleName() + " 코드 중복: " + code + " (" + duplicated + ", " + constant + ")");
+            }
+            this.codes.put(constant, code.shortValue());
+        });
+
+        EnumSet<E> missing = EnumSet.complementOf(EnumSet.copyOf(this.codes.keySet()));
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(enumType.getSimpleName() + " 코드가 정의되지 않은 상수: " + missing);
+        }
+
+        this.constants = Collections.unmodifiableMap(constants);
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : codes.get(attribute);
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short dbData) {
+        if (dbData == null) {
+            return null;
+        }
+
+        E constant = constants.get(dbData);
+        if (constant == null) {
+            throw new IllegalStateException("알 수 없는 " + enumType.getSimpleName() + " 코드: " + dbData);
+        }
+        return constant;
+    }
+}
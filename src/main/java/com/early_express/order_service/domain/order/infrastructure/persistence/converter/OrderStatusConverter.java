@@ -0,0 +1,35 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * OrderStatus ↔ smallint 코드 변환 (p_orders.status, p_order_hub_memberships.status)
+ */
+@Converter
+public class OrderStatusConverter extends EnumCodeConverter<OrderStatus> {
+
+    public OrderStatusConverter() {
+        super(OrderStatus.class, Map.ofEntries(
+                Map.entry(OrderStatus.PENDING, 1),
+                Map.entry(OrderStatus.STOCK_CHECKING, 2),
+                Map.entry(OrderStatus.STOCK_RESERVED, 3),
+                Map.entry(OrderStatus.PAYMENT_VERIFYING, 4),
+                Map.entry(OrderStatus.PAYMENT_VERIFIED, 5),
+                Map.entry(OrderStatus.ROUTE_CALCULATING, 6),
+                Map.entry(OrderStatus.DELIVERY_CREATING, 7),
+                Map.entry(OrderStatus.CONFIRMED, 8),
+                Map.entry(OrderStatus.HUB_WAITING, 9),
+                Map.entry(OrderStatus.HUB_IN_TRANSIT, 10),
+                Map.entry(OrderStatus.HUB_ARRIVED, 11),
+                Map.entry(OrderStatus.LAST_MILE_READY, 12),
+                Map.entry(OrderStatus.IN_DELIVERY, 13),
+                Map.entry(OrderStatus.COMPLETED, 14),
+                Map.entry(OrderStatus.CANCELLED, 15),
+                Map.entry(OrderStatus.FAILED, 16),
+                Map.entry(OrderStatus.COMPENSATED, 17)
+        ));
+    }
+}
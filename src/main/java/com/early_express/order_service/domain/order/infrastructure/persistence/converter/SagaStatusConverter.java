@@ -0,0 +1,25 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * SagaStatus ↔ smallint 코드 변환 (p_order_sagas.status)
+ */
+@Converter
+public class SagaStatusConverter extends EnumCodeConverter<SagaStatus> {
+
+    public SagaStatusConverter() {
+        super(SagaStatus.class, Map.ofEntries(
+                Map.entry(SagaStatus.PENDING, 1),
+                Map.entry(SagaStatus.IN_PROGRESS, 2),
+                Map.entry(SagaStatus.COMPLETED, 3),
+                Map.entry(SagaStatus.COMPENSATING, 4),
+                Map.entry(SagaStatus.COMPENSATED, 5),
+                Map.entry(SagaStatus.COMPENSATION_FAILED, 6),
+                Map.entry(SagaStatus.FAILED, 7)
+        ));
+    }
+}
@@ -0,0 +1,29 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * SagaStep ↔ smallint 코드 변환 (p_order_sagas.current_step, p_saga_step_histories.step)
+ */
+@Converter
+public class SagaStepConverter extends EnumCodeConverter<SagaStep> {
+
+    public SagaStepConverter() {
+        super(SagaStep.class, Map.ofEntries(
+                Map.entry(SagaStep.STOCK_RESERVE, 1),
+                Map.entry(SagaStep.PAYMENT_VERIFY, 2),
+                Map.entry(SagaStep.ROUTE_CALCULATE, 3),
+                Map.entry(SagaStep.HUB_DELIVERY_CREATE, 4),
+                Map.entry(SagaStep.LAST_MILE_DELIVERY_CREATE, 5),
+                Map.entry(SagaStep.NOTIFICATION_SEND, 6),
+                Map.entry(SagaStep.TRACKING_START, 7),
+                Map.entry(SagaStep.STOCK_RESTORE, 8),
+                Map.entry(SagaStep.PAYMENT_CANCEL, 9),
+                Map.entry(SagaStep.HUB_DELIVERY_CANCEL, 10),
+                Map.entry(SagaStep.LAST_MILE_DELIVERY_CANCEL, 11)
+        ));
+    }
+}
@@ -0,0 +1,23 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import com.early_express.order_service.domain.order.domain.model.StepStatus;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * StepStatus ↔ smallint 코드 변환 (p_saga_step_histories.status)
+ */
+@Converter
+public class StepStatusConverter extends EnumCodeConverter<StepStatus> {
+
+    public StepStatusConverter() {
+        super(StepStatus.class, Map.ofEntries(
+                Map.entry(StepStatus.PENDING, 1),
+                Map.entry(StepStatus.IN_PROGRESS, 2),
+                Map.entry(StepStatus.SUCCESS, 3),
+                Map.entry(StepStatus.FAILED, 4),
+                Map.entry(StepStatus.COMPENSATED, 5)
+        ));
+    }
+}
@@ -0,0 +1,26 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * 문자열 ID ↔ 네이티브 uuid 컬럼 변환
+ * - 도메인/엔티티는 36자 문자열 ID를 그대로 사용하고, DB에는 16바이트 uuid로 저장
+ *   (varchar(36) 대비 행/인덱스 크기 절반 이하, 비교도 바이트 단위)
+ * - 이 서비스가 발급하는 ID(주문/Saga)에만 적용 (업체/허브 ID는 외부 서비스 형식이라 문자열 유지)
+ */
+@Converter
+public class UuidStringConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : UUID.fromString(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID dbData) {
+        return dbData == null ? null : dbData.toString();
+    }
+}
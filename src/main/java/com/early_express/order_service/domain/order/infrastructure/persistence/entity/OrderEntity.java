@@ -5,6 +5,8 @@ import com.early_express.order_service.domain.order.domain.model.OrderStatus;
 import com.early_express.order_service.domain.order.domain.model.vo.*;
 import com.early_express.order_service.global.common.utils.UuidUtils;
 import com.early_express.order_service.global.infrastructure.entity.BaseEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.OrderStatusConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.UuidStringConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,6 +17,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.function.LongConsumer;
 
 /**
  * Order JPA Entity
@@ -27,7 +30,8 @@ import java.time.LocalTime;
 public class OrderEntity extends BaseEntity {
 
     @Id
-    @Column(name = "id", length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "id")
     private String id;
 
     @Column(name = "order_number", nullable = false, unique = true, length = 50)
@@ -112,12 +116,21 @@ public class OrderEntity extends BaseEntity {
     @Column(name = "estimated_delivery_time")
     private LocalDateTime estimatedDeliveryTime;
 
-    @Column(name = "route_info", columnDefinition = "TEXT")
+    // 경로 JSON은 p_route_infos에 내용 해시 기준으로 한 번만 저장 (RouteInfoStore)
+    @Column(name = "route_info_hash", length = 64)
+    private String routeInfoHash;
+
+    // 해시로 조회한 경로 JSON (저장소에서 채움)
+    @Transient
     private String routeInfo;
 
+    // 로컬 추정치 여부 (AI 응답 지연 / 실패 시, 조회 응답에 추정치로 표시)
+    @Column(name = "eta_provisional", nullable = false)
+    private boolean etaProvisional;
+
     // ===== 상태 =====
-    @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 30)
+    @Convert(converter = OrderStatusConverter.class)
+    @Column(name = "status", nullable = false)
     private OrderStatus status;
 
     // ===== 금액 정보 =====
@@ -166,6 +179,16 @@ public class OrderEntity extends BaseEntity {
     @Column(name = "cancelled_at")
     private LocalDateTime cancelledAt;
 
+    // ===== 낙관적 락 =====
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // UPDATE 실행(flush) 후 증가한 버전을 받을 콜백 (마지막으로 저장한 도메인 모델에 반영)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private LongConsumer versionListener;
+
     @Builder
     private OrderEntity(
             String id,
@@ -194,6 +217,7 @@ public class OrderEntity extends BaseEntity {
             LocalDateTime calculatedDepartureDeadline,
             LocalDateTime estimatedDeliveryTime,
             String routeInfo,
+            boolean etaProvisional,
             OrderStatus status,
             BigDecimal unitPrice,
             BigDecimal totalAmount,
@@ -236,6 +260,8 @@ public class OrderEntity extends BaseEntity {
         this.calculatedDepartureDeadline = calculatedDepartureDeadline;
         this.estimatedDeliveryTime = estimatedDeliveryTime;
         this.routeInfo = routeInfo;
+        this.routeInfoHash = RouteInfoEntity.hashOf(routeInfo);
+        this.etaProvisional = etaProvisional;
         this.status = status;
         this.unitPrice = unitPrice;
         this.totalAmount = totalAmount;
@@ -258,7 +284,7 @@ public class OrderEntity extends BaseEntity {
      */
     public static OrderEntity fromDomain(Order order) {
         return OrderEntity.builder()
-                .id(UuidUtils.generate())
+                .id(UuidUtils.generateTimeOrdered())
                 .orderNumber(order.getOrderNumberValue())
                 .supplierCompanyId(order.getCompanyInfo().getSupplierCompanyId())
                 .supplierHubId(order.getCompanyInfo().getSupplierHubId())
@@ -284,6 +310,7 @@ public class OrderEntity extends BaseEntity {
                 .calculatedDepartureDeadline(order.getAiCalculationResult().getCalculatedDepartureDeadline())
                 .estimatedDeliveryTime(order.getAiCalculationResult().getEstimatedDeliveryTime())
                 .routeInfo(order.getAiCalculationResult().getRouteInfo())
+                .etaProvisional(order.getAiCalculationResult().isProvisional())
                 .status(order.getStatus())
                 .unitPrice(order.getAmountInfo().getUnitPrice())
                 .totalAmount(order.getAmountInfo().getTotalAmount())
@@ -302,6 +329,28 @@ public class OrderEntity extends BaseEntity {
                 .build();
     }
 
+    /**
+     * flush 시점의 버전 반영 대상 등록
+     * 변경 감지 UPDATE가 실제로 실행될 때만 호출됨 (변경이 없으면 버전도 그대로)
+     */
+    public void onVersionIncremented(LongConsumer versionListener) {
+        this.versionListener = versionListener;
+    }
+
+    @PostUpdate
+    private void notifyVersionIncremented() {
+        if (versionListener != null) {
+            versionListener.accept(version);
+        }
+    }
+
+    /**
+     * 해시로 조회한 경로 JSON 연결 (조회 후 toDomain 전에 호출)
+     */
+    public void attachRouteInfo(String routeInfo) {
+        this.routeInfo = routeInfo;
+    }
+
     /**
      * 엔티티를 도메인 모델로 변환
      */
@@ -343,7 +392,8 @@ public class OrderEntity extends BaseEntity {
                 .aiCalculationResult(AiCalculationResult.of(
                         this.calculatedDepartureDeadline,
                         this.estimatedDeliveryTime,
-                        this.routeInfo
+                        this.routeInfo,
+                        this.etaProvisional
                 ))
                 .status(this.status)
                 .amountInfo(AmountInfo.builder()
@@ -368,6 +418,7 @@ public class OrderEntity extends BaseEntity {
                 .createdAt(this.getCreatedAt())
                 .cancelReason(this.cancelReason)
                 .cancelledAt(this.cancelledAt)
+                .version(this.version)
                 .build();
     }
 
@@ -424,6 +475,8 @@ public class OrderEntity extends BaseEntity {
         this.calculatedDepartureDeadline = order.getAiCalculationResult().getCalculatedDepartureDeadline();
         this.estimatedDeliveryTime = order.getAiCalculationResult().getEstimatedDeliveryTime();
         this.routeInfo = order.getAiCalculationResult().getRouteInfo();
+        this.routeInfoHash = RouteInfoEntity.hashOf(this.routeInfo);
+        this.etaProvisional = order.getAiCalculationResult().isProvisional();
 
         // 상태
         this.status = order.getStatus();
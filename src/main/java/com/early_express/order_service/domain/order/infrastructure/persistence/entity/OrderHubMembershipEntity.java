@@ -0,0 +1,80 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.entity;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.OrderStatusConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.UuidStringConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 허브 → 주문 조회용 역정규화 테이블
+ * - 주문의 공급/수령/도착 허브마다 한 행씩 유지
+ * - 허브별 목록 조회를 (hub_id, created_at) 인덱스 범위 스캔으로 처리 (허브 ID 3개 컬럼 OR 조건 대체)
+ * - 주문 저장 시 OrderRepositoryImpl이 같은 트랜잭션에서 함께 갱신
+ */
+@Entity
+@Table(
+        name = "p_order_hub_memberships",
+        indexes = @Index(name = "idx_order_hub_membership_hub_created", columnList = "hub_id, created_at, order_id")
+)
+@IdClass(OrderHubMembershipEntity.MembershipId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderHubMembershipEntity {
+
+    @Id
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Id
+    @Column(name = "hub_id", length = 36)
+    private String hubId;
+
+    /**
+     * 주문 생성 시각 (p_orders.created_at 복사본 - 정렬/기간 필터용)
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 주문 상태 (p_orders.status 복사본 - 상태 필터용)
+     */
+    @Convert(converter = OrderStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    private OrderHubMembershipEntity(String hubId, String orderId, LocalDateTime createdAt, OrderStatus status) {
+        this.hubId = hubId;
+        this.orderId = orderId;
+        this.createdAt = createdAt;
+        this.status = status;
+    }
+
+    public static OrderHubMembershipEntity of(
+            String hubId,
+            String orderId,
+            LocalDateTime createdAt,
+            OrderStatus status) {
+        return new OrderHubMembershipEntity(hubId, orderId, createdAt, status);
+    }
+
+    /**
+     * 복합 키 (order_id, hub_id) - 주문 기준 상태 동기화 / 존재 확인에 사용
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class MembershipId implements Serializable {
+        private String orderId;
+        private String hubId;
+    }
+}
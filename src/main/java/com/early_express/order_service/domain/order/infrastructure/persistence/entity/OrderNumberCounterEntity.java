@@ -0,0 +1,42 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 번호 날짜별 카운터 JPA Entity
+ * 인스턴스들이 행 잠금으로 일련번호 구간을 임대하고, 구간 안의 번호는 메모리에서 발급
+ */
+@Entity
+@Table(name = "p_order_number_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderNumberCounterEntity {
+
+    @Id
+    @Column(name = "order_date")
+    private LocalDate orderDate;
+
+    /**
+     * 지금까지 임대된 마지막 일련번호
+     */
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    /**
+     * 다음 구간 임대
+     *
+     * @return 임대한 구간의 마지막 일련번호
+     */
+    public long lease(int blockSize) {
+        this.lastSequence += blockSize;
+        return this.lastSequence;
+    }
+}
@@ -3,10 +3,15 @@ package com.early_express.order_service.domain.order.infrastructure.persistence.
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.SagaStatus;
 import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.SagaStepHistory;
 import com.early_express.order_service.domain.order.domain.model.vo.CompensationData;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
 import com.early_express.order_service.global.common.utils.UuidUtils;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.SagaStatusConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.SagaStepConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.UuidStringConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.CompensationPayloads;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,7 +20,10 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
 
 /**
  * OrderSaga JPA Entity
@@ -27,18 +35,20 @@ import java.util.List;
 public class OrderSagaEntity {
 
     @Id
-    @Column(name = "saga_id", length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "saga_id")
     private String sagaId;
 
-    @Column(name = "order_id", nullable = false, unique = true, length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "order_id", nullable = false, unique = true)
     private String orderId;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 30)
+    @Convert(converter = SagaStatusConverter.class)
+    @Column(name = "status", nullable = false)
     private SagaStatus status;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "current_step", length = 50)
+    @Convert(converter = SagaStepConverter.class)
+    @Column(name = "current_step")
     private SagaStep currentStep;
 
     @Column(name = "compensation_data", columnDefinition = "TEXT")
@@ -53,9 +63,23 @@ public class OrderSagaEntity {
     @Column(name = "failure_reason", columnDefinition = "TEXT")
     private String failureReason;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Step History (추가된 순서)
+     * ID는 인스턴스별 pooled 블록에서 할당되어 추가 순서와 다를 수 있으므로 시작 시간 기준으로 정렬
+     */
     @OneToMany(mappedBy = "saga", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("startedAt ASC, id ASC")
     private List<SagaStepHistoryEntity> stepHistory = new ArrayList<>();
 
+    // UPDATE 실행(flush) 후 증가한 버전을 받을 콜백 (마지막으로 저장한 도메인 모델에 반영)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private LongConsumer versionListener;
+
     @Builder
     private OrderSagaEntity(
             String sagaId,
@@ -86,7 +110,7 @@ public class OrderSagaEntity {
      */
     public static OrderSagaEntity fromDomain(OrderSaga saga) {
         OrderSagaEntity entity = OrderSagaEntity.builder()
-                .sagaId(UuidUtils.generate())
+                .sagaId(UuidUtils.generateTimeOrdered())
                 .orderId(saga.getOrderIdValue())
                 .status(saga.getStatus())
                 .currentStep(saga.getCurrentStep())
@@ -115,35 +139,81 @@ public class OrderSagaEntity {
                 .orderId(OrderId.from(this.orderId))
                 .status(this.status)
                 .currentStep(this.currentStep)
-                .compensationData(CompensationData.fromJson(
-                        this.compensationData != null ? this.compensationData : "{}"
-                ))
+                .compensationData(CompensationData.fromPersisted(this.compensationData, CompensationPayloads.REGISTRY))
                 .startedAt(this.startedAt)
                 .completedAt(this.completedAt)
                 .failureReason(this.failureReason)
                 .stepHistory(this.stepHistory.stream()
                         .map(SagaStepHistoryEntity::toDomain)
                         .toList())
+                .version(this.version)
                 .build();
     }
 
     /**
      * 도메인 모델로 엔티티 업데이트
+     *
+     * @return 도메인 Step History별 대응 엔티티 (신규 History의 ID 반영용)
      */
-    public void updateFromDomain(OrderSaga saga) {
+    public Map<SagaStepHistory, SagaStepHistoryEntity> updateFromDomain(OrderSaga saga) {
         this.status = saga.getStatus();
         this.currentStep = saga.getCurrentStep();
-        this.compensationData = saga.getCompensationData().toJson();
+        if (saga.getCompensationData().isModified()) {
+            this.compensationData = saga.getCompensationData().toJson();
+        }
         this.completedAt = saga.getCompletedAt();
         this.failureReason = saga.getFailureReason();
 
-        // Step History 동기화
-        this.stepHistory.clear();
-        saga.getStepHistory().forEach(history -> {
-            SagaStepHistoryEntity historyEntity = SagaStepHistoryEntity.fromDomain(history);
-            historyEntity.setSagaIdValue(this.sagaId);
-            this.addStepHistory(historyEntity);
-        });
+        // Step History 동기화 (append-only)
+        // 기존 행은 ID(저장 전이면 Step + 시작 시간)로 찾아 제자리 갱신, 대응 행이 없는 History만 INSERT
+        // 목록 위치는 ID 할당 순서에 따라 달라질 수 있어 식별자로 쓰지 않음
+        Map<SagaStepHistory, SagaStepHistoryEntity> matched = new IdentityHashMap<>();
+        List<SagaStepHistoryEntity> unmatched = new ArrayList<>(this.stepHistory);
+
+        for (SagaStepHistory history : saga.getStepHistory()) {
+            SagaStepHistoryEntity historyEntity = findStepHistory(unmatched, history);
+
+            if (historyEntity != null) {
+                unmatched.remove(historyEntity);
+                historyEntity.updateFromDomain(history);
+            } else {
+                historyEntity = SagaStepHistoryEntity.fromDomain(history);
+                historyEntity.setSagaIdValue(this.sagaId);
+                this.addStepHistory(historyEntity);
+            }
+            matched.put(history, historyEntity);
+        }
+
+        return matched;
+    }
+
+    private SagaStepHistoryEntity findStepHistory(List<SagaStepHistoryEntity> candidates, SagaStepHistory history) {
+        for (SagaStepHistoryEntity candidate : candidates) {
+            boolean sameRow = history.getId() != null
+                    ? history.getId().equals(candidate.getId())
+                    : candidate.getId() == null
+                            && candidate.getStep() == history.getStep()
+                            && candidate.getStartedAt().equals(history.getStartedAt());
+            if (sameRow) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * flush 시점의 버전 반영 대상 등록
+     * 변경 감지 UPDATE가 실제로 실행될 때만 호출됨 (변경이 없으면 버전도 그대로)
+     */
+    public void onVersionIncremented(LongConsumer versionListener) {
+        this.versionListener = versionListener;
+    }
+
+    @PostUpdate
+    private void notifyVersionIncremented() {
+        if (versionListener != null) {
+            versionListener.accept(version);
+        }
     }
 
     /**
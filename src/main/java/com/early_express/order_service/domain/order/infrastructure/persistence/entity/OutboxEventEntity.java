@@ -0,0 +1,113 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional Outbox JPA Entity
+ * 도메인 변경과 같은 트랜잭션에서 기록되고, OutboxRelay가 Kafka로 발행
+ */
+@Entity
+@Table(
+        name = "p_outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+                @Index(name = "idx_outbox_pending_key", columnList = "topic, message_key, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "payload_type", nullable = false, length = 255)
+    private String payloadType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 릴레이 점유 만료 시각
+     * 점유한 릴레이가 Kafka 응답을 기다리는 동안 다른 릴레이가 같은 이벤트 / 같은 키의 뒤 이벤트를 가져가지 않도록 함
+     * (만료되면 점유한 인스턴스가 중단된 것으로 보고 다시 발행 대상)
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Builder
+    private OutboxEventEntity(
+            String topic,
+            String messageKey,
+            String eventId,
+            String eventType,
+            String payloadType,
+            String payload) {
+
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 발행 실패 기록
+     * 다음 시도까지 retryAt 동안 점유를 유지해 바로 다시 발행하지 않음 (같은 키의 뒤 이벤트도 함께 대기)
+     * 재시도 한도를 넘기면 FAILED로 전환되어 더 이상 릴레이 대상이 아님
+     */
+    public void markFailed(String errorMessage, int maxAttempts, LocalDateTime retryAt) {
+        this.lockedUntil = retryAt;
+        this.attempts = this.attempts + 1;
+        this.lastError = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.lockedUntil = null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox 이벤트 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    PENDING("발행 대기"),
+    SENT("발행 완료"),
+    FAILED("발행 실패 (재시도 한도 초과)");
+
+    private final String description;
+}
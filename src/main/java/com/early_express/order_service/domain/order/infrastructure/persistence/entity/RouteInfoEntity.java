@@ -0,0 +1,56 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 경로 정보 JPA Entity (내용 주소 기반)
+ * Hub Service 경로 JSON을 내용 해시(SHA-256) 기준으로 한 번만 저장하고 주문은 해시로 참조
+ * 같은 허브 구간의 주문들은 동일한 행을 공유
+ */
+@Entity
+@Table(name = "p_route_infos")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RouteInfoEntity {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "route_info", nullable = false, columnDefinition = "TEXT")
+    private String routeInfo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 경로 JSON 내용 해시 (SHA-256, 소문자 16진수 64자)
+     * db/migration 스크립트의 encode(sha256(convert_to(route_info, 'UTF8')), 'hex') 와 동일
+     *
+     * @return 해시 (경로 정보가 없으면 null)
+     */
+    public static String hashOf(String routeInfo) {
+        if (routeInfo == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(routeInfo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.early_express.order_service.domain.order.domain.model.SagaStep;
 import com.early_express.order_service.domain.order.domain.model.SagaStepHistory;
 import com.early_express.order_service.domain.order.domain.model.StepStatus;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.SagaStepConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.StepStatusConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.UuidStringConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,8 +24,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SagaStepHistoryEntity {
 
+    /**
+     * Pooled 시퀀스 기반 ID
+     * IDENTITY는 INSERT 시점에 ID를 받아야 해서 JDBC 배치가 비활성화되므로,
+     * 시퀀스에서 allocationSize만큼 미리 할당받아 INSERT를 flush 시점에 배치로 전송
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saga_step_history_seq")
+    @SequenceGenerator(
+            name = "saga_step_history_seq",
+            sequenceName = "p_saga_step_histories_seq",
+            allocationSize = 50
+    )
     @Column(name = "id")
     private Long id;
 
@@ -30,15 +43,16 @@ public class SagaStepHistoryEntity {
     @JoinColumn(name = "saga_id", nullable = false)
     private OrderSagaEntity saga;
 
-    @Column(name = "saga_id_value", nullable = false, length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "saga_id_value", nullable = false)
     private String sagaIdValue;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "step", nullable = false, length = 50)
+    @Convert(converter = SagaStepConverter.class)
+    @Column(name = "step", nullable = false)
     private SagaStep step;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 20)
+    @Convert(converter = StepStatusConverter.class)
+    @Column(name = "status", nullable = false)
     private StepStatus status;
 
     @Column(name = "request", columnDefinition = "TEXT")
@@ -102,6 +116,19 @@ public class SagaStepHistoryEntity {
                 .build();
     }
 
+    /**
+     * 도메인 모델로 엔티티 업데이트
+     * Step / 시작 시간은 불변이므로 진행 상태 관련 필드만 반영 (변경된 경우에만 UPDATE)
+     */
+    public void updateFromDomain(SagaStepHistory history) {
+        this.status = history.getStatus();
+        this.request = history.getRequest();
+        this.response = history.getResponse();
+        this.errorMessage = history.getErrorMessage();
+        this.completedAt = history.getCompletedAt();
+        this.retryCount = history.getRetryCount();
+    }
+
     /**
      * 엔티티를 도메인 모델로 변환
      */
@@ -28,7 +28,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, String> {
      * 업체별 주문 목록 조회
      */
     @Query("SELECT o FROM OrderEntity o " +
-            "WHERE o.supplierCompanyId = :companyId OR o.receiverCompanyId = :companyId " +
+            "WHERE (o.supplierCompanyId = :companyId OR o.receiverCompanyId = :companyId) " +
             "AND o.isDeleted = false " +
             "ORDER BY o.createdAt DESC")
     List<OrderEntity> findByCompanyId(@Param("companyId") String companyId);
@@ -0,0 +1,35 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.jpa;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderNumberCounterEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 주문 번호 카운터 JPA Repository
+ */
+public interface OrderNumberCounterJpaRepository extends JpaRepository<OrderNumberCounterEntity, LocalDate> {
+
+    /**
+     * 날짜별 카운터 조회 (행 잠금)
+     * 다른 인스턴스의 임대는 커밋될 때까지 대기
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OrderNumberCounterEntity c WHERE c.orderDate = :orderDate")
+    Optional<OrderNumberCounterEntity> findForUpdate(@Param("orderDate") LocalDate orderDate);
+
+    /**
+     * 날짜별 카운터 생성 (이미 있으면 무시)
+     * 여러 인스턴스가 같은 날 첫 구간을 동시에 임대해도 예외 없이 한 행만 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO p_order_number_counters (order_date, last_sequence) " +
+            "VALUES (:orderDate, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("orderDate") LocalDate orderDate);
+}
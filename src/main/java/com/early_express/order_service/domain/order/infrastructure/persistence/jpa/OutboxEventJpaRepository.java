@@ -0,0 +1,104 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.jpa;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxEventEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 JPA Repository
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 발행 대기 이벤트 배치 조회 (행 잠금)
+     * lock.timeout = -2 → PostgreSQL에서 FOR UPDATE SKIP LOCKED
+     * 여러 인스턴스의 릴레이가 같은 행을 중복 점유하지 않도록 함 (행 잠금은 점유 표시 후 바로 커밋)
+     *
+     * - 토픽 / 키마다 가장 오래된 발행 대기 이벤트(head)만 조회 (키 순서 보장)
+     *   앞선 이벤트가 PENDING으로 남아 있는 한, 점유 / 행 잠금 / 재시도 대기 여부와 관계없이 뒤 이벤트는 가져가지 않음
+     *   → 다른 인스턴스가 head를 잠그고 점유를 아직 커밋하지 않았을 때 SKIP LOCKED로 head를 건너뛰어도
+     *     같은 키의 다음 이벤트를 동시에 발행하지 않음
+     * - 다른 릴레이가 점유 중이거나 재시도 대기 중인(locked_until 미경과) head는 제외
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT o FROM OutboxEventEntity o
+            WHERE o.status = :status
+              AND (o.lockedUntil IS NULL OR o.lockedUntil < :now)
+              AND NOT EXISTS (
+                  SELECT 1 FROM OutboxEventEntity p
+                  WHERE p.topic = o.topic
+                    AND p.messageKey = o.messageKey
+                    AND p.status = :status
+                    AND p.id < o.id)
+            ORDER BY o.id ASC
+            """)
+    List<OutboxEventEntity> findBatchForRelay(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * 발행 완료 일괄 처리
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.status = :status, o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") OutboxStatus status,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 릴레이 점유 (배치 조회와 같은 트랜잭션)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.lockedUntil = :lockedUntil WHERE o.id IN :ids")
+    int lease(
+            @Param("ids") Collection<Long> ids,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 점유 해제 (발행하지 않은 이벤트를 다음 배치에서 다시 발행)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.lockedUntil = null WHERE o.id IN :ids")
+    int releaseLease(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 발행 실패(FAILED) 이벤트 재발행 대기 전환
+     * 재시도 횟수를 초기화하고 다음 배치부터 다시 릴레이 대상으로 둠
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity o
+            SET o.status = :pending, o.attempts = 0, o.lockedUntil = null
+            WHERE o.status = :failed AND o.id IN :ids
+            """)
+    int requeueFailed(
+            @Param("ids") Collection<Long> ids,
+            @Param("failed") OutboxStatus failed,
+            @Param("pending") OutboxStatus pending);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteSentBefore(
+            @Param("status") OutboxStatus status,
+            @Param("before") LocalDateTime before);
+
+    /**
+     * 상태별 이벤트 수
+     */
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,30 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.jpa;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.RouteInfoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경로 정보 JPA Repository
+ */
+public interface RouteInfoJpaRepository extends JpaRepository<RouteInfoEntity, String> {
+
+    /**
+     * 경로 정보 저장 (같은 해시가 이미 있으면 무시)
+     * 같은 경로의 주문이 동시에 저장되어도 예외 없이 한 행만 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO p_route_infos (content_hash, route_info, created_at) " +
+            "VALUES (:contentHash, :routeInfo, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash, @Param("routeInfo") String routeInfo);
+
+    /**
+     * 해시 목록으로 일괄 조회 (목록 조회 시 주문별 개별 조회 방지)
+     */
+    List<RouteInfoEntity> findByContentHashIn(Collection<String> contentHashes);
+}
@@ -0,0 +1,21 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.vo.CompensationPayloadRegistry;
+
+/**
+ * 보상 데이터 Step별 저장 타입
+ * SagaStepPayloadExtractor가 Step 완료 시 기록하는 축소 레코드 타입과 일치해야 함
+ */
+public final class CompensationPayloads {
+
+    public static final CompensationPayloadRegistry REGISTRY = CompensationPayloadRegistry.empty()
+            .register(SagaStep.STOCK_RESERVE, StockReservationPayload.class)
+            .register(SagaStep.PAYMENT_VERIFY, PaymentVerificationPayload.class)
+            .register(SagaStep.HUB_DELIVERY_CREATE, HubDeliveryPayload.class)
+            .register(SagaStep.LAST_MILE_DELIVERY_CREATE, LastMileDeliveryPayload.class);
+
+    private CompensationPayloads() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+}
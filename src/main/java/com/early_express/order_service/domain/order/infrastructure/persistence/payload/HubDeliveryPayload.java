@@ -0,0 +1,15 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.dto.HubDeliveryCreateResponse;
+
+/**
+ * 허브 배송 생성 보상 데이터
+ *
+ * @param hubDeliveryId 생성된 허브 배송 ID
+ */
+public record HubDeliveryPayload(String hubDeliveryId) {
+
+    public static HubDeliveryPayload from(HubDeliveryCreateResponse response) {
+        return new HubDeliveryPayload(response.getHubDeliveryId());
+    }
+}
@@ -0,0 +1,15 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateResponse;
+
+/**
+ * 업체 배송 생성 보상 데이터
+ *
+ * @param lastMileDeliveryId 생성된 업체 배송 ID
+ */
+public record LastMileDeliveryPayload(String lastMileDeliveryId) {
+
+    public static LastMileDeliveryPayload from(LastMileDeliveryCreateResponse response) {
+        return new LastMileDeliveryPayload(response.getLastMileDeliveryId());
+    }
+}
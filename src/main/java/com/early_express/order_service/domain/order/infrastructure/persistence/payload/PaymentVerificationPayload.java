@@ -0,0 +1,16 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+
+/**
+ * 결제 검증 보상 데이터
+ * 결제 취소(환불 요청 이벤트)에 필요한 결제 ID만 보관
+ *
+ * @param paymentId Payment ID
+ */
+public record PaymentVerificationPayload(String paymentId) {
+
+    public static PaymentVerificationPayload from(PaymentVerificationResponse response) {
+        return new PaymentVerificationPayload(response.getPaymentId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
+
+import java.util.List;
+
+/**
+ * 경로 계산 이력 데이터
+ * 보상 대상은 아니며, Step History 응답에 경로 상세 JSON(routeInfoJson) 없이 요약만 기록
+ *
+ * @param originHubId 출발 허브 ID
+ * @param destinationHubId 도착 허브 ID
+ * @param routeHubs 경유 허브 목록
+ * @param estimatedDistance 총 예상 거리 (km)
+ */
+public record RouteCalculationPayload(
+        String originHubId,
+        String destinationHubId,
+        List<String> routeHubs,
+        Double estimatedDistance) {
+
+    public static RouteCalculationPayload from(HubRouteCalculationResponse response) {
+        return new RouteCalculationPayload(
+                response.getOriginHubId(),
+                response.getDestinationHubId(),
+                response.getRouteHubs(),
+                response.getEstimatedDistance()
+        );
+    }
+}
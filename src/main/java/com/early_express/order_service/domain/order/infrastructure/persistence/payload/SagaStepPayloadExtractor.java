@@ -0,0 +1,92 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.hubdelivery.dto.HubDeliveryCreateResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Saga Step 응답 축소 기록기
+ *
+ * - 외부 서비스 응답 전체 대신 보상에 필요한 값만 담은 레코드를 보상 데이터로 저장
+ * - Step History 응답은 retention 설정에 따라 축소 레코드(MINIMAL) 또는 전체 응답(FULL)을 기록
+ * - 추출기가 없는 Step은 응답을 그대로 기록
+ */
+@Component
+public class SagaStepPayloadExtractor {
+
+    /**
+     * Step History 응답 보관 수준
+     */
+    public enum ResponseRetention {
+        MINIMAL, // 축소 레코드만 기록
+        FULL     // 외부 서비스 응답 전체 기록 (장애 분석용)
+    }
+
+    private static final Map<SagaStep, Function<Object, Object>> EXTRACTORS = Map.of(
+            SagaStep.STOCK_RESERVE,
+            response -> StockReservationPayload.from((InventoryReservationResponse) response),
+            SagaStep.PAYMENT_VERIFY,
+            response -> PaymentVerificationPayload.from((PaymentVerificationResponse) response),
+            SagaStep.ROUTE_CALCULATE,
+            response -> RouteCalculationPayload.from((HubRouteCalculationResponse) response),
+            SagaStep.HUB_DELIVERY_CREATE,
+            response -> HubDeliveryPayload.from((HubDeliveryCreateResponse) response),
+            SagaStep.LAST_MILE_DELIVERY_CREATE,
+            response -> LastMileDeliveryPayload.from((LastMileDeliveryCreateResponse) response)
+    );
+
+    private final ResponseRetention retention;
+
+    public SagaStepPayloadExtractor(
+            @Value("${saga.step-payload.response-retention:MINIMAL}") ResponseRetention retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * Step 완료 기록 (보상 데이터 / 이력 응답 축소)
+     *
+     * @param saga 대상 Saga
+     * @param step 완료된 Step
+     * @param response 외부 서비스 응답
+     */
+    public void completeStep(OrderSaga saga, SagaStep step, Object response) {
+        Object payload = extract(step, response);
+        Object historyResponse = retention == ResponseRetention.FULL ? response : payload;
+
+        saga.completeStep(step, payload, historyResponse);
+    }
+
+    /**
+     * 병렬 Step 완료 기록 (보상 데이터 / 이력 응답 축소)
+     *
+     * @param saga 대상 Saga
+     * @param step 완료된 병렬 Step
+     * @param response 외부 서비스 응답
+     */
+    public void completeParallelStep(OrderSaga saga, SagaStep step, Object response) {
+        Object payload = extract(step, response);
+        Object historyResponse = retention == ResponseRetention.FULL ? response : payload;
+
+        saga.completeParallelStep(step, payload, historyResponse);
+    }
+
+    /**
+     * Step 응답에서 보상 / 이력용 축소 레코드 추출
+     */
+    public Object extract(SagaStep step, Object response) {
+        Function<Object, Object> extractor = EXTRACTORS.get(step);
+        if (extractor == null || response == null) {
+            return response;
+        }
+        return extractor.apply(response);
+    }
+}
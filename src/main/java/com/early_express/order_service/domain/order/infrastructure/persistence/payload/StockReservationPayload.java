@@ -0,0 +1,52 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreRequest;
+
+import java.util.List;
+
+/**
+ * 재고 예약 보상 데이터
+ * 재고 복원(STOCK_RESTORE)에 필요한 예약 ID와 예약 성공 항목만 보관
+ * 필드명은 InventoryReservationResponse와 같아 기존에 전체 응답으로 저장된 보상 데이터도 그대로 읽힘
+ *
+ * @param reservationId 예약 ID
+ * @param reservedItems 예약된 상품 목록 (성공 항목만)
+ */
+public record StockReservationPayload(String reservationId, List<Item> reservedItems) {
+
+    /**
+     * 예약된 상품
+     */
+    public record Item(String productId, String hubId, Integer quantity) {
+    }
+
+    public static StockReservationPayload from(InventoryReservationResponse response) {
+        List<Item> items = response.getReservedItems() == null
+                ? List.of()
+                : response.getReservedItems().stream()
+                        .filter(item -> Boolean.TRUE.equals(item.getSuccess()))
+                        .map(item -> new Item(item.getProductId(), item.getHubId(), item.getQuantity()))
+                        .toList();
+
+        return new StockReservationPayload(response.getReservationId(), items);
+    }
+
+    /**
+     * 재고 복원 요청 생성
+     */
+    public InventoryRestoreRequest toRestoreRequest(String orderId, String reason) {
+        return InventoryRestoreRequest.builder()
+                .reservationId(this.reservationId)
+                .orderId(orderId)
+                .items(this.reservedItems.stream()
+                        .map(item -> InventoryRestoreRequest.RestoreItem.builder()
+                                .productId(item.productId())
+                                .hubId(item.hubId())
+                                .quantity(item.quantity())
+                                .build())
+                        .toList())
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderHubMembershipEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderHubMembershipEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 허브 → 주문 조회 테이블(p_order_hub_memberships) 갱신
+ * - OrderRepositoryImpl의 저장 경로에서만 호출 (주문 쓰기와 같은 트랜잭션)
+ * - 공급/수령 허브는 생성 이후 불변, 도착 허브만 이후에 설정/변경됨
+ */
+@Component
+@RequiredArgsConstructor
+class OrderHubMembershipWriter {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final QOrderHubMembershipEntity qMembership = QOrderHubMembershipEntity.orderHubMembershipEntity;
+
+    /**
+     * 신규 주문의 허브별 행 생성
+     *
+     * @param entity persist 완료된 주문 엔티티 (생성 시각 확정 상태)
+     */
+    void insert(OrderEntity entity) {
+        for (String hubId : hubIdsOf(entity.getSupplierHubId(), entity.getReceiverHubId(), entity.getDestinationHubId())) {
+            entityManager.persist(OrderHubMembershipEntity.of(
+                    hubId,
+                    entity.getId(),
+                    entity.getCreatedAt(),
+                    entity.getStatus()
+            ));
+        }
+    }
+
+    /**
+     * 기존 주문 변경 반영 (이전 저장 값과 비교해 바뀐 것만)
+     * - 상태: 바뀌었으면 주문의 모든 허브 행을 일괄 UPDATE
+     * - 도착 허브: 바뀌었으면 이전 도착 허브 행 정리 후 추가 (공급/수령 허브와 같으면 기존 행 사용)
+     *
+     * @param statusChanged 이전 저장 이후 상태 변경 여부
+     * @param destinationHubChanged 이전 저장 이후 도착 허브 변경 여부
+     */
+    void update(Order order, boolean statusChanged, boolean destinationHubChanged) {
+        String orderId = order.getIdValue();
+
+        if (statusChanged) {
+            queryFactory.update(qMembership)
+                    .set(qMembership.status, order.getStatus())
+                    .where(qMembership.orderId.eq(orderId))
+                    .execute();
+        }
+
+        if (!destinationHubChanged) {
+            return;
+        }
+
+        String supplierHubId = order.getCompanyInfo().getSupplierHubId();
+        String receiverHubId = order.getCompanyInfo().getReceiverHubId();
+        String destinationHubId = order.getDestinationHubId();
+
+        queryFactory.delete(qMembership)
+                .where(
+                        qMembership.orderId.eq(orderId),
+                        qMembership.hubId.notIn(hubIdsOf(supplierHubId, receiverHubId, destinationHubId))
+                )
+                .execute();
+
+        if (destinationHubId == null
+                || destinationHubId.equals(supplierHubId)
+                || destinationHubId.equals(receiverHubId)) {
+            return;
+        }
+
+        entityManager.persist(OrderHubMembershipEntity.of(
+                destinationHubId,
+                orderId,
+                order.getCreatedAt(),
+                order.getStatus()
+        ));
+    }
+
+    void deleteAll() {
+        queryFactory.delete(qMembership).execute();
+    }
+
+    private Set<String> hubIdsOf(String supplierHubId, String receiverHubId, String destinationHubId) {
+        Set<String> hubIds = new LinkedHashSet<>();
+        hubIds.add(supplierHubId);
+        hubIds.add(receiverHubId);
+        if (destinationHubId != null) {
+            hubIds.add(destinationHubId);
+        }
+        return hubIds;
+    }
+}
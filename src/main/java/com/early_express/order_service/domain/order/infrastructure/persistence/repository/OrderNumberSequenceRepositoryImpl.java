@@ -0,0 +1,49 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.domain.repository.OrderNumberSequenceRepository;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderNumberCounterEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OrderNumberCounterJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 번호 일련번호 Repository 구현체
+ * 날짜별 카운터 행을 잠그고 증가시켜 구간을 임대 (인스턴스 간 구간 중복 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderNumberSequenceRepositoryImpl implements OrderNumberSequenceRepository {
+
+    private final OrderNumberCounterJpaRepository counterJpaRepository;
+
+    /**
+     * 구간 임대
+     * - 별도 트랜잭션으로 즉시 커밋해 행 잠금을 짧게 유지
+     * - 날짜의 첫 임대일 때만 카운터 행 생성 후 다시 잠금 조회
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocateBlock(LocalDate date, int blockSize) {
+        OrderNumberCounterEntity counter = counterJpaRepository.findForUpdate(date)
+                .orElseGet(() -> {
+                    counterJpaRepository.insertIfAbsent(date);
+                    return counterJpaRepository.findForUpdate(date)
+                            .orElseThrow(() -> new IllegalStateException(
+                                    "주문 번호 카운터를 생성하지 못했습니다: " + date));
+                });
+
+        return counter.lease(blockSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findLastSequence(LocalDate date) {
+        return counterJpaRepository.findById(date)
+                .map(OrderNumberCounterEntity::getLastSequence)
+                .orElse(0L);
+    }
+}
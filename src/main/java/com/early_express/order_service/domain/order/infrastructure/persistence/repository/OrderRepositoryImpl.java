@@ -4,24 +4,45 @@ import com.early_express.order_service.domain.order.domain.exception.OrderErrorC
 import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.Order;
 import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderNumber;
 import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSearchCondition;
 import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderHubMembershipEntity;
 import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderSagaEntity;
 import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OrderJpaRepository;
+import com.early_express.order_service.global.common.dto.Cursor;
+import com.early_express.order_service.global.common.utils.UuidUtils;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Order Repository 구현체
@@ -33,7 +54,32 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+    private final QueryCountCache countCache;
+    private final OrderHubMembershipWriter membershipWriter;
+    private final RouteInfoStore routeInfoStore;
     private final QOrderEntity qOrder = QOrderEntity.orderEntity;
+    private final QOrderHubMembershipEntity qMembership = QOrderHubMembershipEntity.orderHubMembershipEntity;
+
+    /**
+     * 목록 조회용 요약 Projection
+     */
+    private final ConstructorExpression<OrderSummary> orderSummary = Projections.constructor(
+            OrderSummary.class,
+            qOrder.id,
+            qOrder.orderNumber,
+            qOrder.status,
+            qOrder.supplierCompanyId,
+            qOrder.receiverCompanyId,
+            qOrder.productId,
+            qOrder.quantity,
+            qOrder.totalAmount,
+            qOrder.receiverName,
+            qOrder.requestedDeliveryDate,
+            qOrder.requestedDeliveryTime,
+            qOrder.createdAt
+    );
 
 //    @Override
 //    public Order save(Order order) {
@@ -54,45 +100,199 @@ public class OrderRepositoryImpl implements OrderRepository {
     @Override
     @Transactional
     public Order save(Order order) {
-        OrderEntity entity;
+        if (order.getId() == null) {
+            // 신규 주문 생성 (버전 null → persist, 사전 조회 없음)
+            routeInfoStore.store(order.getAiCalculationResult().getRouteInfo());
+            OrderEntity entity = orderJpaRepository.save(OrderEntity.fromDomain(order));
+            membershipWriter.insert(entity);
+            return entity.toDomain();
+        }
+
+        // 현재 영속성 컨텍스트에 로딩된 엔티티가 있으면 변경 감지로 갱신
+        OrderEntity reference = entityManager.getReference(OrderEntity.class, order.getIdValue());
+        if (Hibernate.isInitialized(reference)) {
+            return updateManaged((OrderEntity) Hibernate.unproxy(reference), order);
+        }
 
-        if (order.getId() != null) {
-            // 기존 주문 업데이트
-            entity = orderJpaRepository.findById(order.getIdValue())
+        // 버전을 모르는 주문은 조회 후 갱신
+        if (order.getVersion() == null) {
+            OrderEntity entity = orderJpaRepository.findById(order.getIdValue())
                     .orElseThrow(() -> new OrderException(
                             OrderErrorCode.ORDER_NOT_FOUND,
                             "주문을 찾을 수 없습니다: " + order.getIdValue()
                     ));
+            return updateManaged(entity, order);
+        }
 
-            // 영속 상태 엔티티 업데이트 (변경 감지)
-            entity.updateFromDomain(order);
+        // 버전 기반 직접 UPDATE (SELECT 없음)
+        return updateDirectly(order);
+    }
 
-            // save() 호출은 선택적 (변경 감지로 자동 업데이트됨)
-            // 하지만 명시적으로 호출하는 것이 코드 의도를 명확히 함
-        } else {
-            // 신규 주문 생성
-            entity = OrderEntity.fromDomain(order);
-            entity = orderJpaRepository.save(entity);
+    /**
+     * 영속 상태 엔티티 갱신 (변경 감지)
+     * 여기서 flush하지 않음 - UPDATE는 트랜잭션 커밋(또는 조회 전 자동 flush) 때 다른 쓰기와 함께 실행
+     * 증가한 버전은 UPDATE 실행 시점에 엔티티 콜백으로 도메인 모델에 반영
+     */
+    private Order updateManaged(OrderEntity entity, Order order) {
+        if (order.getVersion() != null && !order.getVersion().equals(entity.getVersion())) {
+            throw concurrentModification(order);
         }
 
+        boolean statusChanged = entity.getStatus() != order.getStatus();
+        boolean destinationHubChanged = !Objects.equals(entity.getDestinationHubId(), order.getDestinationHubId());
+
+        routeInfoStore.store(order.getAiCalculationResult().getRouteInfo());
+        entity.updateFromDomain(order);
+        order.setVersion(entity.getVersion());
+        entity.onVersionIncremented(order::setVersion);
+
+        if (statusChanged || destinationHubChanged) {
+            membershipWriter.update(order, statusChanged, destinationHubChanged);
+        }
+
+        order.markPersisted();
+        return order;
+    }
+
+    /**
+     * 낙관적 락 기반 직접 UPDATE
+     * - 불변 필드(ID, 주문 번호, 업체, 상품 ID)는 제외 (OrderEntity.updateFromDomain과 동일)
+     * - 버전이 다르면 다른 요청이 먼저 수정한 것으로 판단
+     */
+    private Order updateDirectly(Order order) {
+        JPAUpdateClause update = queryFactory.update(qOrder)
+                .set(qOrder.destinationHubId, order.getDestinationHubId())
+                .set(qOrder.productHubId, order.getProductInfo().getProductHubId())
+                .set(qOrder.quantity, order.getProductInfo().getQuantity())
+                .set(qOrder.requiresHubDelivery, order.getDeliveryInfo().getRequiresHubDelivery())
+                .set(qOrder.hubDeliveryId, order.getDeliveryInfo().getHubDeliveryId())
+                .set(qOrder.lastMileDeliveryId, order.getDeliveryInfo().getLastMileDeliveryId())
+                .set(qOrder.receiverName, order.getReceiverInfo().getReceiverName())
+                .set(qOrder.receiverPhone, order.getReceiverInfo().getReceiverPhone())
+                .set(qOrder.receiverEmail, order.getReceiverInfo().getReceiverEmail())
+                .set(qOrder.deliveryAddress, order.getReceiverInfo().getDeliveryAddress())
+                .set(qOrder.deliveryAddressDetail, order.getReceiverInfo().getDeliveryAddressDetail())
+                .set(qOrder.deliveryPostalCode, order.getReceiverInfo().getDeliveryPostalCode())
+                .set(qOrder.deliveryNote, order.getReceiverInfo().getDeliveryNote())
+                .set(qOrder.requestedDeliveryDate, order.getRequestInfo().getRequestedDeliveryDate())
+                .set(qOrder.requestedDeliveryTime, order.getRequestInfo().getRequestedDeliveryTime())
+                .set(qOrder.specialInstructions, order.getRequestInfo().getSpecialInstructions())
+                .set(qOrder.calculatedDepartureDeadline, order.getAiCalculationResult().getCalculatedDepartureDeadline())
+                .set(qOrder.estimatedDeliveryTime, order.getAiCalculationResult().getEstimatedDeliveryTime())
+                .set(qOrder.routeInfoHash, routeInfoStore.store(order.getAiCalculationResult().getRouteInfo()))
+                .set(qOrder.etaProvisional, order.getAiCalculationResult().isProvisional())
+                .set(qOrder.status, order.getStatus())
+                .set(qOrder.unitPrice, order.getAmountInfo().getUnitPrice())
+                .set(qOrder.totalAmount, order.getAmountInfo().getTotalAmount())
+                .set(qOrder.paymentId, order.getAmountInfo().getPaymentId())
+                .set(qOrder.pgProvider, order.getPgPaymentInfo().getPgProvider())
+                .set(qOrder.pgPaymentId, order.getPgPaymentInfo().getPgPaymentId())
+                .set(qOrder.pgPaymentKey, order.getPgPaymentInfo().getPgPaymentKey())
+                .set(qOrder.actualDepartureTime, order.getDeliveryProgressInfo().getActualDepartureTime())
+                .set(qOrder.hubArrivalTime, order.getDeliveryProgressInfo().getHubArrivalTime())
+                .set(qOrder.finalDeliveryStartTime, order.getDeliveryProgressInfo().getFinalDeliveryStartTime())
+                .set(qOrder.actualDeliveryTime, order.getDeliveryProgressInfo().getActualDeliveryTime())
+                .set(qOrder.signature, order.getDeliveryProgressInfo().getSignature())
+                .set(qOrder.actualReceiverName, order.getDeliveryProgressInfo().getActualReceiverName())
+                .set(qOrder.cancelReason, order.getCancelReason())
+                .set(qOrder.cancelledAt, order.getCancelledAt())
+                .set(qOrder.updatedAt, LocalDateTime.now())
+                .set(qOrder.version, order.getVersion() + 1);
+
+        // 감사 정보 (JPA Auditing 대체 - 벌크 UPDATE는 엔티티 리스너를 거치지 않음)
+        auditorAware.getCurrentAuditor()
+                .ifPresent(auditor -> update.set(qOrder.updatedBy, auditor));
+
+        long updated = update
+                .where(
+                        qOrder.id.eq(order.getIdValue()),
+                        qOrder.version.eq(order.getVersion())
+                )
+                .execute();
+
+        if (updated == 0) {
+            throw concurrentModification(order);
+        }
+
+        // 마지막 저장 값과 비교해 상태 / 도착 허브가 바뀐 경우에만 허브 조회 테이블 동기화
+        boolean statusChanged = order.isStatusChangedSincePersisted();
+        boolean destinationHubChanged = order.isDestinationHubChangedSincePersisted();
+        if (statusChanged || destinationHubChanged) {
+            membershipWriter.update(order, statusChanged, destinationHubChanged);
+        }
+
+        order.setVersion(order.getVersion() + 1);
+        order.markPersisted();
+        return order;
+    }
+
+    /**
+     * 엔티티 → 도메인 변환 (경로 JSON은 해시로 조회해 연결)
+     */
+    private Order toDomain(OrderEntity entity) {
+        entity.attachRouteInfo(routeInfoStore.find(entity.getRouteInfoHash()));
         return entity.toDomain();
     }
 
+    /**
+     * 목록 변환 - 경로 JSON은 LRU에 없는 해시만 한 번에 조회
+     */
+    private List<Order> toDomains(List<OrderEntity> entities) {
+        Map<String, String> routes = routeInfoStore.findAll(entities.stream()
+                .map(OrderEntity::getRouteInfoHash)
+                .toList());
+
+        return entities.stream()
+                .map(entity -> {
+                    entity.attachRouteInfo(routes.get(entity.getRouteInfoHash()));
+                    return entity.toDomain();
+                })
+                .toList();
+    }
+
+    private OrderException concurrentModification(Order order) {
+        return new OrderException(
+                OrderErrorCode.ORDER_CONCURRENT_MODIFICATION,
+                "주문이 다른 요청에 의해 변경되었습니다: " + order.getIdValue()
+        );
+    }
+
     @Override
     public void deleteAll() {
+        membershipWriter.deleteAll();
         orderJpaRepository.deleteAll();
     }
 
     @Override
     public Optional<Order> findById(OrderId orderId) {
+        if (!UuidUtils.isValid(orderId.getValue())) {
+            return Optional.empty(); // uuid 컬럼이므로 UUID 형식이 아닌 ID는 존재할 수 없음
+        }
         return orderJpaRepository.findById(orderId.getValue())
-                .map(OrderEntity::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<OrderStatus> findStatusById(OrderId orderId) {
+        if (!UuidUtils.isValid(orderId.getValue())) {
+            return Optional.empty(); // uuid 컬럼이므로 UUID 형식이 아닌 ID는 존재할 수 없음
+        }
+        OrderStatus status = queryFactory
+                .select(qOrder.status)
+                .from(qOrder)
+                .where(
+                        qOrder.id.eq(orderId.getValue()),
+                        qOrder.isDeleted.isFalse()
+                )
+                .fetchOne();
+
+        return Optional.ofNullable(status);
     }
 
     @Override
     public Optional<Order> findByOrderNumber(OrderNumber orderNumber) {
         return orderJpaRepository.findByOrderNumber(orderNumber.getValue())
-                .map(OrderEntity::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
@@ -102,28 +302,24 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public List<Order> findByCompanyId(String companyId) {
-        return orderJpaRepository.findByCompanyId(companyId).stream()
-                .map(OrderEntity::toDomain)
-                .toList();
+        return toDomains(orderJpaRepository.findByCompanyId(companyId));
     }
 
     @Override
     public List<Order> findByStatus(OrderStatus status) {
-        return orderJpaRepository.findByStatusAndIsDeletedFalse(status).stream()
-                .map(OrderEntity::toDomain)
-                .toList();
+        return toDomains(orderJpaRepository.findByStatusAndIsDeletedFalse(status));
     }
 
     @Override
     public Optional<Order> findByLastMileDeliveryId(String lastMileDeliveryId) {
         return orderJpaRepository.findByLastMileDeliveryIdAndIsDeletedFalse(lastMileDeliveryId)
-                .map(OrderEntity::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
     public Optional<Order> findByPaymentId(String paymentId) {
         return orderJpaRepository.findByPaymentIdAndIsDeletedFalse(paymentId)
-                .map(OrderEntity::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
@@ -153,34 +349,11 @@ public class OrderRepositoryImpl implements OrderRepository {
             LocalDateTime endDate,
             Pageable pageable) {
 
-        List<OrderEntity> content = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        companyIdEq(companyId),
-                        statusEq(status),
-                        createdAtBetween(startDate, endDate),
-                        qOrder.isDeleted.isFalse()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(qOrder.createdAt.desc())
-                .fetch();
-
-        long total = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        companyIdEq(companyId),
-                        statusEq(status),
-                        createdAtBetween(startDate, endDate),
-                        qOrder.isDeleted.isFalse()
-                )
-                .fetchCount();
-
-        List<Order> orders = content.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
-
-        return new PageImpl<>(orders, pageable, total);
+        return fetchPage(pageable,
+                companyIdEq(companyId),
+                statusEq(status),
+                createdAtBetween(startDate, endDate),
+                qOrder.isDeleted.isFalse());
     }
 
     /**
@@ -203,14 +376,12 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .orderBy(qOrder.calculatedDepartureDeadline.asc())
                 .fetch();
 
-        return entities.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
+        return toDomains(entities);
     }
 
     /**
      * 허브별 주문 목록 조회 (페이징)
-     * - supplierHubId, receiverHubId, destinationHubId 중 하나라도 일치하면 조회
+     * - supplierHubId, receiverHubId, destinationHubId 중 하나라도 일치하면 조회 (허브 조회 테이블 경유)
      *
      * @param hubId 허브 ID
      * @param pageable 페이징 정보
@@ -218,30 +389,9 @@ public class OrderRepositoryImpl implements OrderRepository {
      */
     @Override
     public Page<Order> findByHubId(String hubId, Pageable pageable) {
-        List<OrderEntity> content = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        hubIdEq(hubId),
-                        qOrder.isDeleted.isFalse()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(qOrder.createdAt.desc())
-                .fetch();
-
-        long total = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        hubIdEq(hubId),
-                        qOrder.isDeleted.isFalse()
-                )
-                .fetchCount();
-
-        List<Order> orders = content.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
-
-        return new PageImpl<>(orders, pageable, total);
+        return fetchPage(pageable,
+                hubIdEq(hubId, null, null, null),
+                qOrder.isDeleted.isFalse());
     }
 
     /**
@@ -263,34 +413,11 @@ public class OrderRepositoryImpl implements OrderRepository {
             LocalDateTime endDate,
             Pageable pageable) {
 
-        List<OrderEntity> content = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        hubIdEq(hubId),
-                        statusEq(status),
-                        createdAtBetween(startDate, endDate),
-                        qOrder.isDeleted.isFalse()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(qOrder.createdAt.desc())
-                .fetch();
-
-        long total = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        hubIdEq(hubId),
-                        statusEq(status),
-                        createdAtBetween(startDate, endDate),
-                        qOrder.isDeleted.isFalse()
-                )
-                .fetchCount();
-
-        List<Order> orders = content.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
-
-        return new PageImpl<>(orders, pageable, total);
+        return fetchPage(pageable,
+                hubIdEq(hubId, status, startDate, endDate),
+                statusEq(status),
+                createdAtBetween(startDate, endDate),
+                qOrder.isDeleted.isFalse());
     }
 
     /**
@@ -310,9 +437,33 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .orderBy(qOrder.calculatedDepartureDeadline.asc())
                 .fetch();
 
-        return entities.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
+        return toDomains(entities);
+    }
+
+    /**
+     * Saga가 시작되지 않은 채 남은 접수(PENDING) 주문 조회
+     * Saga 생성(p_order_sagas)이 없는 주문만 대상
+     */
+    @Override
+    public List<Order> findStalePendingOrders(LocalDateTime createdBefore, int limit) {
+        QOrderSagaEntity qSaga = QOrderSagaEntity.orderSagaEntity;
+
+        List<OrderEntity> entities = queryFactory
+                .selectFrom(qOrder)
+                .where(
+                        qOrder.status.eq(OrderStatus.PENDING),
+                        qOrder.createdAt.before(createdBefore),
+                        qOrder.isDeleted.isFalse(),
+                        JPAExpressions.selectOne()
+                                .from(qSaga)
+                                .where(qSaga.orderId.eq(qOrder.id))
+                                .notExists()
+                )
+                .orderBy(qOrder.createdAt.asc())
+                .limit(limit)
+                .fetch();
+
+        return toDomains(entities);
     }
 
     /**
@@ -322,8 +473,11 @@ public class OrderRepositoryImpl implements OrderRepository {
      * @return 주문 (삭제된 것 포함)
      */
     public Optional<Order> findByIdIncludingDeleted(OrderId orderId) {
+        if (!UuidUtils.isValid(orderId.getValue())) {
+            return Optional.empty(); // uuid 컬럼이므로 UUID 형식이 아닌 ID는 존재할 수 없음
+        }
         return orderJpaRepository.findById(orderId.getValue())
-                .map(OrderEntity::toDomain);
+                .map(this::toDomain);
     }
 
     /**
@@ -337,34 +491,123 @@ public class OrderRepositoryImpl implements OrderRepository {
             LocalDateTime endDate,
             Pageable pageable) {
 
-        List<OrderEntity> content = queryFactory
-                .selectFrom(qOrder)
+        return fetchPage(pageable,
+                companyIdEq(companyId),
+                statusEq(status),
+                isDeletedEq(isDeleted),
+                createdAtBetween(startDate, endDate));
+    }
+
+    // ===== 목록 조회용 Read Model (Projection) =====
+    // 요약 컬럼만 SELECT - TEXT 컬럼 / Order Aggregate 복원 없음
+
+    @Override
+    public Page<OrderSummary> searchSummaries(OrderSearchCondition condition, Pageable pageable) {
+        return fetchPage(orderSummary, Function.identity(), pageable, conditionsOf(condition));
+    }
+
+    @Override
+    public Slice<OrderSummary> searchSummariesWithoutCount(OrderSearchCondition condition, Pageable pageable) {
+        return fetchSlice(orderSummary, pageable, conditionsOf(condition));
+    }
+
+    /**
+     * (created_at, id) 내림차순 기준으로 마지막 조회 위치 이후만 조회 - OFFSET / COUNT 쿼리 없음
+     */
+    @Override
+    public Slice<OrderSummary> searchSummariesByCursor(OrderSearchCondition condition, Cursor cursor, int size) {
+        BooleanExpression[] conditions = conditionsOf(condition);
+        BooleanExpression[] withCursor = Arrays.copyOf(conditions, conditions.length + 1);
+        withCursor[conditions.length] = afterCursor(cursor);
+
+        return fetchSlice(orderSummary, PageRequest.ofSize(size), withCursor);
+    }
+
+    @Override
+    public List<OrderSummary> findSummariesByCompanyId(String companyId) {
+        return queryFactory
+                .select(orderSummary)
+                .from(qOrder)
                 .where(
-                        companyIdEq(companyId),
-                        statusEq(status),
-                        isDeletedEq(isDeleted),
-                        createdAtBetween(startDate, endDate)
+                        qOrder.supplierCompanyId.eq(companyId)
+                                .or(qOrder.receiverCompanyId.eq(companyId)),
+                        qOrder.isDeleted.isFalse()
                 )
+                .orderBy(qOrder.createdAt.desc(), qOrder.id.desc())
+                .fetch();
+    }
+
+    private BooleanExpression[] conditionsOf(OrderSearchCondition condition) {
+        return new BooleanExpression[]{
+                companyIdEq(condition.companyId()),
+                hubIdEq(condition.hubId(), condition.status(), condition.startDate(), condition.endDate()),
+                statusEq(condition.status()),
+                createdAtBetween(condition.startDate(), condition.endDate()),
+                condition.includeDeleted()
+                        ? isDeletedEq(condition.isDeleted())
+                        : qOrder.isDeleted.isFalse()
+        };
+    }
+
+    // ===== 페이징 공통 =====
+
+    private Page<Order> fetchPage(Pageable pageable, BooleanExpression... conditions) {
+        return fetchPage(qOrder, this::toDomains, pageable, conditions);
+    }
+
+    /**
+     * OFFSET 페이징 + 전체 건수
+     * - 마지막 페이지 등 content만으로 전체 건수를 알 수 있으면 count 쿼리 생략
+     * - 그 외에는 단기 count 캐시 사용 (같은 조건으로 페이지 이동 시 재조회 방지)
+     */
+    private <T, R> Page<R> fetchPage(
+            Expression<T> projection,
+            Function<List<T>, List<R>> mapper,
+            Pageable pageable,
+            BooleanExpression... conditions) {
+
+        List<R> content = mapper.apply(queryFactory
+                .select(projection)
+                .from(qOrder)
+                .where(conditions)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(qOrder.createdAt.desc())
+                .orderBy(qOrder.createdAt.desc(), qOrder.id.desc())
+                .fetch());
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.get(QueryCountCache.keyOf(qOrder, conditions), () -> count(conditions)));
+    }
+
+    /**
+     * OFFSET / Keyset 공통 Slice 조회
+     * - size + 1건을 조회해 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+     */
+    private <T> Slice<T> fetchSlice(Expression<T> projection, Pageable pageable, BooleanExpression... conditions) {
+        int size = pageable.getPageSize();
+
+        List<T> content = queryFactory
+                .select(projection)
+                .from(qOrder)
+                .where(conditions)
+                .offset(pageable.getOffset())
+                .limit(size + 1L)
+                .orderBy(qOrder.createdAt.desc(), qOrder.id.desc())
                 .fetch();
 
-        long total = queryFactory
-                .selectFrom(qOrder)
-                .where(
-                        companyIdEq(companyId),
-                        statusEq(status),
-                        isDeletedEq(isDeleted),
-                        createdAtBetween(startDate, endDate)
-                )
-                .fetchCount();
+        boolean hasNext = content.size() > size;
 
-        List<Order> orders = content.stream()
-                .map(OrderEntity::toDomain)
-                .toList();
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
 
-        return new PageImpl<>(orders, pageable, total);
+    private long count(BooleanExpression... conditions) {
+        Long count = queryFactory
+                .select(qOrder.count())
+                .from(qOrder)
+                .where(conditions)
+                .fetchOne();
+
+        return count != null ? count : 0L;
     }
 
     // ===== QueryDSL 조건 메서드 =====
@@ -372,14 +615,29 @@ public class OrderRepositoryImpl implements OrderRepository {
     /**
      * 허브 ID 조건
      * - supplierHubId, receiverHubId, destinationHubId 중 하나라도 일치
+     * - 3개 컬럼 OR 대신 허브 조회 테이블의 (hub_id, created_at) 인덱스로 주문 ID를 좁힘
+     * - 상태/기간 조건도 서브쿼리에 함께 적용 (외부 조건은 그대로 유지)
      */
-    private BooleanExpression hubIdEq(String hubId) {
+    private BooleanExpression hubIdEq(
+            String hubId,
+            OrderStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+
         if (hubId == null) {
             return null;
         }
-        return qOrder.supplierHubId.eq(hubId)
-                .or(qOrder.receiverHubId.eq(hubId))
-                .or(qOrder.destinationHubId.eq(hubId));
+        return qOrder.id.in(
+                JPAExpressions
+                        .select(qMembership.orderId)
+                        .from(qMembership)
+                        .where(
+                                qMembership.hubId.eq(hubId),
+                                status != null ? qMembership.status.eq(status) : null,
+                                startDate != null ? qMembership.createdAt.goe(startDate) : null,
+                                endDate != null ? qMembership.createdAt.loe(endDate) : null
+                        )
+        );
     }
 
 
@@ -399,6 +657,21 @@ public class OrderRepositoryImpl implements OrderRepository {
         return isDeleted != null ? qOrder.isDeleted.eq(isDeleted) : null;
     }
 
+    /**
+     * 커서 이후 조건 - (created_at, id) < (cursor.timestamp, cursor.id)
+     */
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (!UuidUtils.isValid(cursor.getId())) {
+            throw new Cursor.CursorException("유효하지 않은 커서입니다.");
+        }
+        return qOrder.createdAt.lt(cursor.getTimestamp())
+                .or(qOrder.createdAt.eq(cursor.getTimestamp())
+                        .and(qOrder.id.lt(cursor.getId())));
+    }
+
     private BooleanExpression createdAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
         if (startDate != null && endDate != null) {
             return qOrder.createdAt.between(startDate, endDate);
@@ -1,26 +1,45 @@
 package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
 
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.SagaStepHistory;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSagaSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
 import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
 import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderSagaEntity;
 import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderSagaEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QSagaStepHistoryEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.SagaStepHistoryEntity;
 import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OrderSagaJpaRepository;
+import com.early_express.order_service.global.common.dto.Cursor;
+import com.early_express.order_service.global.common.utils.UuidUtils;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * OrderSaga Repository 구현체
@@ -31,25 +50,143 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
 
     private final OrderSagaJpaRepository sagaJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final QueryCountCache countCache;
     private final QOrderSagaEntity qSaga = QOrderSagaEntity.orderSagaEntity;
+    private final QSagaStepHistoryEntity qHistory = QSagaStepHistoryEntity.sagaStepHistoryEntity;
+
+    /**
+     * 목록 조회용 요약 Projection
+     */
+    private final ConstructorExpression<OrderSagaSummary> sagaSummary = Projections.constructor(
+            OrderSagaSummary.class,
+            qSaga.sagaId,
+            qSaga.orderId,
+            qSaga.status,
+            qSaga.currentStep,
+            qSaga.startedAt,
+            qSaga.completedAt,
+            qSaga.failureReason
+    );
 
     @Override
     @Transactional
     public OrderSaga save(OrderSaga saga) {
-        OrderSagaEntity entity;
+        if (saga.getSagaId() == null) {
+            // 신규 Saga 생성 (버전 null → persist, 사전 조회 없음)
+            OrderSagaEntity savedEntity = sagaJpaRepository.save(OrderSagaEntity.fromDomain(saga));
+            return savedEntity.toDomain();
+        }
+
+        // 현재 영속성 컨텍스트에 로딩된 엔티티가 있으면 변경 감지로 갱신
+        OrderSagaEntity reference = entityManager.getReference(OrderSagaEntity.class, saga.getSagaIdValue());
+        if (Hibernate.isInitialized(reference)) {
+            return updateManaged((OrderSagaEntity) Hibernate.unproxy(reference), saga);
+        }
 
-        // ID가 있으면 기존 엔티티 조회 후 업데이트 (Dirty Checking)
-        if (saga.getSagaId() != null) {
-            entity = sagaJpaRepository.findById(saga.getSagaIdValue())
+        // 버전을 모르는 Saga는 조회 후 갱신
+        if (saga.getVersion() == null) {
+            OrderSagaEntity entity = sagaJpaRepository.findById(saga.getSagaIdValue())
                     .orElseThrow(() -> new IllegalArgumentException("Saga not found: " + saga.getSagaIdValue()));
-            entity.updateFromDomain(saga);
-        } else {
-            // ID가 없으면 새로 생성
-            entity = OrderSagaEntity.fromDomain(saga);
+            return updateManaged(entity, saga);
         }
 
-        OrderSagaEntity savedEntity = sagaJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        // 버전 기반 직접 UPDATE (SELECT / CompensationData 역직렬화 없음)
+        return updateDirectly(saga, reference);
+    }
+
+    /**
+     * 영속 상태 엔티티 갱신 (변경 감지 + 신규 Step History INSERT)
+     * 여기서 flush하지 않음 - UPDATE/INSERT는 트랜잭션 커밋(또는 조회 전 자동 flush) 때 다른 쓰기와 함께 실행
+     * 신규 History ID는 persist 시점에 시퀀스 블록에서 할당되고,
+     * 증가한 버전은 UPDATE 실행 시점에 엔티티 콜백으로 도메인 모델에 반영
+     */
+    private OrderSaga updateManaged(OrderSagaEntity entity, OrderSaga saga) {
+        if (saga.getVersion() != null && !saga.getVersion().equals(entity.getVersion())) {
+            throw concurrentModification(saga);
+        }
+
+        Map<SagaStepHistory, SagaStepHistoryEntity> historyEntities = entity.updateFromDomain(saga);
+
+        saga.setVersion(entity.getVersion());
+        entity.onVersionIncremented(saga::setVersion);
+        saga.clearCompensationDataModified();
+
+        for (SagaStepHistory history : saga.getStepHistory()) {
+            SagaStepHistoryEntity historyEntity = historyEntities.get(history);
+            if (historyEntity.getId() == null) {
+                entityManager.persist(historyEntity);
+            }
+            history.setId(historyEntity.getId());
+            history.clearModified();
+        }
+
+        return saga;
+    }
+
+    /**
+     * 낙관적 락 기반 직접 UPDATE
+     * - Saga 헤더는 버전 조건으로 1회 UPDATE
+     * - Step History는 신규 이력만 INSERT, 변경된 이력만 UPDATE
+     */
+    private OrderSaga updateDirectly(OrderSaga saga, OrderSagaEntity reference) {
+        JPAUpdateClause update = queryFactory.update(qSaga)
+                .set(qSaga.status, saga.getStatus())
+                .set(qSaga.currentStep, saga.getCurrentStep())
+                .set(qSaga.completedAt, saga.getCompletedAt())
+                .set(qSaga.failureReason, saga.getFailureReason())
+                .set(qSaga.version, saga.getVersion() + 1);
+
+        // 보상 데이터는 변경된 경우에만 갱신 (대부분의 Step은 보상 데이터를 바꾸지 않음)
+        if (saga.getCompensationData().isModified()) {
+            update.set(qSaga.compensationData, saga.getCompensationData().toJson());
+        }
+
+        long updated = update
+                .where(
+                        qSaga.sagaId.eq(saga.getSagaIdValue()),
+                        qSaga.version.eq(saga.getVersion())
+                )
+                .execute();
+
+        if (updated == 0) {
+            throw concurrentModification(saga);
+        }
+
+        saga.setVersion(saga.getVersion() + 1);
+        saga.clearCompensationDataModified();
+
+        for (SagaStepHistory history : saga.getStepHistory()) {
+            if (history.getId() == null) {
+                SagaStepHistoryEntity historyEntity = SagaStepHistoryEntity.fromDomain(history);
+                historyEntity.setSagaIdValue(saga.getSagaIdValue());
+                historyEntity.setSaga(reference);
+                entityManager.persist(historyEntity);
+
+                history.setId(historyEntity.getId());
+            } else if (history.isModified()) {
+                queryFactory.update(qHistory)
+                        .set(qHistory.status, history.getStatus())
+                        .set(qHistory.request, history.getRequest())
+                        .set(qHistory.response, history.getResponse())
+                        .set(qHistory.errorMessage, history.getErrorMessage())
+                        .set(qHistory.completedAt, history.getCompletedAt())
+                        .set(qHistory.retryCount, history.getRetryCount())
+                        .where(qHistory.id.eq(history.getId()))
+                        .execute();
+            }
+
+            history.clearModified();
+        }
+
+        return saga;
+    }
+
+    private SagaException concurrentModification(OrderSaga saga) {
+        return new SagaException(
+                OrderErrorCode.SAGA_CONCURRENT_MODIFICATION,
+                "Saga가 다른 요청에 의해 변경되었습니다: " + saga.getSagaIdValue()
+        );
     }
 
     @Override
@@ -59,6 +196,9 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
 
     @Override
     public Optional<OrderSaga> findById(SagaId sagaId) {
+        if (!UuidUtils.isValid(sagaId.getValue())) {
+            return Optional.empty(); // uuid 컬럼이므로 UUID 형식이 아닌 ID는 존재할 수 없음
+        }
         return sagaJpaRepository.findById(sagaId.getValue())
                 .map(OrderSagaEntity::toDomain);
     }
@@ -66,12 +206,18 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
     @Override
     @Transactional
     public Optional<OrderSaga> findByOrderId(OrderId orderId) {
+        if (!UuidUtils.isValid(orderId.getValue())) {
+            return Optional.empty(); // uuid 컬럼이므로 UUID 형식이 아닌 ID는 존재할 수 없음
+        }
         return sagaJpaRepository.findByOrderId(orderId.getValue())
                 .map(OrderSagaEntity::toDomain);
     }
 
     @Override
     public boolean existsByOrderId(OrderId orderId) {
+        if (!UuidUtils.isValid(orderId.getValue())) {
+            return false;
+        }
         return sagaJpaRepository.existsByOrderId(orderId.getValue());
     }
 
@@ -103,6 +249,8 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
 
     /**
      * Saga 검색 (동적 쿼리)
+     * - 마지막 페이지 등 content만으로 전체 건수를 알 수 있으면 count 쿼리 생략
+     * - 그 외에는 단기 count 캐시 사용
      */
     public Page<OrderSaga> searchSagas(
             SagaStatus status,
@@ -110,30 +258,105 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
             LocalDateTime endDate,
             Pageable pageable) {
 
-        List<OrderSagaEntity> content = queryFactory
-                .selectFrom(qSaga)
-                .where(
-                        statusEq(status),
-                        startedAtBetween(startDate, endDate)
-                )
+        return fetchPage(qSaga, OrderSagaEntity::toDomain, pageable,
+                statusEq(status),
+                startedAtBetween(startDate, endDate));
+    }
+
+    // ===== 목록 조회용 Read Model (Projection) =====
+    // 요약 컬럼만 SELECT - compensation_data / Step 이력 로딩 없음
+
+    @Override
+    public Page<OrderSagaSummary> searchSagaSummaries(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable) {
+
+        return fetchPage(sagaSummary, Function.identity(), pageable,
+                statusEq(status),
+                startedAtBetween(startDate, endDate));
+    }
+
+    /**
+     * count 쿼리 없이 size + 1건 조회로 다음 페이지 존재 여부만 판단
+     */
+    @Override
+    public Slice<OrderSagaSummary> searchSagaSummariesWithoutCount(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable) {
+
+        return fetchSlice(pageable,
+                statusEq(status),
+                startedAtBetween(startDate, endDate));
+    }
+
+    /**
+     * (started_at, saga_id) 내림차순 기준으로 마지막 조회 위치 이후만 조회 - OFFSET / COUNT 쿼리 없음
+     */
+    @Override
+    public Slice<OrderSagaSummary> searchSagaSummariesByCursor(
+            SagaStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Cursor cursor,
+            int size) {
+
+        return fetchSlice(PageRequest.ofSize(size),
+                statusEq(status),
+                startedAtBetween(startDate, endDate),
+                afterCursor(cursor));
+    }
+
+    private <T, R> Page<R> fetchPage(
+            Expression<T> projection,
+            Function<T, R> mapper,
+            Pageable pageable,
+            BooleanExpression... conditions) {
+
+        List<R> content = queryFactory
+                .select(projection)
+                .from(qSaga)
+                .where(conditions)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(qSaga.startedAt.desc())
+                .orderBy(qSaga.startedAt.desc(), qSaga.sagaId.desc())
+                .fetch()
+                .stream()
+                .map(mapper)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.get(QueryCountCache.keyOf(qSaga, conditions), () -> count(conditions)));
+    }
+
+    private Slice<OrderSagaSummary> fetchSlice(Pageable pageable, BooleanExpression... conditions) {
+        int size = pageable.getPageSize();
+
+        List<OrderSagaSummary> content = queryFactory
+                .select(sagaSummary)
+                .from(qSaga)
+                .where(conditions)
+                .offset(pageable.getOffset())
+                .limit(size + 1L)
+                .orderBy(qSaga.startedAt.desc(), qSaga.sagaId.desc())
                 .fetch();
 
-        long total = queryFactory
-                .selectFrom(qSaga)
-                .where(
-                        statusEq(status),
-                        startedAtBetween(startDate, endDate)
-                )
-                .fetchCount();
+        boolean hasNext = content.size() > size;
 
-        List<OrderSaga> sagas = content.stream()
-                .map(OrderSagaEntity::toDomain)
-                .toList();
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
+
+    private long count(BooleanExpression... conditions) {
+        Long count = queryFactory
+                .select(qSaga.count())
+                .from(qSaga)
+                .where(conditions)
+                .fetchOne();
 
-        return new PageImpl<>(sagas, pageable, total);
+        return count != null ? count : 0L;
     }
 
     /**
@@ -191,6 +414,21 @@ public class OrderSagaRepositoryImpl implements OrderSagaRepository {
 
     // ===== QueryDSL 조건 메서드 =====
 
+    /**
+     * 커서 이후 조건 - (started_at, saga_id) < (cursor.timestamp, cursor.id)
+     */
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (!UuidUtils.isValid(cursor.getId())) {
+            throw new Cursor.CursorException("유효하지 않은 커서입니다.");
+        }
+        return qSaga.startedAt.lt(cursor.getTimestamp())
+                .or(qSaga.startedAt.eq(cursor.getTimestamp())
+                        .and(qSaga.sagaId.lt(cursor.getId())));
+    }
+
     private BooleanExpression statusEq(SagaStatus status) {
         return status != null ? qSaga.status.eq(status) : null;
     }
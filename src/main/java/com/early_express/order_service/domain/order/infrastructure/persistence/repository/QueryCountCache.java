@@ -0,0 +1,62 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회 전체 건수(count) 단기 캐시
+ *
+ * - 정규화된 검색 조건(Predicate 문자열)을 키로 count 결과를 TTL 동안 재사용
+ * - 페이지 이동마다 같은 조건의 count 쿼리가 반복 실행되는 것을 방지
+ * - Caffeine 캐시 (maximumSize + expireAfterWrite), 가득 차면 자주 쓰이지 않는 키부터 제거
+ * - 같은 키의 동시 요청은 count를 한 번만 실행
+ * - 짧은 TTL 동안은 신규/삭제 건이 전체 건수에 반영되지 않을 수 있음 (목록 화면 표시용)
+ * - ttl-seconds 가 0 이하이면 캐시 비활성 (항상 count 실행)
+ */
+@Component
+public class QueryCountCache {
+
+    /**
+     * count 캐시 (비활성이면 null)
+     */
+    private final Cache<String, Long> cache;
+
+    public QueryCountCache(
+            @Value("${order.query.count-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${order.query.count-cache.max-entries:1000}") int maxEntries) {
+        this.cache = ttlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxEntries)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .build()
+                : null;
+    }
+
+    /**
+     * 검색 조건으로 캐시 키 생성
+     *
+     * @param target 조회 대상 (Q타입 등 엔티티 식별용)
+     * @param conditions 검색 조건 (null 조건은 무시)
+     */
+    public static String keyOf(Object target, Predicate... conditions) {
+        Predicate predicate = ExpressionUtils.allOf(conditions);
+        return target + "|" + (predicate != null ? predicate : "ALL");
+    }
+
+    /**
+     * 캐시된 count 반환, 없거나 만료되었으면 loader 실행 후 저장
+     */
+    public long get(String key, LongSupplier loader) {
+        if (cache == null) {
+            return loader.getAsLong();
+        }
+        return cache.get(key, k -> loader.getAsLong());
+    }
+}
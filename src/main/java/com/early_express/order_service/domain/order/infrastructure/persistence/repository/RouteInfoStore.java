@@ -0,0 +1,142 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.RouteInfoEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.RouteInfoJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 경로 정보 내용 주소 저장소
+ *
+ * - 경로 JSON은 내용 해시(SHA-256) 기준으로 p_route_infos에 한 번만 저장하고 주문은 해시만 보관
+ * - 자주 쓰이는 경로는 프로세스 내 LRU에 보관해 저장 / 조회 시 DB 접근 생략
+ * - LRU 반영은 트랜잭션 커밋 이후 (롤백된 경로가 캐시에 남아 저장이 생략되는 것을 방지)
+ * - max-entries 가 0 이하이면 LRU 비활성 (항상 DB 사용)
+ */
+@Component
+public class RouteInfoStore {
+
+    private final RouteInfoJpaRepository routeInfoJpaRepository;
+    private final int maxEntries;
+    private final Map<String, String> hotRoutes;
+
+    public RouteInfoStore(
+            RouteInfoJpaRepository routeInfoJpaRepository,
+            @Value("${order.route-info.cache.max-entries:1000}") int maxEntries) {
+        this.routeInfoJpaRepository = routeInfoJpaRepository;
+        this.maxEntries = maxEntries;
+        this.hotRoutes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > RouteInfoStore.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 경로 정보 저장 (이미 저장된 경로면 생략)
+     *
+     * @return 내용 해시 (경로 정보가 없으면 null)
+     */
+    public String store(String routeInfo) {
+        String contentHash = RouteInfoEntity.hashOf(routeInfo);
+        if (contentHash == null || cached(contentHash) != null) {
+            return contentHash;
+        }
+
+        routeInfoJpaRepository.insertIfAbsent(contentHash, routeInfo);
+        cacheAfterCommit(contentHash, routeInfo);
+        return contentHash;
+    }
+
+    /**
+     * 해시로 경로 정보 조회
+     */
+    public String find(String contentHash) {
+        if (contentHash == null) {
+            return null;
+        }
+
+        String routeInfo = cached(contentHash);
+        if (routeInfo != null) {
+            return routeInfo;
+        }
+
+        return routeInfoJpaRepository.findById(contentHash)
+                .map(entity -> {
+                    cacheAfterCommit(entity.getContentHash(), entity.getRouteInfo());
+                    return entity.getRouteInfo();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 해시 목록으로 경로 정보 일괄 조회 (LRU에 없는 해시만 한 번에 조회)
+     *
+     * @return 해시 → 경로 JSON
+     */
+    public Map<String, String> findAll(Collection<String> contentHashes) {
+        Map<String, String> routes = new HashMap<>();
+        List<String> misses = contentHashes.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(contentHash -> {
+                    String routeInfo = cached(contentHash);
+                    if (routeInfo == null) {
+                        return true;
+                    }
+                    routes.put(contentHash, routeInfo);
+                    return false;
+                })
+                .toList();
+
+        if (!misses.isEmpty()) {
+            for (RouteInfoEntity entity : routeInfoJpaRepository.findByContentHashIn(misses)) {
+                routes.put(entity.getContentHash(), entity.getRouteInfo());
+                cacheAfterCommit(entity.getContentHash(), entity.getRouteInfo());
+            }
+        }
+        return routes;
+    }
+
+    private String cached(String contentHash) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        synchronized (hotRoutes) {
+            return hotRoutes.get(contentHash);
+        }
+    }
+
+    private void cacheAfterCommit(String contentHash, String routeInfo) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache(contentHash, routeInfo);
+                }
+            });
+        } else {
+            cache(contentHash, routeInfo);
+        }
+    }
+
+    private void cache(String contentHash, String routeInfo) {
+        synchronized (hotRoutes) {
+            hotRoutes.put(contentHash, routeInfo);
+        }
+    }
+}
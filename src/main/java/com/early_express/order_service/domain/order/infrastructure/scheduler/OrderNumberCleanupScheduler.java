@@ -3,13 +3,14 @@ package com.early_express.order_service.domain.order.infrastructure.scheduler;
 import com.early_express.order_service.domain.order.application.service.OrderNumberGeneratorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 주문번호 카운터 정리 스케줄러
  *
- * 매일 자정에 이전 날짜의 카운터를 메모리에서 제거하여
+ * 매일 자정에 이전 날짜의 임대 구간을 메모리에서 제거하여
  * 메모리 누수를 방지합니다.
  */
 @Slf4j
@@ -19,6 +20,9 @@ public class OrderNumberCleanupScheduler {
 
     private final OrderNumberGeneratorService orderNumberGeneratorService;
 
+    @Value("${order.number.low-capacity-threshold:5000}")
+    private int lowCapacityThreshold;
+
     /**
      * 매일 자정 1시에 이전 날짜 카운터 정리
      * Cron: 초 분 시 일 월 요일
@@ -48,8 +52,8 @@ public class OrderNumberCleanupScheduler {
             log.info("주문번호 생성 현황 - 현재: {}, 남은 용량: {}",
                     currentSequence, remainingCapacity);
 
-            // 용량 부족 경고 (남은 개수가 50개 이하)
-            if (remainingCapacity <= 50) {
+            // 용량 부족 경고 (남은 개수가 임계값 이하)
+            if (remainingCapacity <= lowCapacityThreshold) {
                 log.warn("⚠️ 일일 주문번호 생성 용량 부족 - 남은 용량: {}", remainingCapacity);
             }
 
@@ -0,0 +1,68 @@
+package com.early_express.order_service.domain.order.infrastructure.scheduler;
+
+import com.early_express.order_service.domain.order.application.service.OrderSagaDispatcher;
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유실 주문 Saga 재위임 스케줄러
+ *
+ * 비동기 접수된 주문의 Saga는 메모리 큐(orderSagaExecutor)에서 대기하므로,
+ * 실행 전에 인스턴스가 재시작되면 주문이 PENDING으로 남습니다.
+ * 접수 후 stale-seconds가 지나도 Saga가 생성되지 않은 주문을 찾아 Worker Pool에 다시 위임합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.async-acceptance.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderSagaRecoveryScheduler {
+
+    private final OrderRepository orderRepository;
+    private final OrderSagaDispatcher sagaDispatcher;
+
+    @Value("${order.async-acceptance.recovery.stale-seconds:300}")
+    private long staleSeconds;
+
+    @Value("${order.async-acceptance.recovery.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 유실된 PENDING 주문 재위임
+     * 기동 직후 첫 점검에서 재시작 전에 접수된 주문도 복구
+     */
+    @Scheduled(
+            initialDelayString = "${order.async-acceptance.recovery.interval-ms:60000}",
+            fixedDelayString = "${order.async-acceptance.recovery.interval-ms:60000}")
+    public void redispatchStalePendingOrders() {
+        try {
+            List<Order> staleOrders = orderRepository.findStalePendingOrders(
+                    LocalDateTime.now().minusSeconds(staleSeconds), batchSize);
+
+            if (staleOrders.isEmpty()) {
+                return;
+            }
+
+            int redispatched = 0;
+            for (Order order : staleOrders) {
+                if (!sagaDispatcher.redispatch(order)) {
+                    break;
+                }
+                redispatched++;
+            }
+
+            log.warn("유실 주문 Saga 재위임 - 대상: {}, 위임: {}", staleOrders.size(), redispatched);
+
+        } catch (Exception e) {
+            log.error("유실 주문 Saga 재위임 실패", e);
+        }
+    }
+}
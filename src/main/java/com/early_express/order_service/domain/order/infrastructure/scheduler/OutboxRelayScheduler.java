@@ -0,0 +1,81 @@
+package com.early_express.order_service.domain.order.infrastructure.scheduler;
+
+import com.early_express.order_service.domain.order.infrastructure.messaging.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 릴레이 스케줄러
+ *
+ * poll-interval 마다 Outbox를 배치 단위로 비우고,
+ * 한 배치가 가득 찬 경우 다음 주기를 기다리지 않고 연속으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.relay.retention-hours:72}")
+    private long retentionHours;
+
+    /**
+     * Outbox 발행
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                int relayed = outboxRelay.relayBatch();
+                if (relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 재시도 한도를 넘긴(FAILED) 이벤트 점검
+     * 자동으로 다시 발행되지 않으므로 남아 있는 동안 ERROR 로그로 알림 (원인 해결 후 OutboxRelay.requeueFailed로 재발행)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.failed-alert-interval-ms:60000}")
+    public void alertFailedEvents() {
+        try {
+            long failed = outboxRelay.countFailedEvents();
+            if (failed > 0) {
+                log.error("Outbox 발행 실패 이벤트 존재 - FAILED: {}", failed);
+            }
+        } catch (Exception e) {
+            log.error("Outbox 실패 이벤트 점검 실패", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 3시에 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void purgeSentEvents() {
+        try {
+            int deleted = outboxRelay.purgeSentEvents(LocalDateTime.now().minusHours(retentionHours));
+            log.info("Outbox 발행 완료 이벤트 정리 - 삭제: {}", deleted);
+        } catch (Exception e) {
+            log.error("Outbox 정리 실패", e);
+        }
+    }
+}
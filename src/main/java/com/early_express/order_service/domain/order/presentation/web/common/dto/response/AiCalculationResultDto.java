@@ -17,6 +17,7 @@ public class AiCalculationResultDto {
     private LocalDateTime calculatedDepartureDeadline;
     private LocalDateTime estimatedDeliveryTime;
     private String aiMessage;
+    private boolean provisional;
 
     public static AiCalculationResultDto from(AiCalculationResult aiResult) {
         return AiCalculationResultDto.builder()
@@ -24,6 +25,7 @@ public class AiCalculationResultDto {
                 .calculatedDepartureDeadline(aiResult.getCalculatedDepartureDeadline())
                 .estimatedDeliveryTime(aiResult.getEstimatedDeliveryTime())
                 .aiMessage(aiResult.getAiMessage())
+                .provisional(aiResult.isProvisional())
                 .build();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.early_express.order_service.domain.order.presentation.web.common.dto
 
 import com.early_express.order_service.domain.order.domain.model.Order;
 import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -60,4 +61,26 @@ public class OrderSimpleResponse {
                 .createdAt(order.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Read Model → DTO 변환 (목록 조회용 Projection)
+     */
+    public static OrderSimpleResponse from(OrderSummary summary) {
+        return OrderSimpleResponse.builder()
+                .orderId(summary.orderId())
+                .orderNumber(summary.orderNumber())
+                .status(summary.status())
+                .statusDescription(summary.status().getDescription())
+                .supplierCompanyId(summary.supplierCompanyId())
+                .receiverCompanyId(summary.receiverCompanyId())
+                .productId(summary.productId())
+                .quantity(summary.quantity())
+                .totalAmount(summary.totalAmount())
+                .receiverName(summary.receiverName())
+                .requestedDeliveryDate(summary.requestedDeliveryDate().atTime(
+                        summary.requestedDeliveryTime()
+                ))
+                .createdAt(summary.createdAt())
+                .build();
+    }
+}
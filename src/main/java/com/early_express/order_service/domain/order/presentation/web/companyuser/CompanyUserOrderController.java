@@ -3,19 +3,31 @@ package com.early_express.order_service.domain.order.presentation.web.companyuse
 import com.early_express.order_service.domain.order.application.dto.OrderCreateCommand;
 import com.early_express.order_service.domain.order.application.service.OrderCommandService;
 import com.early_express.order_service.domain.order.application.service.OrderQueryService;
+import com.early_express.order_service.domain.order.application.service.OrderStatusChangeNotifier;
 import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
 import com.early_express.order_service.domain.order.presentation.web.common.dto.response.OrderSimpleResponse;
 import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.request.OrderCancelRequest;
 import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.request.OrderCreateRequest;
+import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response.OrderAcceptedResponse;
 import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response.OrderCreateResponse;
 import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response.OrderDetailResponse;
+import com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response.OrderStatusResponse;
 import com.early_express.order_service.global.presentation.dto.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Company User Order Controller
@@ -29,6 +41,10 @@ public class CompanyUserOrderController {
 
     private final OrderCommandService orderCommandService;
     private final OrderQueryService orderQueryService;
+    private final OrderStatusChangeNotifier statusChangeNotifier;
+
+    @Value("${order.async-acceptance.max-wait-seconds:30}")
+    private long maxWaitSeconds;
 
     /**
      * 주문 생성
@@ -51,6 +67,95 @@ public class CompanyUserOrderController {
         return ApiResponse.success(response, "주문이 생성되었습니다.");
     }
 
+    /**
+     * 주문 비동기 접수
+     * POST /v1/order/web/company-user/orders/async
+     *
+     * 주문을 PENDING으로 저장한 뒤 202 Accepted를 반환하고,
+     * 재고 예약/결제 검증 등 Saga는 Worker Pool에서 처리합니다.
+     */
+    @PostMapping("/orders/async")
+    public ResponseEntity<ApiResponse<OrderAcceptedResponse>> acceptOrder(
+            @Valid @RequestBody OrderCreateRequest request,
+            @RequestHeader("X-User-Id") String userId) {
+
+        log.info("주문 비동기 접수 요청 - userId: {}, productId: {}",
+                userId, request.getProductId());
+
+        OrderCreateCommand command = request.toCommand(userId);
+        Order order = orderCommandService.acceptOrder(command);
+
+        URI statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/v1/order/web/company-user/orders/{id}/status")
+                .buildAndExpand(order.getIdValue())
+                .toUri();
+
+        // Domain → DTO 변환
+        OrderAcceptedResponse response = OrderAcceptedResponse.from(order, statusUri.getPath());
+
+        return ResponseEntity.accepted()
+                .location(statusUri)
+                .body(ApiResponse.success(response, "주문이 접수되었습니다."));
+    }
+
+    /**
+     * 주문 상태 조회 (Polling / Long-Polling)
+     * GET /v1/order/web/company-user/orders/{id}/status?lastStatus=PENDING&waitSeconds=20
+     *
+     * lastStatus와 현재 상태가 같으면 상태가 바뀌거나 waitSeconds가 지날 때까지 응답을 보류합니다.
+     * 대기 중에는 요청 스레드를 점유하지 않습니다.
+     */
+    @GetMapping("/orders/{id}/status")
+    public DeferredResult<ApiResponse<OrderStatusResponse>> getOrderStatus(
+            @PathVariable String id,
+            @RequestParam(required = false) OrderStatus lastStatus,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+
+        if (lastStatus == null || waitSeconds <= 0) {
+            return completed(currentStatus(id));
+        }
+
+        // 알림 누락을 막기 위해 대기 등록 후 현재 상태 확인
+        CompletableFuture<Void> waiter = statusChangeNotifier.awaitChange(id);
+        OrderStatus current = orderQueryService.getOrderStatus(id);
+
+        if (current != lastStatus || current.isFinalState()) {
+            statusChangeNotifier.release(id, waiter);
+            return completed(ApiResponse.success(OrderStatusResponse.of(id, current)));
+        }
+
+        long timeoutMillis = Math.min(waitSeconds, maxWaitSeconds) * 1000L;
+        DeferredResult<ApiResponse<OrderStatusResponse>> result = new DeferredResult<>(timeoutMillis);
+
+        // 알림 전용 풀에서 응답 (Saga Worker 스레드에서 조회하지 않음), 조회 실패는 예외 처리기로 전달
+        waiter.thenRun(() -> result.setResult(currentStatus(id)))
+                .exceptionally(e -> {
+                    log.warn("주문 상태 조회 실패 - orderId: {}, error: {}", id, e.getMessage());
+                    result.setErrorResult(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    return null;
+                });
+        result.onTimeout(() -> {
+            statusChangeNotifier.release(id, waiter);
+            result.setResult(currentStatus(id));
+        });
+
+        return result;
+    }
+
+    private DeferredResult<ApiResponse<OrderStatusResponse>> completed(
+            ApiResponse<OrderStatusResponse> response) {
+
+        DeferredResult<ApiResponse<OrderStatusResponse>> result = new DeferredResult<>();
+        result.setResult(response);
+        return result;
+    }
+
+    private ApiResponse<OrderStatusResponse> currentStatus(String orderId) {
+        return ApiResponse.success(
+                OrderStatusResponse.of(orderId, orderQueryService.getOrderStatus(orderId))
+        );
+    }
+
     /**
      * 내 주문 목록 조회
      * GET /v1/order/web/company-user/my-orders
@@ -61,9 +166,9 @@ public class CompanyUserOrderController {
 
         log.info("내 주문 목록 조회 - companyId: {}", companyId);
 
-        List<Order> orders = orderQueryService.getOrdersByCompanyId(companyId);
+        List<OrderSummary> orders = orderQueryService.getOrderSummariesByCompanyId(companyId);
 
-        // Domain → DTO 변환
+        // Read Model → DTO 변환
         List<OrderSimpleResponse> responses = orders.stream()
                 .map(OrderSimpleResponse::from)
                 .toList();
@@ -0,0 +1,46 @@
+package com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response;
+
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 접수 응답 DTO (Company User)
+ * 비동기 접수(202 Accepted) 직후 반환되는 정보
+ */
+@Getter
+@Builder
+public class OrderAcceptedResponse {
+
+    private String orderId;
+    private String orderNumber;
+    private OrderStatus status;
+    private String statusDescription;
+
+    // 상태 조회 URL
+    private String statusUrl;
+
+    // 접수 시간
+    private LocalDateTime createdAt;
+
+    // 메시지
+    private String message;
+
+    /**
+     * Domain → DTO 변환
+     */
+    public static OrderAcceptedResponse from(Order order, String statusUrl) {
+        return OrderAcceptedResponse.builder()
+                .orderId(order.getIdValue())
+                .orderNumber(order.getOrderNumberValue())
+                .status(order.getStatus())
+                .statusDescription(order.getStatus().getDescription())
+                .statusUrl(statusUrl)
+                .createdAt(order.getCreatedAt())
+                .message("주문이 접수되었습니다. 상태 조회 URL에서 처리 결과를 확인해주세요.")
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.early_express.order_service.domain.order.presentation.web.companyuser.dto.response;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 주문 상태 응답 DTO (Company User)
+ * 비동기 접수 이후 상태 조회(Polling / Long-Polling)용 경량 응답
+ */
+@Getter
+@Builder
+public class OrderStatusResponse {
+
+    private String orderId;
+    private OrderStatus status;
+    private String statusDescription;
+
+    // 접수 처리 진행 중 여부 (재고 확인 ~ 결제 검증)
+    private boolean acceptanceInProgress;
+
+    // 최종 상태 여부 (완료/취소/실패)
+    private boolean finalState;
+
+    /**
+     * Domain → DTO 변환
+     */
+    public static OrderStatusResponse of(String orderId, OrderStatus status) {
+        return OrderStatusResponse.builder()
+                .orderId(orderId)
+                .status(status)
+                .statusDescription(status.getDescription())
+                .acceptanceInProgress(status.isAcceptanceInProgress())
+                .finalState(status.isFinalState())
+                .build();
+    }
+}
@@ -3,18 +3,23 @@ package com.early_express.order_service.domain.order.presentation.web.hubmanager
 import com.early_express.order_service.domain.order.application.service.OrderCommandService;
 import com.early_express.order_service.domain.order.application.service.OrderQueryService;
 import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
+import com.early_express.order_service.domain.order.domain.repository.OrderSearchCondition;
 import com.early_express.order_service.domain.order.presentation.web.common.dto.response.OrderSimpleResponse;
 import com.early_express.order_service.domain.order.presentation.web.hubmanager.dto.request.HubOrderSearchRequest;
 import com.early_express.order_service.domain.order.presentation.web.hubmanager.dto.request.OrderUpdateRequest;
 import com.early_express.order_service.domain.order.presentation.web.hubmanager.dto.response.HubOrderDetailResponse;
+import com.early_express.order_service.global.common.dto.Cursor;
 import com.early_express.order_service.global.common.dto.PageInfo;
+import com.early_express.order_service.global.common.utils.PageUtils;
 import com.early_express.order_service.global.presentation.dto.ApiResponse;
+import com.early_express.order_service.global.presentation.dto.CursorPageResponse;
 import com.early_express.order_service.global.presentation.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
@@ -37,18 +42,25 @@ public class HubManagerOrderController {
     /**
      * 허브 주문 목록 조회 (기본 - 페이징)
      * GET /v1/order/web/hub-manager/hub-orders
+     *
+     * includeTotal=false면 전체 건수(count) 없이 다음 페이지 존재 여부만 반환
      */
     @GetMapping("/hub-orders")
     public ApiResponse<PageResponse<OrderSimpleResponse>> getHubOrders(
             @RequestHeader("X-Hub-Id") String hubId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         log.info("허브 주문 목록 조회 - hubId: {}", hubId);
 
-        Page<Order> orderPage = orderQueryService.getOrdersByHubId(hubId, pageable);
+        Slice<OrderSummary> orderPage = orderQueryService.searchOrderSummaries(
+                OrderSearchCondition.ofHub(hubId, null, null, null),
+                pageable,
+                includeTotal
+        );
 
-        // Domain → DTO 변환
+        // Read Model → DTO 변환
         PageResponse<OrderSimpleResponse> response = PageResponse.of(
                 orderPage.getContent().stream()
                         .map(OrderSimpleResponse::from)
@@ -62,23 +74,27 @@ public class HubManagerOrderController {
     /**
      * 허브 주문 검색 (필터링 + 페이징)
      * GET /v1/order/web/hub-manager/hub-orders/search
+     *
+     * includeTotal=false면 전체 건수(count) 없이 다음 페이지 존재 여부만 반환
      */
     @GetMapping("/hub-orders/search")
     public ApiResponse<PageResponse<OrderSimpleResponse>> searchHubOrders(
             @RequestHeader("X-Hub-Id") String hubId,
             @ModelAttribute HubOrderSearchRequest request,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         log.info("허브 주문 검색 - hubId: {}, status: {}, startDate: {}, endDate: {}",
                 hubId, request.getStatus(), request.getStartDate(), request.getEndDate());
 
-        Page<Order> orderPage = orderQueryService.searchOrdersByHubId(
-                request.toQuery(hubId),
-                pageable
+        Slice<OrderSummary> orderPage = orderQueryService.searchOrderSummaries(
+                request.toQuery(hubId).toCondition(),
+                pageable,
+                includeTotal
         );
 
-        // Domain → DTO 변환
+        // Read Model → DTO 변환
         PageResponse<OrderSimpleResponse> response = PageResponse.of(
                 orderPage.getContent().stream()
                         .map(OrderSimpleResponse::from)
@@ -89,6 +105,52 @@ public class HubManagerOrderController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 허브 주문 목록 조회 (커서 페이징)
+     * GET /v1/order/web/hub-manager/hub-orders/cursor
+     *
+     * 대량 결과 조회용 - 전체 건수 없이 nextCursor로 다음 페이지 조회
+     */
+    @GetMapping("/hub-orders/cursor")
+    public ApiResponse<CursorPageResponse<OrderSimpleResponse>> getHubOrdersByCursor(
+            @RequestHeader("X-Hub-Id") String hubId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("허브 주문 목록 커서 조회 - hubId: {}, size: {}", hubId, size);
+
+        Slice<OrderSummary> orderSlice = orderQueryService.searchOrderSummariesByCursor(
+                OrderSearchCondition.ofHub(hubId, null, null, null),
+                Cursor.decode(cursor),
+                size
+        );
+
+        return ApiResponse.success(toCursorPageResponse(orderSlice));
+    }
+
+    /**
+     * 허브 주문 검색 (필터링 + 커서 페이징)
+     * GET /v1/order/web/hub-manager/hub-orders/search/cursor
+     */
+    @GetMapping("/hub-orders/search/cursor")
+    public ApiResponse<CursorPageResponse<OrderSimpleResponse>> searchHubOrdersByCursor(
+            @RequestHeader("X-Hub-Id") String hubId,
+            @ModelAttribute HubOrderSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("허브 주문 커서 검색 - hubId: {}, status: {}, startDate: {}, endDate: {}",
+                hubId, request.getStatus(), request.getStartDate(), request.getEndDate());
+
+        Slice<OrderSummary> orderSlice = orderQueryService.searchOrderSummariesByCursor(
+                request.toQuery(hubId).toCondition(),
+                Cursor.decode(cursor),
+                size
+        );
+
+        return ApiResponse.success(toCursorPageResponse(orderSlice));
+    }
+
     /**
      * 주문 상세 조회 (허브 관리자 관점)
      * GET /v1/order/web/hub-manager/orders/{id}
@@ -105,4 +167,12 @@ public class HubManagerOrderController {
 
         return ApiResponse.success(response);
     }
-}
\ No newline at end of file
+
+    private CursorPageResponse<OrderSimpleResponse> toCursorPageResponse(Slice<OrderSummary> orderSlice) {
+        return PageUtils.toCursorPageResponse(
+                orderSlice,
+                OrderSimpleResponse::from,
+                order -> Cursor.of(order.createdAt(), order.orderId())
+        );
+    }
+}
@@ -3,16 +3,20 @@ package com.early_express.order_service.domain.order.presentation.web.master;
 import com.early_express.order_service.domain.order.application.service.OrderQueryService;
 import com.early_express.order_service.domain.order.domain.model.Order;
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import com.early_express.order_service.domain.order.presentation.web.common.dto.response.OrderSimpleResponse;
 import com.early_express.order_service.domain.order.presentation.web.master.dto.request.OrderSearchRequest;
 import com.early_express.order_service.domain.order.presentation.web.master.dto.response.MasterOrderDetailResponse;
+import com.early_express.order_service.global.common.dto.Cursor;
 import com.early_express.order_service.global.common.dto.PageInfo;
+import com.early_express.order_service.global.common.utils.PageUtils;
 import com.early_express.order_service.global.presentation.dto.ApiResponse;
+import com.early_express.order_service.global.presentation.dto.CursorPageResponse;
 import com.early_express.order_service.global.presentation.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
@@ -36,22 +40,26 @@ public class MasterOrderController {
     /**
      * 전체 주문 검색 (페이징)
      * GET /v1/order/web/master/orders
+     *
+     * includeTotal=false면 전체 건수(count) 없이 다음 페이지 존재 여부만 반환
      */
     @GetMapping("/orders")
     public ApiResponse<PageResponse<OrderSimpleResponse>> searchOrders(
             @ModelAttribute OrderSearchRequest request,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         log.info("관리자 주문 검색 - companyId: {}, status: {}",
                 request.getCompanyId(), request.getStatus());
 
-        Page<Order> orderPage = orderQueryService.searchOrders(
-                request.toQuery(),
-                pageable
+        Slice<OrderSummary> orderPage = orderQueryService.searchOrderSummaries(
+                request.toQuery().toCondition(),
+                pageable,
+                includeTotal
         );
 
-        // Domain → DTO 변환
+        // Read Model → DTO 변환
         List<OrderSimpleResponse> responses = orderPage.getContent().stream()
                 .map(OrderSimpleResponse::from)
                 .toList();
@@ -67,23 +75,27 @@ public class MasterOrderController {
     /**
      * 전체 주문 검색 (삭제된 것 포함)
      * GET /v1/order/web/master/orders/all
+     *
+     * includeTotal=false면 전체 건수(count) 없이 다음 페이지 존재 여부만 반환
      */
     @GetMapping("/orders/all")
     public ApiResponse<PageResponse<OrderSimpleResponse>> searchAllOrders(
             @RequestHeader("X-Hub-Id") String hubId,
             @ModelAttribute OrderSearchRequest request,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         log.info("관리자 전체 주문 검색 (삭제 포함) - isDeleted: {}",
                 request.getIsDeleted());
 
-        Page<Order> orderPage = orderQueryService.searchAllOrdersIncludingDeleted(
-                request.toQueryWithDeleted(),
-                pageable
+        Slice<OrderSummary> orderPage = orderQueryService.searchOrderSummaries(
+                request.toQueryWithDeleted().toCondition(),
+                pageable,
+                includeTotal
         );
 
-        // Domain → DTO 변환
+        // Read Model → DTO 변환
         List<OrderSimpleResponse> responses = orderPage.getContent().stream()
                 .map(OrderSimpleResponse::from)
                 .toList();
@@ -96,6 +108,53 @@ public class MasterOrderController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 전체 주문 검색 (커서 페이징)
+     * GET /v1/order/web/master/orders/cursor
+     *
+     * 대량 결과 조회용 - 전체 건수 없이 nextCursor로 다음 페이지 조회
+     */
+    @GetMapping("/orders/cursor")
+    public ApiResponse<CursorPageResponse<OrderSimpleResponse>> searchOrdersByCursor(
+            @ModelAttribute OrderSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("관리자 주문 커서 검색 - companyId: {}, status: {}, size: {}",
+                request.getCompanyId(), request.getStatus(), size);
+
+        Slice<OrderSummary> orderSlice = orderQueryService.searchOrderSummariesByCursor(
+                request.toQuery().toCondition(),
+                Cursor.decode(cursor),
+                size
+        );
+
+        return ApiResponse.success(toCursorPageResponse(orderSlice));
+    }
+
+    /**
+     * 전체 주문 검색 (삭제된 것 포함, 커서 페이징)
+     * GET /v1/order/web/master/orders/all/cursor
+     */
+    @GetMapping("/orders/all/cursor")
+    public ApiResponse<CursorPageResponse<OrderSimpleResponse>> searchAllOrdersByCursor(
+            @RequestHeader("X-Hub-Id") String hubId,
+            @ModelAttribute OrderSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("관리자 전체 주문 커서 검색 (삭제 포함) - isDeleted: {}, size: {}",
+                request.getIsDeleted(), size);
+
+        Slice<OrderSummary> orderSlice = orderQueryService.searchOrderSummariesByCursor(
+                request.toQueryWithDeleted().toCondition(),
+                Cursor.decode(cursor),
+                size
+        );
+
+        return ApiResponse.success(toCursorPageResponse(orderSlice));
+    }
+
     /**
      * 주문 상세 조회 (마스터 관점)
      * GET /v1/order/web/master/orders/{id}
@@ -189,6 +248,14 @@ public class MasterOrderController {
         return ApiResponse.success(responses);
     }
 
+    private CursorPageResponse<OrderSimpleResponse> toCursorPageResponse(Slice<OrderSummary> orderSlice) {
+        return PageUtils.toCursorPageResponse(
+                orderSlice,
+                OrderSimpleResponse::from,
+                order -> Cursor.of(order.createdAt(), order.orderId())
+        );
+    }
+
     /**
      * Saga 진행 상태 조회 (상세)
      * GET /v1/order/web/master/orders/{id}/saga
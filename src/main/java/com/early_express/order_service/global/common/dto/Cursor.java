@@ -0,0 +1,103 @@
+package com.early_express.order_service.global.common.dto;
+
+import com.early_express.order_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.order_service.global.presentation.exception.GlobalException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset 페이징 커서
+ * - (정렬 시각, ID) 조합으로 마지막 조회 위치를 표현
+ * - 클라이언트에는 Base64(URL-safe) 인코딩된 불투명 토큰으로 전달
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ *  Cursor cursor = Cursor.decode(request.getCursor());   // 첫 페이지면 null
+ *  Slice<OrderSummary> slice = orderQueryService.searchOrderSummariesByCursor(condition, cursor, size);
+ * }
+ * </pre>
+ */
+@Getter
+public class Cursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp;
+    private final String id;
+
+    private Cursor(LocalDateTime timestamp, String id) {
+        if (timestamp == null || id == null) {
+            throw new CursorException("커서의 시각과 ID는 null일 수 없습니다.");
+        }
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime timestamp, String id) {
+        return new Cursor(timestamp, id);
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 디코딩
+     *
+     * @param token 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 값)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+
+            if (delimiterIndex < 0) {
+                throw new CursorException("유효하지 않은 커서입니다.");
+            }
+
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    raw.substring(delimiterIndex + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CursorException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 조회 크기 보정 (1 ~ MAX_SIZE)
+     */
+    public static int normalizeSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Cursor 전용 예외 클래스
+     */
+    public static class CursorException extends GlobalException {
+        public CursorException(String message) {
+            super(GlobalErrorCode.INVALID_INPUT_VALUE, message);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.early_express.order_service.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 페이징 정보
+ * - 전체 건수(count)는 조회하지 않음
+ * - hasNext가 true이면 nextCursor로 다음 페이지 조회
+ */
+@Getter
+public class CursorInfo {
+    private final int size;
+    private final int numberOfElements;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final boolean empty;
+
+    @Builder
+    private CursorInfo(int size, int numberOfElements, boolean hasNext, String nextCursor) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+
+        this.size = size;
+        this.numberOfElements = numberOfElements;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? nextCursor : null;
+        this.empty = numberOfElements == 0;
+    }
+
+    public static CursorInfo of(int size, int numberOfElements, boolean hasNext, String nextCursor) {
+        return CursorInfo.builder()
+                .size(size)
+                .numberOfElements(numberOfElements)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
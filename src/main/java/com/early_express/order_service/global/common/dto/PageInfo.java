@@ -3,18 +3,23 @@ package com.early_express.order_service.global.common.dto;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 페이징 정보
+ * - Slice(전체 건수 생략)로 생성하면 totalElements / totalPages 는 null
+ */
 @Getter
 public class PageInfo {
     private final int page;
     private final int size;
-    private final long totalElements;
-    private final int totalPages;
+    private final Long totalElements;
+    private final Integer totalPages;
     private final int numberOfElements;
     private final boolean first;
     private final boolean last;
@@ -41,25 +46,64 @@ public class PageInfo {
         this.sort = sort != null ? new ArrayList<>(sort) : new ArrayList<>();
     }
 
-    public static PageInfo of(Page<?> page) {
-        List<SortInfo> sortInfoList = page.getSort().stream()
-                .map(order -> SortInfo.of(
-                        order.getProperty(),
-                        order.isAscending() ? SortInfo.Direction.ASC : SortInfo.Direction.DESC,
-                        order.isIgnoreCase()
-                ))
-                .collect(Collectors.toList());
+    /**
+     * 전체 건수 없이 생성 (count 쿼리 생략)
+     */
+    private PageInfo(int page, int size, int numberOfElements, boolean hasNext, List<SortInfo> sort) {
+        validateParameters(page, size, 0, 0);
 
+        this.page = page;
+        this.size = size;
+        this.totalElements = null;
+        this.totalPages = null;
+        this.numberOfElements = numberOfElements;
+        this.first = (page == 0);
+        this.last = !hasNext;
+        this.hasNext = hasNext;
+        this.hasPrevious = page > 0;
+        this.empty = numberOfElements == 0;
+        this.sort = sort != null ? new ArrayList<>(sort) : new ArrayList<>();
+    }
+
+    public static PageInfo of(Page<?> page) {
         return PageInfo.builder()
                 .page(page.getNumber())
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
                 .numberOfElements(page.getNumberOfElements())
-                .sort(sortInfoList)
+                .sort(toSortInfos(page.getSort()))
                 .build();
     }
 
+    /**
+     * Slice로 생성
+     * - Page이면 전체 건수 포함, 아니면 전체 건수 없이 hasNext만 포함
+     */
+    public static PageInfo of(Slice<?> slice) {
+        if (slice instanceof Page<?> page) {
+            return of(page);
+        }
+
+        return new PageInfo(
+                slice.getNumber(),
+                slice.getSize(),
+                slice.getNumberOfElements(),
+                slice.hasNext(),
+                toSortInfos(slice.getSort())
+        );
+    }
+
+    private static List<SortInfo> toSortInfos(Sort sort) {
+        return sort.stream()
+                .map(order -> SortInfo.of(
+                        order.getProperty(),
+                        order.isAscending() ? SortInfo.Direction.ASC : SortInfo.Direction.DESC,
+                        order.isIgnoreCase()
+                ))
+                .collect(Collectors.toList());
+    }
+
     // 정렬 정보 없이 생성 (기존 호환성 유지)
     public static PageInfo of(int page, int size, long totalElements,
                               int totalPages, int numberOfElements) {
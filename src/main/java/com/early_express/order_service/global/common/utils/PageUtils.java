@@ -1,11 +1,15 @@
 package com.early_express.order_service.global.common.utils;
 
+import com.early_express.order_service.global.common.dto.Cursor;
+import com.early_express.order_service.global.common.dto.CursorInfo;
 import com.early_express.order_service.global.common.dto.PageInfo;
 import com.early_express.order_service.global.common.dto.PageInfo.SortInfo;
+import com.early_express.order_service.global.presentation.dto.CursorPageResponse;
 import com.early_express.order_service.global.presentation.dto.PageResponse;
 import com.early_express.order_service.global.presentation.exception.GlobalErrorCode;
 import com.early_express.order_service.global.presentation.exception.GlobalException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.function.Function;
@@ -43,6 +47,39 @@ public class PageUtils {
         return PageResponse.of(mappedContent, pageInfo);
     }
 
+    /**
+     * 커서 조회 결과(Slice)를 CursorPageResponse로 변환
+     * 마지막 요소의 (정렬 시각, ID)로 다음 페이지 커서를 생성
+     *
+     * @param cursorExtractor 요소 → 커서 변환 함수
+     */
+    public static <T, R> CursorPageResponse<R> toCursorPageResponse(
+            Slice<T> slice,
+            Function<T, R> mapper,
+            Function<T, Cursor> cursorExtractor) {
+
+        validateSlice(slice);
+        validateMapper(mapper);
+        validateMapper(cursorExtractor);
+
+        List<T> content = slice.getContent();
+        List<R> mappedContent = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorExtractor.apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        CursorInfo cursorInfo = CursorInfo.of(
+                slice.getSize(),
+                slice.getNumberOfElements(),
+                slice.hasNext(),
+                nextCursor
+        );
+        return CursorPageResponse.of(mappedContent, cursorInfo);
+    }
+
     private static <T> PageInfo createPageInfo(Page<T> page) {
         // 정렬 정보 추출
         List<SortInfo> sortInfos = page.getSort().stream()
@@ -70,6 +107,12 @@ public class PageUtils {
         }
     }
 
+    private static void validateSlice(Slice<?> slice) {
+        if (slice == null) {
+            throw new PageUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "슬라이스 객체는 null일 수 없습니다.");
+        }
+    }
+
     private static void validateMapper(Function<?, ?> mapper) {
         if (mapper == null) {
             throw new PageUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "매퍼 함수는 null일 수 없습니다.");
@@ -1,13 +1,30 @@
 package com.early_express.order_service.global.common.utils;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * UUID 생성 유틸리티
  * 표준 36자 UUID만 생성
+ *
+ * - generate(): 랜덤 UUID (v4)
+ * - generateTimeOrdered(): 시간 순 UUID (v7, RFC 9562)
+ *   상위 48비트가 밀리초 타임스탬프라 문자열/바이트 정렬이 생성 순서와 같음
+ *   → PK B-Tree에 항상 오른쪽 끝으로 INSERT (랜덤 페이지 분할 / 인덱스 팽창 방지)
  * */
 public class UuidUtils {
-    
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * 마지막으로 발급한 (밀리초 타임스탬프 << 12 | 카운터)
+     * 같은 밀리초 안에서는 12비트 카운터를 증가시켜 단조 증가 보장 (RFC 9562 Method 1)
+     */
+    private static final AtomicLong LAST_TIME_AND_COUNTER = new AtomicLong();
+
+    private static final int COUNTER_BITS = 12;
+
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
     }
@@ -16,6 +33,38 @@ public class UuidUtils {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * 시간 순 UUID (v7) 생성
+     * - 같은 JVM 안에서는 호출 순서대로 증가
+     * - 밀리초당 4096개를 넘으면 카운터가 타임스탬프로 넘어가 다음 밀리초 값을 미리 사용
+     */
+    public static String generateTimeOrdered() {
+        long timeAndCounter = nextTimeAndCounter();
+        long timestamp = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & 0xFFFL;
+
+        long mostSigBits = (timestamp << 16)
+                | (0x7L << 12)                        // version 7
+                | counter;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;                // variant 10
+
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    private static long nextTimeAndCounter() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+
+        while (true) {
+            long last = LAST_TIME_AND_COUNTER.get();
+            long next = Math.max(now, last + 1);
+
+            if (LAST_TIME_AND_COUNTER.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
     public static boolean isValid(String uuid) {
         if (uuid == null) {
             return false;
@@ -0,0 +1,43 @@
+package com.early_express.order_service.global.config;
+
+import com.early_express.order_service.domain.order.infrastructure.client.support.HedgedCall;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 하위 서비스 헤지 요청 설정
+ *
+ * 읽기 전용(멱등) 호출인 허브 경로 계산과 AI 시간 계산에만 헤지를 적용합니다.
+ * 재고 예약 / 결제 검증 / 배송 생성 등 상태를 바꾸는 호출용 HedgedCall은 만들지 않습니다.
+ */
+@Configuration
+public class DownstreamHedgeConfig {
+
+    @Bean(name = "hubRouteHedge")
+    public HedgedCall hubRouteHedge(
+            MeterRegistry meterRegistry,
+            @Value("${client.hub-service.hedge.enabled:true}") boolean enabled,
+            @Value("${client.hub-service.hedge.percentile:0.95}") double percentile,
+            @Value("${client.hub-service.hedge.initial-delay-ms:300}") long initialDelayMs,
+            @Value("${client.hub-service.hedge.min-delay-ms:50}") long minDelayMs,
+            @Value("${client.hub-service.hedge.budget-ratio:0.1}") double budgetRatio) {
+        return new HedgedCall("hub-service", enabled, percentile,
+                Duration.ofMillis(initialDelayMs), Duration.ofMillis(minDelayMs), budgetRatio, meterRegistry);
+    }
+
+    @Bean(name = "aiTimeHedge")
+    public HedgedCall aiTimeHedge(
+            MeterRegistry meterRegistry,
+            @Value("${client.ai-service.hedge.enabled:true}") boolean enabled,
+            @Value("${client.ai-service.hedge.percentile:0.95}") double percentile,
+            @Value("${client.ai-service.hedge.initial-delay-ms:1000}") long initialDelayMs,
+            @Value("${client.ai-service.hedge.min-delay-ms:100}") long minDelayMs,
+            @Value("${client.ai-service.hedge.budget-ratio:0.1}") double budgetRatio) {
+        return new HedgedCall("ai-service", enabled, percentile,
+                Duration.ofMillis(initialDelayMs), Duration.ofMillis(minDelayMs), budgetRatio, meterRegistry);
+    }
+}
@@ -1,5 +1,8 @@
 package com.early_express.order_service.global.config;
 
+import com.early_express.order_service.domain.order.infrastructure.client.support.DownstreamResilience;
+import com.early_express.order_service.domain.order.infrastructure.client.support.ResilientFeignCapability;
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
 import feign.Retryer;
@@ -25,7 +28,8 @@ public class FeignConfig {
     }
 
     /**
-     * Request 옵션 설정
+     * Request 옵션 설정 (공통 기본값)
+     * Client별 타임아웃은 spring.cloud.openfeign.client.config.{name}에서 덮어씀
      */
     @Bean
     public Request.Options requestOptions() {
@@ -48,6 +52,15 @@ public class FeignConfig {
         );
     }
 
+    /**
+     * Client별 회로 차단기 / Bulkhead
+     * 차단 / 한도 초과 시 재시도 없이 즉시 SagaException (보상 호출은 제외)
+     */
+    @Bean
+    public Capability resilientFeignCapability(DownstreamResilience downstreamResilience) {
+        return new ResilientFeignCapability(downstreamResilience);
+    }
+
     /**
      * 에러 디코더
      */
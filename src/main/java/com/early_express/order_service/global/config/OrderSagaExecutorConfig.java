@@ -0,0 +1,62 @@
+package com.early_express.order_service.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 주문 접수용 Saga Worker Pool 설정
+ *
+ * 접수된 주문의 동기 Saga(Step 1, 2)를 Tomcat 스레드 대신 이 풀에서 실행합니다.
+ * 큐가 가득 차면 즉시 거절(AbortPolicy)하여 접수 단계에서 503으로 응답합니다.
+ *
+ * 상태 조회 Long-Polling 응답(현재 상태 조회)은 Saga Worker / 커밋 콜백 스레드가 아닌
+ * 별도 풀(orderStatusNotifyExecutor)에서 실행합니다.
+ */
+@Configuration
+public class OrderSagaExecutorConfig {
+
+    @Value("${order.async-acceptance.worker.core-size:16}")
+    private int coreSize;
+
+    @Value("${order.async-acceptance.worker.max-size:32}")
+    private int maxSize;
+
+    @Value("${order.async-acceptance.worker.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${order.async-acceptance.status-notifier.pool-size:4}")
+    private int statusNotifierPoolSize;
+
+    @Value("${order.async-acceptance.status-notifier.queue-capacity:1000}")
+    private int statusNotifierQueueCapacity;
+
+    @Bean(name = "orderSagaExecutor")
+    public ThreadPoolTaskExecutor orderSagaExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-saga-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "orderStatusNotifyExecutor")
+    public ThreadPoolTaskExecutor orderStatusNotifyExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(statusNotifierPoolSize);
+        executor.setMaxPoolSize(statusNotifierPoolSize);
+        executor.setQueueCapacity(statusNotifierQueueCapacity);
+        executor.setThreadNamePrefix("order-status-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
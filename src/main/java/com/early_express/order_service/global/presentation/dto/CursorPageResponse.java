@@ -0,0 +1,29 @@
+package com.early_express.order_service.global.presentation.dto;
+
+import com.early_express.order_service.global.common.dto.CursorInfo;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class CursorPageResponse<T> {
+    private final List<T> content;
+    private final CursorInfo cursorInfo;
+
+    private CursorPageResponse(List<T> content, CursorInfo cursorInfo) {
+        validateCursorInfo(cursorInfo);
+        this.content = content != null ? content : Collections.emptyList();
+        this.cursorInfo = cursorInfo;
+    }
+
+    public static <T> CursorPageResponse<T> of(List<T> content, CursorInfo cursorInfo) {
+        return new CursorPageResponse<>(content, cursorInfo);
+    }
+
+    private void validateCursorInfo(CursorInfo cursorInfo) {
+        if (cursorInfo == null) {
+            throw new IllegalArgumentException("커서 정보는 null이 될 수 없습니다.");
+        }
+    }
+}
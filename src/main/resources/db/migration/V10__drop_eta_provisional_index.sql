@@ -0,0 +1,8 @@
+-- ========================================
+-- 로컬 추정 ETA 부분 인덱스 제거
+-- - eta_provisional 주문을 AI 결과로 다시 계산하는 작업은 두지 않음
+--   (Step 3 이후 Saga가 같은 주문을 계속 갱신하고, 허브 / 업체 배송도 이미 추정치로 생성되어 있음)
+-- - eta_provisional 컬럼은 추정치 여부 표시용으로 유지 (조회 응답의 provisional)
+-- ========================================
+
+DROP INDEX IF EXISTS idx_orders_eta_provisional;
@@ -0,0 +1,152 @@
+-- ========================================
+-- 주문 서비스 기본 스키마
+-- JPA 엔티티(OrderEntity, OrderSagaEntity, SagaStepHistoryEntity, OutboxEventEntity,
+-- OrderHubMembershipEntity) 매핑과 동일한 컬럼 구성
+-- 기존 ddl-auto로 생성된 DB에도 적용할 수 있도록 IF NOT EXISTS 사용
+-- ========================================
+
+-- ===== 주문 =====
+CREATE TABLE IF NOT EXISTS p_orders (
+    id                            VARCHAR(36)    NOT NULL,
+    order_number                  VARCHAR(50)    NOT NULL,
+
+    -- 업체 / 허브
+    supplier_company_id           VARCHAR(36)    NOT NULL,
+    supplier_hub_id               VARCHAR(36)    NOT NULL,
+    receiver_company_id           VARCHAR(36)    NOT NULL,
+    receiver_hub_id               VARCHAR(36)    NOT NULL,
+    destination_hub_id            VARCHAR(36),
+
+    -- 상품
+    product_id                    VARCHAR(36)    NOT NULL,
+    product_hub_id                VARCHAR(36),
+    quantity                      INTEGER        NOT NULL,
+
+    -- 배송
+    requires_hub_delivery         BOOLEAN        NOT NULL,
+    hub_delivery_id               VARCHAR(36),
+    last_mile_delivery_id         VARCHAR(36),
+
+    -- 수령자
+    receiver_name                 VARCHAR(100)   NOT NULL,
+    receiver_phone                VARCHAR(20)    NOT NULL,
+    receiver_email                VARCHAR(100),
+    delivery_address              VARCHAR(500)   NOT NULL,
+    delivery_address_detail       VARCHAR(200),
+    delivery_postal_code          VARCHAR(20),
+    delivery_note                 TEXT,
+
+    -- 요청 사항
+    requested_delivery_date       DATE           NOT NULL,
+    requested_delivery_time       TIME(6)        NOT NULL,
+    special_instructions          TEXT,
+
+    -- AI 계산 결과
+    calculated_departure_deadline TIMESTAMP(6),
+    estimated_delivery_time       TIMESTAMP(6),
+    route_info                    TEXT,
+
+    -- 상태 / 금액 / 결제
+    status                        VARCHAR(30)    NOT NULL,
+    unit_price                    NUMERIC(15, 2) NOT NULL,
+    total_amount                  NUMERIC(15, 2) NOT NULL,
+    payment_id                    VARCHAR(36),
+    pg_provider                   VARCHAR(20)    NOT NULL,
+    pg_payment_id                 VARCHAR(200)   NOT NULL,
+    pg_payment_key                VARCHAR(200),
+
+    -- 배송 진행
+    actual_departure_time         TIMESTAMP(6),
+    hub_arrival_time              TIMESTAMP(6),
+    final_delivery_start_time     TIMESTAMP(6),
+    actual_delivery_time          TIMESTAMP(6),
+    signature                     TEXT,
+    actual_receiver_name          VARCHAR(100),
+
+    -- 취소
+    cancel_reason                 TEXT,
+    cancelled_at                  TIMESTAMP(6),
+
+    -- 낙관적 락
+    version                       BIGINT         NOT NULL DEFAULT 0,
+
+    -- 감사 정보 (BaseEntity)
+    created_at                    TIMESTAMP(6)   NOT NULL,
+    created_by                    VARCHAR(36),
+    updated_at                    TIMESTAMP(6),
+    updated_by                    VARCHAR(36),
+    deleted_at                    TIMESTAMP(6),
+    deleted_by                    VARCHAR(36),
+    is_deleted                    BOOLEAN        NOT NULL DEFAULT FALSE,
+
+    CONSTRAINT pk_orders PRIMARY KEY (id),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number)
+);
+
+-- ===== 주문 Saga =====
+CREATE TABLE IF NOT EXISTS p_order_sagas (
+    saga_id           VARCHAR(36)  NOT NULL,
+    order_id          VARCHAR(36)  NOT NULL,
+    status            VARCHAR(30)  NOT NULL,
+    current_step      VARCHAR(50),
+    compensation_data TEXT,
+    started_at        TIMESTAMP(6) NOT NULL,
+    completed_at      TIMESTAMP(6),
+    failure_reason    TEXT,
+    version           BIGINT       NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_order_sagas PRIMARY KEY (saga_id),
+    CONSTRAINT uk_order_sagas_order_id UNIQUE (order_id)
+);
+
+-- ===== Saga Step 이력 =====
+-- ID는 pooled 시퀀스(allocationSize = 50)로 미리 할당받아 배치 INSERT
+CREATE SEQUENCE IF NOT EXISTS p_saga_step_histories_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS p_saga_step_histories (
+    id            BIGINT       NOT NULL,
+    saga_id       VARCHAR(36)  NOT NULL,
+    saga_id_value VARCHAR(36)  NOT NULL,
+    step          VARCHAR(50)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    request       TEXT,
+    response      TEXT,
+    error_message TEXT,
+    started_at    TIMESTAMP(6) NOT NULL,
+    completed_at  TIMESTAMP(6),
+    retry_count   INTEGER      NOT NULL,
+
+    CONSTRAINT pk_saga_step_histories PRIMARY KEY (id),
+    CONSTRAINT fk_saga_step_histories_saga FOREIGN KEY (saga_id) REFERENCES p_order_sagas (saga_id)
+);
+
+-- ===== Transactional Outbox =====
+CREATE TABLE IF NOT EXISTS p_outbox_events (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    topic        VARCHAR(100)  NOT NULL,
+    message_key  VARCHAR(100),
+    event_id     VARCHAR(36)   NOT NULL,
+    event_type   VARCHAR(50)   NOT NULL,
+    payload_type VARCHAR(255)  NOT NULL,
+    payload      TEXT          NOT NULL,
+    status       VARCHAR(20)   NOT NULL,
+    attempts     INTEGER       NOT NULL,
+    last_error   VARCHAR(1000),
+    created_at   TIMESTAMP(6)  NOT NULL,
+    sent_at      TIMESTAMP(6),
+
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_id ON p_outbox_events (status, id);
+
+-- ===== 허브 → 주문 조회 테이블 =====
+-- PK는 주문 기준 (order_id, hub_id) - 주문 저장 시 상태 동기화 / 존재 확인에 사용
+CREATE TABLE IF NOT EXISTS p_order_hub_memberships (
+    hub_id     VARCHAR(36)  NOT NULL,
+    order_id   VARCHAR(36)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    status     VARCHAR(30)  NOT NULL,
+
+    CONSTRAINT pk_order_hub_memberships PRIMARY KEY (order_id, hub_id)
+);
@@ -0,0 +1,20 @@
+-- ========================================
+-- 기존(ddl-auto) 스키마 보정
+-- V1 이전에 생성된 DB에는 테이블이 이미 있어 V1이 컬럼/시퀀스를 만들지 않음
+-- ========================================
+
+-- ===== 낙관적 락 버전 컬럼 =====
+ALTER TABLE p_orders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE p_order_sagas ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- ===== Saga Step 이력 시퀀스 =====
+-- IDENTITY로 쌓인 기존 ID와 겹치지 않도록 시퀀스 위치 조정
+-- pooled 옵티마이저는 nextval 값을 할당 구간의 끝으로 사용하므로 (max + 50)부터 시작
+CREATE SEQUENCE IF NOT EXISTS p_saga_step_histories_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE p_saga_step_histories_seq INCREMENT BY 50;
+
+SELECT setval(
+    'p_saga_step_histories_seq',
+    GREATEST((SELECT COALESCE(MAX(id), 0) FROM p_saga_step_histories) + 50, 1),
+    false
+);
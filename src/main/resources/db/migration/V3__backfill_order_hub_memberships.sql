@@ -0,0 +1,21 @@
+-- ========================================
+-- 허브 → 주문 조회 테이블 초기 적재
+-- 이후에는 OrderRepositoryImpl 저장 경로에서 주문 쓰기와 함께 갱신
+-- 같은 허브가 여러 역할을 겸하는 주문은 한 행만 유지 (PK 충돌 무시)
+-- ========================================
+
+INSERT INTO p_order_hub_memberships (hub_id, order_id, created_at, status)
+SELECT supplier_hub_id, id, created_at, status
+FROM p_orders
+ON CONFLICT (hub_id, order_id) DO NOTHING;
+
+INSERT INTO p_order_hub_memberships (hub_id, order_id, created_at, status)
+SELECT receiver_hub_id, id, created_at, status
+FROM p_orders
+ON CONFLICT (hub_id, order_id) DO NOTHING;
+
+INSERT INTO p_order_hub_memberships (hub_id, order_id, created_at, status)
+SELECT destination_hub_id, id, created_at, status
+FROM p_orders
+WHERE destination_hub_id IS NOT NULL
+ON CONFLICT (hub_id, order_id) DO NOTHING;
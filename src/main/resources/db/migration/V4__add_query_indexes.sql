@@ -0,0 +1,69 @@
+-- ========================================
+-- 조회 인덱스
+-- - 주문 조회는 대부분 is_deleted = false 조건을 포함하므로 부분 인덱스로 크기 축소
+--   (QueryDSL isFalse() / 파생 쿼리 IsDeletedFalse는 리터럴 false로 렌더링되어 부분 인덱스 조건과 일치)
+-- - 정렬 기준 (created_at DESC, id DESC)을 인덱스 순서에 포함해 정렬 없이 LIMIT 처리
+-- - 인덱스별 사용 여부는 OrderQueryPlanTest에서 실행 계획으로 검증
+-- ========================================
+
+-- ===== 주문 =====
+
+-- 발송 시한 임박/초과 주문 (findOrdersWithUpcomingDeadline, findOverdueOrders)
+CREATE INDEX IF NOT EXISTS idx_orders_status_deadline
+    ON p_orders (status, calculated_departure_deadline)
+    WHERE is_deleted = FALSE;
+
+-- 업체별 목록 (공급/수령 업체 OR 조건 → 두 인덱스 BitmapOr)
+CREATE INDEX IF NOT EXISTS idx_orders_supplier_company_created
+    ON p_orders (supplier_company_id, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_orders_receiver_company_created
+    ON p_orders (receiver_company_id, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- 상태별 목록 (findByStatus, 상태 필터 검색)
+CREATE INDEX IF NOT EXISTS idx_orders_status_created
+    ON p_orders (status, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- 전체 목록 / 커서 페이징 (조건 없는 최신순 조회)
+CREATE INDEX IF NOT EXISTS idx_orders_created
+    ON p_orders (created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- 결제 / 업체 배송 ID 단건 조회 (값이 채워진 주문만 색인)
+CREATE INDEX IF NOT EXISTS idx_orders_payment_id
+    ON p_orders (payment_id)
+    WHERE is_deleted = FALSE AND payment_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_orders_last_mile_delivery_id
+    ON p_orders (last_mile_delivery_id)
+    WHERE is_deleted = FALSE AND last_mile_delivery_id IS NOT NULL;
+
+-- ===== 허브 → 주문 조회 테이블 =====
+
+-- 허브별 목록 (주문 ID 기준 조회는 PK (order_id, hub_id) 사용)
+CREATE INDEX IF NOT EXISTS idx_order_hub_membership_hub_created
+    ON p_order_hub_memberships (hub_id, created_at, order_id);
+
+-- ===== 주문 Saga =====
+
+-- 상태별 목록 / 장시간 진행 / 보상 실패 조회
+CREATE INDEX IF NOT EXISTS idx_order_sagas_status_started
+    ON p_order_sagas (status, started_at DESC, saga_id DESC);
+
+-- 기간별 전체 목록 / 커서 페이징
+CREATE INDEX IF NOT EXISTS idx_order_sagas_started
+    ON p_order_sagas (started_at DESC, saga_id DESC);
+
+-- 완료 Saga 정리 (findCompletedSagasOlderThan)
+CREATE INDEX IF NOT EXISTS idx_order_sagas_status_completed
+    ON p_order_sagas (status, completed_at)
+    WHERE completed_at IS NOT NULL;
+
+-- ===== Saga Step 이력 =====
+
+-- Saga별 이력 로딩 (FK, @OrderBy id)
+CREATE INDEX IF NOT EXISTS idx_saga_step_histories_saga
+    ON p_saga_step_histories (saga_id, id);
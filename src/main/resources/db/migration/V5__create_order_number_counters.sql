@@ -0,0 +1,18 @@
+-- ========================================
+-- 주문 번호 날짜별 카운터
+-- 인스턴스들이 행 잠금으로 일련번호 구간을 임대 (OrderNumberSequenceRepositoryImpl)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_order_number_counters (
+    order_date    DATE   NOT NULL,
+    last_sequence BIGINT NOT NULL,
+
+    CONSTRAINT pk_order_number_counters PRIMARY KEY (order_date)
+);
+
+-- 기존 주문 번호와 겹치지 않도록 오늘 카운터를 현재 최대 일련번호로 초기화
+INSERT INTO p_order_number_counters (order_date, last_sequence)
+SELECT CURRENT_DATE, COALESCE(MAX(CAST(split_part(order_number, '-', 3) AS BIGINT)), 0)
+FROM p_orders
+WHERE order_number LIKE 'ORD-' || to_char(CURRENT_DATE, 'YYYYMMDD') || '-%'
+ON CONFLICT (order_date) DO NOTHING;
@@ -0,0 +1,137 @@
+-- ========================================
+-- 저장 레이아웃 축소
+-- - 이 서비스가 발급하는 ID(주문/Saga): VARCHAR(36) → 네이티브 UUID (16바이트)
+-- - 상태/단계 Enum: 이름 VARCHAR → SMALLINT 코드 (2바이트)
+--   코드 값은 infrastructure/persistence/converter 의 *Converter 와 반드시 일치해야 함
+-- - 업체/허브 ID는 외부 서비스가 발급하는 값이라 형식을 보장할 수 없어 VARCHAR 유지
+-- - 각 ALTER TYPE은 테이블을 다시 쓰고 관련 인덱스를 재생성 (배포 시 테이블 잠금 시간 고려)
+-- - 매핑되지 않는 값이 있으면 NULL → NOT NULL 위반으로 마이그레이션 실패 (데이터 확인 후 재시도)
+-- - 엔티티 매핑이 이 레이아웃에 고정되어 있어 환경별 선택 불가, 되돌리기는 db/rollback/V6__compact_storage_layout_rollback.sql 참고
+-- ========================================
+
+-- ===== 외래 키 해제 =====
+-- 참조/피참조 컬럼 타입을 함께 바꿔야 하므로 먼저 제거 후 마지막에 다시 생성
+-- (ddl-auto로 생성된 DB는 제약 이름이 달라 이름과 무관하게 제거)
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'p_saga_step_histories'::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE p_saga_step_histories DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+END $$;
+
+-- ===== 주문 =====
+ALTER TABLE p_orders
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN status TYPE SMALLINT USING
+        CASE status
+            WHEN 'PENDING' THEN 1
+            WHEN 'STOCK_CHECKING' THEN 2
+            WHEN 'STOCK_RESERVED' THEN 3
+            WHEN 'PAYMENT_VERIFYING' THEN 4
+            WHEN 'PAYMENT_VERIFIED' THEN 5
+            WHEN 'ROUTE_CALCULATING' THEN 6
+            WHEN 'DELIVERY_CREATING' THEN 7
+            WHEN 'CONFIRMED' THEN 8
+            WHEN 'HUB_WAITING' THEN 9
+            WHEN 'HUB_IN_TRANSIT' THEN 10
+            WHEN 'HUB_ARRIVED' THEN 11
+            WHEN 'LAST_MILE_READY' THEN 12
+            WHEN 'IN_DELIVERY' THEN 13
+            WHEN 'COMPLETED' THEN 14
+            WHEN 'CANCELLED' THEN 15
+            WHEN 'FAILED' THEN 16
+            WHEN 'COMPENSATED' THEN 17
+        END;
+
+ALTER TABLE p_order_hub_memberships
+    ALTER COLUMN order_id TYPE UUID USING order_id::uuid,
+    ALTER COLUMN status TYPE SMALLINT USING
+        CASE status
+            WHEN 'PENDING' THEN 1
+            WHEN 'STOCK_CHECKING' THEN 2
+            WHEN 'STOCK_RESERVED' THEN 3
+            WHEN 'PAYMENT_VERIFYING' THEN 4
+            WHEN 'PAYMENT_VERIFIED' THEN 5
+            WHEN 'ROUTE_CALCULATING' THEN 6
+            WHEN 'DELIVERY_CREATING' THEN 7
+            WHEN 'CONFIRMED' THEN 8
+            WHEN 'HUB_WAITING' THEN 9
+            WHEN 'HUB_IN_TRANSIT' THEN 10
+            WHEN 'HUB_ARRIVED' THEN 11
+            WHEN 'LAST_MILE_READY' THEN 12
+            WHEN 'IN_DELIVERY' THEN 13
+            WHEN 'COMPLETED' THEN 14
+            WHEN 'CANCELLED' THEN 15
+            WHEN 'FAILED' THEN 16
+            WHEN 'COMPENSATED' THEN 17
+        END;
+
+-- ===== 주문 Saga =====
+ALTER TABLE p_order_sagas
+    ALTER COLUMN saga_id TYPE UUID USING saga_id::uuid,
+    ALTER COLUMN order_id TYPE UUID USING order_id::uuid,
+    ALTER COLUMN status TYPE SMALLINT USING
+        CASE status
+            WHEN 'PENDING' THEN 1
+            WHEN 'IN_PROGRESS' THEN 2
+            WHEN 'COMPLETED' THEN 3
+            WHEN 'COMPENSATING' THEN 4
+            WHEN 'COMPENSATED' THEN 5
+            WHEN 'COMPENSATION_FAILED' THEN 6
+            WHEN 'FAILED' THEN 7
+        END,
+    ALTER COLUMN current_step TYPE SMALLINT USING
+        CASE current_step
+            WHEN 'STOCK_RESERVE' THEN 1
+            WHEN 'PAYMENT_VERIFY' THEN 2
+            WHEN 'ROUTE_CALCULATE' THEN 3
+            WHEN 'HUB_DELIVERY_CREATE' THEN 4
+            WHEN 'LAST_MILE_DELIVERY_CREATE' THEN 5
+            WHEN 'NOTIFICATION_SEND' THEN 6
+            WHEN 'TRACKING_START' THEN 7
+            WHEN 'STOCK_RESTORE' THEN 8
+            WHEN 'PAYMENT_CANCEL' THEN 9
+            WHEN 'HUB_DELIVERY_CANCEL' THEN 10
+            WHEN 'LAST_MILE_DELIVERY_CANCEL' THEN 11
+        END;
+
+-- ===== Saga Step 이력 =====
+ALTER TABLE p_saga_step_histories
+    ALTER COLUMN saga_id TYPE UUID USING saga_id::uuid,
+    ALTER COLUMN saga_id_value TYPE UUID USING saga_id_value::uuid,
+    ALTER COLUMN step TYPE SMALLINT USING
+        CASE step
+            WHEN 'STOCK_RESERVE' THEN 1
+            WHEN 'PAYMENT_VERIFY' THEN 2
+            WHEN 'ROUTE_CALCULATE' THEN 3
+            WHEN 'HUB_DELIVERY_CREATE' THEN 4
+            WHEN 'LAST_MILE_DELIVERY_CREATE' THEN 5
+            WHEN 'NOTIFICATION_SEND' THEN 6
+            WHEN 'TRACKING_START' THEN 7
+            WHEN 'STOCK_RESTORE' THEN 8
+            WHEN 'PAYMENT_CANCEL' THEN 9
+            WHEN 'HUB_DELIVERY_CANCEL' THEN 10
+            WHEN 'LAST_MILE_DELIVERY_CANCEL' THEN 11
+        END,
+    ALTER COLUMN status TYPE SMALLINT USING
+        CASE status
+            WHEN 'PENDING' THEN 1
+            WHEN 'IN_PROGRESS' THEN 2
+            WHEN 'SUCCESS' THEN 3
+            WHEN 'FAILED' THEN 4
+            WHEN 'COMPENSATED' THEN 5
+        END;
+
+ALTER TABLE p_saga_step_histories
+    ADD CONSTRAINT fk_saga_step_histories_saga FOREIGN KEY (saga_id) REFERENCES p_order_sagas (saga_id);
+
+-- ===== 통계 갱신 =====
+ANALYZE p_orders;
+ANALYZE p_order_hub_memberships;
+ANALYZE p_order_sagas;
+ANALYZE p_saga_step_histories;
@@ -0,0 +1,58 @@
+-- ========================================
+-- 경로 정보 내용 주소 저장
+-- - Hub Service 경로 JSON은 p_route_infos에 내용 해시(SHA-256 16진수)로 한 번만 저장
+-- - 주문은 route_info TEXT 대신 route_info_hash 로 참조 (같은 허브 구간의 주문은 한 행을 공유)
+-- - 해시 계산은 RouteInfoEntity.hashOf 와 반드시 일치해야 함 (UTF-8 바이트의 SHA-256)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_route_infos (
+    content_hash VARCHAR(64) NOT NULL,
+    route_info   TEXT        NOT NULL,
+    created_at   TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_route_infos PRIMARY KEY (content_hash)
+);
+
+-- ===== 기존 주문 경로 이전 =====
+ALTER TABLE p_orders ADD COLUMN IF NOT EXISTS route_info_hash VARCHAR(64);
+
+INSERT INTO p_route_infos (content_hash, route_info)
+SELECT DISTINCT encode(sha256(convert_to(route_info, 'UTF8')), 'hex'), route_info
+FROM p_orders
+WHERE route_info IS NOT NULL
+ON CONFLICT (content_hash) DO NOTHING;
+
+UPDATE p_orders
+SET route_info_hash = encode(sha256(convert_to(route_info, 'UTF8')), 'hex')
+WHERE route_info IS NOT NULL;
+
+ALTER TABLE p_orders DROP COLUMN IF EXISTS route_info;
+
+ALTER TABLE p_orders
+    ADD CONSTRAINT fk_orders_route_info
+    FOREIGN KEY (route_info_hash) REFERENCES p_route_infos (content_hash);
+
+-- ===== 경로 계산 Step 이력 =====
+-- 이전에는 경로 계산 응답 전체(routeInfoJson 포함)를 기록했으므로 경로 상세 JSON만 제거
+-- (JSON이 아닌 응답은 그대로 둠)
+DO $$
+DECLARE
+    history RECORD;
+BEGIN
+    FOR history IN
+        SELECT id, response FROM p_saga_step_histories
+        WHERE step = 3 -- ROUTE_CALCULATE
+          AND response LIKE '%"routeInfoJson"%'
+    LOOP
+        BEGIN
+            UPDATE p_saga_step_histories
+            SET response = (history.response::jsonb - 'routeInfoJson')::text
+            WHERE id = history.id;
+        EXCEPTION WHEN invalid_text_representation THEN
+            NULL;
+        END;
+    END LOOP;
+END $$;
+
+ANALYZE p_orders;
+ANALYZE p_saga_step_histories;
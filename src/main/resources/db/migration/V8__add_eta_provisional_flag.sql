@@ -0,0 +1,11 @@
+-- ========================================
+-- 로컬 추정 ETA 표시
+-- - AI Service 응답 지연 / 실패 시 FallbackEtaEstimator 추정치로 Step 3를 진행한 주문은 eta_provisional = TRUE
+-- - 추후 AI 결과로 갱신할 대상 조회용 부분 인덱스 (추정치 주문만 포함하므로 크기가 작음)
+-- ========================================
+
+ALTER TABLE p_orders ADD COLUMN IF NOT EXISTS eta_provisional BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_orders_eta_provisional
+    ON p_orders (calculated_departure_deadline)
+    WHERE eta_provisional;
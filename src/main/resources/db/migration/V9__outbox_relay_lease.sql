@@ -0,0 +1,13 @@
+-- ========================================
+-- Outbox 릴레이 점유 (lease)
+-- - 릴레이는 짧은 트랜잭션에서 배치를 점유(locked_until)하고 커밋한 뒤 Kafka 응답을 기다림
+--   → Kafka 응답 대기 중 행 잠금 / 트랜잭션을 유지하지 않음
+-- - 점유가 만료되면(인스턴스 중단) 다른 릴레이가 다시 발행
+-- - 같은 토픽 / 키의 앞선 이벤트 점유 여부 확인용 부분 인덱스 (발행 대기 행만 포함)
+-- ========================================
+
+ALTER TABLE p_outbox_events ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_pending_key
+    ON p_outbox_events (topic, message_key, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,138 @@
+-- ========================================
+-- V6 저장 레이아웃 축소 되돌리기 (수동 실행용, Flyway 자동 적용 대상 아님)
+-- - V6__compact_storage_layout.sql 의 역변환: 네이티브 UUID → VARCHAR(36), SMALLINT 코드 → Enum 이름 VARCHAR
+-- - 코드 ↔ 이름 매핑은 infrastructure/persistence/converter 의 *Converter 와 동일
+-- - 엔티티 매핑(UuidStringConverter / *StatusConverter / SagaStepConverter)도 함께 되돌린 빌드와 배포해야 함
+--   (DB만 되돌리면 현재 빌드는 smallint / uuid 로 바인딩하므로 조회 / 저장이 실패)
+--
+-- 적용 방법 (Flyway는 forward-only로 운영)
+-- 1. 이 파일을 db/migration 의 다음 버전 번호(예: V11__restore_varchar_storage_layout.sql)로 복사
+-- 2. 같은 커밋에서 엔티티의 @Convert(UuidStringConverter / EnumCodeConverter 하위 클래스)를
+--    @Enumerated(EnumType.STRING) / 문자열 컬럼으로 되돌림
+-- 3. V6 이력은 flyway_schema_history 에 그대로 둠 (V6 재실행 / 이력 삭제 불필요)
+-- ========================================
+
+-- ===== 외래 키 해제 =====
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'p_saga_step_histories'::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE p_saga_step_histories DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+END $$;
+
+-- ===== 주문 =====
+ALTER TABLE p_orders
+    ALTER COLUMN id TYPE VARCHAR(36) USING id::text,
+    ALTER COLUMN status TYPE VARCHAR(30) USING
+        CASE status
+            WHEN 1 THEN 'PENDING'
+            WHEN 2 THEN 'STOCK_CHECKING'
+            WHEN 3 THEN 'STOCK_RESERVED'
+            WHEN 4 THEN 'PAYMENT_VERIFYING'
+            WHEN 5 THEN 'PAYMENT_VERIFIED'
+            WHEN 6 THEN 'ROUTE_CALCULATING'
+            WHEN 7 THEN 'DELIVERY_CREATING'
+            WHEN 8 THEN 'CONFIRMED'
+            WHEN 9 THEN 'HUB_WAITING'
+            WHEN 10 THEN 'HUB_IN_TRANSIT'
+            WHEN 11 THEN 'HUB_ARRIVED'
+            WHEN 12 THEN 'LAST_MILE_READY'
+            WHEN 13 THEN 'IN_DELIVERY'
+            WHEN 14 THEN 'COMPLETED'
+            WHEN 15 THEN 'CANCELLED'
+            WHEN 16 THEN 'FAILED'
+            WHEN 17 THEN 'COMPENSATED'
+        END;
+
+ALTER TABLE p_order_hub_memberships
+    ALTER COLUMN order_id TYPE VARCHAR(36) USING order_id::text,
+    ALTER COLUMN status TYPE VARCHAR(30) USING
+        CASE status
+            WHEN 1 THEN 'PENDING'
+            WHEN 2 THEN 'STOCK_CHECKING'
+            WHEN 3 THEN 'STOCK_RESERVED'
+            WHEN 4 THEN 'PAYMENT_VERIFYING'
+            WHEN 5 THEN 'PAYMENT_VERIFIED'
+            WHEN 6 THEN 'ROUTE_CALCULATING'
+            WHEN 7 THEN 'DELIVERY_CREATING'
+            WHEN 8 THEN 'CONFIRMED'
+            WHEN 9 THEN 'HUB_WAITING'
+            WHEN 10 THEN 'HUB_IN_TRANSIT'
+            WHEN 11 THEN 'HUB_ARRIVED'
+            WHEN 12 THEN 'LAST_MILE_READY'
+            WHEN 13 THEN 'IN_DELIVERY'
+            WHEN 14 THEN 'COMPLETED'
+            WHEN 15 THEN 'CANCELLED'
+            WHEN 16 THEN 'FAILED'
+            WHEN 17 THEN 'COMPENSATED'
+        END;
+
+-- ===== 주문 Saga =====
+ALTER TABLE p_order_sagas
+    ALTER COLUMN saga_id TYPE VARCHAR(36) USING saga_id::text,
+    ALTER COLUMN order_id TYPE VARCHAR(36) USING order_id::text,
+    ALTER COLUMN status TYPE VARCHAR(30) USING
+        CASE status
+            WHEN 1 THEN 'PENDING'
+            WHEN 2 THEN 'IN_PROGRESS'
+            WHEN 3 THEN 'COMPLETED'
+            WHEN 4 THEN 'COMPENSATING'
+            WHEN 5 THEN 'COMPENSATED'
+            WHEN 6 THEN 'COMPENSATION_FAILED'
+            WHEN 7 THEN 'FAILED'
+        END,
+    ALTER COLUMN current_step TYPE VARCHAR(50) USING
+        CASE current_step
+            WHEN 1 THEN 'STOCK_RESERVE'
+            WHEN 2 THEN 'PAYMENT_VERIFY'
+            WHEN 3 THEN 'ROUTE_CALCULATE'
+            WHEN 4 THEN 'HUB_DELIVERY_CREATE'
+            WHEN 5 THEN 'LAST_MILE_DELIVERY_CREATE'
+            WHEN 6 THEN 'NOTIFICATION_SEND'
+            WHEN 7 THEN 'TRACKING_START'
+            WHEN 8 THEN 'STOCK_RESTORE'
+            WHEN 9 THEN 'PAYMENT_CANCEL'
+            WHEN 10 THEN 'HUB_DELIVERY_CANCEL'
+            WHEN 11 THEN 'LAST_MILE_DELIVERY_CANCEL'
+        END;
+
+-- ===== Saga Step 이력 =====
+ALTER TABLE p_saga_step_histories
+    ALTER COLUMN saga_id TYPE VARCHAR(36) USING saga_id::text,
+    ALTER COLUMN saga_id_value TYPE VARCHAR(36) USING saga_id_value::text,
+    ALTER COLUMN step TYPE VARCHAR(50) USING
+        CASE step
+            WHEN 1 THEN 'STOCK_RESERVE'
+            WHEN 2 THEN 'PAYMENT_VERIFY'
+            WHEN 3 THEN 'ROUTE_CALCULATE'
+            WHEN 4 THEN 'HUB_DELIVERY_CREATE'
+            WHEN 5 THEN 'LAST_MILE_DELIVERY_CREATE'
+            WHEN 6 THEN 'NOTIFICATION_SEND'
+            WHEN 7 THEN 'TRACKING_START'
+            WHEN 8 THEN 'STOCK_RESTORE'
+            WHEN 9 THEN 'PAYMENT_CANCEL'
+            WHEN 10 THEN 'HUB_DELIVERY_CANCEL'
+            WHEN 11 THEN 'LAST_MILE_DELIVERY_CANCEL'
+        END,
+    ALTER COLUMN status TYPE VARCHAR(20) USING
+        CASE status
+            WHEN 1 THEN 'PENDING'
+            WHEN 2 THEN 'IN_PROGRESS'
+            WHEN 3 THEN 'SUCCESS'
+            WHEN 4 THEN 'FAILED'
+            WHEN 5 THEN 'COMPENSATED'
+        END;
+
+ALTER TABLE p_saga_step_histories
+    ADD CONSTRAINT fk_saga_step_histories_saga FOREIGN KEY (saga_id) REFERENCES p_order_sagas (saga_id);
+
+-- ===== 통계 갱신 =====
+ANALYZE p_orders;
+ANALYZE p_order_hub_memberships;
+ANALYZE p_order_sagas;
+ANALYZE p_saga_step_histories;
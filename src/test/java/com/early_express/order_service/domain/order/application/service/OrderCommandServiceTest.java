@@ -82,6 +82,24 @@ class OrderCommandServiceTest {
     }
 
 
+    @Test
+    @DisplayName("주문 비동기 접수 - PENDING 저장 후 Saga는 요청 스레드에서 실행되지 않음")
+    void acceptOrder_Success_SavedAsPendingWithoutRunningSaga() {
+        // given
+        given(orderNumberGeneratorService.generateOrderNumber())
+                .willReturn(OrderNumber.generate(2));
+
+        // when
+        Order result = commandService.acceptOrder(testCommand);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderRepository.findStatusById(result.getId())).contains(OrderStatus.PENDING);
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 Worker 제출도 일어나지 않음
+        verify(sagaOrchestratorService, never()).startOrderSaga(any(Order.class));
+    }
+
     @Test
     @DisplayName("주문 취소 성공 - 상태 변경 및 Dirty Checking 확인")
     void cancelOrder_Success_DirtyCheckingApplied() {
@@ -1,44 +1,54 @@
 package com.early_express.order_service.domain.order.application.service;
 
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderNumber;
-import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderNumberSequenceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderNumberGeneratorService 테스트")
 class OrderNumberGeneratorServiceTest {
 
-    @InjectMocks
-    private OrderNumberGeneratorService generatorService;
-
     @Mock
-    private OrderRepository orderRepository;
+    private OrderNumberSequenceRepository sequenceRepository;
+
+    private OrderNumberGeneratorService generatorService;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     @BeforeEach
     void setUp() {
-        generatorService.cleanupOldCounters();
+        generatorService = new OrderNumberGeneratorService(sequenceRepository, 10, 99999);
     }
 
     @Test
     @DisplayName("주문 번호 생성 성공")
     void generateOrderNumber_Success() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
 
         // when
         OrderNumber orderNumber = generatorService.generateOrderNumber();
@@ -47,14 +57,14 @@ class OrderNumberGeneratorServiceTest {
         assertThat(orderNumber).isNotNull();
         assertThat(orderNumber.getValue()).startsWith("ORD-");
         assertThat(orderNumber.getValue()).contains(LocalDate.now().format(DATE_FORMATTER));
-        assertThat(orderNumber.getValue()).endsWith("-001"); // 첫 번째 주문
+        assertThat(orderNumber.getValue()).endsWith("-00001"); // 첫 번째 주문
     }
 
     @Test
-    @DisplayName("연속된 주문 번호 생성 - 일련번호 증가")
-    void generateOrderNumber_SequentialNumbers() {
+    @DisplayName("연속된 주문 번호 생성 - 임대한 구간 안에서는 DB를 다시 호출하지 않음")
+    void generateOrderNumber_SequentialNumbersWithinSegment() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
 
         // when
         OrderNumber first = generatorService.generateOrderNumber();
@@ -62,32 +72,71 @@ class OrderNumberGeneratorServiceTest {
         OrderNumber third = generatorService.generateOrderNumber();
 
         // then
-        assertThat(first.getValue()).endsWith("-001");
-        assertThat(second.getValue()).endsWith("-002");
-        assertThat(third.getValue()).endsWith("-003");
+        assertThat(first.getValue()).endsWith("-00001");
+        assertThat(second.getValue()).endsWith("-00002");
+        assertThat(third.getValue()).endsWith("-00003");
+        verify(sequenceRepository, times(1)).allocateBlock(any(LocalDate.class), anyInt());
     }
 
     @Test
-    @DisplayName("주문 번호 중복 발생 시 재시도")
-    void generateOrderNumber_RetryOnDuplicate() {
+    @DisplayName("구간 소진 시 다음 구간 임대 - 다른 인스턴스가 가져간 구간은 건너뜀")
+    void generateOrderNumber_LeasesNextSegmentWhenExhausted() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class)))
-                .willReturn(true)  // 첫 번째 시도: 중복
-                .willReturn(false); // 두 번째 시도: 성공
+        generatorService = new OrderNumberGeneratorService(sequenceRepository, 2, 99999);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt()))
+                .willReturn(2L)   // 1 ~ 2
+                .willReturn(8L);  // 7 ~ 8 (3 ~ 6은 다른 인스턴스가 임대)
 
         // when
-        OrderNumber orderNumber = generatorService.generateOrderNumber();
+        List<String> numbers = List.of(
+                generatorService.generateOrderNumber().getValue(),
+                generatorService.generateOrderNumber().getValue(),
+                generatorService.generateOrderNumber().getValue()
+        );
 
         // then
-        assertThat(orderNumber).isNotNull();
-        assertThat(orderNumber.getValue()).endsWith("-002"); // 중복으로 인해 2번으로 생성됨
+        assertThat(numbers).extracting(number -> number.substring(number.lastIndexOf('-') + 1))
+                .containsExactly("00001", "00002", "00007");
+        verify(sequenceRepository, times(2)).allocateBlock(any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("동시 생성 시 주문 번호 중복 없음")
+    void generateOrderNumber_ConcurrentUnique() throws Exception {
+        // given
+        AtomicLong counter = new AtomicLong();
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt()))
+                .willAnswer(invocation -> counter.addAndGet(invocation.<Integer>getArgument(1)));
+
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<String> numbers = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    numbers.add(generatorService.generateOrderNumber().getValue());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(numbers).hasSize(threads * perThread);
+        assertThat(numbers).doesNotHaveDuplicates();
     }
 
     @Test
     @DisplayName("현재 일련번호 조회")
     void getCurrentSequence_Success() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
 
         generatorService.generateOrderNumber();
         generatorService.generateOrderNumber();
@@ -101,26 +150,23 @@ class OrderNumberGeneratorServiceTest {
     }
 
     @Test
-    @DisplayName("남은 생성 가능 주문 수 확인")
+    @DisplayName("남은 생성 가능 주문 수 확인 - 전체 인스턴스의 임대 현황 기준")
     void getRemainingCapacity_Success() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
-
-        generatorService.generateOrderNumber();
-        generatorService.generateOrderNumber();
+        given(sequenceRepository.findLastSequence(any(LocalDate.class))).willReturn(200L);
 
         // when
         int remaining = generatorService.getRemainingCapacity();
 
         // then
-        assertThat(remaining).isEqualTo(997); // 999 - 2
+        assertThat(remaining).isEqualTo(99799); // 99999 - 200
     }
 
     @Test
-    @DisplayName("날짜별 카운터 초기화")
+    @DisplayName("날짜별 카운터 초기화 - 임대 구간 폐기")
     void resetDailyCounter_Success() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
 
         generatorService.generateOrderNumber();
         generatorService.generateOrderNumber();
@@ -138,7 +184,7 @@ class OrderNumberGeneratorServiceTest {
     @DisplayName("이전 날짜 카운터 정리")
     void cleanupOldCounters_Success() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
 
         generatorService.generateOrderNumber();
 
@@ -146,7 +192,7 @@ class OrderNumberGeneratorServiceTest {
         generatorService.cleanupOldCounters();
 
         // then
-        // 오늘 카운터는 유지되어야 함
+        // 오늘 구간은 유지되어야 함
         assertThat(generatorService.getCurrentSequence()).isEqualTo(1);
     }
 
@@ -154,28 +200,77 @@ class OrderNumberGeneratorServiceTest {
     @DisplayName("일일 주문번호 한도 초과 예외")
     void generateOrderNumber_ExceedsLimit() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(true);
+        generatorService = new OrderNumberGeneratorService(sequenceRepository, 10, 15);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt()))
+                .willReturn(10L)
+                .willReturn(20L)
+                .willReturn(30L);
 
         // when & then
         assertThatThrownBy(() -> {
-            for (int i = 0; i < 1000; i++) {
+            for (int i = 0; i < 16; i++) {
                 generatorService.generateOrderNumber();
             }
-        }).isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("일일 주문번호 생성 한도를 초과했습니다");
+        }).isInstanceOf(OrderException.class)
+                .hasMessageContaining("일일 주문번호 생성 한도를 초과했습니다")
+                .extracting(e -> ((OrderException) e).getErrorCode())
+                .isEqualTo(OrderErrorCode.ORDER_NUMBER_EXHAUSTED);
+    }
+
+    @Test
+    @DisplayName("일일 한도 소진 후에는 DB 카운터를 더 임대하지 않고 실패")
+    void generateOrderNumber_ExhaustedDate_DoesNotLeaseAgain() {
+        // given - 마지막 구간(11 ~ 15)까지 발급
+        generatorService = new OrderNumberGeneratorService(sequenceRepository, 10, 15);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt()))
+                .willReturn(10L)
+                .willReturn(20L);
+
+        for (int i = 0; i < 15; i++) {
+            generatorService.generateOrderNumber();
+        }
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> generatorService.generateOrderNumber())
+                    .isInstanceOf(OrderException.class)
+                    .extracting(e -> ((OrderException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.ORDER_NUMBER_EXHAUSTED);
+        }
+        verify(sequenceRepository, times(2)).allocateBlock(any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 한도를 소진한 날짜는 한 번만 임대를 시도")
+    void generateOrderNumber_ExhaustedByOtherInstance_LeasesOnce() {
+        // given
+        generatorService = new OrderNumberGeneratorService(sequenceRepository, 10, 15);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(30L);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> generatorService.generateOrderNumber())
+                    .isInstanceOf(OrderException.class)
+                    .extracting(e -> ((OrderException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.ORDER_NUMBER_EXHAUSTED);
+        }
+        verify(sequenceRepository, times(1)).allocateBlock(any(LocalDate.class), anyInt());
     }
 
     @Test
-    @DisplayName("주문 번호 형식 검증")
+    @DisplayName("주문 번호 형식 검증 - 일련번호 자릿수는 일일 한도에 맞춤")
     void generateOrderNumber_ValidFormat() {
         // given
-        given(orderRepository.existsByOrderNumber(any(OrderNumber.class))).willReturn(false);
+        given(sequenceRepository.allocateBlock(any(LocalDate.class), anyInt())).willReturn(10L);
+        OrderNumberGeneratorService smallCapacityService =
+                new OrderNumberGeneratorService(sequenceRepository, 10, 999);
 
         // when
         OrderNumber orderNumber = generatorService.generateOrderNumber();
+        OrderNumber smallCapacityNumber = smallCapacityService.generateOrderNumber();
 
         // then
-        String value = orderNumber.getValue();
-        assertThat(value).matches("ORD-\\d{8}-\\d{3}"); // ORD-YYYYMMDD-XXX 형식
+        assertThat(orderNumber.getValue()).matches("ORD-\\d{8}-\\d{5}"); // ORD-YYYYMMDD-XXXXX 형식
+        assertThat(smallCapacityNumber.getValue()).matches("ORD-\\d{8}-\\d{3}"); // ORD-YYYYMMDD-XXX 형식
     }
-}
\ No newline at end of file
+}
@@ -24,6 +24,7 @@ import com.early_express.order_service.domain.order.infrastructure.client.lastmi
 import com.early_express.order_service.domain.order.infrastructure.client.lastmile.dto.LastMileDeliveryCreateResponse;
 import com.early_express.order_service.domain.order.infrastructure.client.payment.PaymentClient;
 import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.StockReservationPayload;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -436,6 +437,58 @@ class OrderSagaOrchestratorServiceTest {
         );
     }
 
+    @Test
+    @org.junit.jupiter.api.Order(6)
+    @DisplayName("보상 트랜잭션 - 여러 보상 Step을 실제 Repository로 연속 저장해도 버전 충돌 없이 완료된다")
+    void startCompensation_MultipleSteps_CompletesWithoutConcurrentModification() {
+        // given - 재고 예약 / 허브 배송 생성이 완료된 Saga
+        Order order = createAndSaveUniqueOrder();
+        order.updateDeliveryInfo(order.getDeliveryInfo().withHubDeliveryId("HUB-DELIVERY-001"));
+        order = orderRepository.save(order);
+
+        OrderSaga saga = OrderSaga.create(order.getId());
+        saga.start();
+        saga.startStep(SagaStep.STOCK_RESERVE);
+        saga.completeStep(SagaStep.STOCK_RESERVE, new StockReservationPayload(
+                "RES-001", List.of(new StockReservationPayload.Item("PROD-001", "HUB-001", 10))));
+        saga.startStep(SagaStep.HUB_DELIVERY_CREATE);
+        saga.completeStep(SagaStep.HUB_DELIVERY_CREATE, "HUB-DELIVERY-001");
+        saga = sagaRepository.save(saga);
+
+        given(hubDeliveryClient.cancelDelivery("HUB-DELIVERY-001")).willReturn(
+                HubDeliveryCreateResponse.builder()
+                        .hubDeliveryId("HUB-DELIVERY-001")
+                        .status("CANCELLED")
+                        .build()
+        );
+        given(inventoryClient.restoreStock(any())).willReturn(
+                InventoryRestoreResponse.builder()
+                        .success(true)
+                        .message("재고 복원 완료")
+                        .build()
+        );
+
+        // when
+        orchestratorService.startCompensation(order, saga, "업체 배송 생성 실패");
+
+        // then
+        verify(hubDeliveryClient, times(1)).cancelDelivery("HUB-DELIVERY-001");
+        verify(inventoryClient, times(1)).restoreStock(any());
+
+        OrderSaga compensatedSaga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+        assertThat(compensatedSaga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        assertThat(compensatedSaga.getStepHistory())
+                .filteredOn(history -> history.getStep().isCompensationStep())
+                .extracting(SagaStepHistory::getStep, SagaStepHistory::getStatus)
+                .containsExactly(
+                        tuple(SagaStep.HUB_DELIVERY_CANCEL, StepStatus.SUCCESS),
+                        tuple(SagaStep.STOCK_RESTORE, StepStatus.SUCCESS)
+                );
+
+        Order compensatedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(compensatedOrder.getStatus()).isEqualTo(OrderStatus.COMPENSATED);
+    }
+
     // ==================== Helper Methods ====================
 
     /**
@@ -0,0 +1,212 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
+import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.order.OrderEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.payment.PaymentEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.tracking.TrackingEventPublisher;
+import com.early_express.order_service.domain.order.domain.model.*;
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.vo.*;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.InventoryClient;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.PaymentClient;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "saga.sync-steps.parallel-enabled=true")
+@DisplayName("OrderSagaOrchestratorService 병렬 동기 단계 테스트")
+class OrderSagaParallelSyncStepsTest {
+
+    @Autowired
+    private OrderSagaOrchestratorService orchestratorService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSagaRepository sagaRepository;
+
+    @MockitoBean
+    private PaymentEventPublisher paymentEventPublisher;
+
+    @MockitoBean
+    private OrderEventPublisher orderEventPublisher;
+
+    @MockitoBean
+    private NotificationEventPublisher notificationEventPublisher;
+
+    @MockitoBean
+    private TrackingEventPublisher trackingEventPublisher;
+
+    @MockitoBean
+    private PaymentClient paymentClient;
+
+    @MockitoBean
+    private InventoryClient inventoryClient;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재고 예약과 결제 검증이 모두 성공하면 결제 검증 완료 상태가 된다")
+    void parallel_BothSucceed() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(reservedResponse(order));
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(verifiedResponse());
+
+        // when
+        orchestratorService.startOrderSaga(order);
+
+        // then
+        Order savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_VERIFIED);
+        assertThat(savedOrder.getAmountInfo().getPaymentId()).isEqualTo("PAYMENT-001");
+
+        OrderSaga savedSaga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+        assertThat(savedSaga.getStatus()).isEqualTo(SagaStatus.IN_PROGRESS);
+        assertThat(savedSaga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isTrue();
+        assertThat(savedSaga.hasSucceededStep(SagaStep.PAYMENT_VERIFY)).isTrue();
+
+        verify(orderEventPublisher, times(1)).publishOrderPaymentVerified(any());
+    }
+
+    @Test
+    @DisplayName("재고 예약만 실패하면 이미 등록된 결제를 환불 요청한다")
+    void parallel_StockFails_RefundsPayment() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(
+                InventoryReservationResponse.builder()
+                        .reservationId("RES-001")
+                        .orderId(order.getIdValue())
+                        .allSuccess(false)
+                        .reservedItems(List.of())
+                        .build()
+        );
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(verifiedResponse());
+
+        // when & then
+        assertThatThrownBy(() -> orchestratorService.startOrderSaga(order))
+                .isInstanceOf(SagaException.class);
+
+        verify(paymentEventPublisher, times(1)).publishRefundRequested(any());
+        verify(inventoryClient, never()).restoreStock(any());
+
+        OrderSaga savedSaga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+        assertThat(savedSaga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(savedSaga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isFalse();
+        assertThat(savedSaga.hasSucceededStep(SagaStep.PAYMENT_VERIFY)).isTrue();
+        // 환불 요청을 보상 이력으로 남겨 다른 보상 경로가 다시 환불하지 않음
+        assertThat(savedSaga.getCompletedStepsNeedingCompensation()).isEmpty();
+
+        Order savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("결제 검증만 실패하면 예약된 재고를 복원한다")
+    void parallel_PaymentFails_RestoresStock() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(reservedResponse(order));
+        given(paymentClient.verifyAndRegisterPayment(any())).willThrow(new IllegalStateException("PG 오류"));
+        given(inventoryClient.restoreStock(any())).willReturn(
+                InventoryRestoreResponse.builder()
+                        .success(true)
+                        .message("재고 복원 완료")
+                        .build()
+        );
+
+        // when & then
+        assertThatThrownBy(() -> orchestratorService.startOrderSaga(order))
+                .isInstanceOf(SagaException.class);
+
+        verify(inventoryClient, times(1)).restoreStock(any());
+        verify(paymentEventPublisher, never()).publishRefundRequested(any());
+
+        OrderSaga savedSaga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+        assertThat(savedSaga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        assertThat(savedSaga.getCompletedStepsNeedingCompensation()).isEmpty();
+
+        Order savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.COMPENSATED);
+    }
+
+    private InventoryReservationResponse reservedResponse(Order order) {
+        return InventoryReservationResponse.builder()
+                .reservationId("RES-001")
+                .orderId(order.getIdValue())
+                .allSuccess(true)
+                .reservedItems(List.of(
+                        InventoryReservationResponse.ReservedItem.builder()
+                                .productId("PROD-001")
+                                .hubId("HUB-001")
+                                .quantity(10)
+                                .success(true)
+                                .build()
+                ))
+                .build();
+    }
+
+    private PaymentVerificationResponse verifiedResponse() {
+        return PaymentVerificationResponse.builder()
+                .paymentId("PAYMENT-001")
+                .status("VERIFIED")
+                .verifiedAmount(BigDecimal.valueOf(500000))
+                .message("검증 완료")
+                .build();
+    }
+
+    private Order createAndSaveUniqueOrder() {
+        Order order = Order.create(
+                OrderNumber.from(String.format("ORD-%s-%03d",
+                        LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")),
+                        (int) (Math.random() * 1000))),
+                CompanyInfo.of("COMP-001", "HUB-001", "COMP-002", "HUB-002"),
+                ProductInfo.of("PROD-001", 10),
+                ReceiverInfo.of(
+                        "홍길동",
+                        "010-1234-5678",
+                        "test@example.com",
+                        "서울시 강남구",
+                        "테헤란로 123",
+                        "06234",
+                        "문 앞에 놔주세요"
+                ),
+                RequestInfo.of(
+                        LocalDate.now().plusDays(1),
+                        LocalTime.of(14, 0),
+                        "조심히 배송 부탁드립니다"
+                ),
+                BigDecimal.valueOf(50000),
+                PgPaymentInfo.of("TOSS", "PG-PAY-" + System.nanoTime()),
+                "USER-001"
+        );
+
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,283 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.messaging.notification.NotificationEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.order.OrderEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.payment.PaymentEventPublisher;
+import com.early_express.order_service.domain.order.domain.messaging.tracking.TrackingEventPublisher;
+import com.early_express.order_service.domain.order.domain.model.*;
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.vo.*;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.InventoryClient;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.PaymentClient;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("OrderSagaOrchestratorService 트랜잭션 경계 테스트")
+class OrderSagaTransactionBoundaryTest {
+
+    @Autowired
+    private OrderSagaOrchestratorService orchestratorService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSagaRepository sagaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderStatusChangeNotifier statusChangeNotifier;
+
+    @MockitoBean
+    private PaymentEventPublisher paymentEventPublisher;
+
+    @MockitoBean
+    private OrderEventPublisher orderEventPublisher;
+
+    @MockitoBean
+    private NotificationEventPublisher notificationEventPublisher;
+
+    @MockitoBean
+    private TrackingEventPublisher trackingEventPublisher;
+
+    @MockitoBean
+    private PaymentClient paymentClient;
+
+    @MockitoBean
+    private InventoryClient inventoryClient;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재고 예약/결제 검증 원격 호출은 트랜잭션 없이 실행되고 Step 시작 상태는 호출 전에 커밋된다")
+    void remoteCalls_RunWithoutTransaction_StepStateCommittedBefore() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+
+        AtomicBoolean txActiveDuringStock = new AtomicBoolean(true);
+        AtomicBoolean txActiveDuringPayment = new AtomicBoolean(true);
+        AtomicBoolean stockStepCommitted = new AtomicBoolean(false);
+
+        given(inventoryClient.reserveStock(any())).willAnswer(invocation -> {
+            txActiveDuringStock.set(TransactionSynchronizationManager.isActualTransactionActive());
+            stockStepCommitted.set(orderRepository.findStatusById(order.getId())
+                    .filter(status -> status == OrderStatus.STOCK_CHECKING)
+                    .isPresent());
+            return reservedResponse(order);
+        });
+        given(paymentClient.verifyAndRegisterPayment(any())).willAnswer(invocation -> {
+            txActiveDuringPayment.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return verifiedResponse();
+        });
+
+        // when
+        orchestratorService.startOrderSaga(order);
+
+        // then
+        assertThat(txActiveDuringStock).isFalse();
+        assertThat(txActiveDuringPayment).isFalse();
+        assertThat(stockStepCommitted).isTrue();
+
+        Order savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_VERIFIED);
+    }
+
+    @Test
+    @DisplayName("Step 상태 전이가 커밋될 때마다 상태 변경 대기 요청에 알린다")
+    void stepCommit_NotifiesStatusWaiters() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        CompletableFuture<Void> waiter = statusChangeNotifier.awaitChange(order.getIdValue());
+        AtomicBoolean notifiedBeforeStockCall = new AtomicBoolean(false);
+
+        given(inventoryClient.reserveStock(any())).willAnswer(invocation -> {
+            // 알림은 전용 풀에서 완료되므로 잠시 기다림 (재고 예약 응답 전이면 성공)
+            notifiedBeforeStockCall.set(waiter.handle((ignored, error) -> true)
+                    .completeOnTimeout(false, 5, TimeUnit.SECONDS)
+                    .join());
+            return reservedResponse(order);
+        });
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(verifiedResponse());
+
+        // when
+        orchestratorService.startOrderSaga(order);
+
+        // then - 전체 동기 단계가 끝나기 전, Step 1 시작 커밋 직후 알림
+        assertThat(notifiedBeforeStockCall).isTrue();
+    }
+
+    @Test
+    @DisplayName("결제 보상 시 환불 요청 이벤트는 보상 시작 기록과 같은 트랜잭션에서 기록된다")
+    void paymentCompensation_AppendsRefundInsideStepTransaction() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(reservedResponse(order));
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(verifiedResponse());
+        orchestratorService.startOrderSaga(order);
+
+        Order verified = orderRepository.findById(order.getId()).orElseThrow();
+        OrderSaga saga = sagaRepository.findByOrderId(order.getId()).orElseThrow();
+
+        AtomicBoolean txActiveDuringRefund = new AtomicBoolean(false);
+        willAnswer(invocation -> {
+            txActiveDuringRefund.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).given(paymentEventPublisher).publishRefundRequested(any());
+
+        // when
+        orchestratorService.startCompensation(verified, saga, "테스트 보상");
+
+        // then
+        verify(paymentEventPublisher).publishRefundRequested(any());
+        assertThat(txActiveDuringRefund).isTrue();
+    }
+
+    @Test
+    @DisplayName("결제 검증 실패 보상의 재고 복원 호출은 트랜잭션 없이 실행된다")
+    void paymentFailureCompensation_RestoresStockWithoutTransaction() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(reservedResponse(order));
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(
+                PaymentVerificationResponse.builder()
+                        .status("FAILED")
+                        .message("금액 불일치")
+                        .build()
+        );
+
+        AtomicBoolean txActiveDuringRestore = new AtomicBoolean(true);
+        given(inventoryClient.restoreStock(any())).willAnswer(invocation -> {
+            txActiveDuringRestore.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return InventoryRestoreResponse.builder()
+                    .success(true)
+                    .message("재고 복원 완료")
+                    .build();
+        });
+
+        // when
+        assertThatThrownBy(() -> orchestratorService.startOrderSaga(order));
+
+        // then
+        verify(inventoryClient).restoreStock(any());
+        assertThat(txActiveDuringRestore).isFalse();
+
+        Order savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.COMPENSATED);
+    }
+
+    @Test
+    @DisplayName("Step별 상태 전이 트랜잭션의 커넥션 점유 시간이 기록된다")
+    void stepTransactions_RecordConnectionHoldTime() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        given(inventoryClient.reserveStock(any())).willReturn(reservedResponse(order));
+        given(paymentClient.verifyAndRegisterPayment(any())).willReturn(verifiedResponse());
+
+        long before = holdCount(SagaStep.PAYMENT_VERIFY, SagaStepTransactionExecutor.PHASE_COMPLETE);
+
+        // when
+        orchestratorService.startOrderSaga(order);
+
+        // then
+        assertThat(holdCount(SagaStep.STOCK_RESERVE, SagaStepTransactionExecutor.PHASE_BEGIN)).isPositive();
+        assertThat(holdCount(SagaStep.PAYMENT_VERIFY, SagaStepTransactionExecutor.PHASE_COMPLETE))
+                .isEqualTo(before + 1);
+    }
+
+    private long holdCount(SagaStep step, String phase) {
+        return meterRegistry.find(SagaStepTransactionExecutor.CONNECTION_HOLD_METRIC)
+                .tag("step", step.name())
+                .tag("phase", phase)
+                .timers()
+                .stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    private InventoryReservationResponse reservedResponse(Order order) {
+        return InventoryReservationResponse.builder()
+                .reservationId("RES-001")
+                .orderId(order.getIdValue())
+                .allSuccess(true)
+                .reservedItems(List.of(
+                        InventoryReservationResponse.ReservedItem.builder()
+                                .productId("PROD-001")
+                                .hubId("HUB-001")
+                                .quantity(10)
+                                .success(true)
+                                .build()
+                ))
+                .build();
+    }
+
+    private PaymentVerificationResponse verifiedResponse() {
+        return PaymentVerificationResponse.builder()
+                .paymentId("PAYMENT-001")
+                .status("VERIFIED")
+                .verifiedAmount(BigDecimal.valueOf(500000))
+                .message("검증 완료")
+                .build();
+    }
+
+    private Order createAndSaveUniqueOrder() {
+        Order order = Order.create(
+                OrderNumber.from(String.format("ORD-%s-%03d",
+                        LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")),
+                        (int) (Math.random() * 1000))),
+                CompanyInfo.of("COMP-001", "HUB-001", "COMP-002", "HUB-002"),
+                ProductInfo.of("PROD-001", 10),
+                ReceiverInfo.of(
+                        "홍길동",
+                        "010-1234-5678",
+                        "test@example.com",
+                        "서울시 강남구",
+                        "테헤란로 123",
+                        "06234",
+                        "문 앞에 놔주세요"
+                ),
+                RequestInfo.of(
+                        LocalDate.now().plusDays(1),
+                        LocalTime.of(14, 0),
+                        "조심히 배송 부탁드립니다"
+                ),
+                BigDecimal.valueOf(50000),
+                PgPaymentInfo.of("TOSS", "PG-PAY-" + System.nanoTime()),
+                "USER-001"
+        );
+
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,81 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderStatusChangeNotifier 테스트")
+class OrderStatusChangeNotifierTest {
+
+    private final OrderStatusChangeNotifier notifier = new OrderStatusChangeNotifier(Runnable::run);
+
+    @Test
+    @DisplayName("상태 변경 알림 - 같은 주문의 대기 요청이 모두 완료됨")
+    void notifyChanged_CompletesSharedWaiter() {
+        // given
+        CompletableFuture<Void> first = notifier.awaitChange("ORDER-1");
+        CompletableFuture<Void> second = notifier.awaitChange("ORDER-1");
+
+        // when
+        notifier.notifyChanged("ORDER-1");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first).isDone();
+        assertThat(notifier.getWaitingOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 해제 - 마지막 대기 요청이 빠질 때만 제거")
+    void release_RemovesOnlyAfterLastWaiter() {
+        // given
+        CompletableFuture<Void> waiter = notifier.awaitChange("ORDER-1");
+        notifier.awaitChange("ORDER-1");
+
+        // when
+        notifier.release("ORDER-1", waiter);
+
+        // then
+        assertThat(notifier.getWaitingOrderCount()).isEqualTo(1);
+
+        notifier.release("ORDER-1", waiter);
+        assertThat(notifier.getWaitingOrderCount()).isZero();
+        assertThat(waiter).isNotDone();
+    }
+
+    @Test
+    @DisplayName("상태 변경 알림 - 대기 요청의 후속 처리는 알림 전용 Executor에서 실행")
+    void notifyChanged_CompletesOnNotifyExecutor() throws Exception {
+        // given
+        ExecutorService notifyExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "notify-test"));
+        OrderStatusChangeNotifier asyncNotifier = new OrderStatusChangeNotifier(notifyExecutor);
+        CompletableFuture<String> handledOn = asyncNotifier.awaitChange("ORDER-1")
+                .thenApply(ignored -> Thread.currentThread().getName());
+
+        try {
+            // when
+            asyncNotifier.notifyChanged("ORDER-1");
+
+            // then
+            assertThat(handledOn.get(5, TimeUnit.SECONDS)).isEqualTo("notify-test");
+        } finally {
+            notifyExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("상태 변경 알림 - 대기 요청이 없는 주문은 무시")
+    void notifyChanged_NoWaiter_Ignored() {
+        // when
+        notifier.notifyChanged("ORDER-UNKNOWN");
+
+        // then
+        assertThat(notifier.getWaitingOrderCount()).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package com.early_express.order_service.domain.order.application.service;
+
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.vo.*;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("SagaUnitOfWork 쿼리 수 테스트")
+class SagaUnitOfWorkTest {
+
+    @Autowired
+    private SagaStepTransactionExecutor stepTransactionExecutor;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSagaRepository sagaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository.deleteAll();
+        orderRepository.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("재고 예약 Step 저장 - 건별 save 대비 Unit of Work 병합 시 실행 쿼리 수가 줄어든다")
+    void stockReservationStep_CoalescedWrites_IssueFewerStatements() {
+        // given - 건별 save (Order 2회, Saga 3회, 각각 개별 트랜잭션)
+        Order before = createAndSaveUniqueOrder();
+        statistics.clear();
+
+        OrderSaga saga = OrderSaga.create(before.getId());
+        saga.start();
+        saga = sagaRepository.save(saga);
+
+        before.startStockChecking();
+        orderRepository.save(before);
+
+        saga.startStep(SagaStep.STOCK_RESERVE);
+        sagaRepository.save(saga);
+
+        before.completeStockReservation("HUB-001");
+        orderRepository.save(before);
+
+        saga.completeStep(SagaStep.STOCK_RESERVE, reservedResponse(before));
+        sagaRepository.save(saga);
+
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        // when - Unit of Work (시작 / 결과 기록 트랜잭션에서 Order, Saga 각 1회)
+        Order after = createAndSaveUniqueOrder();
+        statistics.clear();
+
+        OrderSaga started = stepTransactionExecutor.execute(SagaStep.STOCK_RESERVE, SagaStepTransactionExecutor.PHASE_BEGIN, unitOfWork -> {
+            OrderSaga newSaga = OrderSaga.create(after.getId());
+            newSaga.start();
+            OrderSaga inserted = unitOfWork.insert(newSaga);
+            inserted.startStep(SagaStep.STOCK_RESERVE);
+
+            after.startStockChecking();
+            unitOfWork.register(after).register(inserted);
+        }).saga();
+
+        stepTransactionExecutor.execute(SagaStep.STOCK_RESERVE, SagaStepTransactionExecutor.PHASE_COMPLETE, unitOfWork -> {
+            after.completeStockReservation("HUB-001");
+            started.completeStep(SagaStep.STOCK_RESERVE, reservedResponse(after));
+
+            unitOfWork.register(after).register(started);
+        });
+
+        long statementsAfter = statistics.getPrepareStatementCount();
+
+        // then - 신규 Saga를 Step 히스토리와 함께 INSERT하므로 INSERT 직후의 Saga UPDATE가 사라진다
+        assertThat(statementsAfter).isLessThan(statementsBefore);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        OrderSaga savedSaga = sagaRepository.findByOrderId(after.getId()).orElseThrow();
+        assertThat(savedSaga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isTrue();
+        assertThat(orderRepository.findById(after.getId()).orElseThrow().getProductInfo().getProductHubId())
+                .isEqualTo("HUB-001");
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 여러 번 등록해도 Order / Saga는 한 번씩만 저장된다")
+    void register_Repeatedly_FlushesOnce() {
+        // given
+        Order order = createAndSaveUniqueOrder();
+        statistics.clear();
+
+        // when
+        stepTransactionExecutor.execute(SagaStep.STOCK_RESERVE, SagaStepTransactionExecutor.PHASE_BEGIN, unitOfWork -> {
+            order.startStockChecking();
+            unitOfWork.register(order);
+
+            order.completeStockReservation("HUB-001");
+            unitOfWork.register(order);
+        });
+
+        // then - Order 조회 없이 버전 조건 UPDATE 1회
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private InventoryReservationResponse reservedResponse(Order order) {
+        return InventoryReservationResponse.builder()
+                .reservationId("RES-001")
+                .orderId(order.getIdValue())
+                .allSuccess(true)
+                .reservedItems(List.of(
+                        InventoryReservationResponse.ReservedItem.builder()
+                                .productId("PROD-001")
+                                .hubId("HUB-001")
+                                .quantity(10)
+                                .success(true)
+                                .build()
+                ))
+                .build();
+    }
+
+    private Order createAndSaveUniqueOrder() {
+        Order order = Order.create(
+                OrderNumber.from(String.format("ORD-%s-%03d",
+                        LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")),
+                        (int) (Math.random() * 1000))),
+                CompanyInfo.of("COMP-001", "HUB-001", "COMP-002", "HUB-002"),
+                ProductInfo.of("PROD-001", 10),
+                ReceiverInfo.of(
+                        "홍길동",
+                        "010-1234-5678",
+                        "test@example.com",
+                        "서울시 강남구",
+                        "테헤란로 123",
+                        "06234",
+                        "문 앞에 놔주세요"
+                ),
+                RequestInfo.of(
+                        LocalDate.now().plusDays(1),
+                        LocalTime.of(14, 0),
+                        "조심히 배송 부탁드립니다"
+                ),
+                BigDecimal.valueOf(50000),
+                PgPaymentInfo.of("TOSS", "PG-PAY-" + System.nanoTime()),
+                "USER-001"
+        );
+
+        return orderRepository.save(order);
+    }
+}
@@ -1,5 +1,6 @@
 package com.early_express.order_service.domain.order.domain.model;
 
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -253,4 +254,111 @@ class OrderSagaTest {
                 .isInstanceOf(Exception.class)
                 .hasMessageContaining("가능합니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("병렬 Step을 시작하면 각 Step 히스토리가 생성된다")
+    void startParallelSteps() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+
+        // when
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+        // then
+        assertThat(saga.getCurrentStep()).isEqualTo(SagaStep.STOCK_RESERVE);
+        assertThat(saga.getStepHistory())
+                .extracting(SagaStepHistory::getStep)
+                .containsExactly(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+    }
+
+    @Test
+    @DisplayName("병렬 Step은 현재 Step과 관계없이 각각 완료할 수 있다")
+    void completeParallelSteps() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+        // when
+        saga.completeParallelStep(SagaStep.PAYMENT_VERIFY, "paymentData");
+        saga.completeParallelStep(SagaStep.STOCK_RESERVE, "stockData");
+
+        // then
+        assertThat(saga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isTrue();
+        assertThat(saga.hasSucceededStep(SagaStep.PAYMENT_VERIFY)).isTrue();
+        assertThat(saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE)).isEqualTo("stockData");
+        assertThat(saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY)).isEqualTo("paymentData");
+        assertThat(saga.isInProgress()).isTrue();
+    }
+
+    @Test
+    @DisplayName("병렬 Step 중 하나가 실패하면 성공한 Step은 보상 대상으로 남는다")
+    void failOneOfParallelSteps() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+        // when
+        saga.completeParallelStep(SagaStep.PAYMENT_VERIFY, "paymentData");
+        saga.failParallelStep(SagaStep.STOCK_RESERVE, "재고 부족");
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isFalse();
+        assertThat(saga.getCompletedStepsNeedingCompensation()).containsExactly(SagaStep.PAYMENT_VERIFY);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 병렬 Step을 다시 완료하면 예외가 발생한다")
+    void completeParallelStepTwice() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+        saga.completeParallelStep(SagaStep.STOCK_RESERVE, "stockData");
+
+        // when & then
+        assertThatThrownBy(() -> saga.completeParallelStep(SagaStep.STOCK_RESERVE, "stockData"))
+                .isInstanceOf(SagaException.class)
+                .hasMessageContaining("진행 중인 Step");
+    }
+
+    @Test
+    @DisplayName("병렬 Step이 모두 실패하면 첫 번째 실패 사유를 유지한다")
+    void failBothParallelSteps() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+        // when
+        saga.failParallelStep(SagaStep.STOCK_RESERVE, "재고 부족");
+        saga.failParallelStep(SagaStep.PAYMENT_VERIFY, "PG 오류");
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getFailureReason()).isEqualTo("재고 부족");
+        assertThat(saga.getCompletedStepsNeedingCompensation()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 보상을 실행한 Step은 보상 대상에서 제외된다")
+    void compensatedStepIsNotCompensatedAgain() {
+        // given
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+        saga.completeParallelStep(SagaStep.STOCK_RESERVE, "stockData");
+        saga.failParallelStep(SagaStep.PAYMENT_VERIFY, "PG 오류");
+
+        // when
+        saga.executeCompensation(SagaStep.STOCK_RESERVE, SagaStep.STOCK_RESTORE);
+        saga.completeCompensation(SagaStep.STOCK_RESTORE);
+
+        // then
+        assertThat(saga.isCompensationRecorded(SagaStep.STOCK_RESERVE)).isTrue();
+        assertThat(saga.getCompletedStepsNeedingCompensation()).isEmpty();
+    }
+}
@@ -80,6 +80,34 @@ class AiCalculationResultTest {
         assertThat(updated.getAiMessage()).isEqualTo(aiMessage);
     }
 
+    @Test
+    @DisplayName("로컬 추정 결과는 추정치로 표시되고, AI 결과로 갱신하면 표시가 해제된다")
+    void provisionalCalculation() {
+        // given
+        AiCalculationResult result = AiCalculationResult.withRouteOnly("{\"hubs\":[\"HUB-001\"]}");
+        LocalDateTime departureDeadline = LocalDateTime.now().plusHours(2);
+        LocalDateTime estimatedDeliveryTime = LocalDateTime.now().plusHours(24);
+
+        // when
+        AiCalculationResult provisional = result.withProvisionalCalculation(
+                departureDeadline,
+                estimatedDeliveryTime,
+                "로컬 추정치"
+        );
+        AiCalculationResult refined = provisional.withAiCalculation(
+                departureDeadline.minusMinutes(30),
+                estimatedDeliveryTime,
+                "계산 완료"
+        );
+
+        // then
+        assertThat(provisional.isCalculated()).isTrue();
+        assertThat(provisional.isProvisional()).isTrue();
+        assertThat(provisional.getRouteInfoJson()).isEqualTo(result.getRouteInfoJson());
+        assertThat(refined.isProvisional()).isFalse();
+        assertThat(result.isProvisional()).isFalse();
+    }
+
     @Test
     @DisplayName("허브가 2개 이상이면 허브 배송이 필요하다")
     void requiresHubDeliveryWithMultipleHubs() {
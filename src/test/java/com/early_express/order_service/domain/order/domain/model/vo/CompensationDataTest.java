@@ -1,5 +1,6 @@
 package com.early_express.order_service.domain.order.domain.model.vo;
 
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -197,4 +198,71 @@ class CompensationDataTest {
         assertThat(data1).isEqualTo(data2);
         assertThat(data1.hashCode()).isEqualTo(data2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("저장된 JSON은 등록된 Step 타입으로 바로 역직렬화된다")
+    void fromPersisted_DecodesRegisteredStepType() {
+        // given
+        CompensationPayloadRegistry registry = CompensationPayloadRegistry.empty()
+                .register(SagaStep.STOCK_RESERVE, Reservation.class);
+        String json = "{\"STOCK_RESERVE\":{\"reservationId\":\"RES-001\",\"quantity\":5},"
+                + "\"ROUTE_CALCULATE\":\"route-data\"}";
+
+        // when
+        CompensationData data = CompensationData.fromPersisted(json, registry);
+
+        // then
+        assertThat(data.getStepData(SagaStep.STOCK_RESERVE.name())).isInstanceOf(Reservation.class);
+        assertThat(data.getStepData(SagaStep.STOCK_RESERVE.name(), Reservation.class).reservationId())
+                .isEqualTo("RES-001");
+        assertThat(data.getStepData(SagaStep.ROUTE_CALCULATE.name())).isEqualTo("route-data");
+        assertThat(data.isModified()).isFalse();
+    }
+
+    @Test
+    @DisplayName("미등록 Step 데이터도 타입을 지정해 조회할 수 있다")
+    void getStepData_ConvertsUnregisteredStep() {
+        // given
+        CompensationData data = CompensationData.fromJson(
+                "{\"STOCK_RESERVE\":{\"reservationId\":\"RES-001\",\"quantity\":5}}");
+
+        // when
+        Reservation reservation = data.getStepData(SagaStep.STOCK_RESERVE.name(), Reservation.class);
+
+        // then
+        assertThat(reservation.reservationId()).isEqualTo("RES-001");
+        assertThat(reservation.quantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("변경되지 않은 데이터는 저장된 JSON을 그대로 반환한다")
+    void toJson_ReturnsPersistedJsonWhenUnchanged() {
+        // given
+        String json = "{\"step1\":\"data1\"}";
+        CompensationData data = CompensationData.fromPersisted(json, CompensationPayloadRegistry.empty());
+
+        // when & then
+        assertThat(data.toJson()).isSameAs(json);
+        assertThat(data.isModified()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Step 데이터를 추가하면 변경 상태가 되고, 저장 완료 처리 시 해제된다")
+    void modifiedFlag_TracksChangesUntilPersisted() {
+        // given
+        CompensationData persisted = CompensationData.fromPersisted("{}", CompensationPayloadRegistry.empty());
+
+        // when
+        CompensationData updated = persisted.addStepData("step1", "data1");
+        CompensationData saved = updated.markPersisted();
+
+        // then
+        assertThat(updated.isModified()).isTrue();
+        assertThat(saved.isModified()).isFalse();
+        assertThat(saved.toJson()).isSameAs(updated.toJson());
+        assertThat(saved).isEqualTo(updated);
+    }
+
+    record Reservation(String reservationId, Integer quantity) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.HedgedCall;
+import com.early_express.order_service.domain.order.infrastructure.client.support.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AiDeliveryTimeCache 테스트")
+class AiDeliveryTimeCacheTest {
+
+    private static final LocalDate DELIVERY_DATE = LocalDate.of(2026, 11, 2);
+
+    private final AiClient aiClient = mock(AiClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final FallbackEtaEstimator estimator = new FallbackEtaEstimator(0.995);
+
+    private AiDeliveryTimeCache createCache(boolean enabled) {
+        return new AiDeliveryTimeCache(aiClient, directCall(), estimator, meterRegistry, enabled, 100, Duration.ofMinutes(10), 30, nanos::get,
+                new SingleFlight<>(AiDeliveryTimeCache.CACHE_NAME, true, Duration.ofSeconds(1), meterRegistry));
+    }
+
+    @Nested
+    @DisplayName("calculateDeliveryTime 메서드는")
+    class CalculateDeliveryTimeTest {
+
+        @Test
+        @DisplayName("같은 경로 / 같은 시간대는 AI Service를 다시 호출하지 않고 납품 희망 시각 기준으로 다시 계산한다")
+        void shouldReuseEstimateWithinBucket() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+
+            // when
+            AiTimeCalculationResponse first = cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+            AiTimeCalculationResponse second = cache.calculateDeliveryTime(request("ORDER-002", "HUB-003", LocalTime.of(14, 20)));
+
+            // then
+            verify(aiClient, times(1)).calculateDeliveryTime(any());
+            assertThat(first.getOrderId()).isEqualTo("ORDER-001");
+            assertThat(second.getOrderId()).isEqualTo("ORDER-002");
+            assertThat(second.isSuccessful()).isTrue();
+            assertThat(second.getCalculatedDepartureDeadline()).isEqualTo(DELIVERY_DATE.atTime(9, 40));
+            assertThat(second.getEstimatedDeliveryTime()).isEqualTo(DELIVERY_DATE.atTime(14, 10));
+            assertThat(second.getTotalDeliveryDurationMinutes()).isEqualTo(270);
+        }
+
+        @Test
+        @DisplayName("시간대 / 도착 허브가 다르면 따로 계산한다")
+        void shouldSeparateByBucketAndRoute() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+
+            // when
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+            cache.calculateDeliveryTime(request("ORDER-002", "HUB-003", LocalTime.of(14, 30)));
+            cache.calculateDeliveryTime(request("ORDER-003", "HUB-004", LocalTime.of(14, 0)));
+
+            // then
+            verify(aiClient, times(3)).calculateDeliveryTime(any());
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다시 계산한다")
+        void shouldReloadAfterTtl() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+
+            // when
+            nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+            cache.calculateDeliveryTime(request("ORDER-002", "HUB-003", LocalTime.of(14, 0)));
+
+            // then
+            verify(aiClient, times(2)).calculateDeliveryTime(any());
+        }
+
+        @Test
+        @DisplayName("실패 응답과 예외는 캐시하지 않는다")
+        void shouldNotCacheFailures() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            AiTimeCalculationResponse failed = AiTimeCalculationResponse.builder()
+                    .orderId("ORDER-001")
+                    .success(false)
+                    .errorMessage("모델 응답 없음")
+                    .build();
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willThrow(new IllegalStateException("AI Service 오류"))
+                    .willReturn(failed)
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+            AiTimeCalculationRequest request = request("ORDER-001", "HUB-003", LocalTime.of(14, 0));
+
+            // when
+            assertThatThrownBy(() -> cache.calculateDeliveryTime(request)).isInstanceOf(IllegalStateException.class);
+            AiTimeCalculationResponse failedResult = cache.calculateDeliveryTime(request);
+            AiTimeCalculationResponse successResult = cache.calculateDeliveryTime(request);
+
+            // then
+            assertThat(failedResult).isSameAs(failed);
+            assertThat(successResult.isSuccessful()).isTrue();
+            verify(aiClient, times(3)).calculateDeliveryTime(any());
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 AI Service를 호출한다")
+        void shouldBypassWhenDisabled() {
+            // given
+            AiDeliveryTimeCache cache = createCache(false);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+
+            // when
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+
+            // then
+            verify(aiClient, times(2)).calculateDeliveryTime(any());
+        }
+
+        @Test
+        @DisplayName("실제 AI Service 응답만 로컬 추정기 학습에 사용하고 캐시 적중은 학습하지 않는다")
+        void shouldObserveOnlyDownstreamResponses() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+
+            // when
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+            cache.calculateDeliveryTime(request("ORDER-002", "HUB-003", LocalTime.of(14, 10)));
+            cache.calculateDeliveryTime(request("ORDER-003", "HUB-003", LocalTime.of(14, 20)));
+
+            // then
+            verify(aiClient, times(1)).calculateDeliveryTime(any());
+            assertThat(estimator.getSamples()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("시간대 단위가 범위를 벗어나면 생성 시점에 실패한다")
+        void invalidBucket_FailsFast() {
+            // when & then
+            assertThatThrownBy(() -> new AiDeliveryTimeCache(
+                    aiClient, directCall(), estimator, meterRegistry, true, 100, Duration.ofMinutes(10), 0, nanos::get,
+                    new SingleFlight<>(AiDeliveryTimeCache.CACHE_NAME, true, Duration.ofSeconds(1), meterRegistry)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("시간대 단위");
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭은")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("적중 / 미적중 건수, 적중률, 적중 항목의 경과 시간을 기록한다")
+        void shouldRecordHitRatioAndStaleness() {
+            // given
+            AiDeliveryTimeCache cache = createCache(true);
+            given(aiClient.calculateDeliveryTime(any()))
+                    .willReturn(successResponse("ORDER-001", LocalTime.of(14, 0)));
+
+            // when
+            cache.calculateDeliveryTime(request("ORDER-001", "HUB-003", LocalTime.of(14, 0)));
+            nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+            cache.calculateDeliveryTime(request("ORDER-002", "HUB-003", LocalTime.of(14, 10)));
+
+            // then
+            assertThat(meterRegistry.get("cache.gets").tag("cache", AiDeliveryTimeCache.CACHE_NAME).tag("result", "hit")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", AiDeliveryTimeCache.CACHE_NAME).tag("result", "miss")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", AiDeliveryTimeCache.CACHE_NAME)
+                    .gauge().value()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("cache.hit.age").tag("cache", AiDeliveryTimeCache.CACHE_NAME)
+                    .timer().max(TimeUnit.MINUTES)).isEqualTo(4.0);
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    /**
+     * 헤지 없이 호출 스레드에서 바로 호출 (헤지 동작은 HedgedCallTest에서 검증)
+     */
+    private HedgedCall directCall() {
+        return new HedgedCall("ai-service", false, 0.95, Duration.ofMillis(300), Duration.ofMillis(50), 0.1, meterRegistry);
+    }
+
+    private static AiTimeCalculationRequest request(String orderId, String destinationHubId, LocalTime requestedTime) {
+        return AiTimeCalculationRequest.of(
+                orderId,
+                "HUB-001",
+                destinationHubId,
+                List.of("HUB-001", "HUB-002", destinationHubId),
+                true,
+                150.5,
+                "{\"sections\": []}",
+                DELIVERY_DATE,
+                requestedTime,
+                "서울시 강남구 테헤란로 123",
+                "2층 202호",
+                10,
+                null
+        );
+    }
+
+    /**
+     * 납품 희망 시각 4시간 40분 전 발송, 10분 전 도착
+     */
+    private static AiTimeCalculationResponse successResponse(String orderId, LocalTime requestedTime) {
+        LocalDateTime requestedAt = DELIVERY_DATE.atTime(requestedTime);
+        return AiTimeCalculationResponse.builder()
+                .orderId(orderId)
+                .calculatedDepartureDeadline(requestedAt.minusHours(4).minusMinutes(40))
+                .estimatedDeliveryTime(requestedAt.minusMinutes(10))
+                .aiMessage("경유 허브 2곳, 평일 오후 교통량 반영")
+                .success(true)
+                .hubDeliveryDurationMinutes(180)
+                .lastMileDeliveryDurationMinutes(90)
+                .totalDeliveryDurationMinutes(270)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AiDeliveryTimeResolver 테스트")
+class AiDeliveryTimeResolverTest {
+
+    private final AiDeliveryTimeCache aiDeliveryTimeCache = mock(AiDeliveryTimeCache.class);
+    private final FallbackEtaEstimator estimator = new FallbackEtaEstimator(0.995);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AiDeliveryTimeResolver createResolver(boolean fallbackEnabled) {
+        return new AiDeliveryTimeResolver(aiDeliveryTimeCache, estimator, meterRegistry, fallbackEnabled, 100);
+    }
+
+    @Nested
+    @DisplayName("calculateDeliveryTime 메서드는")
+    class CalculateDeliveryTimeTest {
+
+        @Test
+        @DisplayName("예산 안의 AI 성공 응답은 그대로 반환하고, 캐시를 거친 결과는 여기서 학습하지 않는다")
+        void shouldReturnAiResponseWithinBudget() {
+            // given
+            AiDeliveryTimeResolver resolver = createResolver(true);
+            AiTimeCalculationResponse aiResponse = successResponse();
+            given(aiDeliveryTimeCache.calculateDeliveryTime(any())).willReturn(aiResponse);
+
+            // when
+            AiTimeCalculationResponse result = resolver.calculateDeliveryTime(request());
+
+            // then
+            assertThat(result).isSameAs(aiResponse);
+            assertThat(result.isProvisional()).isFalse();
+            assertThat(estimator.getSamples()).isZero();
+        }
+
+        @Test
+        @DisplayName("AI 응답이 예산을 넘기면 로컬 추정치를 반환한다")
+        void shouldFallbackOnTimeout() {
+            // given
+            AiDeliveryTimeResolver resolver = createResolver(true);
+            CountDownLatch release = new CountDownLatch(1);
+            given(aiDeliveryTimeCache.calculateDeliveryTime(any())).willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return successResponse();
+            });
+
+            // when
+            AiTimeCalculationResponse result = resolver.calculateDeliveryTime(request());
+            release.countDown();
+
+            // then
+            assertThat(result.isProvisional()).isTrue();
+            assertThat(result.isSuccessful()).isTrue();
+            assertThat(fallbackCount("timeout")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("AI 호출 오류 / 실패 응답이면 로컬 추정치를 반환한다")
+        void shouldFallbackOnErrorAndUnsuccessfulResponse() {
+            // given
+            AiDeliveryTimeResolver resolver = createResolver(true);
+            given(aiDeliveryTimeCache.calculateDeliveryTime(any()))
+                    .willThrow(new IllegalStateException("AI Service 오류"))
+                    .willReturn(AiTimeCalculationResponse.builder().success(false).errorMessage("모델 오류").build());
+
+            // when
+            AiTimeCalculationResponse onError = resolver.calculateDeliveryTime(request());
+            AiTimeCalculationResponse onFailure = resolver.calculateDeliveryTime(request());
+
+            // then
+            assertThat(onError.isProvisional()).isTrue();
+            assertThat(onFailure.isProvisional()).isTrue();
+            assertThat(fallbackCount("error")).isEqualTo(1);
+            assertThat(fallbackCount("unsuccessful")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비활성화되면 AI 오류를 그대로 전달한다")
+        void shouldPropagateErrorWhenDisabled() {
+            // given
+            AiDeliveryTimeResolver resolver = createResolver(false);
+            given(aiDeliveryTimeCache.calculateDeliveryTime(any()))
+                    .willThrow(new IllegalStateException("AI Service 오류"));
+
+            // when & then
+            assertThatThrownBy(() -> resolver.calculateDeliveryTime(request()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("AI Service 오류");
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private double fallbackCount(String reason) {
+        return meterRegistry.get("client.ai-service.fallback").tag("reason", reason).counter().count();
+    }
+
+    private static AiTimeCalculationRequest request() {
+        return FallbackEtaEstimatorTest.request(150.0, 3);
+    }
+
+    private static AiTimeCalculationResponse successResponse() {
+        LocalDate date = LocalDate.of(2026, 11, 2);
+        return AiTimeCalculationResponse.builder()
+                .orderId("ORDER-001")
+                .calculatedDepartureDeadline(date.atTime(8, 0))
+                .estimatedDeliveryTime(date.atTime(13, 40))
+                .success(true)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.early_express.order_service.domain.order.infrastructure.client.ai;
+
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.ai.dto.AiTimeCalculationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FallbackEtaEstimator 테스트")
+class FallbackEtaEstimatorTest {
+
+    private static final LocalDate DELIVERY_DATE = LocalDate.of(2026, 11, 2);
+    private static final LocalTime DELIVERY_TIME = LocalTime.of(14, 0);
+
+    @Nested
+    @DisplayName("estimate 메서드는")
+    class EstimateTest {
+
+        @Test
+        @DisplayName("학습 전에는 기본 계수로 추정하고 추정치로 표시한다")
+        void shouldUseDefaultCoefficientsBeforeLearning() {
+            // given
+            FallbackEtaEstimator estimator = new FallbackEtaEstimator(0.995);
+
+            // when - 기본 60분 + 100km × 1.5분 + 허브 3개 × 45분 = 345분, 여유 30분
+            AiTimeCalculationResponse estimate = estimator.estimate(request(100.0, 3), "AI 응답 지연");
+
+            // then
+            assertThat(estimate.isSuccessful()).isTrue();
+            assertThat(estimate.isProvisional()).isTrue();
+            assertThat(estimate.getOrderId()).isEqualTo("ORDER-001");
+            assertThat(estimate.getEstimatedDeliveryTime()).isEqualTo(DELIVERY_DATE.atTime(13, 30));
+            assertThat(estimate.getCalculatedDepartureDeadline()).isEqualTo(DELIVERY_DATE.atTime(7, 45));
+            assertThat(estimate.getTotalDeliveryDurationMinutes()).isEqualTo(345);
+            assertThat(estimate.getAiMessage()).contains("AI 응답 지연");
+        }
+
+        @Test
+        @DisplayName("과거 AI 응답으로 학습한 계수로 추정한다")
+        void shouldLearnFromAiResponses() {
+            // given - AI: 이동 = 30분 + km당 2분 + 허브당 20분, 여유 15분
+            FallbackEtaEstimator estimator = new FallbackEtaEstimator(1.0);
+            List<double[]> routes = new ArrayList<>();
+            for (int distance = 20; distance <= 300; distance += 20) {
+                for (int hubs = 1; hubs <= 4; hubs++) {
+                    routes.add(new double[]{distance, hubs});
+                }
+            }
+            for (double[] route : routes) {
+                AiTimeCalculationRequest request = request(route[0], (int) route[1]);
+                estimator.observe(request, aiResponse(30 + 2 * route[0] + 20 * route[1], 15));
+            }
+
+            // when - 150km, 허브 2개 → 이동 370분
+            AiTimeCalculationResponse estimate = estimator.estimate(request(150.0, 2), "AI 호출 오류");
+
+            // then
+            long transit = Duration.between(
+                    estimate.getCalculatedDepartureDeadline(), estimate.getEstimatedDeliveryTime()).toMinutes();
+            long slack = Duration.between(
+                    estimate.getEstimatedDeliveryTime(), DELIVERY_DATE.atTime(DELIVERY_TIME)).toMinutes();
+            assertThat(estimator.getSamples()).isEqualTo(routes.size());
+            assertThat(transit).isBetween(365L, 375L);
+            assertThat(slack).isBetween(14L, 16L);
+        }
+
+        @Test
+        @DisplayName("실패 응답과 로컬 추정 응답은 학습하지 않는다")
+        void shouldIgnoreFailedAndProvisionalResponses() {
+            // given
+            FallbackEtaEstimator estimator = new FallbackEtaEstimator(0.995);
+            AiTimeCalculationResponse failed = AiTimeCalculationResponse.builder().success(false).build();
+            AiTimeCalculationResponse provisional = estimator.estimate(request(100.0, 3), "AI 응답 지연");
+
+            // when
+            estimator.observe(request(100.0, 3), failed);
+            estimator.observe(request(100.0, 3), provisional);
+            estimator.observe(request(100.0, 3), null);
+
+            // then
+            assertThat(estimator.getSamples()).isZero();
+        }
+
+        @Test
+        @DisplayName("납품 희망 일시가 없으면 추정할 수 없다")
+        void shouldRejectRequestWithoutRequestedTime() {
+            // given
+            FallbackEtaEstimator estimator = new FallbackEtaEstimator(0.995);
+            AiTimeCalculationRequest request = AiTimeCalculationRequest.builder()
+                    .orderId("ORDER-001")
+                    .estimatedDistance(100.0)
+                    .routeHubs(List.of("HUB-001"))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> estimator.estimate(request, "AI 응답 지연"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("납품 희망 일시");
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    static AiTimeCalculationRequest request(double distance, int hubCount) {
+        List<String> routeHubs = new ArrayList<>();
+        for (int i = 1; i <= hubCount; i++) {
+            routeHubs.add("HUB-00" + i);
+        }
+        return AiTimeCalculationRequest.builder()
+                .orderId("ORDER-001")
+                .originHubId("HUB-001")
+                .destinationHubId(routeHubs.get(routeHubs.size() - 1))
+                .routeHubs(routeHubs)
+                .requiresHubDelivery(hubCount > 1)
+                .estimatedDistance(distance)
+                .requestedDeliveryDate(DELIVERY_DATE)
+                .requestedDeliveryTime(DELIVERY_TIME)
+                .deliveryAddress("서울시 강남구 테헤란로 123")
+                .quantity(10)
+                .build();
+    }
+
+    private static AiTimeCalculationResponse aiResponse(double transitMinutes, long slackMinutes) {
+        LocalDateTime estimatedDeliveryTime = DELIVERY_DATE.atTime(DELIVERY_TIME).minusMinutes(slackMinutes);
+        return AiTimeCalculationResponse.builder()
+                .orderId("ORDER-001")
+                .calculatedDepartureDeadline(estimatedDeliveryTime.minusMinutes(Math.round(transitMinutes)))
+                .estimatedDeliveryTime(estimatedDeliveryTime)
+                .success(true)
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.early_express.order_service.domain.order.infrastructure.client.hub;
+
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.support.HedgedCall;
+import com.early_express.order_service.domain.order.infrastructure.client.support.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HubRouteCache 테스트")
+class HubRouteCacheTest {
+
+    private final HubClient hubClient = mock(HubClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private HubRouteCache createCache(boolean enabled) {
+        return new HubRouteCache(hubClient, directCall(), meterRegistry, enabled, 100, Duration.ofMinutes(10), nanos::get,
+                new SingleFlight<>(HubRouteCache.CACHE_NAME, true, Duration.ofSeconds(1), meterRegistry));
+    }
+
+    @Nested
+    @DisplayName("calculateRoute 메서드는")
+    class CalculateRouteTest {
+
+        @Test
+        @DisplayName("같은 출발 허브 / 정규화 주소는 Hub Service를 다시 호출하지 않고 요청 주문 ID로 반환한다")
+        void shouldReuseRouteForSameDestination() {
+            // given
+            HubRouteCache cache = createCache(true);
+            given(hubClient.calculateRoute(any())).willReturn(routeResponse("ORDER-001", "HUB-003"));
+
+            // when
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+            HubRouteCalculationResponse second =
+                    cache.calculateRoute(request("ORDER-002", "HUB-001", "  서울시  강남구 테헤란로 123 "));
+
+            // then
+            verify(hubClient, times(1)).calculateRoute(any());
+            assertThat(second.getOrderId()).isEqualTo("ORDER-002");
+            assertThat(second.getDestinationHubId()).isEqualTo("HUB-003");
+            assertThat(second.getRouteHubs()).containsExactly("HUB-001", "HUB-002", "HUB-003");
+        }
+
+        @Test
+        @DisplayName("출발 허브가 다르면 따로 계산한다")
+        void shouldSeparateByOriginHub() {
+            // given
+            HubRouteCache cache = createCache(true);
+            given(hubClient.calculateRoute(any())).willReturn(routeResponse("ORDER-001", "HUB-003"));
+
+            // when
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+            cache.calculateRoute(request("ORDER-002", "HUB-009", "서울시 강남구 테헤란로 123"));
+
+            // then
+            verify(hubClient, times(2)).calculateRoute(any());
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다시 계산한다")
+        void shouldReloadAfterTtl() {
+            // given
+            HubRouteCache cache = createCache(true);
+            given(hubClient.calculateRoute(any())).willReturn(routeResponse("ORDER-001", "HUB-003"));
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+
+            // when
+            nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+            cache.calculateRoute(request("ORDER-002", "HUB-001", "서울시 강남구 테헤란로 123"));
+
+            // then
+            verify(hubClient, times(2)).calculateRoute(any());
+        }
+
+        @Test
+        @DisplayName("실패와 도착 허브가 없는 응답은 캐시하지 않는다")
+        void shouldNotCacheFailures() {
+            // given
+            HubRouteCache cache = createCache(true);
+            given(hubClient.calculateRoute(any()))
+                    .willThrow(new IllegalStateException("Hub Service 오류"))
+                    .willReturn(routeResponse("ORDER-001", null))
+                    .willReturn(routeResponse("ORDER-001", "HUB-003"));
+            HubRouteCalculationRequest request = request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123");
+
+            // when
+            assertThatThrownBy(() -> cache.calculateRoute(request)).isInstanceOf(IllegalStateException.class);
+            HubRouteCalculationResponse incomplete = cache.calculateRoute(request);
+            HubRouteCalculationResponse complete = cache.calculateRoute(request);
+
+            // then
+            assertThat(incomplete.getDestinationHubId()).isNull();
+            assertThat(complete.getDestinationHubId()).isEqualTo("HUB-003");
+            verify(hubClient, times(3)).calculateRoute(any());
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 Hub Service를 호출한다")
+        void shouldBypassWhenDisabled() {
+            // given
+            HubRouteCache cache = createCache(false);
+            given(hubClient.calculateRoute(any())).willReturn(routeResponse("ORDER-001", "HUB-003"));
+
+            // when
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+
+            // then
+            verify(hubClient, times(2)).calculateRoute(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭은")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("적중 / 미적중 건수, 적중률, 로딩 시간을 기록한다")
+        void shouldRecordHitRatioAndLoadTime() {
+            // given
+            HubRouteCache cache = createCache(true);
+            given(hubClient.calculateRoute(any())).willReturn(routeResponse("ORDER-001", "HUB-003"));
+
+            // when
+            cache.calculateRoute(request("ORDER-001", "HUB-001", "서울시 강남구 테헤란로 123"));
+            cache.calculateRoute(request("ORDER-002", "HUB-001", "서울시 강남구 테헤란로 123"));
+            cache.calculateRoute(request("ORDER-003", "HUB-001", "서울시 강남구 테헤란로 123"));
+            cache.calculateRoute(request("ORDER-004", "HUB-001", "서울시 강남구 테헤란로 123"));
+
+            // then
+            assertThat(meterRegistry.get("cache.gets").tag("cache", HubRouteCache.CACHE_NAME).tag("result", "hit")
+                    .counter().count()).isEqualTo(3);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", HubRouteCache.CACHE_NAME).tag("result", "miss")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", HubRouteCache.CACHE_NAME)
+                    .gauge().value()).isEqualTo(0.75);
+            assertThat(meterRegistry.get("cache.loads").tag("cache", HubRouteCache.CACHE_NAME).tag("result", "success")
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("normalizeAddress 메서드는")
+    class NormalizeAddressTest {
+
+        @Test
+        @DisplayName("공백 / 쉼표 / 전각 문자 / 대소문자 차이를 없앤다")
+        void shouldNormalizeFormattingDifferences() {
+            // then
+            assertThat(HubRouteCache.normalizeAddress(" 서울시,  강남구 테헤란로 １２３ - ４５ "))
+                    .isEqualTo(HubRouteCache.normalizeAddress("서울시 강남구 테헤란로 123-45"))
+                    .isEqualTo("서울시 강남구 테헤란로 123-45");
+            assertThat(HubRouteCache.normalizeAddress("Seoul Gangnam-gu"))
+                    .isEqualTo(HubRouteCache.normalizeAddress("SEOUL  GANGNAM - GU"));
+            assertThat(HubRouteCache.normalizeAddress(null)).isEmpty();
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    /**
+     * 헤지 없이 호출 스레드에서 바로 호출 (헤지 동작은 HedgedCallTest에서 검증)
+     */
+    private HedgedCall directCall() {
+        return new HedgedCall("hub-service", false, 0.95, Duration.ofMillis(300), Duration.ofMillis(50), 0.1, meterRegistry);
+    }
+
+    private static HubRouteCalculationRequest request(String orderId, String originHubId, String address) {
+        return HubRouteCalculationRequest.of(orderId, originHubId, address, "2층 202호");
+    }
+
+    private static HubRouteCalculationResponse routeResponse(String orderId, String destinationHubId) {
+        return HubRouteCalculationResponse.builder()
+                .orderId(orderId)
+                .originHubId("HUB-001")
+                .destinationHubId(destinationHubId)
+                .routeHubs(List.of("HUB-001", "HUB-002", "HUB-003"))
+                .requiresHubDelivery(true)
+                .estimatedDistance(150.5)
+                .routeInfoJson("{\"sections\": []}")
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DownstreamResilience 테스트")
+class DownstreamResilienceTest {
+
+    private static final String HUB = "hub-service";
+    private static final String AI = "ai-service";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("client.resilience.default.sliding-window-size", "4")
+            .withProperty("client.resilience.default.minimum-number-of-calls", "4")
+            .withProperty("client.resilience.default.failure-rate-threshold", "50")
+            .withProperty("client.resilience.default.wait-duration-in-open-state-ms", "60000")
+            .withProperty("client.resilience.ai-service.max-concurrent-calls", "1");
+
+    private final DownstreamResilience resilience = new DownstreamResilience(environment, meterRegistry, true);
+
+    @Nested
+    @DisplayName("회로 차단기는")
+    class CircuitBreakerTest {
+
+        @Test
+        @DisplayName("5xx 응답이 임계치를 넘으면 열리고 이후 호출은 원격 호출 없이 즉시 실패한다")
+        void shouldOpenOnServerErrors() throws IOException {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+            for (int i = 0; i < 4; i++) {
+                resilience.execute(HUB, () -> {
+                    calls.incrementAndGet();
+                    return response(HUB, 503);
+                });
+            }
+
+            // when & then
+            assertThatThrownBy(() -> resilience.execute(HUB, () -> {
+                calls.incrementAndGet();
+                return response(HUB, 200);
+            }))
+                    .isInstanceOf(SagaException.class)
+                    .extracting(e -> ((SagaException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.EXTERNAL_SERVICE_CIRCUIT_OPEN);
+
+            assertThat(calls.get()).isEqualTo(4);
+            assertThat(resilience.circuitBreaker(HUB).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("네트워크 오류도 실패로 집계하고 예외는 그대로 전달한다")
+        void shouldCountIoErrors() {
+            // when
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> resilience.execute(HUB, () -> {
+                    throw new ConnectException("Connection refused");
+                })).isInstanceOf(ConnectException.class);
+            }
+
+            // then
+            assertThat(resilience.circuitBreaker(HUB).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("4xx 응답은 업무 오류이므로 실패로 집계하지 않는다")
+        void shouldNotCountClientErrors() throws IOException {
+            // when
+            for (int i = 0; i < 8; i++) {
+                resilience.execute(HUB, () -> response(HUB, 409));
+            }
+
+            // then
+            CircuitBreaker circuitBreaker = resilience.circuitBreaker(HUB);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        }
+
+        @Test
+        @DisplayName("한 서비스의 회로가 열려도 다른 서비스 호출에는 영향이 없다")
+        void shouldIsolateClients() throws IOException {
+            // given
+            for (int i = 0; i < 4; i++) {
+                resilience.execute(HUB, () -> response(HUB, 500));
+            }
+
+            // when
+            Response response = resilience.execute(AI, () -> response(AI, 200));
+
+            // then
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(resilience.circuitBreaker(HUB).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(resilience.circuitBreaker(AI).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulkhead는")
+    class BulkheadTest {
+
+        @Test
+        @DisplayName("동시 호출 한도를 넘으면 대기 없이 즉시 실패한다")
+        void shouldRejectWhenFull() throws Exception {
+            // given - ai-service 동시 호출 한도 1
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Response> inFlight = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return resilience.execute(AI, () -> {
+                        started.countDown();
+                        await(release);
+                        return response(AI, 200);
+                    });
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> resilience.execute(AI, () -> response(AI, 200)))
+                    .isInstanceOf(SagaException.class)
+                    .extracting(e -> ((SagaException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.EXTERNAL_SERVICE_BULKHEAD_FULL);
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+            assertThat(resilience.execute(AI, () -> response(AI, 200)).status()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("거절된 호출은 회로 차단기 실패로 집계하지 않는다")
+        void rejectedCall_IsNotCountedAsFailure() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> {
+                try {
+                    resilience.execute(AI, () -> {
+                        started.countDown();
+                        await(release);
+                        return response(AI, 200);
+                    });
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> resilience.execute(AI, () -> response(AI, 200)))
+                        .isInstanceOf(SagaException.class);
+            }
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+
+            // then
+            CircuitBreaker circuitBreaker = resilience.circuitBreaker(AI);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("설정 / 메트릭")
+    class ConfigTest {
+
+        @Test
+        @DisplayName("Client별 설정이 없으면 기본 설정을 사용하고 임계치를 메트릭으로 노출한다")
+        void shouldExportThresholds() throws IOException {
+            // when
+            resilience.execute(HUB, () -> response(HUB, 200));
+            resilience.execute(AI, () -> response(AI, 200));
+
+            // then
+            assertThat(meterRegistry.get("client.resilience.max-concurrent-calls").tag("name", HUB).gauge().value())
+                    .isEqualTo(20.0);
+            assertThat(meterRegistry.get("client.resilience.max-concurrent-calls").tag("name", AI).gauge().value())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("client.resilience.failure-rate-threshold").tag("name", HUB).gauge().value())
+                    .isEqualTo(50.0);
+            assertThat(meterRegistry.find("resilience4j.circuitbreaker.state").tag("name", HUB).gauges())
+                    .isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("동시에 처음 호출해도 Client별 회로 차단기 / Bulkhead는 하나만 생성된다")
+        void concurrentFirstCalls_CreateSingleInstance() throws Exception {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch ready = new CountDownLatch(1);
+
+            // when
+            List<Future<CircuitBreaker>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    resilience.bulkhead(HUB);
+                    return resilience.circuitBreaker(HUB);
+                }));
+            }
+            ready.countDown();
+
+            Set<CircuitBreaker> created = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<CircuitBreaker> future : futures) {
+                created.add(future.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(created).hasSize(1);
+            assertThat(meterRegistry.find("client.resilience.failure-rate-threshold").tag("name", HUB).gauges())
+                    .hasSize(1);
+            assertThat(meterRegistry.find("client.resilience.max-concurrent-calls").tag("name", HUB).gauges())
+                    .hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Client 이름이 없으면 보호 없이 호출하지 않고 즉시 실패한다")
+        void nullClient_FailsFast() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when & then
+            assertThatThrownBy(() -> resilience.execute(null, () -> {
+                calls.incrementAndGet();
+                return response(HUB, 200);
+            })).isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("비활성화하면 회로 차단기 / Bulkhead 없이 그대로 호출한다")
+        void disabled_PassesThrough() throws IOException {
+            // given
+            DownstreamResilience disabled = new DownstreamResilience(environment, meterRegistry, false);
+
+            // when
+            for (int i = 0; i < 8; i++) {
+                disabled.execute(HUB, () -> response(HUB, 500));
+            }
+
+            // then
+            assertThat(disabled.execute(HUB, () -> response(HUB, 200)).status()).isEqualTo(200);
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private static Response response(String client, int status) {
+        Request request = Request.create(
+                Request.HttpMethod.GET, "http://" + client + "/api", Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
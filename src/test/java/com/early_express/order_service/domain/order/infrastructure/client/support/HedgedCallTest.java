@@ -0,0 +1,260 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HedgedCall 테스트")
+class HedgedCallTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HedgedCall createHedge(double budgetRatio) {
+        return new HedgedCall("test", true, 0.95, Duration.ofMillis(30), Duration.ofMillis(10), budgetRatio,
+                meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드는")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("첫 요청이 지연 기준 안에 끝나면 헤지하지 않는다")
+        void shouldNotHedgeFastCall() {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            String result = hedge.execute(() -> {
+                attempts.incrementAndGet();
+                return "ROUTE";
+            });
+
+            // then
+            assertThat(result).isEqualTo("ROUTE");
+            assertThat(attempts.get()).isEqualTo(1);
+            assertThat(count("sent")).isZero();
+        }
+
+        @Test
+        @DisplayName("첫 요청이 느리면 헤지 요청을 보내고 먼저 도착한 응답을 사용한다")
+        void shouldUseHedgeWhenPrimaryIsSlow() {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+            AtomicInteger attempts = new AtomicInteger();
+            CountDownLatch slowInstance = new CountDownLatch(1);
+
+            // when - 첫 요청은 느린 인스턴스, 헤지 요청은 정상 인스턴스
+            String result = hedge.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(slowInstance);
+                    return "SLOW";
+                }
+                return "FAST";
+            });
+            slowInstance.countDown();
+
+            // then
+            assertThat(result).isEqualTo("FAST");
+            assertThat(attempts.get()).isEqualTo(2);
+            assertThat(count("sent")).isEqualTo(1);
+            assertThat(count("won")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("먼저 성공한 응답이 정해지면 남은 요청은 취소한다")
+        void shouldCancelLosingAttempt() throws InterruptedException {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+            AtomicInteger attempts = new AtomicInteger();
+            CountDownLatch cancelled = new CountDownLatch(1);
+
+            // when - 첫 요청은 응답하지 않는 인스턴스
+            String result = hedge.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return "SLOW";
+                }
+                return "FAST";
+            });
+
+            // then
+            assertThat(result).isEqualTo("FAST");
+            assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("호출 스레드의 MDC를 요청 스레드로 전달한다")
+        void shouldPropagateMdc() {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+            MDC.put("traceId", "trace-1");
+
+            try {
+                // when
+                String traceId = hedge.execute(() -> MDC.get("traceId"));
+
+                // then
+                assertThat(traceId).isEqualTo("trace-1");
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        @Test
+        @DisplayName("한쪽이 실패하면 다른 쪽 응답을 사용하고, 둘 다 실패하면 예외를 전달한다")
+        void shouldToleratePartialFailure() {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when - 첫 요청은 지연 후 실패, 헤지 요청은 성공
+            String result = hedge.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    sleep(60);
+                    throw new IllegalStateException("인스턴스 오류");
+                }
+                return "FAST";
+            });
+
+            // then
+            assertThat(result).isEqualTo("FAST");
+
+            // when & then - 둘 다 실패
+            assertThatThrownBy(() -> hedge.execute(() -> {
+                sleep(60);
+                throw new IllegalStateException("Hub Service 오류");
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Hub Service 오류");
+        }
+
+        @Test
+        @DisplayName("헤지 예산이 없으면 첫 요청을 기다린다")
+        void shouldSkipHedgeWithoutBudget() {
+            // given - 호출 10건당 헤지 1건
+            HedgedCall hedge = createHedge(0.1);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            String result = hedge.execute(() -> {
+                attempts.incrementAndGet();
+                sleep(60);
+                return "SLOW";
+            });
+
+            // then
+            assertThat(result).isEqualTo("SLOW");
+            assertThat(attempts.get()).isEqualTo(1);
+            assertThat(count("skipped")).isEqualTo(1);
+            assertThat(count("sent")).isZero();
+        }
+
+        @Test
+        @DisplayName("응답 시간 표본이 쌓이면 백분위 기준으로 지연을 정한다")
+        void shouldDeriveDelayFromLatencyPercentile() {
+            // given
+            HedgedCall hedge = createHedge(0.1);
+
+            // when - 빠른 응답 표본 누적
+            for (int i = 0; i < 30; i++) {
+                hedge.execute(() -> "ROUTE");
+            }
+
+            // then - 표본이 모두 짧으므로 하한(10ms) 적용
+            assertThat(hedge.hedgeDelay()).isEqualTo(Duration.ofMillis(10));
+        }
+
+        @Test
+        @DisplayName("지연 기준은 표본이 일정 건수 쌓일 때마다 다시 계산한다")
+        void shouldRecomputeDelayPeriodically() {
+            // given - 빠른 표본으로 첫 지연 기준 계산 (하한 10ms)
+            HedgedCall hedge = createHedge(0.0);
+            for (int i = 0; i < 20; i++) {
+                hedge.execute(() -> "ROUTE");
+            }
+            assertThat(hedge.hedgeDelay()).isEqualTo(Duration.ofMillis(10));
+
+            // when - 느린 표본 누적
+            for (int i = 0; i < 64; i++) {
+                hedge.execute(() -> {
+                    sleep(15);
+                    return "ROUTE";
+                });
+            }
+
+            // then
+            assertThat(hedge.hedgeDelay()).isGreaterThan(Duration.ofMillis(10));
+        }
+
+        @Test
+        @DisplayName("종료 후에는 새 요청을 받지 않는다")
+        void shouldRejectAfterClose() {
+            // given
+            HedgedCall hedge = createHedge(1.0);
+
+            // when
+            hedge.close();
+
+            // then
+            assertThatThrownBy(() -> hedge.execute(() -> "ROUTE"))
+                    .isInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("비활성화되면 호출 스레드에서 바로 호출한다")
+        void shouldCallDirectlyWhenDisabled() {
+            // given
+            HedgedCall hedge = new HedgedCall("test", false, 0.95, Duration.ofMillis(30), Duration.ofMillis(10), 1.0,
+                    meterRegistry);
+            Thread caller = Thread.currentThread();
+
+            // when
+            Thread executed = hedge.execute(Thread::currentThread);
+
+            // then
+            assertThat(executed).isSameAs(caller);
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private double count(String result) {
+        return meterRegistry.get("client.hedge.requests")
+                .tag("client", "test")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
+import feign.Client;
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ResilientFeignCapability 테스트")
+class ResilientFeignCapabilityTest {
+
+    private static final String HUB_DELIVERY = "hub-delivery-service";
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("client.resilience.default.sliding-window-size", "4")
+            .withProperty("client.resilience.default.minimum-number-of-calls", "4")
+            .withProperty("client.resilience.default.wait-duration-in-open-state-ms", "60000");
+
+    private final DownstreamResilience resilience =
+            new DownstreamResilience(environment, new SimpleMeterRegistry(), true);
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    private final Client client = new ResilientFeignCapability(resilience).enrich((request, options) -> {
+        remoteCalls.incrementAndGet();
+        return response(request, 200);
+    });
+
+    @Test
+    @DisplayName("정방향 호출로 회로가 열려도 보상 호출은 차단되지 않는다")
+    void compensationCall_BypassesOpenCircuit() throws IOException {
+        // given - 정방향 호출 실패로 회로 열림
+        for (int i = 0; i < 4; i++) {
+            resilience.execute(HUB_DELIVERY, () -> response(request("createDelivery", HUB_DELIVERY), 503));
+        }
+        assertThat(resilience.circuitBreaker(HUB_DELIVERY).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // when
+        Response response = client.execute(request("cancelDelivery", HUB_DELIVERY), options());
+
+        // then
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(remoteCalls.get()).isEqualTo(1);
+
+        assertThatThrownBy(() -> client.execute(request("createDelivery", HUB_DELIVERY), options()))
+                .isInstanceOf(SagaException.class)
+                .extracting(e -> ((SagaException) e).getErrorCode())
+                .isEqualTo(OrderErrorCode.EXTERNAL_SERVICE_CIRCUIT_OPEN);
+        assertThat(remoteCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보상 호출 결과는 정방향 회로 차단기에 집계하지 않는다")
+    void compensationCall_IsNotRecorded() throws IOException {
+        // when
+        client.execute(request("cancelDelivery", HUB_DELIVERY), options());
+
+        // then
+        assertThat(resilience.circuitBreaker(HUB_DELIVERY).getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Client 이름을 알 수 없는 요청은 호출하지 않고 즉시 실패한다")
+    void missingClientName_FailsFast() {
+        // given
+        Request request = Request.create(
+                Request.HttpMethod.POST, "http://unknown/api", Map.of(), null, StandardCharsets.UTF_8, null);
+
+        // when & then
+        assertThatThrownBy(() -> client.execute(request, options()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(remoteCalls.get()).isZero();
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    interface TestDeliveryClient {
+
+        @RequestLine("POST /deliveries")
+        String createDelivery();
+
+        @CompensationCall
+        @RequestLine("POST /deliveries/cancel")
+        String cancelDelivery();
+    }
+
+    private static Request request(String methodName, String clientName) {
+        List<MethodMetadata> metadata = new Contract.Default().parseAndValidateMetadata(TestDeliveryClient.class);
+        RequestTemplate template = metadata.stream()
+                .filter(m -> m.method().getName().equals(methodName))
+                .findFirst()
+                .orElseThrow()
+                .template();
+        template.feignTarget(new Target.HardCodedTarget<>(TestDeliveryClient.class, clientName, "http://" + clientName));
+
+        return Request.create(
+                Request.HttpMethod.POST, "http://" + clientName + template.url(), Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    private static Request.Options options() {
+        return new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.early_express.order_service.domain.order.infrastructure.client.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("execute 메서드는")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 호출은 한 번만 실행하고 결과를 공유한다")
+        void shouldCoalesceConcurrentCalls() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>("test", true, Duration.ofSeconds(5), meterRegistry);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            List<Future<String>> results = submitAll(() -> flight.execute("HUB-001:서울시 강남구", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "ROUTE";
+            }));
+            awaitFollowers(CALLERS - 1);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ROUTE");
+            }
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(flight.inFlightCount()).isZero();
+            assertThat(count("leader")).isEqualTo(1);
+            assertThat(count("follower")).isEqualTo(CALLERS - 1);
+        }
+
+        @Test
+        @DisplayName("leader의 예외는 대기 중인 follower에게 그대로 전달되고, 이후 호출은 다시 실행한다")
+        void shouldShareFailureAndNotRetainIt() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>("test", true, Duration.ofSeconds(5), meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            List<Future<String>> results = submitAll(() -> flight.execute("KEY", () -> {
+                await(release);
+                throw new IllegalStateException("Hub Service 오류");
+            }));
+            awaitFollowers(CALLERS - 1);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+            }
+            assertThat(flight.execute("KEY", () -> "RETRIED")).isEqualTo("RETRIED");
+        }
+
+        @Test
+        @DisplayName("키가 다르면 병합하지 않는다")
+        void shouldNotCoalesceDifferentKeys() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>("test", true, Duration.ofSeconds(5), meterRegistry);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(2);
+
+            // when
+            Future<String> first = executor.submit(() -> flight.execute("HUB-001", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(started);
+                return "ROUTE-1";
+            }));
+            Future<String> second = executor.submit(() -> flight.execute("HUB-002", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(started);
+                return "ROUTE-2";
+            }));
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("ROUTE-1");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("ROUTE-2");
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("follower는 최대 대기 시간이 지나면 직접 호출한다")
+        void shouldCallDirectlyAfterMaxWait() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>("test", true, Duration.ofMillis(50), meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            Future<String> leader = executor.submit(() -> flight.execute("KEY", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "SLOW";
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+
+            // when
+            String follower = flight.execute("KEY", () -> "DIRECT");
+            release.countDown();
+
+            // then
+            assertThat(follower).isEqualTo("DIRECT");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("SLOW");
+            assertThat(count("timeout")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 직접 호출한다")
+        void shouldBypassWhenDisabled() {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>("test", false, Duration.ofSeconds(5), meterRegistry);
+
+            // when
+            String result = flight.execute("KEY", () -> "DIRECT");
+
+            // then
+            assertThat(result).isEqualTo("DIRECT");
+            assertThat(count("leader")).isZero();
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private List<Future<String>> submitAll(Callable<String> task) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(task));
+        }
+        return results;
+    }
+
+    private void awaitFollowers(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("follower") < followers && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("client.single-flight.calls")
+                .tag("client", "test")
+                .tag("role", role)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.early_express.order_service.domain.order.infrastructure.messaging.outbox;
+
+import com.early_express.order_service.domain.order.domain.messaging.payment.RefundRequestedEventData;
+import com.early_express.order_service.domain.order.infrastructure.messaging.payment.event.RefundRequestedEvent;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxEventEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OutboxStatus;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean(false);
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventJpaRepository, kafkaTemplate, objectMapper, transactionTemplate);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "parallelismPerTopic", 4);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMs", 5000L);
+        ReflectionTestUtils.setField(outboxRelay, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMaxMs", 60000L);
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("발행 대기 이벤트가 없으면 Kafka를 호출하지 않음")
+    void relayBatch_Empty() {
+        // given
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("배치 발행 성공 - 원래 이벤트 타입으로 발행하고 일괄 완료 처리")
+    @SuppressWarnings("unchecked")
+    void relayBatch_Success() throws Exception {
+        // given
+        OutboxEventEntity first = outboxEvent(1L, "order-1");
+        OutboxEventEntity second = outboxEvent(2L, "order-2");
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(kafkaTemplate).send(eq("refund-requested"), eq("order-1"), isA(RefundRequestedEvent.class));
+        verify(kafkaTemplate).send(eq("refund-requested"), eq("order-2"), isA(RefundRequestedEvent.class));
+
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventJpaRepository).markSent(idsCaptor.capture(), eq(OutboxStatus.SENT), any());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("발행 실패 - 실패 이벤트는 재시도 횟수 증가, 한도 초과 시 FAILED")
+    void relayBatch_Failure() throws Exception {
+        // given
+        OutboxEventEntity event = outboxEvent(1L, "order-1");
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(event));
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        outboxRelay.relayBatch();
+        outboxRelay.relayBatch();
+        outboxRelay.relayBatch();
+
+        // then
+        verify(outboxEventJpaRepository, never()).markSent(any(), any(), any());
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getLastError()).contains("broker down");
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 재시도 횟수만큼 늘어난 대기 시간 동안 점유 유지")
+    void relayBatch_FailureBacksOff() throws Exception {
+        // given
+        OutboxEventEntity event = outboxEvent(1L, "order-1");
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(event));
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        outboxRelay.relayBatch();
+        LocalDateTime firstRetryAt = event.getLockedUntil();
+        outboxRelay.relayBatch();
+        LocalDateTime secondRetryAt = event.getLockedUntil();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(firstRetryAt).isAfterOrEqualTo(before.plusSeconds(1));
+        assertThat(secondRetryAt).isAfterOrEqualTo(before.plusSeconds(2));
+        verify(outboxEventJpaRepository, never()).releaseLease(any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 앞 이벤트 발행이 실패하면 뒤 이벤트는 보내지 않고 점유만 해제")
+    @SuppressWarnings("unchecked")
+    void relayBatch_FailureBlocksLaterEventsOfSameKey() throws Exception {
+        // given
+        OutboxEventEntity first = outboxEvent(1L, "order-1");
+        OutboxEventEntity second = outboxEvent(2L, "order-1");
+        OutboxEventEntity other = outboxEvent(3L, "order-2");
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(first, second, other));
+        given(kafkaTemplate.send(anyString(), eq("order-1"), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        given(kafkaTemplate.send(anyString(), eq("order-2"), any()))
+                .willReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(anyString(), eq("order-1"), any());
+
+        ArgumentCaptor<Collection<Long>> sentCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventJpaRepository).markSent(sentCaptor.capture(), eq(OutboxStatus.SENT), any());
+        assertThat(sentCaptor.getValue()).containsExactly(3L);
+
+        ArgumentCaptor<Collection<Long>> releasedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventJpaRepository).releaseLease(releasedCaptor.capture());
+        assertThat(releasedCaptor.getValue()).containsExactly(2L);
+
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Kafka 응답은 트랜잭션 밖에서 기다리고 점유 / 결과 반영은 각각 짧은 트랜잭션에서 처리")
+    @SuppressWarnings("unchecked")
+    void relayBatch_WaitsForAcksOutsideTransaction() throws Exception {
+        // given
+        OutboxEventEntity event = outboxEvent(1L, "order-1");
+        AtomicBoolean sentInTransaction = new AtomicBoolean(true);
+        given(outboxEventJpaRepository.findBatchForRelay(eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(event));
+        given(kafkaTemplate.send(anyString(), anyString(), any())).willAnswer(invocation -> {
+            sentInTransaction.set(inTransaction.get());
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        // when
+        outboxRelay.relayBatch();
+
+        // then
+        assertThat(sentInTransaction).isFalse();
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(outboxEventJpaRepository).lease(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxEventJpaRepository).markSent(eq(List.of(1L)), eq(OutboxStatus.SENT), any());
+    }
+
+    private OutboxEventEntity outboxEvent(Long id, String orderId) throws Exception {
+        RefundRequestedEvent event = RefundRequestedEvent.from(
+                RefundRequestedEventData.of("payment-" + orderId, orderId, "테스트 환불"));
+
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+                .topic("refund-requested")
+                .messageKey(orderId)
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .payloadType(RefundRequestedEvent.class.getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
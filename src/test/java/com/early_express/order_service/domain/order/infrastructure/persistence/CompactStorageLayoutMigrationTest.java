@@ -0,0 +1,229 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 저장 레이아웃 축소 마이그레이션(V6) 테스트
+ * - V5까지 적용한 문자열 레이아웃에 데이터를 적재한 뒤 V6 적용
+ * - 값 변환(uuid / enum 코드) 결과와 p_orders / p_saga_step_histories 의 heap / 인덱스 크기 변화를 검증
+ * - heap / 인덱스 크기 비교는 벤치마크로 분류해 기본 테스트에서 제외 (./gradlew benchmark)
+ * - Docker가 없는 환경에서는 skip
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("저장 레이아웃 축소 마이그레이션 테스트")
+class CompactStorageLayoutMigrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactStorageLayoutMigrationTest.class);
+
+    private static final int ROWS = 20_000; // seed() 의 generate_series 범위와 일치
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    private static RelationSizes ordersBefore;
+    private static RelationSizes historiesBefore;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+        migrate("5");
+        seed();
+        ordersBefore = sizesOf("p_orders");
+        historiesBefore = sizesOf("p_saga_step_histories");
+
+        migrate("latest");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 문자열 레이아웃 데이터 적재 (ID는 기존과 같은 랜덤 UUID 문자열)
+     */
+    private static void seed() throws SQLException {
+        execute("""
+                INSERT INTO p_orders (
+                    id, order_number, supplier_company_id, supplier_hub_id, receiver_company_id, receiver_hub_id,
+                    product_id, quantity, requires_hub_delivery,
+                    receiver_name, receiver_phone, delivery_address,
+                    requested_delivery_date, requested_delivery_time,
+                    status, unit_price, total_amount, pg_provider, pg_payment_id,
+                    created_at, is_deleted)
+                SELECT gen_random_uuid()::text, 'ORD-' || g,
+                       'company-' || (g % 500), 'hub-' || (g % 100),
+                       'company-' || ((g + 7) % 500), 'hub-' || ((g + 3) % 100),
+                       'product-1', 1, TRUE,
+                       '홍길동', '010-1234-5678', '서울시 강남구',
+                       CURRENT_DATE, TIME '14:00',
+                       CASE g % 3 WHEN 0 THEN 'PAYMENT_VERIFYING' WHEN 1 THEN 'LAST_MILE_READY' ELSE 'COMPLETED' END,
+                       10000, 10000, 'TOSS', 'pg-' || g,
+                       now() - g * INTERVAL '1 minute', FALSE
+                FROM generate_series(1, 20000) g
+                """);
+
+        execute("""
+                INSERT INTO p_order_hub_memberships (hub_id, order_id, created_at, status)
+                SELECT supplier_hub_id, id, created_at, status FROM p_orders
+                """);
+
+        execute("""
+                INSERT INTO p_order_sagas (saga_id, order_id, status, current_step, started_at)
+                SELECT gen_random_uuid()::text, id, 'COMPENSATION_FAILED', 'LAST_MILE_DELIVERY_CREATE', created_at
+                FROM p_orders
+                """);
+
+        execute("""
+                INSERT INTO p_saga_step_histories (
+                    id, saga_id, saga_id_value, step, status, started_at, retry_count)
+                SELECT nextval('p_saga_step_histories_seq'), s.saga_id, s.saga_id, step.name, 'SUCCESS',
+                       s.started_at, 0
+                FROM p_order_sagas s
+                CROSS JOIN (VALUES ('STOCK_RESERVE'), ('PAYMENT_VERIFY'), ('ROUTE_CALCULATE'),
+                                   ('HUB_DELIVERY_CREATE'), ('LAST_MILE_DELIVERY_CREATE')) AS step(name)
+                """);
+
+        execute("VACUUM ANALYZE");
+    }
+
+    @Nested
+    @DisplayName("V6 적용 후")
+    class AfterMigrationTest {
+
+        @Test
+        @DisplayName("ID 컬럼은 uuid, 상태/단계 컬럼은 smallint 로 바뀐다")
+        void columnTypes_AreCompact() throws SQLException {
+            // then
+            assertThat(columnType("p_orders", "id")).isEqualTo("uuid");
+            assertThat(columnType("p_orders", "status")).isEqualTo("smallint");
+            assertThat(columnType("p_orders", "supplier_hub_id")).isEqualTo("character varying");
+            assertThat(columnType("p_order_hub_memberships", "order_id")).isEqualTo("uuid");
+            assertThat(columnType("p_order_sagas", "saga_id")).isEqualTo("uuid");
+            assertThat(columnType("p_order_sagas", "current_step")).isEqualTo("smallint");
+            assertThat(columnType("p_saga_step_histories", "saga_id_value")).isEqualTo("uuid");
+            assertThat(columnType("p_saga_step_histories", "step")).isEqualTo("smallint");
+        }
+
+        @Test
+        @DisplayName("기존 값은 Converter 와 같은 코드로 변환된다")
+        void existingValues_AreConvertedToCodes() throws SQLException {
+            // then - PAYMENT_VERIFYING(4) / LAST_MILE_READY(12) / COMPLETED(14)
+            assertThat(queryLong("SELECT count(*) FROM p_orders WHERE status NOT IN (4, 12, 14)")).isZero();
+            assertThat(queryLong("SELECT count(*) FROM p_orders WHERE status = 12")).isEqualTo(ROWS / 3 + 1);
+
+            // COMPENSATION_FAILED(6) / LAST_MILE_DELIVERY_CREATE(5)
+            assertThat(queryLong("SELECT count(*) FROM p_order_sagas WHERE status = 6 AND current_step = 5"))
+                    .isEqualTo(ROWS);
+
+            // SUCCESS(3), Step 1 ~ 5
+            assertThat(queryLong("SELECT count(*) FROM p_saga_step_histories WHERE status = 3 AND step BETWEEN 1 AND 5"))
+                    .isEqualTo(ROWS * 5L);
+        }
+
+        @Test
+        @DisplayName("주문 / Saga / 허브 조회 테이블 간 ID 조인이 유지된다")
+        void identifiers_StillJoin() throws SQLException {
+            // then
+            assertThat(queryLong("""
+                    SELECT count(*) FROM p_orders o
+                    JOIN p_order_sagas s ON s.order_id = o.id
+                    JOIN p_order_hub_memberships m ON m.order_id = o.id
+                    """)).isEqualTo(ROWS);
+            assertThat(queryLong("""
+                    SELECT count(*) FROM p_saga_step_histories h
+                    JOIN p_order_sagas s ON s.saga_id = h.saga_id
+                    WHERE h.saga_id_value = s.saga_id
+                    """)).isEqualTo(ROWS * 5L);
+        }
+
+        @Test
+        @Tag("benchmark")
+        @DisplayName("p_orders / p_saga_step_histories 의 heap / 인덱스 크기가 줄어든다")
+        void footprint_Shrinks() throws SQLException {
+            // when
+            execute("VACUUM ANALYZE");
+            RelationSizes ordersAfter = sizesOf("p_orders");
+            RelationSizes historiesAfter = sizesOf("p_saga_step_histories");
+
+            log.info("저장 레이아웃 축소 ({}건)", ROWS);
+            log.info("  p_orders              : heap {} KB → {} KB, index {} KB → {} KB",
+                    ordersBefore.heapBytes() / 1024, ordersAfter.heapBytes() / 1024,
+                    ordersBefore.indexBytes() / 1024, ordersAfter.indexBytes() / 1024);
+            log.info("  p_saga_step_histories : heap {} KB → {} KB, index {} KB → {} KB",
+                    historiesBefore.heapBytes() / 1024, historiesAfter.heapBytes() / 1024,
+                    historiesBefore.indexBytes() / 1024, historiesAfter.indexBytes() / 1024);
+
+            // then
+            assertThat(ordersAfter.heapBytes()).isLessThan(ordersBefore.heapBytes());
+            assertThat(ordersAfter.indexBytes()).isLessThan(ordersBefore.indexBytes());
+            assertThat(historiesAfter.heapBytes()).isLessThan(historiesBefore.heapBytes());
+            assertThat(historiesAfter.indexBytes()).isLessThan(historiesBefore.indexBytes());
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private static void migrate(String target) {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private static RelationSizes sizesOf(String table) throws SQLException {
+        return new RelationSizes(
+                queryLong("SELECT pg_relation_size('" + table + "')"),
+                queryLong("SELECT pg_indexes_size('" + table + "')")
+        );
+    }
+
+    private static String columnType(String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT data_type FROM information_schema.columns " +
+                             "WHERE table_name = '" + table + "' AND column_name = '" + column + "'")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private record RelationSizes(long heapBytes, long indexBytes) {
+    }
+}
@@ -0,0 +1,365 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSearchCondition;
+import com.early_express.order_service.global.common.dto.Cursor;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회 쿼리 실행 계획 회귀 테스트
+ * - 실제 PostgreSQL에 db/migration 스크립트를 적용하고 OrderRepository / OrderSagaRepository 메서드를 그대로 호출
+ * - auto_explain(log_min_duration = 0)이 남긴 실행 계획으로 검증
+ *   → Hibernate / QueryDSL이 실제로 생성한 SQL과 바인딩된 값 기준 (손으로 옮긴 SQL 아님)
+ * - enable_seqscan = off 로 데이터 양과 무관하게 "해당 조건에 사용 가능한 인덱스가 있는지" 확인
+ * - Docker가 없으면 skip 사유를 남기고 건너뜀, CI(CI 환경 변수 설정)에서는 Docker 필수 (없으면 실패)
+ */
+@SpringBootTest
+@EnabledIf(value = "dockerAvailable", disabledReason = "Docker가 없어 PostgreSQL 실행 계획 테스트를 건너뜀 (CI에서는 필수)")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주문/Saga 조회 실행 계획 테스트")
+class OrderQueryPlanTest {
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres",
+                    "-c", "fsync=off",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0",
+                    "-c", "auto_explain.log_format=text",
+                    "-c", "enable_seqscan=off");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSagaRepository sagaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static boolean dockerAvailable() {
+        return System.getenv("CI") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        postgres.start();
+
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @BeforeAll
+    void setUp() {
+        seed();
+    }
+
+    /**
+     * 운영 분포와 비슷한 테스트 데이터 적재
+     * - 주문 대부분은 완료 상태, 진행 중/확정 주문은 소수
+     * - 업체 500개, 허브 100개로 분산
+     */
+    private void seed() {
+        execute("""
+                INSERT INTO p_orders (
+                    id, order_number, supplier_company_id, supplier_hub_id, receiver_company_id, receiver_hub_id,
+                    product_id, quantity, requires_hub_delivery, last_mile_delivery_id,
+                    receiver_name, receiver_phone, delivery_address,
+                    requested_delivery_date, requested_delivery_time, calculated_departure_deadline,
+                    status, unit_price, total_amount, payment_id, pg_provider, pg_payment_id,
+                    created_at, is_deleted)
+                SELECT ('00000000-0000-7000-8000-' || lpad(g::text, 12, '0'))::uuid, 'ORD-' || g,
+                       'company-' || (g % 500), 'hub-' || (g % 100),
+                       'company-' || ((g + 7) % 500), 'hub-' || ((g + 3) % 100),
+                       'product-1', 1, TRUE, 'last-mile-' || g,
+                       '홍길동', '010-1234-5678', '서울시 강남구',
+                       CURRENT_DATE, TIME '14:00', now() + (g % 48) * INTERVAL '1 hour',
+                       -- CONFIRMED(8) / PENDING(1) / CANCELLED(15) / COMPLETED(14)
+                       CASE g % 50 WHEN 0 THEN 8 WHEN 1 THEN 1 WHEN 2 THEN 15 ELSE 14 END,
+                       10000, 10000, 'payment-' || g, 'TOSS', 'pg-' || g,
+                       now() - g * INTERVAL '1 minute', g % 20 = 0
+                FROM generate_series(1, 20000) g
+                """);
+
+        execute("""
+                INSERT INTO p_order_hub_memberships (hub_id, order_id, created_at, status)
+                SELECT supplier_hub_id, id, created_at, status FROM p_orders
+                UNION
+                SELECT receiver_hub_id, id, created_at, status FROM p_orders
+                """);
+
+        execute("""
+                INSERT INTO p_order_sagas (saga_id, order_id, status, current_step, started_at, completed_at)
+                SELECT ('00000000-0000-7000-9000-' || lpad(g::text, 12, '0'))::uuid,
+                       ('00000000-0000-7000-8000-' || lpad(g::text, 12, '0'))::uuid,
+                       -- IN_PROGRESS(2) / COMPENSATING(4) / COMPENSATION_FAILED(6) / FAILED(7) / COMPENSATED(5) / COMPLETED(3)
+                       CASE g % 100 WHEN 0 THEN 2 WHEN 1 THEN 4 WHEN 2 THEN 6 WHEN 3 THEN 7 WHEN 4 THEN 5 ELSE 3 END,
+                       1, -- STOCK_RESERVE
+                       now() - g * INTERVAL '1 minute',
+                       CASE WHEN g % 100 IN (0, 1, 2, 3) THEN NULL
+                            ELSE now() - g * INTERVAL '1 minute' + INTERVAL '1 hour' END
+                FROM generate_series(1, 20000) g
+                """);
+
+        execute("""
+                INSERT INTO p_saga_step_histories (
+                    id, saga_id, saga_id_value, step, status, started_at, retry_count)
+                SELECT nextval('p_saga_step_histories_seq'), s.saga_id, s.saga_id, 1, 3, -- STOCK_RESERVE, SUCCESS
+                       s.started_at, 0
+                FROM p_order_sagas s
+                """);
+
+        execute("ANALYZE");
+    }
+
+    // ===== 주문 =====
+
+    @Nested
+    @DisplayName("OrderRepository 쿼리는")
+    class OrderQueriesTest {
+
+        @Test
+        @DisplayName("발송 시한 임박 주문 조회는 상태 + 발송 시한 인덱스를 사용한다")
+        void findOrdersWithUpcomingDeadline_UsesStatusDeadlineIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.findOrdersWithUpcomingDeadline(2));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_status_deadline");
+        }
+
+        @Test
+        @DisplayName("발송 시한 초과 주문 조회는 상태 + 발송 시한 인덱스를 사용한다")
+        void findOverdueOrders_UsesStatusDeadlineIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.findOverdueOrders());
+
+            // then
+            assertUsesIndex(plan, "idx_orders_status_deadline");
+        }
+
+        @Test
+        @DisplayName("업체별 목록은 공급/수령 업체 인덱스를 함께 사용한다")
+        void searchByCompany_UsesSupplierAndReceiverIndexes() {
+            // when
+            String plan = planOf(() -> orderRepository.searchSummariesWithoutCount(
+                    OrderSearchCondition.ofCompany("company-42", null, null, null), PageRequest.of(0, 20)));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_supplier_company_created");
+            assertUsesIndex(plan, "idx_orders_receiver_company_created");
+        }
+
+        @Test
+        @DisplayName("상태 필터 목록은 상태 + 생성일 인덱스를 사용한다")
+        void searchByStatus_UsesStatusCreatedIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.searchSummariesWithoutCount(
+                    OrderSearchCondition.ofCompany(null, OrderStatus.PENDING, null, null), PageRequest.of(0, 20)));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_status_created");
+        }
+
+        @Test
+        @DisplayName("조건 없는 커서 페이징은 생성일 인덱스를 사용한다")
+        void searchByCursor_UsesCreatedIndex() {
+            // given
+            Cursor cursor = Cursor.of(LocalDateTime.now().minusMinutes(100), "00000000-0000-7000-8000-000000000100");
+
+            // when
+            String plan = planOf(() -> orderRepository.searchSummariesByCursor(
+                    OrderSearchCondition.ofCompany(null, null, null, null), cursor, 20));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_created");
+        }
+
+        @Test
+        @DisplayName("결제 ID 조회는 결제 ID 인덱스를 사용한다")
+        void findByPaymentId_UsesPaymentIdIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.findByPaymentId("payment-77"));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_payment_id");
+        }
+
+        @Test
+        @DisplayName("업체 배송 ID 조회는 업체 배송 ID 인덱스를 사용한다")
+        void findByLastMileDeliveryId_UsesLastMileDeliveryIdIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.findByLastMileDeliveryId("last-mile-77"));
+
+            // then
+            assertUsesIndex(plan, "idx_orders_last_mile_delivery_id");
+        }
+
+        @Test
+        @DisplayName("허브별 목록은 허브 조회 테이블 인덱스를 사용한다")
+        void searchByHub_UsesHubMembershipIndex() {
+            // when
+            String plan = planOf(() -> orderRepository.searchSummariesWithoutCount(
+                    OrderSearchCondition.ofHub("hub-7", OrderStatus.PENDING, null, null), PageRequest.of(0, 20)));
+
+            // then
+            assertUsesIndex(plan, "idx_order_hub_membership_hub_created");
+        }
+    }
+
+    // ===== Saga =====
+
+    @Nested
+    @DisplayName("OrderSagaRepository 쿼리는")
+    class SagaQueriesTest {
+
+        @Test
+        @DisplayName("상태 필터 목록은 상태 + 시작일 인덱스를 사용한다")
+        void searchSagasByStatus_UsesStatusStartedIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.searchSagaSummariesWithoutCount(
+                    SagaStatus.FAILED, null, null, PageRequest.of(0, 20)));
+
+            // then
+            assertUsesIndex(plan, "idx_order_sagas_status_started");
+        }
+
+        @Test
+        @DisplayName("기간 필터 목록은 시작일 인덱스를 사용한다")
+        void searchSagasByPeriod_UsesStartedIndex() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            String plan = planOf(() -> sagaRepository.searchSagaSummariesWithoutCount(
+                    null, now.minusDays(1), now, PageRequest.of(0, 20)));
+
+            // then
+            assertUsesIndex(plan, "idx_order_sagas_started");
+        }
+
+        @Test
+        @DisplayName("장시간 진행 Saga 조회는 상태 + 시작일 인덱스를 사용한다")
+        void findLongRunningSagas_UsesStatusStartedIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.findLongRunningSagas(1));
+
+            // then
+            assertUsesIndex(plan, "idx_order_sagas_status_started");
+        }
+
+        @Test
+        @DisplayName("보상 실패 Saga 조회는 상태 + 시작일 인덱스를 사용한다")
+        void findCompensationFailedSagas_UsesStatusStartedIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.findCompensationFailedSagas());
+
+            // then
+            assertUsesIndex(plan, "idx_order_sagas_status_started");
+        }
+
+        @Test
+        @DisplayName("완료 Saga 정리 조회는 상태 + 완료일 인덱스를 사용한다")
+        void findCompletedSagasOlderThan_UsesStatusCompletedIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.findCompletedSagasOlderThan(LocalDateTime.now().minusDays(13)));
+
+            // then
+            assertUsesIndex(plan, "idx_order_sagas_status_completed");
+        }
+
+        @Test
+        @DisplayName("주문 ID 조회는 주문 ID 유니크 인덱스를 사용한다")
+        void findByOrderId_UsesOrderIdUniqueIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.findByOrderId(
+                    OrderId.from("00000000-0000-7000-8000-000000000077")));
+
+            // then
+            assertUsesIndex(plan, "uk_order_sagas_order_id");
+        }
+
+        @Test
+        @DisplayName("Step 이력 로딩은 Saga ID 인덱스를 사용한다")
+        void loadStepHistory_UsesSagaIdIndex() {
+            // when
+            String plan = planOf(() -> sagaRepository.findByOrderId(
+                    OrderId.from("00000000-0000-7000-8000-000000000077")));
+
+            // then
+            assertUsesIndex(plan, "idx_saga_step_histories_saga");
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private void execute(String sql) {
+        jdbcTemplate.execute(sql);
+    }
+
+    /**
+     * Repository 호출 중 실행된 쿼리의 실행 계획 (auto_explain 로그)
+     * 호출 뒤 표시 쿼리를 실행하고, 표시 쿼리 로그가 나타날 때까지의 구간을 반환
+     */
+    private String planOf(Runnable repositoryCall) {
+        int offset = postgres.getLogs().length();
+
+        transactionTemplate.executeWithoutResult(status -> repositoryCall.run());
+
+        String marker = "plan-marker-" + UUID.randomUUID();
+        jdbcTemplate.queryForObject("SELECT '" + marker + "'", String.class);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String logs = postgres.getLogs();
+        while (logs.indexOf(marker, offset) < 0 && System.nanoTime() < deadline) {
+            sleep();
+            logs = postgres.getLogs();
+        }
+
+        int end = logs.indexOf(marker, offset);
+        assertThat(end).as("auto_explain 로그를 찾을 수 없음").isNotNegative();
+        return logs.substring(offset, end);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertUsesIndex(String plan, String indexName) {
+        assertThat(plan)
+                .as("실행 계획:%n%s", plan)
+                .contains(indexName)
+                .doesNotContain("Seq Scan");
+    }
+}
@@ -0,0 +1,173 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence;
+
+import com.early_express.order_service.global.common.utils.UuidUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 / Saga ID 생성 방식별 INSERT 처리량 / PK 인덱스 크기 벤치마크
+ * - 랜덤 UUID (v4): 매 INSERT가 B-Tree 임의 위치에 들어가 페이지 분할 → 인덱스 팽창 / 캐시 적중률 저하
+ * - 시간 순 UUID (v7): 항상 오른쪽 끝 페이지에 추가 → 페이지가 꽉 찬 상태로 유지
+ * 실제 PostgreSQL에 db/migration 스크립트를 적용한 p_orders / p_order_sagas 로 측정 (Docker가 없는 환경에서는 skip)
+ * 기본 테스트에서 제외 (./gradlew benchmark), 생성 순서 / 형식은 UuidUtilsTest에서 검증
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("시간 순 ID INSERT 벤치마크")
+class TimeOrderedIdBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdBenchmarkTest.class);
+
+    private static final int ROWS_PER_RUN = 50_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 순 ID는 랜덤 ID보다 PK 인덱스가 작다")
+    void timeOrderedIds_KeepPrimaryKeyIndexCompact() throws SQLException {
+        // given - 워밍업 (커넥션 / 플랜 캐시)
+        insertRun(UuidUtils::generate, 1_000);
+
+        // when
+        RunResult random = insertRun(UuidUtils::generate, ROWS_PER_RUN);
+        RunResult timeOrdered = insertRun(UuidUtils::generateTimeOrdered, ROWS_PER_RUN);
+
+        log.info("ID 생성 방식별 INSERT {}건 (주문 + Saga)", ROWS_PER_RUN);
+        log.info("  랜덤 UUID(v4)  : {} ms ({} rows/s), pk_orders={} KB, pk_order_sagas={} KB",
+                random.elapsedMillis(), Math.round(random.rowsPerSecond()),
+                random.orderIndexBytes() / 1024, random.sagaIndexBytes() / 1024);
+        log.info("  시간 순 UUID(v7): {} ms ({} rows/s), pk_orders={} KB, pk_order_sagas={} KB",
+                timeOrdered.elapsedMillis(), Math.round(timeOrdered.rowsPerSecond()),
+                timeOrdered.orderIndexBytes() / 1024, timeOrdered.sagaIndexBytes() / 1024);
+
+        // then - 처리량은 환경에 따라 흔들리므로 로그로만 남기고, 인덱스 크기만 검증
+        assertThat(timeOrdered.orderIndexBytes()).isLessThan(random.orderIndexBytes());
+        assertThat(timeOrdered.sagaIndexBytes()).isLessThan(random.sagaIndexBytes());
+    }
+
+    /**
+     * 테이블을 비우고 주어진 ID 생성기로 주문 + Saga 를 적재한 뒤 경과 시간 / PK 인덱스 크기 반환
+     */
+    private RunResult insertRun(Supplier<String> idGenerator, int rows) throws SQLException {
+        execute("TRUNCATE p_orders, p_order_sagas CASCADE");
+
+        connection.setAutoCommit(false);
+        long startedAt = System.nanoTime();
+
+        try (PreparedStatement orderInsert = connection.prepareStatement("""
+                INSERT INTO p_orders (
+                    id, order_number, supplier_company_id, supplier_hub_id, receiver_company_id, receiver_hub_id,
+                    product_id, quantity, requires_hub_delivery,
+                    receiver_name, receiver_phone, delivery_address,
+                    requested_delivery_date, requested_delivery_time,
+                    status, unit_price, total_amount, pg_provider, pg_payment_id,
+                    created_at, is_deleted)
+                VALUES (?, ?, 'company-1', 'hub-1', 'company-2', 'hub-2',
+                        'product-1', 1, TRUE,
+                        '홍길동', '010-1234-5678', '서울시 강남구',
+                        CURRENT_DATE, TIME '14:00',
+                        1, 10000, 10000, 'TOSS', ?, -- PENDING
+                        ?, FALSE)
+                """);
+             PreparedStatement sagaInsert = connection.prepareStatement("""
+                INSERT INTO p_order_sagas (saga_id, order_id, status, started_at)
+                VALUES (?, ?, 2, ?) -- IN_PROGRESS
+                """)) {
+
+            for (int i = 1; i <= rows; i++) {
+                UUID orderId = UUID.fromString(idGenerator.get());
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+                orderInsert.setObject(1, orderId);
+                orderInsert.setString(2, "ORD-" + i);
+                orderInsert.setString(3, "pg-" + i);
+                orderInsert.setTimestamp(4, now);
+                orderInsert.addBatch();
+
+                sagaInsert.setObject(1, UUID.fromString(idGenerator.get()));
+                sagaInsert.setObject(2, orderId);
+                sagaInsert.setTimestamp(3, now);
+                sagaInsert.addBatch();
+
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    orderInsert.executeBatch();
+                    sagaInsert.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        return new RunResult(
+                rows,
+                elapsedMillis,
+                relationSize("pk_orders"),
+                relationSize("pk_order_sagas")
+        );
+    }
+
+    private long relationSize(String relation) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_relation_size('" + relation + "')")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private record RunResult(int rows, long elapsedMillis, long orderIndexBytes, long sagaIndexBytes) {
+
+        double rowsPerSecond() {
+            return rows * 1000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.converter;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.SagaStatus;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.StepStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("저장용 Converter 테스트")
+class EnumCodeConverterTest {
+
+    @Nested
+    @DisplayName("Enum 코드 Converter")
+    class EnumCodeTest {
+
+        @Test
+        @DisplayName("모든 상수가 고유 코드로 왕복 변환된다")
+        void allConstants_RoundTrip() {
+            assertRoundTrip(new OrderStatusConverter(), OrderStatus.values());
+            assertRoundTrip(new SagaStatusConverter(), SagaStatus.values());
+            assertRoundTrip(new SagaStepConverter(), SagaStep.values());
+            assertRoundTrip(new StepStatusConverter(), StepStatus.values());
+        }
+
+        @Test
+        @DisplayName("배포된 코드 값은 고정되어 있다 (db/migration 스크립트와 일치)")
+        void codes_AreStable() {
+            // given
+            OrderStatusConverter orderStatusConverter = new OrderStatusConverter();
+            SagaStatusConverter sagaStatusConverter = new SagaStatusConverter();
+            SagaStepConverter sagaStepConverter = new SagaStepConverter();
+            StepStatusConverter stepStatusConverter = new StepStatusConverter();
+
+            // then
+            assertThat(orderStatusConverter.convertToDatabaseColumn(OrderStatus.PENDING)).isEqualTo((short) 1);
+            assertThat(orderStatusConverter.convertToDatabaseColumn(OrderStatus.CONFIRMED)).isEqualTo((short) 8);
+            assertThat(orderStatusConverter.convertToDatabaseColumn(OrderStatus.COMPENSATED)).isEqualTo((short) 17);
+            assertThat(sagaStatusConverter.convertToDatabaseColumn(SagaStatus.COMPENSATION_FAILED)).isEqualTo((short) 6);
+            assertThat(sagaStepConverter.convertToDatabaseColumn(SagaStep.LAST_MILE_DELIVERY_CANCEL)).isEqualTo((short) 11);
+            assertThat(stepStatusConverter.convertToDatabaseColumn(StepStatus.SUCCESS)).isEqualTo((short) 3);
+        }
+
+        @Test
+        @DisplayName("null은 null로 변환된다")
+        void null_IsPreserved() {
+            // given
+            SagaStepConverter converter = new SagaStepConverter();
+
+            // then
+            assertThat(converter.convertToDatabaseColumn(null)).isNull();
+            assertThat(converter.convertToEntityAttribute(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("알 수 없는 코드는 예외가 발생한다")
+        void unknownCode_Throws() {
+            // given
+            StepStatusConverter converter = new StepStatusConverter();
+
+            // when & then
+            assertThatThrownBy(() -> converter.convertToEntityAttribute((short) 99))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("알 수 없는 StepStatus 코드");
+        }
+
+        @Test
+        @DisplayName("코드가 빠진 상수가 있으면 생성 시점에 실패한다")
+        void missingCode_FailsFast() {
+            // when & then
+            assertThatThrownBy(() -> new EnumCodeConverter<>(StepStatus.class, Map.of(StepStatus.PENDING, 1)) {
+            })
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("코드가 정의되지 않은 상수");
+        }
+
+        @Test
+        @DisplayName("같은 코드를 두 상수에 쓰면 생성 시점에 실패한다")
+        void duplicatedCode_FailsFast() {
+            // when & then
+            assertThatThrownBy(() -> new EnumCodeConverter<>(SagaStatus.class, Map.of(
+                    SagaStatus.PENDING, 1,
+                    SagaStatus.IN_PROGRESS, 1)) {
+            })
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("코드 중복");
+        }
+
+        private <E extends Enum<E>> void assertRoundTrip(EnumCodeConverter<E> converter, E[] constants) {
+            assertThat(Arrays.stream(constants).map(converter::convertToDatabaseColumn))
+                    .doesNotContainNull()
+                    .doesNotHaveDuplicates();
+
+            for (E constant : constants) {
+                assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(constant)))
+                        .isEqualTo(constant);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("UUID 문자열 Converter")
+    class UuidStringTest {
+
+        private final UuidStringConverter converter = new UuidStringConverter();
+
+        @Test
+        @DisplayName("36자 문자열 ID와 uuid 가 왕복 변환된다")
+        void roundTrip() {
+            // given
+            String id = UUID.randomUUID().toString();
+
+            // when
+            UUID dbValue = converter.convertToDatabaseColumn(id);
+
+            // then
+            assertThat(dbValue).isEqualTo(UUID.fromString(id));
+            assertThat(converter.convertToEntityAttribute(dbValue)).isEqualTo(id);
+            assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        }
+    }
+}
@@ -516,6 +516,34 @@ class OrderEntityTest {
             assertThat(convertedOrder.getAmountInfo().getTotalAmount()).isEqualTo(originalOrder.getAmountInfo().getTotalAmount());
         }
 
+        @Test
+        @DisplayName("로컬 추정 ETA 표시가 보존된다")
+        void shouldPreserveProvisionalEta() {
+            // given
+            Order order = createTestOrder();
+            LocalDateTime departureDeadline = LocalDateTime.of(2026, 11, 2, 9, 20);
+            LocalDateTime estimatedDeliveryTime = LocalDateTime.of(2026, 11, 2, 13, 30);
+            order.updateAiCalculationResult(order.getAiCalculationResult()
+                    .withProvisionalCalculation(departureDeadline, estimatedDeliveryTime, "로컬 추정치"));
+
+            // when
+            OrderEntity entity = OrderEntity.fromDomain(order);
+            Order converted = entity.toDomain();
+
+            // then
+            assertThat(entity.isEtaProvisional()).isTrue();
+            assertThat(converted.getAiCalculationResult().isProvisional()).isTrue();
+            assertThat(converted.getAiCalculationResult().getCalculatedDepartureDeadline()).isEqualTo(departureDeadline);
+
+            // when - AI 결과로 갱신
+            converted.updateAiCalculationResult(converted.getAiCalculationResult()
+                    .withAiCalculation(departureDeadline, estimatedDeliveryTime, "계산 완료"));
+            entity.updateFromDomain(converted);
+
+            // then
+            assertThat(entity.isEtaProvisional()).isFalse();
+        }
+
         @Test
         @DisplayName("여러 번의 업데이트와 변환 후에도 데이터 무결성이 유지된다")
         void shouldMaintainDataIntegrityAfterMultipleUpdates() {
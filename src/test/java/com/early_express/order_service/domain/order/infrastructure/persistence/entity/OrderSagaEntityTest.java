@@ -316,6 +316,67 @@ class OrderSagaEntityTest {
                             SagaStep.ROUTE_CALCULATE
                     );
         }
+
+        @Test
+        @DisplayName("기존 Step History 엔티티는 유지한 채 갱신하고 새 History만 추가한다")
+        void shouldKeepExistingHistoryEntitiesAndAppendNewOnes() {
+            // given
+            OrderSagaEntity entity = createSagaEntityWithHistory();
+            SagaStepHistoryEntity stockHistory = entity.getStepHistory().get(0);
+            SagaStepHistoryEntity paymentHistory = entity.getStepHistory().get(1);
+
+            OrderSaga saga = entity.toDomain();
+            saga.startStep(SagaStep.ROUTE_CALCULATE);
+            entity.updateFromDomain(saga);
+            SagaStepHistoryEntity routeHistory = entity.getStepHistory().get(2);
+
+            saga.completeStep(SagaStep.ROUTE_CALCULATE, "route-data");
+
+            // when
+            entity.updateFromDomain(saga);
+
+            // then
+            assertThat(entity.getStepHistory()).hasSize(3);
+            assertThat(entity.getStepHistory().get(0)).isSameAs(stockHistory);
+            assertThat(entity.getStepHistory().get(1)).isSameAs(paymentHistory);
+            assertThat(entity.getStepHistory().get(2)).isSameAs(routeHistory);
+            assertThat(routeHistory.getStatus()).isEqualTo(StepStatus.SUCCESS);
+            assertThat(routeHistory.getCompletedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("History 목록 순서가 달라도 ID가 같은 행만 갱신한다")
+        void shouldMatchHistoryById_RegardlessOfPosition() {
+            // given - 도메인은 추가 순서, 엔티티는 ID 순서로 로딩된 상황
+            LocalDateTime startedAt = LocalDateTime.now();
+            OrderSagaEntity loaded = createTestSagaEntity();
+            loaded.addStepHistory(createStepHistoryEntity(900L, loaded.getSagaId(), SagaStep.STOCK_RESERVE,
+                    StepStatus.SUCCESS, startedAt));
+            loaded.addStepHistory(createStepHistoryEntity(100L, loaded.getSagaId(), SagaStep.PAYMENT_VERIFY,
+                    StepStatus.IN_PROGRESS, startedAt.plusSeconds(1)));
+            OrderSaga saga = loaded.toDomain();
+
+            OrderSagaEntity entity = createTestSagaEntity();
+            SagaStepHistoryEntity paymentHistory = createStepHistoryEntity(100L, entity.getSagaId(),
+                    SagaStep.PAYMENT_VERIFY, StepStatus.IN_PROGRESS, startedAt.plusSeconds(1));
+            SagaStepHistoryEntity stockHistory = createStepHistoryEntity(900L, entity.getSagaId(),
+                    SagaStep.STOCK_RESERVE, StepStatus.SUCCESS, startedAt);
+            entity.addStepHistory(paymentHistory);
+            entity.addStepHistory(stockHistory);
+
+            saga.completeParallelStep(SagaStep.PAYMENT_VERIFY, "payment-data");
+
+            // when
+            entity.updateFromDomain(saga);
+
+            // then
+            assertThat(entity.getStepHistory()).hasSize(2);
+            assertThat(paymentHistory.getStep()).isEqualTo(SagaStep.PAYMENT_VERIFY);
+            assertThat(paymentHistory.getStatus()).isEqualTo(StepStatus.SUCCESS);
+            assertThat(stockHistory.getStep()).isEqualTo(SagaStep.STOCK_RESERVE);
+            assertThat(stockHistory.getStatus()).isEqualTo(StepStatus.SUCCESS);
+            assertThat(stockHistory.getResponse()).isNull();
+        }
     }
 
     @Nested
@@ -535,4 +596,16 @@ class OrderSagaEntityTest {
                 .retryCount(0)
                 .build();
     }
-}
\ No newline at end of file
+
+    private SagaStepHistoryEntity createStepHistoryEntity(
+            Long id, String sagaId, SagaStep step, StepStatus status, LocalDateTime startedAt) {
+        return SagaStepHistoryEntity.builder()
+                .id(id)
+                .sagaIdValue(sagaId)
+                .step(step)
+                .status(status)
+                .startedAt(startedAt)
+                .retryCount(0)
+                .build();
+    }
+}
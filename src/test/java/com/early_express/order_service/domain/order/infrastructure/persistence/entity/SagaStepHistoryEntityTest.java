@@ -204,6 +204,53 @@ class SagaStepHistoryEntityTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateFromDomain 메서드는")
+    class UpdateFromDomainTest {
+
+        @Test
+        @DisplayName("진행 상태 필드를 도메인 모델 값으로 갱신한다")
+        void shouldUpdateProgressFields() {
+            // given
+            SagaStepHistory history = SagaStepHistory.create(SagaId.create(), SagaStep.PAYMENT_VERIFY);
+            history.start("request-data");
+            SagaStepHistoryEntity entity = SagaStepHistoryEntity.fromDomain(history);
+
+            history.incrementRetryCount();
+            history.fail("결제 검증 실패");
+
+            // when
+            entity.updateFromDomain(history);
+
+            // then
+            assertThat(entity.getStatus()).isEqualTo(StepStatus.FAILED);
+            assertThat(entity.getErrorMessage()).isEqualTo("결제 검증 실패");
+            assertThat(entity.getCompletedAt()).isEqualTo(history.getCompletedAt());
+            assertThat(entity.getRetryCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Step과 시작 시간은 변경하지 않는다")
+        void shouldNotChangeImmutableFields() {
+            // given
+            SagaStepHistoryEntity entity = createTestStepHistoryEntity();
+            SagaStep originalStep = entity.getStep();
+            LocalDateTime originalStartedAt = entity.getStartedAt();
+
+            SagaStepHistory other = SagaStepHistory.create(SagaId.create(), SagaStep.ROUTE_CALCULATE);
+            other.start("other-request");
+            other.complete("other-response");
+
+            // when
+            entity.updateFromDomain(other);
+
+            // then
+            assertThat(entity.getStep()).isEqualTo(originalStep);
+            assertThat(entity.getStartedAt()).isEqualTo(originalStartedAt);
+            assertThat(entity.getResponse()).isEqualTo(other.getResponse());
+        }
+    }
+
     @Nested
     @DisplayName("setSaga 메서드는")
     class SetSagaTest {
@@ -0,0 +1,234 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.payload;
+
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.SagaStepHistory;
+import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
+import com.early_express.order_service.domain.order.infrastructure.client.hub.dto.HubRouteCalculationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryReservationResponse;
+import com.early_express.order_service.domain.order.infrastructure.client.inventory.dto.InventoryRestoreRequest;
+import com.early_express.order_service.domain.order.infrastructure.client.payment.dto.PaymentVerificationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SagaStepPayloadExtractor 테스트")
+class SagaStepPayloadExtractorTest {
+
+    private static final String LARGE_ROUTE_INFO = "{\"segments\":\"" + "x".repeat(4_000) + "\"}";
+
+    private final SagaStepPayloadExtractor minimalExtractor =
+            new SagaStepPayloadExtractor(SagaStepPayloadExtractor.ResponseRetention.MINIMAL);
+
+    private final SagaStepPayloadExtractor fullExtractor =
+            new SagaStepPayloadExtractor(SagaStepPayloadExtractor.ResponseRetention.FULL);
+
+    @Nested
+    @DisplayName("축소 레코드 추출")
+    class ExtractTest {
+
+        @Test
+        @DisplayName("재고 예약 응답에서 예약 ID와 성공 항목만 추출한다")
+        void extract_StockReservation_KeepsSucceededItems() {
+            // given
+            InventoryReservationResponse response = reservationResponse();
+
+            // when
+            Object payload = minimalExtractor.extract(SagaStep.STOCK_RESERVE, response);
+
+            // then
+            assertThat(payload).isEqualTo(new StockReservationPayload(
+                    "RES-001",
+                    List.of(new StockReservationPayload.Item("PROD-001", "HUB-001", 30))
+            ));
+        }
+
+        @Test
+        @DisplayName("재고 예약 보상 데이터로 재고 복원 요청을 만든다")
+        void stockReservation_ToRestoreRequest() {
+            // given
+            StockReservationPayload payload = StockReservationPayload.from(reservationResponse());
+
+            // when
+            InventoryRestoreRequest request = payload.toRestoreRequest("ORDER-001", "테스트 복원");
+
+            // then
+            assertThat(request.getReservationId()).isEqualTo("RES-001");
+            assertThat(request.getOrderId()).isEqualTo("ORDER-001");
+            assertThat(request.getItems()).hasSize(1);
+            assertThat(request.getItems().get(0).getHubId()).isEqualTo("HUB-001");
+            assertThat(request.getItems().get(0).getQuantity()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("결제 검증 응답에서 결제 ID만 추출한다")
+        void extract_PaymentVerification_KeepsPaymentId() {
+            // given
+            PaymentVerificationResponse response = PaymentVerificationResponse.builder()
+                    .paymentId("PAY-001")
+                    .status("VERIFIED")
+                    .pgTransactionId("PG-TX-001")
+                    .verifiedAmount(BigDecimal.valueOf(10000))
+                    .message("검증 완료")
+                    .build();
+
+            // when
+            Object payload = minimalExtractor.extract(SagaStep.PAYMENT_VERIFY, response);
+
+            // then
+            assertThat(payload).isEqualTo(new PaymentVerificationPayload("PAY-001"));
+        }
+
+        @Test
+        @DisplayName("경로 계산 응답에서 경로 상세 JSON을 제외한다")
+        void extract_RouteCalculation_DropsRouteInfoJson() {
+            // when
+            Object payload = minimalExtractor.extract(SagaStep.ROUTE_CALCULATE, routeResponse());
+
+            // then
+            assertThat(payload).isEqualTo(new RouteCalculationPayload(
+                    "HUB-001", "HUB-003", List.of("HUB-001", "HUB-002", "HUB-003"), 250.0));
+        }
+
+        @Test
+        @DisplayName("추출기가 없는 Step은 응답을 그대로 반환한다")
+        void extract_UnregisteredStep_ReturnsResponse() {
+            // when & then
+            assertThat(minimalExtractor.extract(SagaStep.NOTIFICATION_SEND, "notification")).isEqualTo("notification");
+        }
+    }
+
+    @Nested
+    @DisplayName("Step 완료 기록")
+    class CompleteStepTest {
+
+        @Test
+        @DisplayName("MINIMAL 수준에서는 보상 데이터와 이력 응답 모두 축소 레코드로 기록한다")
+        void completeStep_Minimal_RecordsPayloadOnly() {
+            // given
+            OrderSaga saga = startedSaga(SagaStep.STOCK_RESERVE);
+
+            // when
+            minimalExtractor.completeStep(saga, SagaStep.STOCK_RESERVE, reservationResponse());
+
+            // then
+            assertThat(saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE))
+                    .isInstanceOf(StockReservationPayload.class);
+            assertThat(historyOf(saga, SagaStep.STOCK_RESERVE).getResponse())
+                    .contains("RES-001")
+                    .doesNotContain("재고 부족")
+                    .doesNotContain("allSuccess");
+        }
+
+        @Test
+        @DisplayName("MINIMAL 수준에서는 경로 이력 응답에 경로 상세 JSON이 남지 않는다")
+        void completeStep_Minimal_RouteHistoryIsSmall() {
+            // given
+            OrderSaga saga = startedSaga(SagaStep.ROUTE_CALCULATE);
+
+            // when
+            minimalExtractor.completeStep(saga, SagaStep.ROUTE_CALCULATE, routeResponse());
+
+            // then
+            String response = historyOf(saga, SagaStep.ROUTE_CALCULATE).getResponse();
+            assertThat(response).doesNotContain("routeInfoJson");
+            assertThat(response.length()).isLessThan(LARGE_ROUTE_INFO.length() / 10);
+        }
+
+        @Test
+        @DisplayName("FULL 수준에서는 이력 응답에 전체 응답을 기록하고 보상 데이터는 축소 레코드를 유지한다")
+        void completeStep_Full_RetainsFullResponseInHistory() {
+            // given
+            OrderSaga saga = startedSaga(SagaStep.STOCK_RESERVE);
+
+            // when
+            fullExtractor.completeStep(saga, SagaStep.STOCK_RESERVE, reservationResponse());
+
+            // then
+            assertThat(saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE))
+                    .isInstanceOf(StockReservationPayload.class);
+            assertThat(historyOf(saga, SagaStep.STOCK_RESERVE).getResponse())
+                    .contains("allSuccess")
+                    .contains("재고 부족");
+        }
+    }
+
+    @Nested
+    @DisplayName("병렬 Step 완료 기록")
+    class CompleteParallelStepTest {
+
+        @Test
+        @DisplayName("병렬 실행에서도 보상 데이터와 이력 응답을 축소 레코드로 기록한다")
+        void completeParallelStep_Minimal_RecordsPayloadOnly() {
+            // given
+            OrderSaga saga = OrderSaga.create(OrderId.create());
+            saga.start();
+            saga.startParallelSteps(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+            // when
+            minimalExtractor.completeParallelStep(saga, SagaStep.STOCK_RESERVE, reservationResponse());
+            minimalExtractor.completeParallelStep(saga, SagaStep.PAYMENT_VERIFY, PaymentVerificationResponse.builder()
+                    .paymentId("PAY-001")
+                    .status("VERIFIED")
+                    .pgTransactionId("PG-TX-001")
+                    .build());
+
+            // then
+            assertThat(saga.getCompensationDataForStep(SagaStep.STOCK_RESERVE))
+                    .isInstanceOf(StockReservationPayload.class);
+            assertThat(saga.getCompensationDataForStep(SagaStep.PAYMENT_VERIFY))
+                    .isEqualTo(new PaymentVerificationPayload("PAY-001"));
+            assertThat(historyOf(saga, SagaStep.STOCK_RESERVE).getResponse()).doesNotContain("재고 부족");
+            assertThat(historyOf(saga, SagaStep.PAYMENT_VERIFY).getResponse()).doesNotContain("PG-TX-001");
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    private static OrderSaga startedSaga(SagaStep step) {
+        OrderSaga saga = OrderSaga.create(OrderId.create());
+        saga.start();
+        saga.startStep(step);
+        return saga;
+    }
+
+    private static SagaStepHistory historyOf(OrderSaga saga, SagaStep step) {
+        return saga.getStepHistory().stream()
+                .filter(history -> history.getStep() == step)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static InventoryReservationResponse reservationResponse() {
+        return InventoryReservationResponse.builder()
+                .reservationId("RES-001")
+                .orderId("ORDER-001")
+                .allSuccess(true)
+                .reservedItems(List.of(
+                        InventoryReservationResponse.ReservedItem.builder()
+                                .productId("PROD-001").hubId("HUB-001").quantity(30).success(true)
+                                .build(),
+                        InventoryReservationResponse.ReservedItem.builder()
+                                .productId("PROD-001").hubId("HUB-002").quantity(20).success(false)
+                                .errorMessage("재고 부족")
+                                .build()))
+                .build();
+    }
+
+    private static HubRouteCalculationResponse routeResponse() {
+        return HubRouteCalculationResponse.builder()
+                .orderId("ORDER-001")
+                .originHubId("HUB-001")
+                .destinationHubId("HUB-003")
+                .routeHubs(List.of("HUB-001", "HUB-002", "HUB-003"))
+                .requiresHubDelivery(true)
+                .estimatedDistance(250.0)
+                .routeInfoJson(LARGE_ROUTE_INFO)
+                .build();
+    }
+}
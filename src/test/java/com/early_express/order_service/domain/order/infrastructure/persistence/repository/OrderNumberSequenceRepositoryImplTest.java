@@ -0,0 +1,106 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderNumberSequenceRepositoryImpl 통합 테스트
+ * 구간 임대는 별도 트랜잭션으로 커밋되므로 테스트마다 다른 날짜를 사용
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("OrderNumberSequenceRepositoryImpl 통합 테스트")
+class OrderNumberSequenceRepositoryImplTest {
+
+    private static final AtomicInteger dayOffset = new AtomicInteger();
+
+    @Autowired
+    private OrderNumberSequenceRepositoryImpl sequenceRepository;
+
+    private LocalDate uniqueDate() {
+        return LocalDate.of(2099, 1, 1).plusDays(dayOffset.incrementAndGet());
+    }
+
+    @Nested
+    @DisplayName("allocateBlock() - 구간 임대 테스트")
+    class AllocateBlockTest {
+
+        @Test
+        @DisplayName("같은 날짜는 이어지는 구간을 임대한다")
+        void allocateBlock_ReturnsConsecutiveBlocks() {
+            // given
+            LocalDate date = uniqueDate();
+
+            // when
+            long first = sequenceRepository.allocateBlock(date, 100);
+            long second = sequenceRepository.allocateBlock(date, 100);
+
+            // then
+            assertThat(first).isEqualTo(100L);
+            assertThat(second).isEqualTo(200L);
+            assertThat(sequenceRepository.findLastSequence(date)).isEqualTo(200L);
+        }
+
+        @Test
+        @DisplayName("날짜별 카운터는 독립적이다")
+        void allocateBlock_IndependentPerDate() {
+            // given
+            LocalDate date = uniqueDate();
+            LocalDate otherDate = uniqueDate();
+            sequenceRepository.allocateBlock(date, 100);
+
+            // when
+            long otherFirst = sequenceRepository.allocateBlock(otherDate, 50);
+
+            // then
+            assertThat(otherFirst).isEqualTo(50L);
+            assertThat(sequenceRepository.findLastSequence(uniqueDate())).isZero();
+        }
+
+        @Test
+        @DisplayName("동시에 임대해도 구간이 겹치지 않는다")
+        void allocateBlock_ConcurrentBlocksDoNotOverlap() throws Exception {
+            // given
+            LocalDate date = uniqueDate();
+            sequenceRepository.allocateBlock(date, 10); // 카운터 행 생성
+            int threads = 4;
+            int perThread = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Long> blockEnds = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        blockEnds.add(sequenceRepository.allocateBlock(date, 10));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(blockEnds).hasSize(threads * perThread);
+            assertThat(blockEnds).doesNotHaveDuplicates();
+            assertThat(sequenceRepository.findLastSequence(date)).isEqualTo(10L + threads * perThread * 10L);
+        }
+    }
+}
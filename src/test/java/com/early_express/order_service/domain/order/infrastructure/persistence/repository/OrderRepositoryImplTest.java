@@ -1,14 +1,28 @@
 package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
 
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.OrderException;
 import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.*;
+import com.early_express.order_service.domain.order.domain.repository.OrderSagaRepository;
+import com.early_express.order_service.domain.order.domain.repository.OrderSearchCondition;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.OrderEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.RouteInfoEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.RouteInfoJpaRepository;
+import com.early_express.order_service.global.common.dto.Cursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +30,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +51,15 @@ class OrderRepositoryImplTest {
     @Autowired
     private OrderRepositoryImpl orderRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RouteInfoJpaRepository routeInfoJpaRepository;
+
+    @Autowired
+    private OrderSagaRepository sagaRepository;
+
     private Order testOrder1;
     private Order testOrder2;
     private Order testOrder3;
@@ -214,6 +239,96 @@ class OrderRepositoryImplTest {
             assertThat(saved3.getId()).isNotNull();
             assertThat(saved1.getId()).isNotEqualTo(saved2.getId());
         }
+
+        @Test
+        @DisplayName("저장 내용이 DB에 반영되면 버전이 증가한다")
+        void save_ExistingOrder_IncrementsVersion() {
+            // given
+            Order savedOrder = orderRepository.save(testOrder1);
+            assertThat(savedOrder.getVersion()).isZero();
+
+            savedOrder.startStockChecking();
+
+            // when
+            Order updatedOrder = orderRepository.save(savedOrder);
+            entityManager.flush();
+
+            // then
+            assertThat(updatedOrder.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("영속 상태 주문 저장은 즉시 flush하지 않고 트랜잭션의 다른 쓰기와 함께 반영된다")
+        void save_ManagedOrder_DefersUpdateUntilFlush() {
+            // given
+            Order savedOrder = orderRepository.save(testOrder1);
+            entityManager.flush();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            savedOrder.updateDeliveryInfo(savedOrder.getDeliveryInfo().withLastMileDeliveryId("LAST-MILE-DEFERRED"));
+
+            // when
+            orderRepository.save(savedOrder);
+
+            // then - save 시점에는 UPDATE 없음, flush 시 실행되고 버전 반영
+            assertThat(statistics.getEntityUpdateCount()).isZero();
+            assertThat(savedOrder.getVersion()).isZero();
+
+            entityManager.flush();
+
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+            assertThat(savedOrder.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("다른 트랜잭션에서 로딩된 주문도 버전 조건으로 직접 갱신된다")
+        void save_DetachedOrder_UpdatesDirectly() {
+            // given
+            Order savedOrder = orderRepository.save(testOrder1);
+            entityManager.flush();
+            entityManager.clear();
+
+            savedOrder.startStockChecking();
+
+            // when
+            Order updatedOrder = orderRepository.save(savedOrder);
+            entityManager.clear();
+
+            // then
+            assertThat(updatedOrder.getVersion()).isEqualTo(1L);
+
+            Order foundOrder = orderRepository.findById(savedOrder.getId()).orElseThrow();
+            assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.STOCK_CHECKING);
+            assertThat(foundOrder.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("다른 요청이 먼저 수정한 주문을 저장하면 예외가 발생한다")
+        void save_StaleOrder_ThrowsConcurrentModification() {
+            // given
+            Order savedOrder = orderRepository.save(testOrder1);
+            entityManager.flush();
+            entityManager.clear();
+
+            Order staleOrder = orderRepository.findById(savedOrder.getId()).orElseThrow();
+            entityManager.clear();
+
+            savedOrder.startStockChecking();
+            orderRepository.save(savedOrder);
+
+            staleOrder.startStockChecking();
+
+            // when & then
+            assertThatThrownBy(() -> orderRepository.save(staleOrder))
+                    .isInstanceOf(OrderException.class)
+                    .extracting(e -> ((OrderException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.ORDER_CONCURRENT_MODIFICATION);
+        }
     }
 
     @Nested
@@ -417,6 +532,46 @@ class OrderRepositoryImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("findStalePendingOrders() - Saga 미시작 접수 주문 조회 테스트")
+    class FindStalePendingOrdersTest {
+
+        @Test
+        @DisplayName("Saga가 없는 PENDING 주문만 조회")
+        void findStalePendingOrders_ExcludesOrdersWithSaga() {
+            // given
+            Order pending = orderRepository.save(testOrder1); // PENDING
+            Order started = orderRepository.save(createTestOrderWithUniqueNumber(
+                    "SUPPLIER-001", "RECEIVER-003", OrderStatus.PENDING));
+            orderRepository.save(testOrder2); // CONFIRMED
+
+            OrderSaga saga = OrderSaga.create(started.getId());
+            saga.start();
+            sagaRepository.save(saga);
+
+            // when
+            List<Order> orders = orderRepository.findStalePendingOrders(LocalDateTime.now().plusSeconds(1), 100);
+
+            // then
+            assertThat(orders).extracting(Order::getIdValue)
+                    .contains(pending.getIdValue())
+                    .doesNotContain(started.getIdValue(), testOrder2.getIdValue());
+        }
+
+        @Test
+        @DisplayName("기준 시각 이후에 접수된 주문은 조회되지 않음")
+        void findStalePendingOrders_ExcludesRecentOrders() {
+            // given
+            Order pending = orderRepository.save(testOrder1);
+
+            // when
+            List<Order> orders = orderRepository.findStalePendingOrders(LocalDateTime.now().minusMinutes(5), 100);
+
+            // then
+            assertThat(orders).extracting(Order::getIdValue).doesNotContain(pending.getIdValue());
+        }
+    }
+
     @Nested
     @DisplayName("findByLastMileDeliveryId() - 배송 ID로 조회 테스트")
     class FindByLastMileDeliveryIdTest {
@@ -701,6 +856,74 @@ class OrderRepositoryImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("경로 정보 내용 주소 저장 테스트")
+    class RouteInfoTest {
+
+        private static final String ROUTE_INFO = "{\"hubs\":[\"HUB-001\",\"HUB-002\"],\"distance\":120.5}";
+
+        @Test
+        @DisplayName("같은 경로의 주문들은 경로 정보 한 행을 공유한다")
+        void save_SameRoute_StoresRouteOnce() {
+            // given
+            Order order1 = orderRepository.save(testOrder1);
+            Order order2 = orderRepository.save(testOrder2);
+            order1.updateRouteInfo(ROUTE_INFO);
+            order2.updateRouteInfo(ROUTE_INFO);
+
+            // when
+            orderRepository.save(order1);
+            orderRepository.save(order2);
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            String contentHash = RouteInfoEntity.hashOf(ROUTE_INFO);
+            assertThat(routeInfoJpaRepository.findByContentHashIn(List.of(contentHash))).hasSize(1);
+            assertThat(entityManager.find(OrderEntity.class, order1.getIdValue()).getRouteInfoHash())
+                    .isEqualTo(contentHash)
+                    .hasSize(64);
+        }
+
+        @Test
+        @DisplayName("조회한 주문은 해시로 경로 정보를 복원한다")
+        void find_RestoresRouteInfoFromHash() {
+            // given
+            Order order = orderRepository.save(testOrder1);
+            order.updateRouteInfo(ROUTE_INFO);
+            orderRepository.save(order);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Order found = orderRepository.findById(order.getId()).orElseThrow();
+            List<Order> byCompany = orderRepository.findByCompanyId("SUPPLIER-001");
+
+            // then
+            assertThat(found.getAiCalculationResult().getRouteInfo()).isEqualTo(ROUTE_INFO);
+            assertThat(byCompany)
+                    .filteredOn(o -> o.getId().equals(order.getId()))
+                    .singleElement()
+                    .satisfies(o -> assertThat(o.getAiCalculationResult().getRouteInfo()).isEqualTo(ROUTE_INFO));
+        }
+
+        @Test
+        @DisplayName("경로 정보가 없는 주문은 해시 없이 저장된다")
+        void save_WithoutRoute_HasNoHash() {
+            // given
+            Order order = orderRepository.save(testOrder1);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Order found = orderRepository.findById(order.getId()).orElseThrow();
+
+            // then
+            assertThat(entityManager.find(OrderEntity.class, order.getIdValue()).getRouteInfoHash()).isNull();
+            assertThat(found.getAiCalculationResult().hasRouteInfo()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("findOrdersWithUpcomingDeadline() - 발송 시한 임박 조회 테스트")
     class FindOrdersWithUpcomingDeadlineTest {
@@ -826,4 +1049,256 @@ class OrderRepositoryImplTest {
             assertThat(result.getContent()).hasSize(2);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("searchSummaries() - 목록 Read Model 조회 테스트")
+    class SearchSummariesTest {
+
+        @Test
+        @DisplayName("요약 컬럼을 Projection으로 조회한다")
+        void searchSummaries_ReturnsProjectedColumns() {
+            // given
+            Order saved = orderRepository.save(testOrder1);
+            OrderSearchCondition condition = OrderSearchCondition.ofCompany("SUPPLIER-001", OrderStatus.PENDING, null, null);
+
+            // when
+            Page<OrderSummary> result = orderRepository.searchSummaries(condition, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            OrderSummary summary = result.getContent().get(0);
+            assertThat(summary.orderId()).isEqualTo(saved.getIdValue());
+            assertThat(summary.orderNumber()).isEqualTo(saved.getOrderNumberValue());
+            assertThat(summary.status()).isEqualTo(OrderStatus.PENDING);
+            assertThat(summary.supplierCompanyId()).isEqualTo("SUPPLIER-001");
+            assertThat(summary.receiverCompanyId()).isEqualTo("RECEIVER-001");
+            assertThat(summary.productId()).isEqualTo("PRODUCT-001");
+            assertThat(summary.quantity()).isEqualTo(10);
+            assertThat(summary.receiverName()).isEqualTo("홍길동");
+            assertThat(summary.requestedDeliveryDate()).isEqualTo(saved.getRequestInfo().getRequestedDeliveryDate());
+            assertThat(summary.requestedDeliveryTime()).isEqualTo(saved.getRequestInfo().getRequestedDeliveryTime());
+            assertThat(result.getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("삭제 포함 조건이면 삭제된 주문도 조회한다")
+        void searchSummaries_IncludingDeleted_ReturnsDeletedOrders() {
+            // given
+            Order order1 = orderRepository.save(testOrder1);
+            orderRepository.save(testOrder2);
+            orderRepository.delete(order1, "ADMIN-001");
+
+            // when
+            Page<OrderSummary> activeOnly = orderRepository.searchSummaries(
+                    OrderSearchCondition.ofCompany("SUPPLIER-001", null, null, null), PageRequest.of(0, 10));
+            Page<OrderSummary> deletedOnly = orderRepository.searchSummaries(
+                    OrderSearchCondition.includingDeleted("SUPPLIER-001", null, true, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(activeOnly.getContent()).extracting(OrderSummary::orderId)
+                    .doesNotContain(order1.getIdValue());
+            assertThat(deletedOnly.getContent()).extracting(OrderSummary::orderId)
+                    .containsExactly(order1.getIdValue());
+        }
+
+        @Test
+        @DisplayName("업체별 요약 목록은 공급/수령 업체 모두 조회한다")
+        void findSummariesByCompanyId_ReturnsSupplierAndReceiverOrders() {
+            // given
+            String companyId = "COMPANY-SUMMARY-" + UUID.randomUUID().toString().substring(0, 8);
+            orderRepository.save(createTestOrderWithUniqueNumber(companyId, "RECEIVER-001", OrderStatus.PENDING));
+            orderRepository.save(createTestOrderWithUniqueNumber("SUPPLIER-001", companyId, OrderStatus.PENDING));
+
+            // when
+            List<OrderSummary> result = orderRepository.findSummariesByCompanyId(companyId);
+
+            // then
+            assertThat(result).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchSummariesWithoutCount() - 전체 건수 생략 검색 테스트")
+    class SearchSummariesWithoutCountTest {
+
+        @Test
+        @DisplayName("count 없이 다음 페이지 존재 여부를 판단한다")
+        void searchSummariesWithoutCount_ReturnsHasNext() {
+            // given
+            String supplierCompanyId = "SUPPLIER-SLICE-" + UUID.randomUUID().toString().substring(0, 8);
+            for (int i = 0; i < 3; i++) {
+                orderRepository.save(
+                        createTestOrderWithUniqueNumber(supplierCompanyId, "RECEIVER-001", OrderStatus.PENDING));
+            }
+            OrderSearchCondition condition = OrderSearchCondition.ofCompany(supplierCompanyId, null, null, null);
+
+            // when
+            Slice<OrderSummary> firstPage = orderRepository.searchSummariesWithoutCount(condition, PageRequest.of(0, 2));
+            Slice<OrderSummary> lastPage = orderRepository.searchSummariesWithoutCount(condition, PageRequest.of(1, 2));
+
+            // then
+            assertThat(firstPage).isNotInstanceOf(Page.class);
+            assertThat(firstPage.getContent()).hasSize(2);
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(lastPage.getContent()).hasSize(1);
+            assertThat(lastPage.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("searchSummariesByCursor() - 커서 페이징 검색 테스트")
+    class SearchSummariesByCursorTest {
+
+        @Test
+        @DisplayName("커서를 따라 전체 결과를 중복/누락 없이 순회한다")
+        void searchSummariesByCursor_TraversesAllWithoutOverlap() {
+            // given
+            String supplierCompanyId = "SUPPLIER-CURSOR-" + UUID.randomUUID().toString().substring(0, 8);
+            List<String> savedIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Order saved = orderRepository.save(
+                        createTestOrderWithUniqueNumber(supplierCompanyId, "RECEIVER-001", OrderStatus.PENDING));
+                savedIds.add(saved.getIdValue());
+            }
+            OrderSearchCondition condition = OrderSearchCondition.ofCompany(supplierCompanyId, null, null, null);
+
+            // when
+            List<String> visitedIds = new ArrayList<>();
+            List<Boolean> hasNexts = new ArrayList<>();
+            Cursor cursor = null;
+            do {
+                Slice<OrderSummary> slice = orderRepository.searchSummariesByCursor(condition, cursor, 2);
+
+                slice.getContent().forEach(summary -> visitedIds.add(summary.orderId()));
+                hasNexts.add(slice.hasNext());
+
+                OrderSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = Cursor.decode(Cursor.of(last.createdAt(), last.orderId()).encode());
+            } while (hasNexts.get(hasNexts.size() - 1));
+
+            // then
+            assertThat(hasNexts).containsExactly(true, true, false);
+            assertThat(visitedIds).doesNotHaveDuplicates();
+            assertThat(visitedIds).containsExactlyInAnyOrderElementsOf(savedIds);
+        }
+
+        @Test
+        @DisplayName("(createdAt, id) 내림차순으로 정렬된다")
+        void searchSummariesByCursor_OrderedByCreatedAtAndIdDesc() {
+            // given
+            String supplierCompanyId = "SUPPLIER-CURSOR-" + UUID.randomUUID().toString().substring(0, 8);
+            for (int i = 0; i < 3; i++) {
+                orderRepository.save(
+                        createTestOrderWithUniqueNumber(supplierCompanyId, "RECEIVER-001", OrderStatus.PENDING));
+            }
+
+            // when
+            Slice<OrderSummary> result = orderRepository.searchSummariesByCursor(
+                    OrderSearchCondition.ofCompany(supplierCompanyId, null, null, null), null, 10);
+
+            // then
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.getContent()).hasSize(3);
+            assertThat(result.getContent()).isSortedAccordingTo(
+                    Comparator.comparing(OrderSummary::createdAt)
+                            .thenComparing(OrderSummary::orderId)
+                            .reversed());
+        }
+    }
+
+    @Nested
+    @DisplayName("허브별 조회 - 허브 조회 테이블 동기화 테스트")
+    class HubMembershipTest {
+
+        @Test
+        @DisplayName("도착 허브가 설정되면 도착 허브 기준 조회에 포함된다")
+        void updateDestinationHub_IncludedInDestinationHubQuery() {
+            // given
+            String destinationHubId = "HUB-DEST-" + UUID.randomUUID().toString().substring(0, 8);
+            Order saved = orderRepository.save(testOrder1);
+
+            // when
+            saved.updateDestinationHubId(destinationHubId);
+            orderRepository.save(saved);
+            Page<Order> result = orderRepository.findByHubId(destinationHubId, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getContent()).extracting(Order::getIdValue)
+                    .containsExactly(saved.getIdValue());
+        }
+
+        @Test
+        @DisplayName("도착 허브가 변경되면 이전 도착 허브 조회에서 제외된다")
+        void changeDestinationHub_ExcludedFromPreviousHubQuery() {
+            // given
+            String previousHubId = "HUB-DEST-" + UUID.randomUUID().toString().substring(0, 8);
+            String newHubId = "HUB-DEST-" + UUID.randomUUID().toString().substring(0, 8);
+            Order saved = orderRepository.save(testOrder1);
+            saved.updateDestinationHubId(previousHubId);
+            orderRepository.save(saved);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when - 영속성 컨텍스트 밖에서 버전 기반 직접 UPDATE
+            saved.updateDestinationHubId(newHubId);
+            orderRepository.save(saved);
+
+            // then
+            assertThat(orderRepository.findByHubId(previousHubId, PageRequest.of(0, 10)).getContent()).isEmpty();
+            assertThat(orderRepository.findByHubId(newHubId, PageRequest.of(0, 10)).getContent())
+                    .extracting(Order::getIdValue)
+                    .containsExactly(saved.getIdValue());
+            assertThat(orderRepository.findByHubId("HUB-001", PageRequest.of(0, 100)).getContent())
+                    .extracting(Order::getIdValue)
+                    .contains(saved.getIdValue());
+        }
+
+        @Test
+        @DisplayName("상태와 도착 허브가 그대로이면 허브 조회 테이블을 갱신하지 않는다")
+        void unchangedHubsAndStatus_SkipMembershipWrites() {
+            // given
+            testOrder1.updateDestinationHubId("HUB-DEST-" + UUID.randomUUID().toString().substring(0, 8));
+            Order saved = orderRepository.save(testOrder1);
+            entityManager.flush();
+            entityManager.clear();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // when - 허브 / 상태와 무관한 필드만 변경 (버전 기반 직접 UPDATE)
+            saved.updateDeliveryInfo(saved.getDeliveryInfo().withLastMileDeliveryId("LAST-MILE-UNCHANGED-HUBS"));
+            orderRepository.save(saved);
+
+            // then - 주문 UPDATE 1건만 실행
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("주문 상태 변경이 허브별 상태 검색에 반영된다")
+        void changeStatus_ReflectedInHubStatusSearch() {
+            // given
+            String destinationHubId = "HUB-DEST-" + UUID.randomUUID().toString().substring(0, 8);
+            testOrder1.updateDestinationHubId(destinationHubId);
+            Order saved = orderRepository.save(testOrder1);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            saved.startStockChecking();
+            orderRepository.save(saved);
+
+            // then
+            assertThat(orderRepository.searchOrdersByHubId(
+                    destinationHubId, OrderStatus.PENDING, null, null, PageRequest.of(0, 10)).getContent())
+                    .isEmpty();
+            assertThat(orderRepository.searchSummaries(
+                    OrderSearchCondition.ofHub(destinationHubId, saved.getStatus(), null, null), PageRequest.of(0, 10))
+                    .getContent())
+                    .extracting(OrderSummary::orderId)
+                    .containsExactly(saved.getIdValue());
+        }
+    }
+}
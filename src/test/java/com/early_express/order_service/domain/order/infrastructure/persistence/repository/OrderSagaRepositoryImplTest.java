@@ -1,22 +1,37 @@
 package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
 
+import com.early_express.order_service.domain.order.domain.exception.OrderErrorCode;
+import com.early_express.order_service.domain.order.domain.exception.SagaException;
 import com.early_express.order_service.domain.order.domain.model.OrderSaga;
 import com.early_express.order_service.domain.order.domain.model.SagaStatus;
 import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.SagaStepHistory;
+import com.early_express.order_service.domain.order.domain.model.StepStatus;
+import com.early_express.order_service.domain.order.domain.model.readmodel.OrderSagaSummary;
 import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
 import com.early_express.order_service.domain.order.domain.model.vo.SagaId;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.SagaStepConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.converter.StepStatusConverter;
+import com.early_express.order_service.domain.order.infrastructure.persistence.payload.StockReservationPayload;
+import com.early_express.order_service.global.common.dto.Cursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -32,6 +47,9 @@ class OrderSagaRepositoryImplTest {
     @Autowired
     private OrderSagaRepositoryImpl sagaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private OrderSaga testSaga1;
     private OrderSaga testSaga2;
     private OrderSaga testSaga3;
@@ -89,6 +107,66 @@ class OrderSagaRepositoryImplTest {
             assertThat(updatedSaga.getCurrentStep()).isEqualTo(SagaStep.STOCK_RESERVE);
         }
 
+        @Test
+        @DisplayName("영속 상태 Saga 저장은 즉시 flush하지 않고 트랜잭션의 다른 쓰기와 함께 반영된다")
+        void save_ManagedSaga_DefersUpdateUntilFlush() {
+            // given
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            entityManager.flush();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            savedSaga.start();
+            savedSaga.startStep(SagaStep.STOCK_RESERVE);
+
+            // when
+            sagaRepository.save(savedSaga);
+
+            // then - save 시점에는 UPDATE/INSERT 없음, History ID는 이미 할당
+            assertThat(statistics.getEntityUpdateCount()).isZero();
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            assertThat(savedSaga.getStepHistory()).allMatch(history -> history.getId() != null);
+            assertThat(savedSaga.getVersion()).isZero();
+
+            entityManager.flush();
+
+            // flush 시 실행되고 버전 반영
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+            assertThat(savedSaga.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("한 번에 추가된 Step 이력은 JDBC 배치 하나로 INSERT된다")
+        void save_NewStepHistories_InsertedInSingleBatch() {
+            // given
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            savedSaga.start();
+            for (SagaStep step : List.of(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY, SagaStep.ROUTE_CALCULATE)) {
+                savedSaga.startStep(step);
+                savedSaga.completeStep(step, step.name() + "-result");
+            }
+            entityManager.flush();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // when
+            sagaRepository.save(savedSaga);
+            entityManager.flush();
+
+            // then - Saga UPDATE 1 + 이력 INSERT 배치 1 (+ 시퀀스 블록 할당 최대 1)
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        }
+
         @Test
         @DisplayName("여러 Saga 저장 성공")
         void save_MultipleSagas_Success() {
@@ -103,6 +181,123 @@ class OrderSagaRepositoryImplTest {
             assertThat(saved3.getSagaId()).isNotNull();
             assertThat(saved1.getSagaId()).isNotEqualTo(saved2.getSagaId());
         }
+
+        @Test
+        @DisplayName("다른 트랜잭션에서 로딩된 Saga는 신규 History만 추가하고 변경된 History만 갱신한다")
+        void save_DetachedSaga_AppendsAndUpdatesHistoryDirectly() {
+            // given
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            savedSaga.start();
+            savedSaga.startStep(SagaStep.STOCK_RESERVE);
+            savedSaga = sagaRepository.save(savedSaga);
+            Long stockHistoryId = savedSaga.getStepHistory().get(0).getId();
+
+            entityManager.flush();
+            entityManager.clear();
+
+            savedSaga.completeStep(SagaStep.STOCK_RESERVE, "reservation-data");
+            savedSaga.startStep(SagaStep.PAYMENT_VERIFY);
+
+            // when
+            OrderSaga updatedSaga = sagaRepository.save(savedSaga);
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            assertThat(updatedSaga.getStepHistory()).allMatch(history -> history.getId() != null);
+
+            OrderSaga foundSaga = sagaRepository.findById(savedSaga.getSagaId()).orElseThrow();
+            assertThat(foundSaga.getVersion()).isEqualTo(updatedSaga.getVersion());
+            assertThat(foundSaga.getCurrentStep()).isEqualTo(SagaStep.PAYMENT_VERIFY);
+            assertThat(foundSaga.getStepHistory()).hasSize(2);
+            assertThat(foundSaga.getStepHistory().get(0).getId()).isEqualTo(stockHistoryId);
+            assertThat(foundSaga.hasSucceededStep(SagaStep.STOCK_RESERVE)).isTrue();
+        }
+
+        @Test
+        @DisplayName("ID 순서가 추가 순서와 다른 History도 추가 순서로 조회되고 자기 행만 갱신된다")
+        void save_HistoryIdsOutOfOrder_UpdatesMatchingRow() {
+            // given - 다른 인스턴스가 더 낮은 pooled ID 블록으로 이후 Step을 추가한 상황
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            savedSaga.start();
+            savedSaga = sagaRepository.save(savedSaga);
+            entityManager.flush();
+
+            LocalDateTime startedAt = LocalDateTime.now().withNano(0);
+            insertStepHistory(900L, savedSaga, SagaStep.STOCK_RESERVE, StepStatus.SUCCESS, startedAt);
+            insertStepHistory(100L, savedSaga, SagaStep.PAYMENT_VERIFY, StepStatus.IN_PROGRESS, startedAt.plusSeconds(1));
+            entityManager.clear();
+
+            OrderSaga loadedSaga = sagaRepository.findById(savedSaga.getSagaId()).orElseThrow();
+            assertThat(loadedSaga.getStepHistory())
+                    .extracting(SagaStepHistory::getStep)
+                    .containsExactly(SagaStep.STOCK_RESERVE, SagaStep.PAYMENT_VERIFY);
+
+            // when - 영속성 컨텍스트에 로딩된 Saga 갱신 (변경 감지 경로)
+            loadedSaga.completeParallelStep(SagaStep.PAYMENT_VERIFY, "payment-data");
+            sagaRepository.save(loadedSaga);
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            OrderSaga foundSaga = sagaRepository.findById(savedSaga.getSagaId()).orElseThrow();
+            assertThat(foundSaga.getStepHistory())
+                    .extracting(SagaStepHistory::getId, SagaStepHistory::getStep, SagaStepHistory::getStatus)
+                    .containsExactly(
+                            tuple(900L, SagaStep.STOCK_RESERVE, StepStatus.SUCCESS),
+                            tuple(100L, SagaStep.PAYMENT_VERIFY, StepStatus.SUCCESS)
+                    );
+        }
+
+        @Test
+        @DisplayName("보상 데이터는 Step별 저장 타입으로 복원되고 저장 후 변경 상태가 해제된다")
+        void save_CompensationData_RestoresRegisteredType() {
+            // given
+            StockReservationPayload reservation = new StockReservationPayload(
+                    "RES-001",
+                    List.of(new StockReservationPayload.Item("PROD-001", "HUB-001", 5))
+            );
+            testSaga1.start();
+            testSaga1.startStep(SagaStep.STOCK_RESERVE);
+            testSaga1.completeStep(SagaStep.STOCK_RESERVE, reservation);
+
+            // when
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            assertThat(savedSaga.getCompensationData().isModified()).isFalse();
+
+            OrderSaga foundSaga = sagaRepository.findById(savedSaga.getSagaId()).orElseThrow();
+            assertThat(foundSaga.getCompensationData().isModified()).isFalse();
+            assertThat(foundSaga.getCompensationDataForStep(SagaStep.STOCK_RESERVE))
+                    .isInstanceOf(StockReservationPayload.class)
+                    .isEqualTo(reservation);
+        }
+
+        @Test
+        @DisplayName("다른 요청이 먼저 수정한 Saga를 저장하면 예외가 발생한다")
+        void save_StaleSaga_ThrowsConcurrentModification() {
+            // given
+            OrderSaga savedSaga = sagaRepository.save(testSaga1);
+            entityManager.flush();
+            entityManager.clear();
+
+            OrderSaga staleSaga = sagaRepository.findById(savedSaga.getSagaId()).orElseThrow();
+            entityManager.clear();
+
+            savedSaga.start();
+            sagaRepository.save(savedSaga);
+
+            staleSaga.start();
+
+            // when & then
+            assertThatThrownBy(() -> sagaRepository.save(staleSaga))
+                    .isInstanceOf(SagaException.class)
+                    .extracting(e -> ((SagaException) e).getErrorCode())
+                    .isEqualTo(OrderErrorCode.SAGA_CONCURRENT_MODIFICATION);
+        }
     }
 
     @Nested
@@ -689,4 +884,116 @@ class OrderSagaRepositoryImplTest {
             // 비즈니스 로직에서 existsByOrderId로 체크 후 예외 발생해야 함
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("searchSagaSummariesByCursor() - 커서 페이징 검색 테스트")
+    class SearchSagaSummariesByCursorTest {
+
+        @Test
+        @DisplayName("커서를 따라 전체 결과를 중복/누락 없이 순회한다")
+        void searchSagaSummariesByCursor_TraversesAllWithoutOverlap() {
+            // given
+            LocalDateTime startDate = LocalDateTime.now().minusSeconds(1);
+            List<String> savedIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                OrderSaga saved = sagaRepository.save(OrderSaga.create(OrderId.create()));
+                savedIds.add(saved.getSagaIdValue());
+            }
+            LocalDateTime endDate = LocalDateTime.now().plusSeconds(1);
+
+            // when
+            List<String> visitedIds = new ArrayList<>();
+            List<Boolean> hasNexts = new ArrayList<>();
+            Cursor cursor = null;
+            do {
+                Slice<OrderSagaSummary> slice = sagaRepository.searchSagaSummariesByCursor(
+                        SagaStatus.PENDING, startDate, endDate, cursor, 2);
+
+                slice.getContent().forEach(summary -> visitedIds.add(summary.sagaId()));
+                hasNexts.add(slice.hasNext());
+
+                OrderSagaSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = Cursor.of(last.startedAt(), last.sagaId());
+            } while (hasNexts.get(hasNexts.size() - 1));
+
+            // then
+            assertThat(hasNexts).containsExactly(true, true, false);
+            assertThat(visitedIds).doesNotHaveDuplicates();
+            assertThat(visitedIds).containsExactlyInAnyOrderElementsOf(savedIds);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchSagaSummaries() - 목록 Read Model 조회 테스트")
+    class SearchSagaSummariesTest {
+
+        @Test
+        @DisplayName("보상 데이터 / Step 이력 없이 요약 컬럼만 조회한다")
+        void searchSagaSummaries_ReturnsProjectedColumns() {
+            // given
+            LocalDateTime startDate = LocalDateTime.now().minusSeconds(1);
+            testSaga1.start();
+            OrderSaga saved = sagaRepository.save(testSaga1);
+            saved.startStep(SagaStep.STOCK_RESERVE);
+            saved = sagaRepository.save(saved);
+            LocalDateTime endDate = LocalDateTime.now().plusSeconds(1);
+
+            // when
+            Page<OrderSagaSummary> result = sagaRepository.searchSagaSummaries(
+                    SagaStatus.IN_PROGRESS, startDate, endDate, PageRequest.of(0, 10));
+
+            // then
+            String sagaId = saved.getSagaIdValue();
+            assertThat(result.getContent()).extracting(OrderSagaSummary::sagaId)
+                    .contains(sagaId);
+            OrderSagaSummary summary = result.getContent().stream()
+                    .filter(candidate -> candidate.sagaId().equals(sagaId))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(summary.orderId()).isEqualTo(orderId1.getValue());
+            assertThat(summary.status()).isEqualTo(SagaStatus.IN_PROGRESS);
+            assertThat(summary.currentStep()).isEqualTo(SagaStep.STOCK_RESERVE);
+        }
+
+        @Test
+        @DisplayName("전체 건수 생략 시 다음 페이지 존재 여부만 판단한다")
+        void searchSagaSummariesWithoutCount_ReturnsHasNext() {
+            // given
+            LocalDateTime startDate = LocalDateTime.now().minusSeconds(1);
+            for (int i = 0; i < 3; i++) {
+                sagaRepository.save(OrderSaga.create(OrderId.create()));
+            }
+            LocalDateTime endDate = LocalDateTime.now().plusSeconds(1);
+
+            // when
+            Slice<OrderSagaSummary> firstPage = sagaRepository.searchSagaSummariesWithoutCount(
+                    SagaStatus.PENDING, startDate, endDate, PageRequest.of(0, 2));
+            Slice<OrderSagaSummary> lastPage = sagaRepository.searchSagaSummariesWithoutCount(
+                    SagaStatus.PENDING, startDate, endDate, PageRequest.of(1, 2));
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(lastPage.getContent()).hasSize(1);
+            assertThat(lastPage.hasNext()).isFalse();
+        }
+    }
+
+    // ===== 헬퍼 메서드 =====
+
+    /**
+     * 지정한 ID로 Step History 행 직접 추가 (다른 인스턴스의 pooled ID 블록 재현)
+     */
+    private void insertStepHistory(Long id, OrderSaga saga, SagaStep step, StepStatus status, LocalDateTime startedAt) {
+        UUID sagaId = UUID.fromString(saga.getSagaIdValue());
+        entityManager.createNativeQuery("""
+                        INSERT INTO p_saga_step_histories (id, saga_id, saga_id_value, step, status, started_at, retry_count)
+                        VALUES (:id, :sagaId, :sagaId, :step, :status, :startedAt, 0)
+                        """)
+                .setParameter("id", id)
+                .setParameter("sagaId", sagaId)
+                .setParameter("step", new SagaStepConverter().convertToDatabaseColumn(step))
+                .setParameter("status", new StepStatusConverter().convertToDatabaseColumn(status))
+                .setParameter("startedAt", startedAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,99 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.domain.model.OrderStatus;
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.QOrderEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QueryCountCache 테스트")
+class QueryCountCacheTest {
+
+    private final QOrderEntity qOrder = QOrderEntity.orderEntity;
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class GetTest {
+
+        @Test
+        @DisplayName("TTL 내 같은 키는 count를 다시 실행하지 않는다")
+        void shouldReuseCountWithinTtl() {
+            // given
+            QueryCountCache cache = new QueryCountCache(30, 100);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            long first = cache.get("key", () -> loads.incrementAndGet() * 10L);
+            long second = cache.get("key", () -> loads.incrementAndGet() * 10L);
+
+            // then
+            assertThat(first).isEqualTo(10L);
+            assertThat(second).isEqualTo(10L);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("TTL이 0이면 항상 count를 실행한다")
+        void shouldAlwaysLoadWhenDisabled() {
+            // given
+            QueryCountCache cache = new QueryCountCache(0, 100);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            cache.get("key", loads::incrementAndGet);
+            cache.get("key", loads::incrementAndGet);
+
+            // then
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("최대 크기에 도달해도 새 키의 count를 저장한다")
+        void shouldStoreNewKeyWhenFull() {
+            // given
+            QueryCountCache cache = new QueryCountCache(30, 2);
+            cache.get("a", () -> 1L);
+            cache.get("b", () -> 2L);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            cache.get("c", () -> loads.incrementAndGet());
+            cache.get("c", () -> loads.incrementAndGet());
+
+            // then
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("keyOf 메서드는")
+    class KeyOfTest {
+
+        @Test
+        @DisplayName("같은 조건은 같은 키, 다른 조건 값은 다른 키를 만든다")
+        void shouldNormalizePredicate() {
+            // when
+            String pending = QueryCountCache.keyOf(qOrder, qOrder.status.eq(OrderStatus.PENDING), null);
+            String pendingAgain = QueryCountCache.keyOf(qOrder, null, qOrder.status.eq(OrderStatus.PENDING));
+            String confirmed = QueryCountCache.keyOf(qOrder, qOrder.status.eq(OrderStatus.CONFIRMED));
+
+            // then
+            assertThat(pending).isEqualTo(pendingAgain);
+            assertThat(pending).isNotEqualTo(confirmed);
+        }
+
+        @Test
+        @DisplayName("조건이 모두 null이면 전체 조회 키를 만든다")
+        void shouldBuildKeyWithoutConditions() {
+            // when
+            String key = QueryCountCache.keyOf(qOrder, null, null);
+
+            // then
+            assertThat(key).endsWith("|ALL");
+        }
+    }
+}
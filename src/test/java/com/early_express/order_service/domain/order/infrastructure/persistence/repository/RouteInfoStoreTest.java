@@ -0,0 +1,115 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.infrastructure.persistence.entity.RouteInfoEntity;
+import com.early_express.order_service.domain.order.infrastructure.persistence.jpa.RouteInfoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RouteInfoStore 테스트")
+class RouteInfoStoreTest {
+
+    private static final String ROUTE_A = "{\"hubs\":[\"HUB-001\",\"HUB-002\"]}";
+    private static final String ROUTE_B = "{\"hubs\":[\"HUB-001\",\"HUB-003\"]}";
+
+    private final RouteInfoJpaRepository routeInfoJpaRepository = mock(RouteInfoJpaRepository.class);
+
+    @Nested
+    @DisplayName("hashOf 메서드는")
+    class HashOfTest {
+
+        @Test
+        @DisplayName("같은 내용은 같은 64자 해시, 다른 내용은 다른 해시를 만든다")
+        void shouldBeContentAddressed() {
+            // then
+            assertThat(RouteInfoEntity.hashOf(ROUTE_A))
+                    .hasSize(64)
+                    .isEqualTo(RouteInfoEntity.hashOf(new String(ROUTE_A)))
+                    .isNotEqualTo(RouteInfoEntity.hashOf(ROUTE_B));
+            assertThat(RouteInfoEntity.hashOf(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("store 메서드는")
+    class StoreTest {
+
+        @Test
+        @DisplayName("LRU에 있는 경로는 다시 저장하지 않는다")
+        void shouldSkipInsertForHotRoute() {
+            // given
+            RouteInfoStore store = new RouteInfoStore(routeInfoJpaRepository, 10);
+
+            // when
+            String first = store.store(ROUTE_A);
+            String second = store.store(ROUTE_A);
+
+            // then
+            assertThat(first).isEqualTo(second).isEqualTo(RouteInfoEntity.hashOf(ROUTE_A));
+            verify(routeInfoJpaRepository, times(1)).insertIfAbsent(first, ROUTE_A);
+        }
+
+        @Test
+        @DisplayName("LRU 한도를 넘으면 가장 오래 쓰지 않은 경로부터 제거한다")
+        void shouldEvictLeastRecentlyUsed() {
+            // given
+            RouteInfoStore store = new RouteInfoStore(routeInfoJpaRepository, 1);
+
+            // when
+            store.store(ROUTE_A);
+            store.store(ROUTE_B);
+            store.store(ROUTE_A);
+
+            // then
+            verify(routeInfoJpaRepository, times(2)).insertIfAbsent(RouteInfoEntity.hashOf(ROUTE_A), ROUTE_A);
+        }
+
+        @Test
+        @DisplayName("max-entries가 0이면 항상 저장을 시도한다")
+        void shouldAlwaysInsertWhenDisabled() {
+            // given
+            RouteInfoStore store = new RouteInfoStore(routeInfoJpaRepository, 0);
+
+            // when
+            store.store(ROUTE_A);
+            store.store(ROUTE_A);
+
+            // then
+            verify(routeInfoJpaRepository, times(2)).insertIfAbsent(anyString(), eq(ROUTE_A));
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll 메서드는")
+    class FindAllTest {
+
+        @Test
+        @DisplayName("LRU에 없는 해시만 한 번에 조회한다")
+        void shouldQueryOnlyMisses() {
+            // given
+            RouteInfoStore store = new RouteInfoStore(routeInfoJpaRepository, 10);
+            String hashA = store.store(ROUTE_A);
+            String hashB = RouteInfoEntity.hashOf(ROUTE_B);
+
+            RouteInfoEntity entityB = mock(RouteInfoEntity.class);
+            given(entityB.getContentHash()).willReturn(hashB);
+            given(entityB.getRouteInfo()).willReturn(ROUTE_B);
+            given(routeInfoJpaRepository.findByContentHashIn(List.of(hashB))).willReturn(List.of(entityB));
+
+            // when
+            Map<String, String> routes = store.findAll(List.of(hashA, hashB, hashB));
+
+            // then
+            assertThat(routes).containsOnly(entry(hashA, ROUTE_A), entry(hashB, ROUTE_B));
+            verify(routeInfoJpaRepository).findByContentHashIn(List.of(hashB));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.early_express.order_service.domain.order.infrastructure.persistence.repository;
+
+import com.early_express.order_service.domain.order.domain.model.OrderSaga;
+import com.early_express.order_service.domain.order.domain.model.SagaStep;
+import com.early_express.order_service.domain.order.domain.model.vo.OrderId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saga Step 이력 쓰기 Round Trip 벤치마크
+ * - 배치 비활성 (Session JDBC 배치 크기 1 = IDENTITY 시절과 같은 INSERT 건별 전송)
+ * - 배치 활성 (pooled 시퀀스 + hibernate.jdbc.batch_size)
+ * 저장된 Saga 1건에 전체 Step 이력을 기록할 때 준비된 JDBC 문장 수(= DB Round Trip)를 비교
+ * 기본 테스트에서 제외 (./gradlew benchmark), 배치 여부 자체는 OrderSagaRepositoryImplTest에서 검증
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Saga Step 이력 배치 저장 벤치마크")
+class SagaStepHistoryBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaStepHistoryBatchingBenchmarkTest.class);
+
+    private static final List<SagaStep> FORWARD_STEPS = List.of(
+            SagaStep.STOCK_RESERVE,
+            SagaStep.PAYMENT_VERIFY,
+            SagaStep.ROUTE_CALCULATE,
+            SagaStep.HUB_DELIVERY_CREATE,
+            SagaStep.LAST_MILE_DELIVERY_CREATE,
+            SagaStep.NOTIFICATION_SEND,
+            SagaStep.TRACKING_START
+    );
+
+    private static final int SAGAS_PER_RUN = 20;
+
+    @Autowired
+    private OrderSagaRepositoryImpl sagaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("배치 저장 시 Saga당 Round Trip 수가 배치 비활성 대비 줄어든다")
+    void batchedInserts_ReduceRoundTripsPerSaga() {
+        // given - 워밍업 (시퀀스 풀 할당 / 메타데이터 로딩)
+        persistSagas(1, 1);
+
+        // when
+        double roundTripsBefore = persistSagas(SAGAS_PER_RUN, 1);
+        double roundTripsAfter = persistSagas(SAGAS_PER_RUN, null);
+
+        log.info("Saga Step 이력 저장 Round Trip (Saga당, Step {}개): 배치 비활성={}, 배치 활성={}",
+                FORWARD_STEPS.size(), String.format("%.2f", roundTripsBefore), String.format("%.2f", roundTripsAfter));
+
+        // then - 배치 비활성: Saga UPDATE 1 + 이력 INSERT 7 / 배치 활성: Saga UPDATE 1 + 이력 배치 1 (+ 시퀀스 할당)
+        assertThat(roundTripsBefore).isGreaterThanOrEqualTo(FORWARD_STEPS.size() + 1);
+        assertThat(roundTripsAfter).isLessThan(roundTripsBefore / 2);
+    }
+
+    /**
+     * 저장된 Saga에 전체 Step 이력을 기록하고 Saga당 준비된 JDBC 문장 수 반환
+     *
+     * @param jdbcBatchSize 세션 JDBC 배치 크기 (null이면 설정값 사용)
+     */
+    private double persistSagas(int sagaCount, Integer jdbcBatchSize) {
+        List<OrderSaga> sagas = new ArrayList<>();
+        for (int i = 0; i < sagaCount; i++) {
+            OrderSaga saga = OrderSaga.create(OrderId.create());
+            saga.start();
+            sagas.add(sagaRepository.save(saga));
+        }
+
+        statistics.clear();
+
+        for (OrderSaga saga : sagas) {
+            recordAllSteps(saga);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (jdbcBatchSize != null) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                }
+                sagaRepository.save(saga);
+            });
+        }
+
+        return (double) statistics.getPrepareStatementCount() / sagaCount;
+    }
+
+    private void recordAllSteps(OrderSaga saga) {
+        for (SagaStep step : FORWARD_STEPS) {
+            saga.startStep(step);
+            saga.completeStep(step, step.name() + "-result");
+        }
+    }
+}
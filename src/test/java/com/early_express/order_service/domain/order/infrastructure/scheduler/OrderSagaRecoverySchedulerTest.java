@@ -0,0 +1,99 @@
+package com.early_express.order_service.domain.order.infrastructure.scheduler;
+
+import com.early_express.order_service.domain.order.application.service.OrderSagaDispatcher;
+import com.early_express.order_service.domain.order.domain.model.Order;
+import com.early_express.order_service.domain.order.domain.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSagaRecoveryScheduler 테스트")
+class OrderSagaRecoverySchedulerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderSagaDispatcher sagaDispatcher;
+
+    private OrderSagaRecoveryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new OrderSagaRecoveryScheduler(orderRepository, sagaDispatcher);
+        ReflectionTestUtils.setField(scheduler, "staleSeconds", 300L);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("접수 후 stale-seconds가 지난 PENDING 주문을 Worker Pool에 다시 위임")
+    void redispatch_StalePendingOrders() {
+        // given
+        Order first = mock(Order.class);
+        Order second = mock(Order.class);
+        given(orderRepository.findStalePendingOrders(any(LocalDateTime.class), eq(100)))
+                .willReturn(List.of(first, second));
+        given(sagaDispatcher.redispatch(any())).willReturn(true);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.redispatchStalePendingOrders();
+
+        // then
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderRepository).findStalePendingOrders(createdBefore.capture(), eq(100));
+        assertThat(createdBefore.getValue()).isBeforeOrEqualTo(LocalDateTime.now().minusSeconds(300));
+        assertThat(createdBefore.getValue()).isAfterOrEqualTo(before.minusSeconds(300));
+
+        verify(sagaDispatcher).redispatch(first);
+        verify(sagaDispatcher).redispatch(second);
+    }
+
+    @Test
+    @DisplayName("Worker Pool이 거절하면 남은 주문은 다음 점검으로 미룸")
+    void redispatch_StopsWhenWorkerRejects() {
+        // given
+        Order first = mock(Order.class);
+        Order second = mock(Order.class);
+        given(orderRepository.findStalePendingOrders(any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of(first, second));
+        given(sagaDispatcher.redispatch(first)).willReturn(false);
+
+        // when
+        scheduler.redispatchStalePendingOrders();
+
+        // then
+        verify(sagaDispatcher).redispatch(first);
+        verify(sagaDispatcher, never()).redispatch(second);
+    }
+
+    @Test
+    @DisplayName("유실된 주문이 없으면 위임하지 않음")
+    void redispatch_NoStaleOrders() {
+        // given
+        given(orderRepository.findStalePendingOrders(any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        scheduler.redispatchStalePendingOrders();
+
+        // then
+        verifyNoInteractions(sagaDispatcher);
+    }
+}
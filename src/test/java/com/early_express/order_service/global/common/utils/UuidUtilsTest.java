@@ -0,0 +1,110 @@
+package com.early_express.order_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UuidUtils 테스트")
+class UuidUtilsTest {
+
+    @Nested
+    @DisplayName("generateTimeOrdered() - 시간 순 UUID 테스트")
+    class GenerateTimeOrderedTest {
+
+        @Test
+        @DisplayName("버전 7 / RFC 9562 variant 의 36자 UUID를 생성한다")
+        void generateTimeOrdered_Version7() {
+            // when
+            String id = UuidUtils.generateTimeOrdered();
+
+            // then
+            UUID uuid = UUID.fromString(id);
+            assertThat(id).hasSize(36);
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(UuidUtils.isValid(id)).isTrue();
+        }
+
+        @Test
+        @DisplayName("상위 48비트에 생성 시각(밀리초)을 담는다")
+        void generateTimeOrdered_EmbedsTimestamp() {
+            // given
+            long before = System.currentTimeMillis();
+
+            // when
+            UUID uuid = UUID.fromString(UuidUtils.generateTimeOrdered());
+
+            // then
+            long timestamp = uuid.getMostSignificantBits() >>> 16;
+            assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1);
+        }
+
+        @Test
+        @DisplayName("연속 생성한 ID는 문자열 순서가 생성 순서와 같다")
+        void generateTimeOrdered_Monotonic() {
+            // given
+            List<String> ids = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(UuidUtils.generateTimeOrdered());
+            }
+
+            // then
+            assertThat(ids).isSorted();
+            assertThat(ids).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("동시 생성 시 ID 중복 없음")
+        void generateTimeOrdered_ConcurrentUnique() throws Exception {
+            // given
+            int threads = 8;
+            int perThread = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<String> ids = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        ids.add(UuidUtils.generateTimeOrdered());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(threads * perThread);
+            assertThat(ids).doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("isValid() - 형식 검증 테스트")
+    class IsValidTest {
+
+        @Test
+        @DisplayName("기존 랜덤 UUID(v4)도 그대로 유효하다")
+        void isValid_AcceptsRandomUuid() {
+            // when & then
+            assertThat(UuidUtils.isValid(UuidUtils.generate())).isTrue();
+            assertThat(UuidUtils.isValid(null)).isFalse();
+            assertThat(UuidUtils.isValid("not-a-uuid")).isFalse();
+        }
+    }
+}